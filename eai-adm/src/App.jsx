@@ -7,6 +7,8 @@ import HistoryPage from "./pages/HistoryPage";
 import ProfileManager from "./pages/ProfileManager";
 import TelegramDetail from "./pages/TelegramDetail";
 import SimulatorPage from "./pages/SimulatorPage";  // ⭐ 추가
+import LoadTestPage from "./pages/LoadTestPage";
+import ComparePage from "./pages/ComparePage";
 import "./styles/theme.css";
 
 export default function App() {
@@ -21,6 +23,8 @@ export default function App() {
           <Route path="/history/:id" element={<TelegramDetail />} />
           <Route path="/profile" element={<ProfileManager />} />
           <Route path="/simulator" element={<SimulatorPage />} />  {/* ⭐ 추가 */}
+          <Route path="/load" element={<LoadTestPage />} />
+          <Route path="/compare" element={<ComparePage />} />
         </Routes>
       </AppLayout>
     </BrowserRouter>
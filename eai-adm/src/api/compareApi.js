@@ -0,0 +1,17 @@
+import axios from 'axios';
+
+const API_BASE = '/api/compare';
+
+const compareApi = {
+  // 전문 1건 동시 송신 → 대상별 응답/지연 + 필드 차이
+  fanOut: (data) => axios.post(`${API_BASE}/fan-out`, data),
+
+  // 이력 재전송 비교 (진행 현황은 getReplay로 조회)
+  startReplay: (data) => axios.post(`${API_BASE}/replays`, data),
+  stopReplay: (replayId) => axios.post(`${API_BASE}/replays/${replayId}/stop`),
+  getReplays: () => axios.get(`${API_BASE}/replays`),
+  getReplay: (replayId) => axios.get(`${API_BASE}/replays/${replayId}`),
+  deleteReplay: (replayId) => axios.delete(`${API_BASE}/replays/${replayId}`),
+};
+
+export default compareApi;
@@ -0,0 +1,37 @@
+import axios from 'axios';
+
+const API_BASE = '/api/load';
+
+const loadApi = {
+  start: (data) => axios.post(`${API_BASE}/runs`, data),
+  stop: (runId) => axios.post(`${API_BASE}/runs/${runId}/stop`),
+  getActiveRuns: () => axios.get(`${API_BASE}/runs`),
+  getRun: (runId) => axios.get(`${API_BASE}/runs/${runId}`),
+
+  getReports: () => axios.get(`${API_BASE}/reports`),
+  getReport: (runId) => axios.get(`${API_BASE}/reports/${runId}`),
+  deleteReport: (runId) => axios.delete(`${API_BASE}/reports/${runId}`),
+
+  getScenarios: () => axios.get(`${API_BASE}/scenarios`),
+  createScenario: (data) => axios.post(`${API_BASE}/scenarios`, data),
+  updateScenario: (id, data) => axios.put(`${API_BASE}/scenarios/${id}`, data),
+  deleteScenario: (id) => axios.delete(`${API_BASE}/scenarios/${id}`),
+  // 1회 점검 실행 (data: 접속정보)
+  tryScenario: (id, data) => axios.post(`${API_BASE}/scenarios/${id}/try`, data),
+
+  /**
+   * 실행 구독 (SSE) — 반환값 호출 시 구독 종료
+   * onSample({ sample, totals }) 1초마다, onReport(report) 종료 시 1회 후 스트림 종료
+   */
+  openStream: (runId, { onSample, onReport } = {}) => {
+    const source = new EventSource(`${API_BASE}/runs/${runId}/stream`);
+    source.addEventListener('sample', (e) => onSample?.(JSON.parse(e.data)));
+    source.addEventListener('report', (e) => {
+      onReport?.(JSON.parse(e.data));
+      source.close();
+    });
+    return () => source.close();
+  },
+};
+
+export default loadApi;
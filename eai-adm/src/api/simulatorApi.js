@@ -7,6 +7,7 @@ const simulatorApi = {
   startListener: (configId) => axios.post(`${API_BASE}/listener/${configId}/start`),
   stopListener: (configId) => axios.post(`${API_BASE}/listener/${configId}/stop`),
   getListenerStatuses: () => axios.get(`${API_BASE}/listener/status`),
+  getTelegramStats: (configId) => axios.get(`${API_BASE}/listener/${configId}/telegrams`),
   stopAll: () => axios.post(`${API_BASE}/listener/stop-all`),
 
   // ===== 설정 CRUD =====
@@ -24,6 +25,12 @@ const simulatorApi = {
   deleteRule: (ruleId) => axios.delete(`${API_BASE}/rule/${ruleId}`),
   deleteRulesByTelegramId: (telegramId) => axios.delete(`${API_BASE}/rule/telegram/${telegramId}`),
 
+  // ===== 응답 지연 정책 =====
+  getDelays: () => axios.get(`${API_BASE}/delay`),
+  getDelay: (telegramId) => axios.get(`${API_BASE}/delay/${telegramId}`),
+  saveDelay: (delay) => axios.post(`${API_BASE}/delay`, delay),
+  deleteDelay: (delayId) => axios.delete(`${API_BASE}/delay/${delayId}`),
+
   // ===== 로그 =====
   getRecentLogs: () => axios.get(`${API_BASE}/log`),
   getLogsByConfig: (configId) => axios.get(`${API_BASE}/log/config/${configId}`),
@@ -0,0 +1,32 @@
+import axios from 'axios';
+
+const API_BASE = '/api/traffic';
+
+const toQuery = (params = {}) => {
+  const query = new URLSearchParams();
+  Object.entries(params).forEach(([key, value]) => {
+    if (value !== undefined && value !== null && value !== '') query.append(key, value);
+  });
+  const text = query.toString();
+  return text ? `?${text}` : '';
+};
+
+const trafficApi = {
+  getRecent: (params) => axios.get(`${API_BASE}/recent`, { params }),
+  getStats: () => axios.get(`${API_BASE}/stats`),
+
+  /**
+   * 실시간 트래픽 구독 (SSE) — 반환값 호출 시 구독 종료
+   * params: { source, configId, telegramId, status, maxRate }
+   * onSnapshot(events 최신순), onTraffic(events 발생순), onStats({ rateLimited, dropped })
+   */
+  openStream: (params, { onSnapshot, onTraffic, onStats } = {}) => {
+    const source = new EventSource(`${API_BASE}/stream${toQuery(params)}`);
+    source.addEventListener('snapshot', (e) => onSnapshot?.(JSON.parse(e.data)));
+    source.addEventListener('traffic', (e) => onTraffic?.(JSON.parse(e.data)));
+    source.addEventListener('stats', (e) => onStats?.(JSON.parse(e.data)));
+    return () => source.close();
+  },
+};
+
+export default trafficApi;
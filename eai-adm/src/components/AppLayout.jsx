@@ -8,6 +8,8 @@ const NAV_ITEMS = [
   { path: "/history", icon: "◷", label: "송수신 이력" },
   { path: "/profile", icon: "⊞", label: "접속 프로파일" },
   { path: "/simulator", icon: "🖥", label: "Simulator" },  // ⭐ 추가
+  { path: "/load", icon: "📈", label: "부하 테스트" },
+  { path: "/compare", icon: "⇄", label: "대상 비교" },
 ];
 
 export default function AppLayout({ children }) {
@@ -0,0 +1,400 @@
+import { useState, useEffect, useRef } from "react";
+import { getTelegramList, getProfiles } from "../api/telegramApi";
+import compareApi from "../api/compareApi";
+
+const STATUS_COLORS = { RUNNING: "#36a2eb", COMPLETED: "#00bfb3", STOPPED: "#f5a623", FAILED: "#ff6b6b" };
+
+const EMPTY_FORM = {
+  telegramId: "", charset: "EUC-KR", ignoreFields: "SEND_TIME",
+  fieldValues: "", fieldGenerators: "",
+  name: "", baselineProfileId: "", candidateProfileId: "", limit: 1000, concurrency: 32, from: "", to: "",
+};
+
+/** "필드=값" 줄 단위 입력 → { 필드: 값 } */
+const parsePairs = (text) => {
+  const pairs = {};
+  text.split("\n").forEach((line) => {
+    const idx = line.indexOf("=");
+    if (idx > 0) pairs[line.slice(0, idx).trim()] = line.slice(idx + 1).trim();
+  });
+  return pairs;
+};
+
+const parseList = (text) => text.split(",").map((v) => v.trim()).filter(Boolean);
+
+export default function ComparePage() {
+  const [telegrams, setTelegrams] = useState([]);
+  const [profiles, setProfiles] = useState([]);
+  const [form, setForm] = useState(EMPTY_FORM);
+  const [selected, setSelected] = useState([]);
+  const [fanOut, setFanOut] = useState(null);
+  const [sending, setSending] = useState(false);
+  const [replay, setReplay] = useState(null);
+  const [replays, setReplays] = useState([]);
+  const [error, setError] = useState("");
+  const poller = useRef(null);
+
+  const loadReplays = () => compareApi.getReplays().then((r) => setReplays(r.data)).catch(() => {});
+
+  useEffect(() => {
+    getTelegramList().then((r) => setTelegrams(Array.isArray(r.data) ? r.data : [])).catch(() => {});
+    getProfiles().then((r) => setProfiles(r.data.filter((p) => p.active !== false))).catch(() => {});
+    loadReplays();
+    return () => clearInterval(poller.current);
+  }, []);
+
+  const set = (key) => (e) => {
+    const value = e.target.type === "number" ? parseInt(e.target.value) || 0 : e.target.value;
+    setForm({ ...form, [key]: value });
+  };
+
+  const toggleProfile = (id) =>
+    setSelected(selected.includes(id) ? selected.filter((v) => v !== id) : [...selected, id]);
+
+  // ── 동시 송신 비교 ──
+
+  const handleFanOut = async () => {
+    setError("");
+    setSending(true);
+    try {
+      const { data } = await compareApi.fanOut({
+        telegramId: form.telegramId,
+        charset: form.charset,
+        fieldValues: parsePairs(form.fieldValues),
+        fieldGenerators: parsePairs(form.fieldGenerators),
+        profileIds: selected,
+        ignoreFields: parseList(form.ignoreFields),
+      });
+      if (!data.success) {
+        setError((data.errors || []).join(", "));
+        return;
+      }
+      setFanOut(data);
+    } catch (e) {
+      setError(e.response?.data?.message || e.message);
+    } finally {
+      setSending(false);
+    }
+  };
+
+  // ── 이력 재전송 ──
+
+  /** 실행 중이면 1초마다 현황 갱신, 끝나면 목록 갱신 후 중단 */
+  const watch = (replayId) => {
+    clearInterval(poller.current);
+    const refresh = () => compareApi.getReplay(replayId).then((r) => {
+      setReplay(r.data);
+      if (r.data.status !== "RUNNING") {
+        clearInterval(poller.current);
+        loadReplays();
+      }
+    }).catch(() => clearInterval(poller.current));
+    refresh();
+    poller.current = setInterval(refresh, 1000);
+  };
+
+  const handleReplay = async () => {
+    setError("");
+    try {
+      const { data } = await compareApi.startReplay({
+        name: form.name,
+        telegramId: form.telegramId,
+        charset: form.charset,
+        from: form.from || null,
+        to: form.to || null,
+        limit: form.limit,
+        concurrency: form.concurrency,
+        baselineProfileId: form.baselineProfileId || null,
+        candidateProfileId: form.candidateProfileId || null,
+        ignoreFields: parseList(form.ignoreFields),
+      });
+      loadReplays();
+      watch(data.replayId);
+    } catch (e) {
+      setError(e.response?.data?.message || e.message);
+    }
+  };
+
+  const handleStop = () => replay && compareApi.stopReplay(replay.replayId).catch(() => {});
+  const handleDelete = (id) => compareApi.deleteReplay(id).then(() => {
+    if (replay?.replayId === id) setReplay(null);
+    loadReplays();
+  }).catch(() => {});
+
+  const targets = fanOut?.targets || [];
+  const baselineIndex = targets.findIndex((t) => t.baseline);
+
+  return (
+    <div style={s.page}>
+      <div style={s.header}>
+        <div>
+          <h1 style={s.title}>대상 비교</h1>
+          <p style={s.subtitle}>같은 전문을 여러 접속 프로파일(AS-IS/TO-BE, 환경별)에 보내 응답을 필드 단위로 비교</p>
+        </div>
+      </div>
+
+      {/* 공통 조건 */}
+      <div style={s.formCard}>
+        <div style={s.formGrid}>
+          <Field label="전문코드">
+            <select style={s.select} value={form.telegramId} onChange={set("telegramId")}>
+              <option value="">선택</option>
+              {telegrams.map((t) => <option key={t.telegramId} value={t.telegramId}>{t.telegramId} {t.telegramName}</option>)}
+            </select>
+          </Field>
+          <Field label="Charset">
+            <select style={s.select} value={form.charset} onChange={set("charset")}>
+              <option>EUC-KR</option><option>UTF-8</option><option>MS949</option>
+            </select>
+          </Field>
+          <Field label="비교 제외 필드 (쉼표 구분)" span={2}>
+            <input style={s.input} value={form.ignoreFields} onChange={set("ignoreFields")} placeholder="SEND_TIME,TRX_NO" />
+          </Field>
+        </div>
+        {error && <div style={s.error}>{error}</div>}
+      </div>
+
+      {/* 동시 송신 비교 */}
+      <div style={s.formCard}>
+        <div style={s.cardHeader}>
+          <div style={s.formTitle}>동시 송신 비교</div>
+          <button style={s.addBtn} onClick={handleFanOut} disabled={sending}>{sending ? "송신 중..." : "▶ 비교 송신"}</button>
+        </div>
+        <div style={s.profileRow}>
+          {profiles.map((p) => (
+            <label key={p.id} style={{ ...s.profileChip, borderColor: selected.includes(p.id) ? "#36a2eb" : "#2d2e4a" }}>
+              <input type="checkbox" checked={selected.includes(p.id)} onChange={() => toggleProfile(p.id)} />
+              {selected.includes(p.id) && <span style={s.order}>{selected.indexOf(p.id) + 1}</span>}
+              {p.profileName} <span style={s.cardLabel}>{p.env} · {p.protocol === "HTTP" ? p.url : `${p.host}:${p.port}`}</span>
+            </label>
+          ))}
+        </div>
+        <div style={s.formGrid}>
+          <Field label="필드값 (필드=값)" span={2}>
+            <textarea style={s.textarea} value={form.fieldValues} onChange={set("fieldValues")} placeholder={"TRAN_CD=TR0001\nIN_BANK_CD=004"} />
+          </Field>
+          <Field label="생성 규칙 (필드=규칙)" span={2}>
+            <textarea style={s.textarea} value={form.fieldGenerators} onChange={set("fieldGenerators")} placeholder={"OUT_ACCT_NO=ACCOUNT:3333\nSEND_DATE=NOW:yyyyMMdd"} />
+          </Field>
+        </div>
+
+        {fanOut && (
+          <>
+            <div style={{ ...s.kpiValue, color: fanOut.identical ? "#00bfb3" : "#ff6b6b", marginBottom: 12 }}>
+              {fanOut.identical ? "✓ 모든 대상 응답 일치" : `✗ 불일치 필드 ${fanOut.diffs.length}개`}
+            </div>
+            <table style={s.table}>
+              <thead>
+                <tr>{["#", "프로파일", "환경", "대상", "결과", "지연 (ms)", "불일치"].map((h) => <th key={h} style={s.th}>{h}</th>)}</tr>
+              </thead>
+              <tbody>
+                {targets.map((t, i) => (
+                  <tr key={t.profileId} style={s.trStatic}>
+                    <td style={s.td}>{i + 1}</td>
+                    <td style={s.td}>{t.profileName}{t.baseline && <span style={s.badge}>기준</span>}</td>
+                    <td style={s.td}>{t.env}</td>
+                    <td style={s.tdMono}>{t.target}</td>
+                    <td style={{ ...s.td, color: t.success ? "#00bfb3" : "#ff6b6b" }}>{t.success ? "응답" : t.error}</td>
+                    <td style={s.tdMono}>{t.elapsedMs}</td>
+                    <td style={{ ...s.tdMono, color: t.mismatchCount > 0 ? "#ff6b6b" : undefined }}>{t.success ? t.mismatchCount : "-"}</td>
+                  </tr>
+                ))}
+              </tbody>
+            </table>
+            {fanOut.diffs.length > 0 && (
+              <table style={{ ...s.table, marginTop: 16 }}>
+                <thead>
+                  <tr>
+                    <th style={s.th}>필드</th>
+                    {targets.map((t) => <th key={t.profileId} style={s.th}>{t.profileName}</th>)}
+                  </tr>
+                </thead>
+                <tbody>
+                  {fanOut.diffs.map((d) => (
+                    <tr key={d.field} style={s.trStatic}>
+                      <td style={s.td}>{d.field} <span style={s.cardLabel}>{d.fieldNameKr}</span></td>
+                      {d.values.map((v, i) => (
+                        <td key={i} style={{ ...s.tdMono, color: v === null ? "#5c5f73" : v !== d.values[baselineIndex] ? "#ff6b6b" : undefined }}>
+                          {v === null ? "-" : `"${v}"`}
+                        </td>
+                      ))}
+                    </tr>
+                  ))}
+                </tbody>
+              </table>
+            )}
+          </>
+        )}
+      </div>
+
+      {/* 이력 재전송 비교 */}
+      <div style={s.formCard}>
+        <div style={s.cardHeader}>
+          <div style={s.formTitle}>이력 재전송 비교</div>
+          {replay?.status === "RUNNING"
+            ? <button style={{ ...s.addBtn, background: "#ff6b6b" }} onClick={handleStop}>■ 중지</button>
+            : <button style={s.addBtn} onClick={handleReplay}>▶ 재전송</button>}
+        </div>
+        <div style={s.formGrid}>
+          <Field label="실행명"><input style={s.input} value={form.name} onChange={set("name")} /></Field>
+          <Field label="기준 (AS-IS)">
+            <select style={s.select} value={form.baselineProfileId} onChange={set("baselineProfileId")}>
+              <option value="">선택</option>
+              {profiles.map((p) => <option key={p.id} value={p.id}>{p.profileName} ({p.env})</option>)}
+            </select>
+          </Field>
+          <Field label="비교 (TO-BE)">
+            <select style={s.select} value={form.candidateProfileId} onChange={set("candidateProfileId")}>
+              <option value="">선택</option>
+              {profiles.map((p) => <option key={p.id} value={p.id}>{p.profileName} ({p.env})</option>)}
+            </select>
+          </Field>
+          <Field label="동시 처리 수"><input style={s.input} type="number" value={form.concurrency} onChange={set("concurrency")} /></Field>
+          <Field label="최대 건수"><input style={s.input} type="number" value={form.limit} onChange={set("limit")} /></Field>
+          <Field label="이력 시작"><input style={s.input} type="datetime-local" value={form.from} onChange={set("from")} /></Field>
+          <Field label="이력 종료"><input style={s.input} type="datetime-local" value={form.to} onChange={set("to")} /></Field>
+        </div>
+
+        {replay && (
+          <>
+            <div style={s.kpiRow}>
+              <Kpi label="상태" value={replay.status} color={STATUS_COLORS[replay.status]} />
+              <Kpi label="진행" value={`${replay.completed.toLocaleString()} / ${replay.planned.toLocaleString()}`} />
+              <Kpi label="일치율 (%)" value={replay.matchRate} color="#00bfb3" />
+              <Kpi label="불일치" value={replay.mismatched} color="#ff6b6b" />
+              <Kpi label="송신 실패" value={replay.failed} color="#f5a623" />
+              <Kpi label="TPS" value={replay.tps} />
+            </div>
+            <div style={s.summaryRow}>
+              <div style={s.summary}>
+                <div style={s.label}>지연 p50 / p99 (ms)</div>
+                <div style={s.cardRow}><span>{replay.baseline.profileName}</span><span style={s.tdMono}>{replay.latency.baseline.p50Ms} / {replay.latency.baseline.p99Ms}</span></div>
+                <div style={s.cardRow}><span>{replay.candidate.profileName}</span><span style={s.tdMono}>{replay.latency.candidate.p50Ms} / {replay.latency.candidate.p99Ms}</span></div>
+              </div>
+              <div style={s.summary}>
+                <div style={s.label}>필드별 불일치</div>
+                {Object.entries(replay.fieldMismatches).map(([field, count]) => (
+                  <div key={field} style={s.cardRow}><span>{field}</span><span style={s.tdMono}>{count}</span></div>
+                ))}
+              </div>
+              <div style={s.summary}>
+                <div style={s.label}>오류 유형</div>
+                {Object.entries(replay.errors).map(([type, count]) => (
+                  <div key={type} style={s.cardRow}><span>{type}</span><span style={s.tdMono}>{count}</span></div>
+                ))}
+              </div>
+            </div>
+            {replay.samples?.length > 0 && (
+              <table style={s.table}>
+                <thead>
+                  <tr>{["이력 #", "필드", replay.baseline.profileName, replay.candidate.profileName].map((h) => <th key={h} style={s.th}>{h}</th>)}</tr>
+                </thead>
+                <tbody>
+                  {replay.samples.flatMap((sample) => sample.fields.map((f, i) => (
+                    <tr key={`${sample.historyId}-${f.field}`} style={s.trStatic}>
+                      <td style={s.tdMono}>{i === 0 ? sample.historyId : ""}</td>
+                      <td style={s.td}>{f.field} <span style={s.cardLabel}>{f.fieldNameKr}</span></td>
+                      <td style={s.tdMono}>"{f.baseline}"</td>
+                      <td style={{ ...s.tdMono, color: "#ff6b6b" }}>"{f.candidate}"</td>
+                    </tr>
+                  )))}
+                </tbody>
+              </table>
+            )}
+          </>
+        )}
+      </div>
+
+      {/* 재전송 결과 */}
+      <div style={s.tableCard}>
+        <div style={s.formTitle}>재전송 결과</div>
+        <table style={s.table}>
+          <thead>
+            <tr>{["#", "실행명", "전문코드", "기준 ↔ 비교", "상태", "건수", "일치율", "불일치", "실패", "시작", ""].map((h) => <th key={h} style={s.th}>{h}</th>)}</tr>
+          </thead>
+          <tbody>
+            {replays.map((r) => (
+              <tr key={r.replayId} style={s.tr} onClick={() => watch(r.replayId)}>
+                <td style={s.td}>{r.replayId}</td>
+                <td style={s.td}>{r.name}</td>
+                <td style={s.td}>{r.telegramId}</td>
+                <td style={s.td}>{r.baseline.profileName} ↔ {r.candidate.profileName}</td>
+                <td style={{ ...s.td, color: STATUS_COLORS[r.status] }}>{r.status}</td>
+                <td style={s.tdMono}>{r.completed.toLocaleString()}</td>
+                <td style={s.tdMono}>{r.matchRate ?? "-"}</td>
+                <td style={s.tdMono}>{r.mismatched}</td>
+                <td style={s.tdMono}>{r.failed}</td>
+                <td style={s.tdMono}>{r.startedAt?.replace("T", " ").slice(0, 19)}</td>
+                <td style={s.td}>
+                  {r.status !== "RUNNING" && (
+                    <button style={s.delBtn} onClick={(e) => { e.stopPropagation(); handleDelete(r.replayId); }}>삭제</button>
+                  )}
+                </td>
+              </tr>
+            ))}
+          </tbody>
+        </table>
+      </div>
+    </div>
+  );
+}
+
+function Field({ label, span = 1, children }) {
+  return (
+    <div style={{ gridColumn: `span ${span}` }}>
+      <label style={s.label}>{label}</label>
+      {children}
+    </div>
+  );
+}
+
+function Kpi({ label, value, color = "#e8eaed" }) {
+  return (
+    <div style={s.kpi}>
+      <div style={s.kpiLabel}>{label}</div>
+      <div style={{ ...s.kpiValue, color }}>{value ?? "-"}</div>
+    </div>
+  );
+}
+
+const s = {
+  page: { padding: "24px 28px", animation: "fadeIn 0.3s ease" },
+  header: { display: "flex", justifyContent: "space-between", alignItems: "flex-start", marginBottom: 20 },
+  title: { fontSize: 22, fontWeight: 700, color: "#e8eaed" },
+  subtitle: { fontSize: 13, color: "#5c5f73", marginTop: 2 },
+  addBtn: { padding: "8px 16px", background: "linear-gradient(135deg, #36a2eb, #00bfb3)", border: "none", borderRadius: 6, color: "#fff", fontWeight: 600, fontSize: 13, cursor: "pointer" },
+
+  formCard: { background: "#232440", borderRadius: 10, padding: 24, marginBottom: 20, border: "1px solid #2d2e4a" },
+  cardHeader: { display: "flex", justifyContent: "space-between", alignItems: "flex-start" },
+  formTitle: { fontSize: 15, fontWeight: 600, marginBottom: 16, color: "#e8eaed" },
+  formGrid: { display: "grid", gridTemplateColumns: "repeat(4, 1fr)", gap: 12, marginBottom: 16 },
+  label: { display: "block", fontSize: 11, color: "#5c5f73", marginBottom: 4, fontWeight: 600, textTransform: "uppercase", letterSpacing: 0.3 },
+  input: { width: "100%", padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 13, outline: "none", fontFamily: "'JetBrains Mono', monospace", boxSizing: "border-box" },
+  select: { width: "100%", padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 13, outline: "none", boxSizing: "border-box" },
+  textarea: { width: "100%", height: 72, padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 12, outline: "none", fontFamily: "'JetBrains Mono', monospace", boxSizing: "border-box", resize: "vertical" },
+  error: { fontSize: 12, color: "#ff6b6b" },
+
+  profileRow: { display: "flex", flexWrap: "wrap", gap: 8, marginBottom: 16 },
+  profileChip: { display: "flex", alignItems: "center", gap: 6, padding: "6px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 6, fontSize: 12, color: "#e8eaed", cursor: "pointer" },
+  order: { fontSize: 10, fontWeight: 700, color: "#36a2eb" },
+  badge: { marginLeft: 6, padding: "1px 6px", background: "#36a2eb22", borderRadius: 4, color: "#36a2eb", fontSize: 10, fontWeight: 600 },
+
+  kpiRow: { display: "grid", gridTemplateColumns: "repeat(6, 1fr)", gap: 12, marginBottom: 16 },
+  kpi: { background: "#1a1b2e", borderRadius: 10, padding: "14px 18px", border: "1px solid #2d2e4a" },
+  kpiLabel: { fontSize: 11, color: "#5c5f73", fontWeight: 600, marginBottom: 6 },
+  kpiValue: { fontSize: 18, fontWeight: 700, fontFamily: "'JetBrains Mono', monospace" },
+
+  summaryRow: { display: "grid", gridTemplateColumns: "repeat(3, 1fr)", gap: 12, marginBottom: 16 },
+  summary: { padding: 12, background: "#1a1b2e", borderRadius: 6 },
+
+  tableCard: { background: "#232440", borderRadius: 10, padding: 20, border: "1px solid #2d2e4a" },
+  table: { width: "100%", borderCollapse: "collapse", fontSize: 12 },
+  th: { textAlign: "left", padding: "8px 10px", color: "#5c5f73", fontWeight: 600, borderBottom: "1px solid #2d2e4a" },
+  tr: { cursor: "pointer", borderBottom: "1px solid #2d2e4a" },
+  trStatic: { borderBottom: "1px solid #2d2e4a" },
+  td: { padding: "8px 10px" },
+  tdMono: { padding: "8px 10px", fontFamily: "'JetBrains Mono', monospace", fontSize: 12 },
+  delBtn: { padding: "2px 8px", background: "transparent", border: "1px solid #2d2e4a", borderRadius: 4, color: "#ff6b6b", fontSize: 11, cursor: "pointer" },
+  cardRow: { display: "flex", justifyContent: "space-between", fontSize: 13, marginBottom: 6 },
+  cardLabel: { color: "#5c5f73", fontSize: 12 },
+};
@@ -1,4 +1,5 @@
 import { useState, useEffect } from "react";
+import trafficApi from "../api/trafficApi";
 
 // 모의 데이터 생성
 const generateMockData = () => {
@@ -28,12 +29,21 @@ export default function Dashboard() {
   const [data] = useState(generateMockData);
   const [timeSeries] = useState(generateTimeSeries);
   const [liveCount, setLiveCount] = useState(0);
+  const [activity, setActivity] = useState([]);
 
   useEffect(() => {
     const interval = setInterval(() => setLiveCount((c) => c + 1), 3000);
     return () => clearInterval(interval);
   }, []);
 
+  // 최근 트래픽 실시간 구독 (시뮬레이터 수신 + 전문 송신)
+  useEffect(() => trafficApi.openStream({ maxRate: 20 }, {
+    onSnapshot: (events) => setActivity(events.slice(0, 10)),
+    onTraffic: (events) => setActivity((prev) => [...[...events].reverse(), ...prev].slice(0, 10)),
+  }), []);
+
+  const recent = activity.length > 0 ? activity : data.slice(0, 10);
+
   const total = data.length;
   const success = data.filter((d) => d.success).length;
   const fail = total - success;
@@ -208,8 +218,8 @@ export default function Dashboard() {
             <span style={s.chartPeriod}>Last 10</span>
           </div>
           <div style={s.activityList}>
-            {data.slice(0, 10).map((d) => (
-              <div key={d.id} style={s.activityItem}>
+            {recent.map((d) => (
+              <div key={d.seq ?? d.id} style={s.activityItem}>
                 <span style={{
                   ...s.statusDot,
                   background: d.success ? "#00bfb3" : "#ff6b6b",
@@ -0,0 +1,488 @@
+import { useState, useEffect, useRef } from "react";
+import { getTelegramList } from "../api/telegramApi";
+import loadApi from "../api/loadApi";
+
+const STATUS_COLORS = { RUNNING: "#36a2eb", COMPLETED: "#00bfb3", STOPPED: "#f5a623", FAILED: "#ff6b6b" };
+
+const EMPTY_FORM = {
+  name: "", target: "TELEGRAM", telegramId: "", scenarioId: "", charset: "EUC-KR",
+  protocol: "TCP", host: "127.0.0.1", port: 9090, url: "", timeoutMs: 5000,
+  includeLengthHeader: true, lengthHeaderSize: 4, lengthEncoding: "ASCII", keepAlive: true,
+  correlationField: "", muxConnections: 4,
+  mode: "OPEN", targetTps: 100, users: 10, rampUpSec: 5, durationSec: 60, maxInFlight: 1000,
+  fieldValues: "", fieldGenerators: "", successField: "", successValues: "",
+};
+
+const SCENARIO_EXAMPLE = JSON.stringify([
+  {
+    name: "잔액조회", telegramId: "TR0001",
+    fieldValues: { TRAN_CD: "TR0001", OUT_ACCT_NO: "1002${user}" },
+    extract: { acct: "OUT_ACCT_NO", token: "MEMO" },
+    assertions: [{ field: "RESP_CD", op: "EQ", value: "0000" }],
+    thinkTimeMs: 500, thinkTimeMaxMs: 1500,
+  },
+  {
+    name: "이체", telegramId: "TR0001",
+    fieldValues: { TRAN_CD: "TR0001", IN_ACCT_NO: "${acct}", MEMO: "${token}" },
+    fieldGenerators: { TRAN_AMT: "RANDOM:1000-50000" },
+    assertions: [{ field: "RESP_CD", op: "IN", value: "0000,0001" }],
+  },
+], null, 2);
+
+const EMPTY_SCENARIO = { id: null, name: "", description: "", steps: SCENARIO_EXAMPLE };
+
+/** "필드=값" 줄 단위 입력 → { 필드: 값 } */
+const parsePairs = (text) => {
+  const pairs = {};
+  text.split("\n").forEach((line) => {
+    const idx = line.indexOf("=");
+    if (idx > 0) pairs[line.slice(0, idx).trim()] = line.slice(idx + 1).trim();
+  });
+  return pairs;
+};
+
+export default function LoadTestPage() {
+  const [telegrams, setTelegrams] = useState([]);
+  const [form, setForm] = useState(EMPTY_FORM);
+  const [runId, setRunId] = useState(null);
+  const [timeline, setTimeline] = useState([]);
+  const [totals, setTotals] = useState(null);
+  const [report, setReport] = useState(null);
+  const [reports, setReports] = useState([]);
+  const [error, setError] = useState("");
+  const [scenarios, setScenarios] = useState([]);
+  const [scenario, setScenario] = useState(EMPTY_SCENARIO);
+  const [tryResult, setTryResult] = useState(null);
+  const [scenarioError, setScenarioError] = useState("");
+  const closeStream = useRef(null);
+
+  const loadReports = () => loadApi.getReports().then((r) => setReports(r.data)).catch(() => {});
+  const loadScenarios = () => loadApi.getScenarios().then((r) => setScenarios(r.data)).catch(() => {});
+
+  useEffect(() => {
+    getTelegramList().then((r) => setTelegrams(Array.isArray(r.data) ? r.data : [])).catch(() => {});
+    loadReports();
+    loadScenarios();
+    // 실행 중인 부하가 있으면 이어서 구독
+    loadApi.getActiveRuns().then((r) => {
+      if (r.data.length > 0) attach(r.data[0].runId);
+    }).catch(() => {});
+    return () => closeStream.current?.();
+  }, []);
+
+  const attach = (id) => {
+    closeStream.current?.();
+    setRunId(id);
+    setReport(null);
+    loadApi.getRun(id).then((r) => {
+      setTimeline(r.data.timeline || []);
+      setTotals(r.data.totals);
+    }).catch(() => {});
+    closeStream.current = loadApi.openStream(id, {
+      onSample: ({ sample, totals }) => {
+        setTimeline((prev) => [...prev, sample]);
+        setTotals(totals);
+      },
+      onReport: (done) => {
+        setReport(done);
+        setRunId(null);
+        loadReports();
+      },
+    });
+  };
+
+  const handleStart = async () => {
+    setError("");
+    const request = {
+      ...form,
+      scenarioId: form.target === "SCENARIO" ? form.scenarioId : null,
+      fieldValues: parsePairs(form.fieldValues),
+      fieldGenerators: parsePairs(form.fieldGenerators),
+      successValues: form.successValues ? form.successValues.split(",").map((v) => v.trim()) : null,
+    };
+    try {
+      const { data } = await loadApi.start(request);
+      if (!data.success) {
+        setError((data.errors || []).join(", "));
+        return;
+      }
+      setTimeline([]);
+      setTotals(null);
+      attach(data.runId);
+    } catch (e) {
+      setError(e.response?.data?.message || e.message);
+    }
+  };
+
+  const handleStop = () => runId && loadApi.stop(runId).catch(() => {});
+
+  const openReport = (id) => {
+    loadApi.getReport(id).then((r) => {
+      setReport(r.data);
+      setTimeline(r.data.timeline ? JSON.parse(r.data.timeline) : []);
+      setTotals(null);
+    });
+  };
+
+  const handleDelete = (id) => loadApi.deleteReport(id).then(loadReports).catch(() => {});
+
+  // ── 시나리오 ──
+
+  const selectScenario = (id) => {
+    setTryResult(null);
+    setScenarioError("");
+    const found = scenarios.find((sc) => String(sc.id) === String(id));
+    setScenario(found ? { ...found, steps: JSON.stringify(found.steps, null, 2) } : EMPTY_SCENARIO);
+  };
+
+  const saveScenario = async () => {
+    setScenarioError("");
+    try {
+      const data = { name: scenario.name, description: scenario.description, charset: form.charset, steps: JSON.parse(scenario.steps) };
+      const { data: saved } = scenario.id
+        ? await loadApi.updateScenario(scenario.id, data)
+        : await loadApi.createScenario(data);
+      setScenario({ ...saved, steps: JSON.stringify(saved.steps, null, 2) });
+      loadScenarios();
+    } catch (e) {
+      setScenarioError(e.response?.data?.message || e.message);
+    }
+  };
+
+  const deleteScenario = () => scenario.id && loadApi.deleteScenario(scenario.id).then(() => {
+    setScenario(EMPTY_SCENARIO);
+    loadScenarios();
+  });
+
+  const tryScenario = async () => {
+    setScenarioError("");
+    setTryResult(null);
+    // 접속정보만 전송 (필드값 입력란은 "필드=값" 텍스트)
+    const { fieldValues, fieldGenerators, successValues, ...connection } = form;
+    try {
+      const { data } = await loadApi.tryScenario(scenario.id, connection);
+      setTryResult(data);
+    } catch (e) {
+      setScenarioError(e.response?.data?.message || e.message);
+    }
+  };
+
+  const set = (key) => (e) => {
+    const value = e.target.type === "checkbox" ? e.target.checked
+      : e.target.type === "number" ? parseInt(e.target.value) || 0 : e.target.value;
+    setForm({ ...form, [key]: value });
+  };
+
+  const running = runId !== null;
+  const latency = totals?.latency;
+
+  return (
+    <div style={s.page}>
+      <div style={s.header}>
+        <div>
+          <h1 style={s.title}>부하 테스트</h1>
+          <p style={s.subtitle}>목표 TPS / 동시 사용자 기준 대량 송신 및 지연 측정</p>
+        </div>
+        {running
+          ? <button style={{ ...s.addBtn, background: "#ff6b6b" }} onClick={handleStop}>■ 중지</button>
+          : <button style={s.addBtn} onClick={handleStart}>▶ 실행</button>}
+      </div>
+
+      {/* 실행 조건 */}
+      <div style={s.formCard}>
+        <div style={s.formGrid}>
+          <Field label="실행명"><input style={s.input} value={form.name} onChange={set("name")} /></Field>
+          <Field label="실행 대상">
+            <select style={s.select} value={form.target} onChange={set("target")}>
+              <option value="TELEGRAM">단일 전문</option>
+              <option value="SCENARIO">시나리오</option>
+            </select>
+          </Field>
+          {form.target === "TELEGRAM" ? (
+            <Field label="전문코드">
+              <select style={s.select} value={form.telegramId} onChange={set("telegramId")}>
+                <option value="">선택</option>
+                {telegrams.map((t) => <option key={t.telegramId} value={t.telegramId}>{t.telegramId} {t.telegramName}</option>)}
+              </select>
+            </Field>
+          ) : (
+            <Field label="시나리오">
+              <select style={s.select} value={form.scenarioId} onChange={set("scenarioId")}>
+                <option value="">선택</option>
+                {scenarios.map((sc) => <option key={sc.id} value={sc.id}>{sc.name} ({sc.steps.length}단계)</option>)}
+              </select>
+            </Field>
+          )}
+          <Field label="프로토콜">
+            <select style={s.select} value={form.protocol} onChange={set("protocol")}>
+              <option>TCP</option><option>TCP_MUX</option><option>HTTP</option>
+            </select>
+          </Field>
+          <Field label="Charset">
+            <select style={s.select} value={form.charset} onChange={set("charset")}>
+              <option>EUC-KR</option><option>UTF-8</option><option>MS949</option>
+            </select>
+          </Field>
+          {form.protocol === "HTTP" ? (
+            <Field label="URL" span={2}><input style={s.input} value={form.url} onChange={set("url")} /></Field>
+          ) : (
+            <>
+              <Field label="Host"><input style={s.input} value={form.host} onChange={set("host")} /></Field>
+              <Field label="Port"><input style={s.input} type="number" value={form.port} onChange={set("port")} /></Field>
+            </>
+          )}
+          <Field label="Timeout (ms)"><input style={s.input} type="number" value={form.timeoutMs} onChange={set("timeoutMs")} /></Field>
+          {form.protocol === "TCP" && (
+            <Field label="연결 유지">
+              <label style={s.check}><input type="checkbox" checked={form.keepAlive} onChange={set("keepAlive")} /> 커넥션 풀 재사용</label>
+            </Field>
+          )}
+          {form.protocol === "TCP_MUX" && (
+            <>
+              <Field label="상관키 필드"><input style={s.input} value={form.correlationField} onChange={set("correlationField")} /></Field>
+              <Field label="채널 수"><input style={s.input} type="number" value={form.muxConnections} onChange={set("muxConnections")} /></Field>
+            </>
+          )}
+        </div>
+
+        <div style={s.formGrid}>
+          <Field label="모드">
+            <select style={s.select} value={form.mode} onChange={set("mode")}>
+              <option value="OPEN">OPEN (목표 TPS)</option>
+              <option value="CLOSED">CLOSED (동시 사용자)</option>
+            </select>
+          </Field>
+          {form.mode === "OPEN" ? (
+            <>
+              <Field label="목표 TPS"><input style={s.input} type="number" value={form.targetTps} onChange={set("targetTps")} /></Field>
+              <Field label="최대 동시 처리"><input style={s.input} type="number" value={form.maxInFlight} onChange={set("maxInFlight")} /></Field>
+            </>
+          ) : (
+            <Field label="동시 사용자"><input style={s.input} type="number" value={form.users} onChange={set("users")} /></Field>
+          )}
+          <Field label="Ramp-up (초)"><input style={s.input} type="number" value={form.rampUpSec} onChange={set("rampUpSec")} /></Field>
+          <Field label="실행 시간 (초)"><input style={s.input} type="number" value={form.durationSec} onChange={set("durationSec")} /></Field>
+        </div>
+
+        {form.target === "TELEGRAM" && <div style={s.formGrid}>
+          <Field label="고정 필드값 (필드=값)" span={2}>
+            <textarea style={s.textarea} value={form.fieldValues} onChange={set("fieldValues")} placeholder={"TRAN_CD=TR0001\nIN_BANK_CD=004"} />
+          </Field>
+          <Field label="생성 규칙 (필드=규칙)" span={2}>
+            <textarea style={s.textarea} value={form.fieldGenerators} onChange={set("fieldGenerators")} placeholder={"OUT_ACCT_NO=ACCOUNT:3333\nOUT_ACCT_NM=NAME\nTRAN_AMT=AMOUNT:1000-5000000:1000\nSEND_DATE=NOW:yyyyMMdd"} />
+          </Field>
+          <Field label="성공 판정 필드"><input style={s.input} value={form.successField} onChange={set("successField")} placeholder="RESP_CD" /></Field>
+          <Field label="성공 값 (쉼표 구분)"><input style={s.input} value={form.successValues} onChange={set("successValues")} placeholder="0000" /></Field>
+        </div>}
+        {error && <div style={s.error}>{error}</div>}
+      </div>
+
+      {/* 진행 현황 */}
+      {(totals || report) && (
+        <div style={s.kpiRow}>
+          <Kpi label="상태" value={report?.status || "RUNNING"} color={STATUS_COLORS[report?.status || "RUNNING"]} />
+          <Kpi label="총 건수" value={(report?.totalCount ?? totals?.total ?? 0).toLocaleString()} />
+          <Kpi label="달성 TPS" value={report?.achievedTps ?? totals?.achievedTps} />
+          <Kpi label="오류" value={report?.errorCount ?? totals?.errors} color="#ff6b6b" />
+          <Kpi label="Dropped" value={report?.droppedCount ?? totals?.dropped} color="#f5a623" />
+          <Kpi label="p50 / p99 (ms)" value={`${report?.p50Ms ?? latency?.p50Ms ?? "-"} / ${report?.p99Ms ?? latency?.p99Ms ?? "-"}`} />
+        </div>
+      )}
+
+      {timeline.length > 0 && (
+        <div style={s.chartRow}>
+          <Chart title="TPS" points={timeline.map((t) => t.tps)} color="#36a2eb" />
+          <Chart title="p99 (ms)" points={timeline.map((t) => t.p99Ms)} color="#f5a623" />
+          <Chart title="오류율 (%)" points={timeline.map((t) => t.errorRate)} color="#ff6b6b" />
+        </div>
+      )}
+
+      {/* 시나리오 단계별 */}
+      {(totals?.steps || report?.stepSummary) && (
+        <div style={{ ...s.tableCard, marginBottom: 20 }}>
+          <div style={s.formTitle}>단계별 집계</div>
+          <StepTable steps={totals?.steps || JSON.parse(report.stepSummary)} />
+        </div>
+      )}
+
+      {/* 실행 결과 */}
+      <div style={s.tableCard}>
+        <div style={s.formTitle}>실행 결과</div>
+        <table style={s.table}>
+          <thead>
+            <tr>{["#", "실행명", "전문/시나리오", "대상", "모드", "상태", "건수", "TPS", "오류", "p99", "시작", ""].map((h) => <th key={h} style={s.th}>{h}</th>)}</tr>
+          </thead>
+          <tbody>
+            {reports.map((r) => (
+              <tr key={r.id} style={s.tr} onClick={() => openReport(r.id)}>
+                <td style={s.td}>{r.id}</td>
+                <td style={s.td}>{r.name}</td>
+                <td style={s.td}>{r.scenarioName ? `▶ ${r.scenarioName}` : r.telegramId}</td>
+                <td style={s.tdMono}>{r.target}</td>
+                <td style={s.td}>{r.mode === "OPEN" ? `OPEN ${r.targetTps}TPS` : `CLOSED ${r.users}명`}</td>
+                <td style={{ ...s.td, color: STATUS_COLORS[r.status] }}>{r.status}</td>
+                <td style={s.tdMono}>{r.totalCount?.toLocaleString()}</td>
+                <td style={s.tdMono}>{r.achievedTps}</td>
+                <td style={s.tdMono}>{r.errorCount}</td>
+                <td style={s.tdMono}>{r.p99Ms}</td>
+                <td style={s.tdMono}>{r.startedAt?.replace("T", " ").slice(0, 19)}</td>
+                <td style={s.td}>
+                  {r.status !== "RUNNING" && (
+                    <button style={s.delBtn} onClick={(e) => { e.stopPropagation(); handleDelete(r.id); }}>삭제</button>
+                  )}
+                </td>
+              </tr>
+            ))}
+          </tbody>
+        </table>
+        {report?.errorSummary && report.errorSummary !== "{}" && (
+          <div style={s.errorSummary}>
+            <div style={s.label}>오류 유형 (#{report.id})</div>
+            {Object.entries(JSON.parse(report.errorSummary)).map(([type, count]) => (
+              <div key={type} style={s.cardRow}><span>{type}</span><span style={s.tdMono}>{count}</span></div>
+            ))}
+          </div>
+        )}
+      </div>
+
+      {/* 시나리오 편집 */}
+      <div style={{ ...s.tableCard, marginTop: 20 }}>
+        <div style={s.formTitle}>시나리오</div>
+        <div style={s.formGrid}>
+          <Field label="시나리오 선택">
+            <select style={s.select} value={scenario.id || ""} onChange={(e) => selectScenario(e.target.value)}>
+              <option value="">+ 새 시나리오</option>
+              {scenarios.map((sc) => <option key={sc.id} value={sc.id}>{sc.name}</option>)}
+            </select>
+          </Field>
+          <Field label="이름"><input style={s.input} value={scenario.name} onChange={(e) => setScenario({ ...scenario, name: e.target.value })} /></Field>
+          <Field label="설명" span={2}><input style={s.input} value={scenario.description || ""} onChange={(e) => setScenario({ ...scenario, description: e.target.value })} /></Field>
+          <Field label="단계 정의 (JSON — ${변수}, extract, assertions, thinkTimeMs)" span={4}>
+            <textarea style={{ ...s.textarea, height: 260 }} value={scenario.steps} onChange={(e) => setScenario({ ...scenario, steps: e.target.value })} />
+          </Field>
+        </div>
+        <div style={{ display: "flex", gap: 8, justifyContent: "flex-end" }}>
+          {scenario.id && <button style={s.delBtn} onClick={deleteScenario}>삭제</button>}
+          {scenario.id && <button style={s.secondaryBtn} onClick={tryScenario}>1회 점검 (위 접속정보)</button>}
+          <button style={s.saveBtn} onClick={saveScenario}>저장</button>
+        </div>
+        {scenarioError && <div style={s.error}>{scenarioError}</div>}
+        {tryResult && tryResult.steps.map((step, i) => (
+          <div key={i} style={s.errorSummary}>
+            <div style={s.cardRow}>
+              <span style={{ color: step.success ? "#00bfb3" : "#ff6b6b" }}>{i + 1}. {step.step} ({step.telegramId})</span>
+              <span style={s.tdMono}>{step.elapsedMs}ms</span>
+            </div>
+            {step.error && <div style={s.error}>{step.error}</div>}
+            {Object.entries(step.variables || {}).map(([name, value]) => (
+              <div key={name} style={s.cardRow}><span style={s.cardLabel}>${"{"}{name}{"}"}</span><span style={s.tdMono}>{value}</span></div>
+            ))}
+          </div>
+        ))}
+      </div>
+    </div>
+  );
+}
+
+function StepTable({ steps }) {
+  return (
+    <table style={s.table}>
+      <thead>
+        <tr>{["단계", "전문코드", "건수", "성공", "오류", "평균", "p50", "p90", "p99", "최대", "오류 유형"].map((h) => <th key={h} style={s.th}>{h}</th>)}</tr>
+      </thead>
+      <tbody>
+        {steps.map((step) => (
+          <tr key={step.step} style={s.tr}>
+            <td style={s.td}>{step.step}</td>
+            <td style={s.td}>{step.telegramId}</td>
+            <td style={s.tdMono}>{step.total?.toLocaleString()}</td>
+            <td style={s.tdMono}>{step.success?.toLocaleString()}</td>
+            <td style={{ ...s.tdMono, color: step.errors > 0 ? "#ff6b6b" : undefined }}>{step.errors}</td>
+            <td style={s.tdMono}>{step.meanMs}</td>
+            <td style={s.tdMono}>{step.p50Ms}</td>
+            <td style={s.tdMono}>{step.p90Ms}</td>
+            <td style={s.tdMono}>{step.p99Ms}</td>
+            <td style={s.tdMono}>{step.maxMs}</td>
+            <td style={s.td}>{Object.entries(step.errorTypes || {}).map(([type, count]) => `${type} (${count})`).join(", ")}</td>
+          </tr>
+        ))}
+      </tbody>
+    </table>
+  );
+}
+
+function Field({ label, span = 1, children }) {
+  return (
+    <div style={{ gridColumn: `span ${span}` }}>
+      <label style={s.label}>{label}</label>
+      {children}
+    </div>
+  );
+}
+
+function Kpi({ label, value, color = "#e8eaed" }) {
+  return (
+    <div style={s.kpi}>
+      <div style={s.kpiLabel}>{label}</div>
+      <div style={{ ...s.kpiValue, color }}>{value ?? "-"}</div>
+    </div>
+  );
+}
+
+/** 초별 추이 (SVG 꺾은선) */
+function Chart({ title, points, color }) {
+  const width = 300, height = 90;
+  const max = Math.max(1, ...points);
+  const step = points.length > 1 ? width / (points.length - 1) : width;
+  const path = points.map((p, i) => `${i === 0 ? "M" : "L"}${(i * step).toFixed(1)},${(height - (p / max) * height).toFixed(1)}`).join(" ");
+  return (
+    <div style={s.chartCard}>
+      <div style={s.cardRow}>
+        <span style={s.cardLabel}>{title}</span>
+        <span style={{ ...s.tdMono, color }}>{points[points.length - 1]}</span>
+      </div>
+      <svg width="100%" height={height} viewBox={`0 0 ${width} ${height}`} preserveAspectRatio="none">
+        <path d={path} fill="none" stroke={color} strokeWidth="1.5" />
+      </svg>
+    </div>
+  );
+}
+
+const s = {
+  page: { padding: "24px 28px", animation: "fadeIn 0.3s ease" },
+  header: { display: "flex", justifyContent: "space-between", alignItems: "flex-start", marginBottom: 20 },
+  title: { fontSize: 22, fontWeight: 700, color: "#e8eaed" },
+  subtitle: { fontSize: 13, color: "#5c5f73", marginTop: 2 },
+  addBtn: { padding: "8px 16px", background: "linear-gradient(135deg, #36a2eb, #00bfb3)", border: "none", borderRadius: 6, color: "#fff", fontWeight: 600, fontSize: 13, cursor: "pointer" },
+
+  formCard: { background: "#232440", borderRadius: 10, padding: 24, marginBottom: 20, border: "1px solid #2d2e4a" },
+  formTitle: { fontSize: 15, fontWeight: 600, marginBottom: 16, color: "#e8eaed" },
+  formGrid: { display: "grid", gridTemplateColumns: "repeat(4, 1fr)", gap: 12, marginBottom: 16 },
+  label: { display: "block", fontSize: 11, color: "#5c5f73", marginBottom: 4, fontWeight: 600, textTransform: "uppercase", letterSpacing: 0.3 },
+  input: { width: "100%", padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 13, outline: "none", fontFamily: "'JetBrains Mono', monospace", boxSizing: "border-box" },
+  select: { width: "100%", padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 13, outline: "none", boxSizing: "border-box" },
+  textarea: { width: "100%", height: 72, padding: "8px 10px", background: "#1a1b2e", border: "1px solid #2d2e4a", borderRadius: 5, color: "#e8eaed", fontSize: 12, outline: "none", fontFamily: "'JetBrains Mono', monospace", boxSizing: "border-box", resize: "vertical" },
+  check: { display: "flex", alignItems: "center", gap: 6, fontSize: 12, color: "#9ea2b0", paddingTop: 8 },
+  error: { fontSize: 12, color: "#ff6b6b" },
+
+  kpiRow: { display: "grid", gridTemplateColumns: "repeat(6, 1fr)", gap: 12, marginBottom: 16 },
+  kpi: { background: "#232440", borderRadius: 10, padding: "14px 18px", border: "1px solid #2d2e4a" },
+  kpiLabel: { fontSize: 11, color: "#5c5f73", fontWeight: 600, marginBottom: 6 },
+  kpiValue: { fontSize: 18, fontWeight: 700, fontFamily: "'JetBrains Mono', monospace" },
+
+  chartRow: { display: "grid", gridTemplateColumns: "repeat(3, 1fr)", gap: 12, marginBottom: 20 },
+  chartCard: { background: "#232440", borderRadius: 10, padding: "12px 16px", border: "1px solid #2d2e4a" },
+
+  tableCard: { background: "#232440", borderRadius: 10, padding: 20, border: "1px solid #2d2e4a" },
+  table: { width: "100%", borderCollapse: "collapse", fontSize: 12 },
+  th: { textAlign: "left", padding: "8px 10px", color: "#5c5f73", fontWeight: 600, borderBottom: "1px solid #2d2e4a" },
+  tr: { cursor: "pointer", borderBottom: "1px solid #2d2e4a" },
+  td: { padding: "8px 10px" },
+  tdMono: { padding: "8px 10px", fontFamily: "'JetBrains Mono', monospace", fontSize: 12 },
+  saveBtn: { padding: "8px 20px", background: "#36a2eb", border: "none", borderRadius: 5, color: "#fff", fontWeight: 600, fontSize: 12, cursor: "pointer" },
+  secondaryBtn: { padding: "8px 16px", background: "transparent", border: "1px solid #2d2e4a", borderRadius: 5, color: "#9ea2b0", fontSize: 12, cursor: "pointer" },
+  delBtn: { padding: "2px 8px", background: "transparent", border: "1px solid #2d2e4a", borderRadius: 4, color: "#ff6b6b", fontSize: 11, cursor: "pointer" },
+  errorSummary: { marginTop: 16, padding: 12, background: "#1a1b2e", borderRadius: 6 },
+  cardRow: { display: "flex", justifyContent: "space-between", fontSize: 13, marginBottom: 6 },
+  cardLabel: { color: "#5c5f73", fontSize: 12 },
+};
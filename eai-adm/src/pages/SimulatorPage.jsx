@@ -1,5 +1,6 @@
 import { useState, useEffect, useCallback, useRef } from 'react';
 import simulatorApi from '../api/simulatorApi';
+import trafficApi from '../api/trafficApi';
 import axios from 'axios';
 
 /* ───────────────────────── 상수 ───────────────────────── */
@@ -9,15 +10,51 @@ const RULE_TYPES = [
   { value: 'ECHO_FROM', label: '다른 필드 복사', desc: '요청의 다른 필드값 복사' },
   { value: 'TIMESTAMP', label: '현재시각', desc: 'yyyyMMddHHmmss 등' },
   { value: 'SEQUENCE', label: '순번', desc: '자동 증가 순번' },
+  { value: 'GENERATOR', label: '생성 규칙', desc: 'ACCOUNT, NAME, AMOUNT:1000-50000, DATE 등' },
   { value: 'DEFAULT', label: '기본값', desc: '레이아웃 기본값 사용' },
 ];
 
+const DELAY_TYPES = [
+  { value: 'FIXED', label: '고정', desc: 'fixedMs 고정 지연' },
+  { value: 'UNIFORM', label: '균등 분포', desc: 'minMs ~ maxMs' },
+  { value: 'NORMAL', label: '정규 분포', desc: '평균 ± 표준편차 (min/max 절단)' },
+  { value: 'PERCENTILE', label: '백분위표', desc: '예: 50:20,90:150,99:800,100:2000' },
+];
+
+const FRAMING_TYPES = [
+  { value: 'LENGTH', label: '길이 헤더' },
+  { value: 'FIXED', label: '고정 길이' },
+  { value: 'LAYOUT', label: '레이아웃 길이 (전문코드 기준)' },
+  { value: 'DELIMITER', label: '구분자' },
+  { value: 'IDLE', label: '유휴 간격 (길이 정보 없음)' },
+];
+
 const STATUS_COLORS = {
   SUCCESS: '#00bfa5',
   ERROR: '#ff5252',
   PARSE_ERROR: '#ff9800',
   NO_LAYOUT: '#ffc107',
   NO_RULE: '#78909c',
+  SHED: '#ab47bc',
+};
+
+const MAX_LOGS = 50;
+
+/** 실시간 트래픽 이벤트 → 로그 목록 항목 (원문은 새로고침 시 DB에서 조회) */
+const toLog = (event) => {
+  const sep = event.peer ? event.peer.lastIndexOf(':') : -1;
+  return {
+    id: `live-${event.seq}`,
+    configId: event.configId,
+    telegramId: event.telegramId,
+    status: event.status,
+    clientIp: sep >= 0 ? event.peer.substring(0, sep) : event.peer,
+    clientPort: sep >= 0 ? event.peer.substring(sep + 1) : '',
+    processTimeMs: event.elapsedMs,
+    errorMessage: event.errorMessage,
+    receivedAt: event.createdAt,
+    live: true,
+  };
 };
 
 /* ───────────────────────── 메인 컴포넌트 ───────────────────────── */
@@ -27,12 +64,14 @@ export default function SimulatorPage() {
   const [statuses, setStatuses] = useState([]);
   const [logs, setLogs] = useState([]);
   const [selectedLog, setSelectedLog] = useState(null);
+  const [streamStats, setStreamStats] = useState(null);
 
   // 응답 규칙 관련
   const [telegramIds, setTelegramIds] = useState([]);
   const [selectedTelegramId, setSelectedTelegramId] = useState('');
   const [rules, setRules] = useState([]);
   const [layoutFields, setLayoutFields] = useState([]);
+  const [delay, setDelay] = useState(null);
 
   // 설정 편집 모달
   const [showConfigModal, setShowConfigModal] = useState(false);
@@ -46,7 +85,6 @@ export default function SimulatorPage() {
 
   // 폴링
   const pollingRef = useRef(null);
-  const logPollingRef = useRef(null);
 
   /* ───────────────── 데이터 로드 ───────────────── */
   const loadStatuses = useCallback(async () => {
@@ -87,6 +125,16 @@ export default function SimulatorPage() {
     }
   }, []);
 
+  const loadDelay = useCallback(async (telegramId) => {
+    if (!telegramId) return;
+    try {
+      const res = await simulatorApi.getDelay(telegramId);
+      setDelay(res.data);
+    } catch (e) {
+      setDelay(null); // 정책 없음 — 리스너 고정 지연 사용
+    }
+  }, []);
+
   const loadLayoutFields = useCallback(async (telegramId) => {
     if (!telegramId) return;
     try {
@@ -99,25 +147,32 @@ export default function SimulatorPage() {
 
   useEffect(() => {
     loadStatuses();
-    loadLogs();
     loadTelegramIds();
 
     // 폴링 시작 (2초 간격)
     pollingRef.current = setInterval(loadStatuses, 2000);
-    logPollingRef.current = setInterval(loadLogs, 3000);
+
+    // 수신 로그는 실시간 트래픽 스트림으로 갱신 (DB 조회 없음)
+    const closeStream = trafficApi.openStream({ source: 'SIMULATOR' }, {
+      onSnapshot: (events) => setLogs(events.slice(0, MAX_LOGS).map(toLog)),
+      onTraffic: (events) => setLogs(prev =>
+        [...events.map(toLog).reverse(), ...prev].slice(0, MAX_LOGS)),
+      onStats: setStreamStats,
+    });
 
     return () => {
       clearInterval(pollingRef.current);
-      clearInterval(logPollingRef.current);
+      closeStream();
     };
-  }, [loadStatuses, loadLogs, loadTelegramIds]);
+  }, [loadStatuses, loadTelegramIds]);
 
   useEffect(() => {
     if (selectedTelegramId) {
       loadRules(selectedTelegramId);
       loadLayoutFields(selectedTelegramId);
+      loadDelay(selectedTelegramId);
     }
-  }, [selectedTelegramId, loadRules, loadLayoutFields]);
+  }, [selectedTelegramId, loadRules, loadLayoutFields, loadDelay]);
 
   /* ───────────────── 리스너 제어 ───────────────── */
   const handleStart = async (configId) => {
@@ -220,6 +275,30 @@ export default function SimulatorPage() {
     }
   };
 
+  /* ───────────────── 응답 지연 정책 ───────────────── */
+  const handleSaveDelay = async () => {
+    try {
+      const res = await simulatorApi.saveDelay({ ...delay, telegramId: selectedTelegramId });
+      setDelay(res.data);
+      alert('지연 정책 저장 완료');
+    } catch (e) {
+      alert(e.response?.data?.message || '지연 정책 저장 실패');
+    }
+  };
+
+  const handleDeleteDelay = async () => {
+    if (!delay?.id) {
+      setDelay(null);
+      return;
+    }
+    try {
+      await simulatorApi.deleteDelay(delay.id);
+      setDelay(null);
+    } catch (e) {
+      alert('지연 정책 삭제 실패');
+    }
+  };
+
   /* ───────────────── 렌더링 ───────────────── */
   const runningCount = statuses.filter(s => s.running).length;
 
@@ -285,7 +364,10 @@ export default function SimulatorPage() {
                     name: '', port: 9090, encoding: 'EUC-KR',
                     lengthHeaderSize: 4, lengthIncludesHeader: false,
                     telegramIdOffset: 0, telegramIdLength: 4,
-                    responseDelayMs: 0, active: true, description: '',
+                    responseDelayMs: 0, ioMode: 'BLOCKING', keepAlive: false,
+                    idleTimeoutMs: 30000, maxMessagesPerConnection: 0,
+                    maxInFlight: 1000, acceptQueueSize: 1000, clientRatePerSec: 0, shedMode: 'CLOSE',
+                    active: true, description: '',
                   });
                   setShowConfigModal(true);
                 }}>+ 리스너 추가</button>
@@ -312,7 +394,12 @@ export default function SimulatorPage() {
 
                   <div style={styles.cardMeta}>
                     <span>인코딩: {s.encoding}</span>
-                    <span>헤더: {s.lengthHeaderSize}byte</span>
+                    {s.framing === 'LENGTH'
+                      ? <span>헤더: {s.lengthHeaderSize}byte</span>
+                      : <span>프레임: {s.framing}</span>}
+                    {s.ioMode === 'NIO' && <span>NIO</span>}
+                    {s.virtualThreads && <span>가상 스레드</span>}
+                    {s.keepAlive && <span>연결 유지</span>}
                     {s.responseDelayMs > 0 && <span>지연: {s.responseDelayMs}ms</span>}
                   </div>
 
@@ -330,6 +417,22 @@ export default function SimulatorPage() {
                         <span style={{ ...styles.statValue, color: '#ff5252' }}>{s.errorCount || 0}</span>
                         <span style={styles.statLabel}>에러</span>
                       </div>
+                      <div style={styles.statItem}>
+                        <span style={styles.statValue}>{s.tps || 0}</span>
+                        <span style={styles.statLabel}>TPS(10s)</span>
+                      </div>
+                      <div style={styles.statItem}>
+                        <span style={styles.statValue}>{s.latency?.p99Ms ?? 0}</span>
+                        <span style={styles.statLabel}>p99(ms)</span>
+                      </div>
+                      {(s.shedConnections > 0 || s.shedMessages > 0) && (
+                        <div style={styles.statItem}>
+                          <span style={{ ...styles.statValue, color: '#ffab40' }}>
+                            {(s.shedConnections || 0) + (s.shedMessages || 0)}
+                          </span>
+                          <span style={styles.statLabel}>차단</span>
+                        </div>
+                      )}
                     </div>
                   )}
 
@@ -510,6 +613,18 @@ export default function SimulatorPage() {
                                 }}
                               />
                             )}
+                            {rule.ruleType === 'GENERATOR' && (
+                              <input
+                                style={styles.inlineInput}
+                                placeholder="ACCOUNT:3333 / NAME / AMOUNT:1000-50000:1000"
+                                value={rule.generator || ''}
+                                onChange={(e) => {
+                                  const updated = [...rules];
+                                  updated[idx] = { ...rule, generator: e.target.value };
+                                  setRules(updated);
+                                }}
+                              />
+                            )}
                             {(rule.ruleType === 'ECHO' || rule.ruleType === 'DEFAULT') && (
                               <span style={{ color: '#607d8b', fontSize: 12 }}>—</span>
                             )}
@@ -562,6 +677,76 @@ export default function SimulatorPage() {
                     </div>
                   )}
                 </div>
+
+                {/* 응답 지연 정책 */}
+                <div style={{ marginTop: 24 }}>
+                  <div style={styles.sectionHeader}>
+                    <h2 style={styles.sectionTitle}>응답 지연 정책</h2>
+                    {!delay && (
+                      <button style={styles.btnGhost} onClick={() => setDelay({
+                        telegramId: selectedTelegramId, delayType: 'FIXED', fixedMs: 100, active: true,
+                      })}>
+                        + 지연 정책 추가
+                      </button>
+                    )}
+                  </div>
+                  {!delay ? (
+                    <p style={{ color: '#90a4ae', fontSize: 13 }}>
+                      지연 정책이 없으면 리스너 설정의 고정 응답 지연(responseDelayMs)을 사용합니다.
+                    </p>
+                  ) : (
+                    <div style={{ display: 'flex', gap: 8, alignItems: 'flex-end', flexWrap: 'wrap' }}>
+                      <div>
+                        <label style={styles.label}>분포</label>
+                        <select
+                          style={{ ...styles.select, width: 140 }}
+                          value={delay.delayType}
+                          onChange={(e) => setDelay({ ...delay, delayType: e.target.value })}
+                        >
+                          {DELAY_TYPES.map(t => (
+                            <option key={t.value} value={t.value} title={t.desc}>{t.label}</option>
+                          ))}
+                        </select>
+                      </div>
+                      {delay.delayType === 'FIXED' && (
+                        <DelayInput label="지연(ms)" field="fixedMs" delay={delay} onChange={setDelay} />
+                      )}
+                      {delay.delayType === 'NORMAL' && (
+                        <>
+                          <DelayInput label="평균(ms)" field="meanMs" delay={delay} onChange={setDelay} />
+                          <DelayInput label="표준편차(ms)" field="stddevMs" delay={delay} onChange={setDelay} />
+                        </>
+                      )}
+                      {(delay.delayType === 'UNIFORM' || delay.delayType === 'NORMAL') && (
+                        <>
+                          <DelayInput label="최소(ms)" field="minMs" delay={delay} onChange={setDelay} />
+                          <DelayInput label="최대(ms)" field="maxMs" delay={delay} onChange={setDelay} />
+                        </>
+                      )}
+                      {delay.delayType === 'PERCENTILE' && (
+                        <div>
+                          <label style={styles.label}>백분위:지연(ms)</label>
+                          <input
+                            style={{ ...styles.inlineInput, width: 280 }}
+                            value={delay.percentiles || ''}
+                            onChange={(e) => setDelay({ ...delay, percentiles: e.target.value })}
+                            placeholder="50:20,90:150,99:800,100:2000"
+                          />
+                        </div>
+                      )}
+                      <label style={{ ...styles.label, display: 'flex', alignItems: 'center', gap: 4 }}>
+                        <input
+                          type="checkbox"
+                          checked={delay.active}
+                          onChange={(e) => setDelay({ ...delay, active: e.target.checked })}
+                        />
+                        활성
+                      </label>
+                      <button style={styles.btnPrimary} onClick={handleSaveDelay}>저장</button>
+                      <button style={styles.btnGhost} onClick={handleDeleteDelay}>삭제</button>
+                    </div>
+                  )}
+                </div>
               </div>
             )}
           </div>
@@ -572,7 +757,14 @@ export default function SimulatorPage() {
           <div>
             <div style={styles.sectionHeader}>
               <h2 style={styles.sectionTitle}>수신/응답 로그</h2>
-              <button style={styles.btnGhost} onClick={loadLogs}>새로고침</button>
+              <div style={{ display: 'flex', alignItems: 'center', gap: 12 }}>
+                {streamStats && (streamStats.rateLimited > 0 || streamStats.dropped > 0) && (
+                  <span style={{ color: '#ff9800', fontSize: 12 }}>
+                    초당 한도 초과 생략 {streamStats.rateLimited} / 폐기 {streamStats.dropped}
+                  </span>
+                )}
+                <button style={styles.btnGhost} onClick={loadLogs}>새로고침 (원문 포함)</button>
+              </div>
             </div>
 
             <div style={styles.logContainer}>
@@ -643,12 +835,12 @@ export default function SimulatorPage() {
 
                     <div style={styles.rawSection}>
                       <h4 style={styles.rawTitle}>▼ 수신 전문 (Request)</h4>
-                      <pre style={styles.rawPre}>{selectedLog.requestRaw || '(없음)'}</pre>
+                      <pre style={styles.rawPre}>{selectedLog.requestRaw || (selectedLog.live ? '(실시간 이벤트 — 새로고침 시 원문 조회)' : '(없음)')}</pre>
                     </div>
 
                     <div style={styles.rawSection}>
                       <h4 style={styles.rawTitle}>▼ 응답 전문 (Response)</h4>
-                      <pre style={styles.rawPre}>{selectedLog.responseRaw || '(없음)'}</pre>
+                      <pre style={styles.rawPre}>{selectedLog.responseRaw || (selectedLog.live ? '(실시간 이벤트 — 새로고침 시 원문 조회)' : '(없음)')}</pre>
                     </div>
                   </div>
                 ) : (
@@ -692,14 +884,66 @@ export default function SimulatorPage() {
                 </select>
               </div>
               <div style={styles.formGroup}>
-                <label style={styles.formLabel}>길이 헤더 크기</label>
-                <select style={styles.formSelect} value={editConfig.lengthHeaderSize}
-                  onChange={e => setEditConfig({ ...editConfig, lengthHeaderSize: parseInt(e.target.value) })}>
-                  <option value={0}>없음</option>
-                  <option value={4}>4 byte</option>
-                  <option value={8}>8 byte</option>
+                <label style={styles.formLabel}>프레임 방식</label>
+                <select style={styles.formSelect}
+                  value={editConfig.framing || (editConfig.lengthHeaderSize > 0 ? 'LENGTH' : 'IDLE')}
+                  onChange={e => setEditConfig({ ...editConfig, framing: e.target.value,
+                    lengthHeaderSize: e.target.value === 'LENGTH' ? (editConfig.lengthHeaderSize || 4) : 0 })}>
+                  {FRAMING_TYPES.map(f => <option key={f.value} value={f.value}>{f.label}</option>)}
                 </select>
               </div>
+              {(editConfig.framing || (editConfig.lengthHeaderSize > 0 ? 'LENGTH' : 'IDLE')) === 'LENGTH' && (
+                <>
+                  <div style={styles.formGroup}>
+                    <label style={styles.formLabel}>길이 헤더 크기</label>
+                    <select style={styles.formSelect} value={editConfig.lengthHeaderSize}
+                      onChange={e => setEditConfig({ ...editConfig, lengthHeaderSize: parseInt(e.target.value) })}>
+                      <option value={2}>2 byte</option>
+                      <option value={4}>4 byte</option>
+                      <option value={8}>8 byte</option>
+                    </select>
+                  </div>
+                  <div style={styles.formGroup}>
+                    <label style={styles.formLabel}>길이 헤더 표기</label>
+                    <select style={styles.formSelect} value={editConfig.lengthEncoding || 'ASCII'}
+                      onChange={e => setEditConfig({ ...editConfig, lengthEncoding: e.target.value })}>
+                      <option value="ASCII">ASCII 숫자</option>
+                      <option value="BINARY_BE">Binary (big-endian)</option>
+                      <option value="BINARY_LE">Binary (little-endian)</option>
+                    </select>
+                  </div>
+                  <div style={styles.formGroup}>
+                    <label style={styles.formLabel}>&nbsp;</label>
+                    <label style={{ display: 'flex', alignItems: 'center', gap: 8, color: '#b0bec5', fontSize: 13 }}>
+                      <input type="checkbox" checked={editConfig.lengthIncludesHeader || false}
+                        onChange={e => setEditConfig({ ...editConfig, lengthIncludesHeader: e.target.checked })} />
+                      길이에 헤더 포함
+                    </label>
+                  </div>
+                </>
+              )}
+              {editConfig.framing === 'FIXED' && (
+                <div style={styles.formGroup}>
+                  <label style={styles.formLabel}>전문 길이 (byte)</label>
+                  <input style={styles.formInput} type="number" value={editConfig.fixedLength || ''}
+                    onChange={e => setEditConfig({ ...editConfig, fixedLength: parseInt(e.target.value) || null })} />
+                </div>
+              )}
+              {editConfig.framing === 'DELIMITER' && (
+                <div style={styles.formGroup}>
+                  <label style={styles.formLabel}>구분자</label>
+                  <input style={styles.formInput} value={editConfig.frameDelimiter || ''}
+                    placeholder="예: \r\n, \x03"
+                    onChange={e => setEditConfig({ ...editConfig, frameDelimiter: e.target.value })} />
+                </div>
+              )}
+              {(editConfig.framing || (editConfig.lengthHeaderSize > 0 ? 'LENGTH' : 'IDLE')) === 'IDLE' && (
+                <div style={styles.formGroup}>
+                  <label style={styles.formLabel}>유휴 간격 (ms)</label>
+                  <input style={styles.formInput} type="number" value={editConfig.idleGapMs || 100}
+                    onChange={e => setEditConfig({ ...editConfig, idleGapMs: parseInt(e.target.value) })} />
+                </div>
+              )}
               <div style={styles.formGroup}>
                 <label style={styles.formLabel}>전문코드 오프셋</label>
                 <input style={styles.formInput} type="number" value={editConfig.telegramIdOffset || 0}
@@ -715,6 +959,47 @@ export default function SimulatorPage() {
                 <input style={styles.formInput} type="number" value={editConfig.responseDelayMs || 0}
                   onChange={e => setEditConfig({ ...editConfig, responseDelayMs: parseInt(e.target.value) })} />
               </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>I/O 모드</label>
+                <select style={styles.formSelect} value={editConfig.ioMode || 'BLOCKING'}
+                  onChange={e => setEditConfig({ ...editConfig, ioMode: e.target.value })}>
+                  <option value="BLOCKING">BLOCKING (연결당 스레드)</option>
+                  <option value="NIO">NIO (이벤트 루프)</option>
+                </select>
+              </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>가상 스레드</label>
+                <select style={styles.formSelect}
+                  value={editConfig.virtualThreads == null ? '' : String(editConfig.virtualThreads)}
+                  onChange={e => setEditConfig({ ...editConfig,
+                    virtualThreads: e.target.value === '' ? null : e.target.value === 'true' })}>
+                  <option value="">전역 설정</option>
+                  <option value="true">사용</option>
+                  <option value="false">미사용</option>
+                </select>
+              </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>&nbsp;</label>
+                <label style={{ display: 'flex', alignItems: 'center', gap: 8, color: '#b0bec5', fontSize: 13 }}>
+                  <input type="checkbox" checked={editConfig.keepAlive || false}
+                    onChange={e => setEditConfig({ ...editConfig, keepAlive: e.target.checked })} />
+                  연결 유지 (파이프라이닝)
+                </label>
+              </div>
+              {editConfig.keepAlive && (
+                <>
+                  <div style={styles.formGroup}>
+                    <label style={styles.formLabel}>유휴 타임아웃 (ms)</label>
+                    <input style={styles.formInput} type="number" value={editConfig.idleTimeoutMs || 30000}
+                      onChange={e => setEditConfig({ ...editConfig, idleTimeoutMs: parseInt(e.target.value) })} />
+                  </div>
+                  <div style={styles.formGroup}>
+                    <label style={styles.formLabel}>연결당 최대 전문 수 (0=무제한)</label>
+                    <input style={styles.formInput} type="number" value={editConfig.maxMessagesPerConnection || 0}
+                      onChange={e => setEditConfig({ ...editConfig, maxMessagesPerConnection: parseInt(e.target.value) })} />
+                  </div>
+                </>
+              )}
               <div style={styles.formGroup}>
                 <label style={styles.formLabel}>&nbsp;</label>
                 <label style={{ display: 'flex', alignItems: 'center', gap: 8, color: '#b0bec5', fontSize: 13 }}>
@@ -723,6 +1008,45 @@ export default function SimulatorPage() {
                   길이 헤더에 자기 자신 포함
                 </label>
               </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>동시 처리 연결 수 (0=무제한)</label>
+                <input style={styles.formInput} type="number" value={editConfig.maxInFlight ?? 1000}
+                  onChange={e => setEditConfig({ ...editConfig, maxInFlight: parseInt(e.target.value) })} />
+              </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>수락 대기열 크기</label>
+                <input style={styles.formInput} type="number" value={editConfig.acceptQueueSize ?? 1000}
+                  onChange={e => setEditConfig({ ...editConfig, acceptQueueSize: parseInt(e.target.value) })} />
+              </div>
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>클라이언트별 초당 전문 수 (0=무제한)</label>
+                <input style={styles.formInput} type="number" value={editConfig.clientRatePerSec || 0}
+                  onChange={e => setEditConfig({ ...editConfig, clientRatePerSec: parseInt(e.target.value) })} />
+              </div>
+              {editConfig.clientRatePerSec > 0 && (
+                <div style={styles.formGroup}>
+                  <label style={styles.formLabel}>클라이언트별 순간 허용 수 (비우면 초당 전문 수)</label>
+                  <input style={styles.formInput} type="number" value={editConfig.clientBurst ?? ''}
+                    onChange={e => setEditConfig({ ...editConfig,
+                      clientBurst: e.target.value === '' ? null : parseInt(e.target.value) })} />
+                </div>
+              )}
+              <div style={styles.formGroup}>
+                <label style={styles.formLabel}>과부하 차단 방식</label>
+                <select style={styles.formSelect} value={editConfig.shedMode || 'CLOSE'}
+                  onChange={e => setEditConfig({ ...editConfig, shedMode: e.target.value })}>
+                  <option value="CLOSE">CLOSE (즉시 연결 종료)</option>
+                  <option value="BUSY">BUSY (고정 응답 후 종료)</option>
+                </select>
+              </div>
+              {editConfig.shedMode === 'BUSY' && (
+                <div style={styles.formGroup}>
+                  <label style={styles.formLabel}>BUSY 응답 전문 (길이 헤더 제외)</label>
+                  <input style={styles.formInput} value={editConfig.busyResponse || ''}
+                    placeholder="예: TR0001BUSY9999"
+                    onChange={e => setEditConfig({ ...editConfig, busyResponse: e.target.value })} />
+                </div>
+              )}
             </div>
 
             <div style={styles.formGroup}>
@@ -743,6 +1067,21 @@ export default function SimulatorPage() {
   );
 }
 
+/* 지연 정책 숫자 입력 */
+function DelayInput({ label, field, delay, onChange }) {
+  return (
+    <div>
+      <label style={styles.label}>{label}</label>
+      <input
+        style={{ ...styles.inlineInput, width: 100 }}
+        type="number"
+        value={delay[field] ?? ''}
+        onChange={(e) => onChange({ ...delay, [field]: e.target.value === '' ? null : parseInt(e.target.value) })}
+      />
+    </div>
+  );
+}
+
 /* ───────────────────────── 스타일 ───────────────────────── */
 const styles = {
   container: {
@@ -23,6 +23,7 @@ const theme = {
 // ── 프로토콜 설정 ──
 const PROTOCOLS = {
   TCP: { label: "TCP/IP Socket", icon: "⚡", color: "#3b82f6" },
+  TCP_MUX: { label: "TCP 다중화", icon: "🔀", color: "#8b5cf6" },
   HTTP: { label: "HTTP/REST", icon: "🌐", color: "#10b981" },
   MQ: { label: "IBM MQ", icon: "📨", color: "#f59e0b" },
 };
@@ -33,6 +34,7 @@ export default function TelegramTester() {
   const [selectedTelegram, setSelectedTelegram] = useState("");
   const [layouts, setLayouts] = useState([]);
   const [fieldValues, setFieldValues] = useState({});
+  const [fieldGenerators, setFieldGenerators] = useState({}); // 필드명 → 생성 규칙 (ACCOUNT, NAME 등)
   const [protocol, setProtocol] = useState("TCP");
   const [charset, setCharset] = useState("EUC-KR");
 
@@ -44,6 +46,12 @@ export default function TelegramTester() {
     timeoutMs: 30000,
     includeLengthHeader: true,
     lengthHeaderSize: 4,
+    lengthEncoding: "ASCII",
+    lengthIncludesHeader: false,
+    keepAlive: false,
+    correlationField: "",
+    muxConnections: 1,
+    receivePort: 0,
     httpMethod: "POST",
     contentType: "application/octet-stream",
     queueManager: "",
@@ -91,6 +99,7 @@ export default function TelegramTester() {
           defaults[f.fieldName] = f.defaultValue || "";
         });
         setFieldValues(defaults);
+        setFieldGenerators({});
       })
       .catch(() => {
         // Demo 데이터
@@ -99,6 +108,7 @@ export default function TelegramTester() {
         const defaults = {};
         demo.forEach((f) => (defaults[f.fieldName] = f.defaultValue || ""));
         setFieldValues(defaults);
+        setFieldGenerators({});
       });
   }, [selectedTelegram]);
 
@@ -107,6 +117,20 @@ export default function TelegramTester() {
     setFieldValues((prev) => ({ ...prev, [fieldName]: value }));
   }, []);
 
+  // ── 생성 규칙 변경 (null이면 직접 입력으로 전환) ──
+  const handleGeneratorChange = useCallback((fieldName, spec) => {
+    setFieldGenerators((prev) => {
+      const next = { ...prev };
+      if (spec === null) delete next[fieldName];
+      else next[fieldName] = spec;
+      return next;
+    });
+  }, []);
+
+  // 규칙이 입력된 필드만 전송
+  const activeGenerators = () =>
+    Object.fromEntries(Object.entries(fieldGenerators).filter(([, spec]) => spec.trim()));
+
   // ── 전문 미리보기 ──
   const handlePreview = async () => {
     setLoading(true);
@@ -117,6 +141,7 @@ export default function TelegramTester() {
         body: JSON.stringify({
           telegramId: selectedTelegram,
           fieldValues,
+          fieldGenerators: activeGenerators(),
           charset,
         }),
       });
@@ -139,6 +164,7 @@ export default function TelegramTester() {
         body: JSON.stringify({
           telegramId: selectedTelegram,
           fieldValues,
+          fieldGenerators: activeGenerators(),
           charset,
           protocol,
           ...connConfig,
@@ -165,6 +191,9 @@ export default function TelegramTester() {
           host: connConfig.host,
           port: connConfig.port,
           url: connConfig.url,
+          includeLengthHeader: connConfig.includeLengthHeader,
+          lengthHeaderSize: connConfig.lengthHeaderSize,
+          keepAlive: connConfig.keepAlive,
         }),
       });
       const data = await res.json();
@@ -338,6 +367,8 @@ export default function TelegramTester() {
               layouts={layouts}
               fieldValues={fieldValues}
               onChange={handleFieldChange}
+              fieldGenerators={fieldGenerators}
+              onGeneratorChange={handleGeneratorChange}
             />
           )}
 
@@ -370,7 +401,7 @@ function ConnectionForm({ protocol, config, onChange }) {
 
   return (
     <div style={styles.connForm}>
-      {(protocol === "TCP" || protocol === "HTTP") && (
+      {(protocol === "TCP" || protocol === "TCP_MUX" || protocol === "HTTP") && (
         <>
           <div style={styles.formRow}>
             <div style={styles.formGroup}>
@@ -404,7 +435,7 @@ function ConnectionForm({ protocol, config, onChange }) {
         </>
       )}
 
-      {protocol === "TCP" && (
+      {(protocol === "TCP" || protocol === "TCP_MUX") && (
         <div style={styles.formRow}>
           <div style={styles.checkboxGroup}>
             <label style={styles.checkLabel}>
@@ -416,6 +447,18 @@ function ConnectionForm({ protocol, config, onChange }) {
               <span style={{ marginLeft: 6 }}>길이 헤더 포함</span>
             </label>
           </div>
+          {protocol === "TCP" && config.includeLengthHeader && (
+            <div style={styles.checkboxGroup}>
+              <label style={styles.checkLabel}>
+                <input
+                  type="checkbox"
+                  checked={config.keepAlive}
+                  onChange={(e) => update("keepAlive", e.target.checked)}
+                />
+                <span style={{ marginLeft: 6 }}>연결 유지 (풀)</span>
+              </label>
+            </div>
+          )}
           {config.includeLengthHeader && (
             <div style={styles.formGroupSmall}>
               <label style={styles.label}>헤더 크기</label>
@@ -424,11 +467,71 @@ function ConnectionForm({ protocol, config, onChange }) {
                 value={config.lengthHeaderSize}
                 onChange={(e) => update("lengthHeaderSize", parseInt(e.target.value))}
               >
+                <option value={2}>2 bytes</option>
                 <option value={4}>4 bytes</option>
                 <option value={8}>8 bytes</option>
               </select>
             </div>
           )}
+          {config.includeLengthHeader && (
+            <div style={styles.formGroupSmall}>
+              <label style={styles.label}>헤더 표기</label>
+              <select
+                style={styles.selectSmall}
+                value={config.lengthEncoding}
+                onChange={(e) => update("lengthEncoding", e.target.value)}
+              >
+                <option value="ASCII">ASCII</option>
+                <option value="BINARY_BE">Binary BE</option>
+                <option value="BINARY_LE">Binary LE</option>
+              </select>
+            </div>
+          )}
+          {config.includeLengthHeader && (
+            <div style={styles.checkboxGroup}>
+              <label style={styles.checkLabel}>
+                <input
+                  type="checkbox"
+                  checked={config.lengthIncludesHeader}
+                  onChange={(e) => update("lengthIncludesHeader", e.target.checked)}
+                />
+                <span style={{ marginLeft: 6 }}>길이에 헤더 포함</span>
+              </label>
+            </div>
+          )}
+        </div>
+      )}
+
+      {protocol === "TCP_MUX" && (
+        <div style={styles.formRow}>
+          <div style={styles.formGroup}>
+            <label style={styles.label}>상관키 필드</label>
+            <input
+              style={styles.input}
+              value={config.correlationField}
+              onChange={(e) => update("correlationField", e.target.value)}
+              placeholder="거래고유번호 필드명"
+            />
+          </div>
+          <div style={styles.formGroupSmall}>
+            <label style={styles.label}>연결 수</label>
+            <input
+              style={styles.input}
+              type="number"
+              value={config.muxConnections}
+              onChange={(e) => update("muxConnections", parseInt(e.target.value) || 1)}
+            />
+          </div>
+          <div style={styles.formGroupSmall}>
+            <label style={styles.label}>수신 Port</label>
+            <input
+              style={styles.input}
+              type="number"
+              value={config.receivePort}
+              onChange={(e) => update("receivePort", parseInt(e.target.value) || 0)}
+              placeholder="0=송신 연결"
+            />
+          </div>
         </div>
       )}
 
@@ -497,7 +600,7 @@ function ConnectionForm({ protocol, config, onChange }) {
 }
 
 // ── 필드 에디터 ──
-function FieldEditor({ layouts, fieldValues, onChange }) {
+function FieldEditor({ layouts, fieldValues, onChange, fieldGenerators, onGeneratorChange }) {
   const headerFields = layouts.filter((f) => f.section === "HEADER");
   const bodyFields = layouts.filter((f) => f.section === "BODY");
 
@@ -514,8 +617,9 @@ function FieldEditor({ layouts, fieldValues, onChange }) {
           <span style={{ flex: 1 }}>값</span>
         </div>
         {fields.map((f, idx) => {
+          const generated = fieldGenerators[f.fieldName] !== undefined;
           const byteLen = (fieldValues[f.fieldName] || "").length;
-          const overLength = byteLen > f.fieldLength;
+          const overLength = !generated && byteLen > f.fieldLength;
           return (
             <div key={f.fieldName} style={styles.fieldRow}>
               <span style={{ ...styles.fieldCell, flex: "0 0 40px", color: theme.textMuted }}>
@@ -560,18 +664,36 @@ function FieldEditor({ layouts, fieldValues, onChange }) {
               >
                 {f.dataType}
               </span>
-              <div style={{ flex: 1, position: "relative" }}>
-                <input
-                  style={{
-                    ...styles.fieldInput,
-                    borderColor: overLength ? theme.error : "transparent",
-                    background: overLength ? "rgba(239,68,68,0.1)" : theme.bg,
-                  }}
-                  value={fieldValues[f.fieldName] || ""}
-                  onChange={(e) => onChange(f.fieldName, e.target.value)}
-                  placeholder={f.defaultValue || ""}
-                  disabled={f.dataType === "FILLER"}
-                />
+              <div style={{ flex: 1, position: "relative", display: "flex", gap: 4 }}>
+                {generated ? (
+                  <input
+                    style={{ ...styles.fieldInput, borderColor: theme.accent, color: theme.accent }}
+                    value={fieldGenerators[f.fieldName]}
+                    onChange={(e) => onGeneratorChange(f.fieldName, e.target.value)}
+                    placeholder="ACCOUNT:3333 / NAME / AMOUNT:1000-50000:1000 / DATE"
+                  />
+                ) : (
+                  <input
+                    style={{
+                      ...styles.fieldInput,
+                      borderColor: overLength ? theme.error : "transparent",
+                      background: overLength ? "rgba(239,68,68,0.1)" : theme.bg,
+                    }}
+                    value={fieldValues[f.fieldName] || ""}
+                    onChange={(e) => onChange(f.fieldName, e.target.value)}
+                    placeholder={f.defaultValue || ""}
+                    disabled={f.dataType === "FILLER"}
+                  />
+                )}
+                {f.dataType !== "FILLER" && (
+                  <button
+                    style={{ ...styles.generatorToggle, color: generated ? theme.accent : theme.textMuted }}
+                    title={generated ? "직접 입력" : "생성 규칙"}
+                    onClick={() => onGeneratorChange(f.fieldName, generated ? null : "")}
+                  >
+                    ⚙
+                  </button>
+                )}
               </div>
             </div>
           );
@@ -1058,6 +1180,14 @@ const styles = {
     textOverflow: "ellipsis",
     whiteSpace: "nowrap",
   },
+  generatorToggle: {
+    flex: "0 0 24px",
+    background: "transparent",
+    border: "none",
+    cursor: "pointer",
+    fontSize: 13,
+    padding: 0,
+  },
   fieldInput: {
     width: "100%",
     padding: "5px 8px",
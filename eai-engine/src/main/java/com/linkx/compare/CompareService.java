@@ -0,0 +1,364 @@
+package com.linkx.compare;
+
+import com.linkx.domain.ConnectionProfile;
+import com.linkx.domain.TelegramLayout;
+import com.linkx.protocol.AsyncSend;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolRouter;
+import com.linkx.protocol.TcpConnectionPool;
+import com.linkx.protocol.TcpProtocolHandler;
+import com.linkx.repository.ConnectionProfileRepository;
+import com.linkx.repository.TelegramHistoryRepository;
+import com.linkx.service.TelegramService;
+import com.linkx.telegram.HexCodec;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.TelegramEngine;
+import com.linkx.telegram.TextCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 대상 비교 송신 (AS-IS/TO-BE, 환경별 프로파일)
+ *
+ * - 동시 송신: 전문을 한 번 조립해 N개 접속 프로파일에 동시에 송신하고 응답을 필드 단위로 비교
+ * - 이력 재전송: 기록된 송신 원문을 기준/비교 대상에 제한된 동시 처리 수로 재전송해 불일치 집계
+ * - 송신은 ProtocolRouter.sendAsync 기반이라 대상 수/동시 처리 수만큼 스레드를 점유하지 않음
+ * - 연결 유지(풀) TCP 대상 재전송은 동시 처리 수를 host당 풀 크기 이내로 제한 (대여 대기 시간 초과가 실패로 집계되지 않도록)
+ * - 부하 테스트와 같이 송신 경로에서 이력 저장/트래픽 발행을 하지 않음
+ * - 재전송 결과는 메모리에만 보관 (종료된 실행은 최근 MAX_FINISHED건)
+ */
+@Slf4j
+@Service
+public class CompareService {
+
+    private static final int MAX_FINISHED = 20;
+    private static final int PAGE_SIZE = 200;
+
+    private final LayoutRegistry layoutRegistry;
+    private final TelegramEngine telegramEngine;
+    private final TelegramService telegramService;
+    private final ProtocolRouter protocolRouter;
+    private final ConnectionProfileRepository profileRepository;
+    private final TelegramHistoryRepository historyRepository;
+    private final TcpConnectionPool tcpConnectionPool;
+
+    private final int maxTargets;
+    private final int maxReplayCount;
+    private final int maxReplayConcurrency;
+    private final int maxConcurrentReplays;
+
+    private final AtomicLong replaySeq = new AtomicLong();
+    private final Map<Long, ReplayRun> replays = new ConcurrentHashMap<>();
+
+    public CompareService(LayoutRegistry layoutRegistry,
+                          TelegramEngine telegramEngine,
+                          TelegramService telegramService,
+                          ProtocolRouter protocolRouter,
+                          ConnectionProfileRepository profileRepository,
+                          TelegramHistoryRepository historyRepository,
+                          TcpConnectionPool tcpConnectionPool,
+                          @Value("${linkx.compare.max-targets:10}") int maxTargets,
+                          @Value("${linkx.compare.max-replay-count:100000}") int maxReplayCount,
+                          @Value("${linkx.compare.max-replay-concurrency:500}") int maxReplayConcurrency,
+                          @Value("${linkx.compare.max-concurrent-replays:2}") int maxConcurrentReplays) {
+        this.layoutRegistry = layoutRegistry;
+        this.telegramEngine = telegramEngine;
+        this.telegramService = telegramService;
+        this.protocolRouter = protocolRouter;
+        this.profileRepository = profileRepository;
+        this.historyRepository = historyRepository;
+        this.tcpConnectionPool = tcpConnectionPool;
+        this.maxTargets = maxTargets;
+        this.maxReplayCount = maxReplayCount;
+        this.maxReplayConcurrency = maxReplayConcurrency;
+        this.maxConcurrentReplays = maxConcurrentReplays;
+    }
+
+    // ==================== 동시 송신 비교 ====================
+
+    /**
+     * 전문 1건을 N개 프로파일에 동시 송신 후 필드 비교
+     * - 첫 번째로 응답에 성공한 대상(프로파일 순서 기준)이 비교 기준
+     * - diffs: 기준과 값이 다른 대상이 하나라도 있는 필드만 (values는 targets 순서, 실패 대상은 null)
+     *
+     * @return 필드 검증 실패 시 success=false + errors
+     */
+    public Map<String, Object> fanOut(String telegramId, Map<String, String> fieldValues,
+                                      Map<String, String> fieldGenerators, String charset,
+                                      List<Long> profileIds, Set<String> ignoreFields) {
+        if (profileIds == null || profileIds.size() < 2 || profileIds.size() > maxTargets) {
+            throw new RuntimeException("비교 대상 프로파일은 2~" + maxTargets + "개를 지정하세요");
+        }
+        List<CompareTarget> targets = new ArrayList<>(profileIds.size());
+        for (Long profileId : profileIds) {
+            targets.add(CompareTarget.of(findProfile(profileId)));
+        }
+
+        List<TelegramLayout> layouts = layouts(telegramId);
+        TelegramCodec codec = telegramEngine.codec(layouts, charset);
+        ResponseDiff diff = new ResponseDiff(codec, ignoreFields);
+        Map<String, Object> rejected = new LinkedHashMap<>();
+        TelegramService.Assembled assembled = telegramService.assemble(layouts, fieldValues, fieldGenerators,
+                charset, rejected);
+        if (assembled == null) {
+            return rejected;
+        }
+        byte[] request = assembled.data();
+
+        // 동시 송신 (대상별 지연은 송신 시작 시점부터 각 응답 완료까지)
+        int count = targets.size();
+        long[] elapsedNanos = new long[count];
+        List<CompletableFuture<byte[]>> futures = new ArrayList<>(count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int slot = i;
+            CompareTarget target = targets.get(i);
+            target.config().resolveCorrelation(codec);
+            futures.add(protocolRouter.sendAsync(target.config(), request)
+                    .whenComplete((response, e) -> elapsedNanos[slot] = System.nanoTime() - start));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+
+        byte[][] responses = new byte[count][];
+        String[] errors = new String[count];
+        int reference = -1;
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<byte[]> future = futures.get(i);
+            if (future.isCompletedExceptionally()) {
+                ConnectionConfig config = targets.get(i).config();
+                errors[i] = AsyncSend.unwrap(future.exceptionNow(), config.getProtocol(),
+                        config.effectiveTimeoutMs()).getMessage();
+                log.warn("[Compare] {} 송신 실패: {}", targets.get(i).name(), errors[i]);
+            } else {
+                responses[i] = future.join();
+                if (reference < 0) {
+                    reference = i;
+                }
+            }
+        }
+
+        // 기준 대비 필드 비교 (불일치 필드 합집합)
+        boolean[] differs = new boolean[codec.getFieldCount()];
+        int[] mismatchCounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (responses[i] == null || i == reference) {
+                continue;
+            }
+            int[] mismatches = diff.compare(responses[reference], responses[i]);
+            mismatchCounts[i] = mismatches.length;
+            for (int index : mismatches) {
+                differs[index] = true;
+            }
+        }
+
+        ParsedTelegram[] views = new ParsedTelegram[count];
+        List<Map<String, Object>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> result = targets.get(i).describe();
+            result.put("success", responses[i] != null);
+            result.put("elapsedMs", Math.round(elapsedNanos[i] / 1000.0) / 1000.0);
+            if (responses[i] != null) {
+                views[i] = codec.view(responses[i]);
+                result.put("baseline", i == reference);
+                result.put("mismatchCount", mismatchCounts[i]);
+                result.put("response", views[i].toValueMap());
+            } else {
+                result.put("error", errors[i]);
+            }
+            results.add(result);
+        }
+
+        List<Map<String, Object>> diffs = new ArrayList<>();
+        for (int index = 0; index < differs.length; index++) {
+            if (!differs[index]) {
+                continue;
+            }
+            List<String> values = new ArrayList<>(count);
+            for (ParsedTelegram view : views) {
+                values.add(view != null ? view.getValue(index) : null);
+            }
+            Map<String, Object> fieldDiff = new LinkedHashMap<>();
+            fieldDiff.put("field", codec.getField(index).getName());
+            fieldDiff.put("fieldNameKr", codec.getField(index).getNameKr());
+            fieldDiff.put("values", values);
+            diffs.add(fieldDiff);
+        }
+
+        Map<String, Object> sentRequest = new LinkedHashMap<>();
+        sentRequest.put("rawHex", HexCodec.toHexDump(request));
+        sentRequest.put("rawText", TextCodec.decode(request, TextCodec.resolve(charset)));
+        sentRequest.put("fields", assembled.fields());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("identical", diffs.isEmpty() && reference >= 0 && results.stream()
+                .allMatch(target -> Boolean.TRUE.equals(target.get("success"))));
+        result.put("request", sentRequest);
+        result.put("targets", results);
+        result.put("diffs", diffs);
+        result.put("ignoreFields", ignoreFields);
+        return result;
+    }
+
+    // ==================== 이력 재전송 비교 ====================
+
+    /**
+     * 재전송 시작 (구동은 별도 스레드, 진행 현황은 getReplay로 조회)
+     * - 동시 실행 수 검사와 등록을 한 번에 하도록 직렬화 (시작 요청은 드묾)
+     */
+    public synchronized Map<String, Object> startReplay(ReplayPlan plan) {
+        plan.validate(maxReplayCount, maxReplayConcurrency);
+        if (replays.values().stream().filter(ReplayRun::isRunning).count() >= maxConcurrentReplays) {
+            throw new RuntimeException("동시 실행 가능한 재전송 수 초과 (최대 " + maxConcurrentReplays + ")");
+        }
+        CompareTarget baseline = CompareTarget.of(findProfile(plan.getBaselineProfileId()));
+        CompareTarget candidate = CompareTarget.of(findProfile(plan.getCandidateProfileId()));
+
+        // 비교 제외 필드 검증 겸 요청 문자셋 비교기 준비 (이력 문자셋이 다르면 해당 문자셋으로 추가 컴파일)
+        List<TelegramLayout> layouts = layouts(plan.getTelegramId());
+        Map<String, ResponseDiff> diffs = new ConcurrentHashMap<>();
+        Collection<String> ignoreFields = plan.getIgnoreFields();
+        ResponseDiff defaultDiff = new ResponseDiff(telegramEngine.codec(layouts, plan.getCharset()), ignoreFields);
+        TelegramCodec codec = defaultDiff.getCodec();
+        baseline.config().resolveCorrelation(codec);
+        candidate.config().resolveCorrelation(codec);
+
+        LocalDateTime from = plan.getFrom() != null ? plan.getFrom() : LocalDateTime.of(2000, 1, 1, 0, 0);
+        LocalDateTime to = plan.getTo() != null ? plan.getTo() : LocalDateTime.now(); // 실행 중 새로 쌓이는 이력 제외
+        long available = historyRepository.countReplay(plan.getTelegramId(), from, to);
+        if (available == 0) {
+            throw new RuntimeException("재전송할 송신 이력이 없습니다: " + plan.getTelegramId());
+        }
+
+        int concurrency = replayConcurrency(plan.getConcurrency(), baseline, candidate);
+        ReplayRun run = new ReplayRun(replaySeq.incrementAndGet(), plan, Math.min(available, plan.getLimit()),
+                concurrency, baseline, candidate, protocolRouter,
+                afterId -> historyRepository.findReplayPage(plan.getTelegramId(), afterId, from, to,
+                        PageRequest.of(0, PAGE_SIZE)),
+                charset -> charset == null || charset.equalsIgnoreCase(codec.getCharset().name())
+                        ? defaultDiff
+                        : diffs.computeIfAbsent(charset, key ->
+                                new ResponseDiff(telegramEngine.codec(layouts, key), ignoreFields)));
+        replays.put(run.getId(), run);
+        run.start(this::evictFinished);
+        log.info("[Replay] 시작 #{} {} {}건 {} ↔ {} (동시 {})", run.getId(), plan.getTelegramId(),
+                Math.min(available, plan.getLimit()), baseline.name(), candidate.name(), concurrency);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("replayId", run.getId());
+        result.put("planned", Math.min(available, plan.getLimit()));
+        result.put("concurrency", concurrency);
+        return result;
+    }
+
+    /**
+     * 재전송 동시 처리 수 — 풀 사용 TCP 대상은 host당 풀 크기 이내
+     * (기준/비교 대상이 같은 host:port면 이력 1건이 연결 2개를 쓰므로 나눠서 적용)
+     */
+    private int replayConcurrency(int requested, CompareTarget... targets) {
+        Map<String, Integer> pooledTargets = new HashMap<>();
+        for (CompareTarget target : targets) {
+            ConnectionConfig config = target.config();
+            if ("TCP".equalsIgnoreCase(config.getProtocol()) && TcpProtocolHandler.isPooled(config)) {
+                pooledTargets.merge(TcpConnectionPool.key(config), 1, Integer::sum);
+            }
+        }
+        int concurrency = requested;
+        for (int sharing : pooledTargets.values()) {
+            concurrency = Math.min(concurrency, Math.max(1, tcpConnectionPool.getMaxPerHost() / sharing));
+        }
+        return concurrency;
+    }
+
+    public void stopReplay(Long replayId) {
+        ReplayRun run = findReplay(replayId);
+        if (!run.isRunning()) {
+            throw new RuntimeException("실행 중인 재전송이 아닙니다: " + replayId);
+        }
+        run.stop();
+    }
+
+    /**
+     * 재전송 목록 (최신순, 요약)
+     */
+    public List<Map<String, Object>> getReplays() {
+        return replays.values().stream()
+                .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
+                .map(run -> run.snapshot(false))
+                .toList();
+    }
+
+    /**
+     * 재전송 현황/결과 (불일치 상세 포함)
+     */
+    public Map<String, Object> getReplay(Long replayId) {
+        return findReplay(replayId).snapshot(true);
+    }
+
+    public void deleteReplay(Long replayId) {
+        if (findReplay(replayId).isRunning()) {
+            throw new RuntimeException("실행 중인 재전송은 삭제할 수 없습니다: " + replayId);
+        }
+        replays.remove(replayId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        replays.values().forEach(ReplayRun::stop);
+    }
+
+    // ── Helpers ──
+
+    private ReplayRun findReplay(Long replayId) {
+        ReplayRun run = replays.get(replayId);
+        if (run == null) {
+            throw new RuntimeException("재전송 결과 없음: " + replayId);
+        }
+        return run;
+    }
+
+    /**
+     * 종료된 실행은 최근 MAX_FINISHED건만 보관
+     */
+    private void evictFinished() {
+        List<Long> finished = replays.values().stream()
+                .filter(run -> !run.isRunning())
+                .map(ReplayRun::getId)
+                .sorted()
+                .toList();
+        for (int i = 0; i < finished.size() - MAX_FINISHED; i++) {
+            replays.remove(finished.get(i));
+        }
+    }
+
+    private ConnectionProfile findProfile(Long profileId) {
+        return profileRepository.findById(profileId)
+                .orElseThrow(() -> new RuntimeException("접속 프로파일을 찾을 수 없습니다: " + profileId));
+    }
+
+    private List<TelegramLayout> layouts(String telegramId) {
+        List<TelegramLayout> layouts = layoutRegistry.getLayouts(telegramId);
+        if (layouts.isEmpty()) {
+            throw new RuntimeException("전문코드 [" + telegramId + "] 레이아웃 없음");
+        }
+        return layouts;
+    }
+}
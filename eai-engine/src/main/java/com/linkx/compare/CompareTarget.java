@@ -0,0 +1,28 @@
+package com.linkx.compare;
+
+import com.linkx.domain.ConnectionProfile;
+import com.linkx.protocol.ConnectionConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비교 송신 대상 (접속 프로파일 1개)
+ */
+record CompareTarget(Long profileId, String name, String env, ConnectionConfig config) {
+
+    static CompareTarget of(ConnectionProfile profile) {
+        return new CompareTarget(profile.getId(), profile.getProfileName(), profile.getEnv(),
+                ConnectionConfig.of(profile));
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("profileId", profileId);
+        map.put("profileName", name);
+        map.put("env", env);
+        map.put("protocol", config.getProtocol());
+        map.put("target", config.formatTarget());
+        return map;
+    }
+}
@@ -0,0 +1,54 @@
+package com.linkx.compare;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 이력 재전송 비교 계획
+ *
+ * - 전문코드의 송신 이력(from ~ to, id 순) 중 최대 limit건의 송신 원문을 기준/비교 대상에 그대로 재전송
+ * - 동시에 진행하는 이력은 최대 concurrency건 (이력 1건 = 대상별 1건씩 2건 송신)
+ * - ignoreFields는 대상마다 달라지는 필드(거래시각, 거래고유번호 등) — 비교에서 제외
+ */
+@Getter
+@Builder
+public class ReplayPlan {
+
+    private final String name;
+    private final String telegramId;
+    private final String charset;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int limit;
+    private final Long baselineProfileId;
+    private final Long candidateProfileId;
+    private final int concurrency;
+    private final Set<String> ignoreFields;
+
+    /**
+     * 실행 전 검증 (상한은 서버 설정)
+     */
+    void validate(int maxCount, int maxConcurrency) {
+        if (telegramId == null || telegramId.isBlank()) {
+            throw new RuntimeException("전문코드를 지정하세요");
+        }
+        if (baselineProfileId == null || candidateProfileId == null) {
+            throw new RuntimeException("기준/비교 접속 프로파일을 지정하세요");
+        }
+        if (baselineProfileId.equals(candidateProfileId)) {
+            throw new RuntimeException("기준과 비교 대상이 같은 프로파일입니다: " + baselineProfileId);
+        }
+        if (limit <= 0 || limit > maxCount) {
+            throw new RuntimeException("재전송 건수 범위 오류: " + limit + " (1~" + maxCount + ")");
+        }
+        if (concurrency <= 0 || concurrency > maxConcurrency) {
+            throw new RuntimeException("동시 처리 수 범위 오류: " + concurrency + " (1~" + maxConcurrency + ")");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new RuntimeException("조회 기간 오류: " + from + " ~ " + to);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.linkx.compare;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.TelegramHistory;
+import com.linkx.protocol.AsyncSend;
+import com.linkx.protocol.ProtocolRouter;
+import com.linkx.simulator.LatencyHistogram;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 이력 재전송 비교 1건
+ *
+ * 구동 스레드 1개(가상)가 이력을 id 순으로 페이지 단위로 읽어 기준/비교 대상에 비동기 송신
+ * - 진행 중 이력 수는 세마포어로 concurrency 이내 (응답 대기 중 점유하는 스레드 없음, 풀 대상은 풀 크기 이내로 조정된 값)
+ * - 두 응답이 모두 끝나면 완료 콜백에서 필드 비교 후 집계 (잠금 없음)
+ * - 불일치/오류 상세는 앞의 일부만 보관하고 나머지는 필드별/유형별 건수로만 집계
+ */
+@Slf4j
+final class ReplayRun {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String STOPPED = "STOPPED";
+    static final String FAILED = "FAILED";
+
+    private static final int MAX_SAMPLES = 50;
+    private static final int MAX_ERROR_TYPES = 20;
+    private static final String OTHER_ERRORS = "기타";
+
+    private final Long id;
+    private final ReplayPlan plan;
+    private final long planned;
+    private final int concurrency;
+    private final CompareTarget baseline;
+    private final CompareTarget candidate;
+    private final ProtocolRouter protocolRouter;
+    private final Function<Long, List<TelegramHistory>> pages;
+    private final Function<String, ResponseDiff> diffs;
+    private final Semaphore permits;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram baselineLatency = new LatencyHistogram();
+    private final LatencyHistogram candidateLatency = new LatencyHistogram();
+    private final Map<String, LongAdder> fieldMismatches = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Queue<Map<String, Object>> samples = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sampleCount = new AtomicInteger();
+
+    private volatile boolean stopRequested;
+    private volatile String status = RUNNING;
+    private volatile String errorMessage;
+    private volatile LocalDateTime endedAt;
+    private volatile long endNanos;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * @param concurrency 동시 진행 이력 수 (plan 값을 대상 연결 풀 크기로 제한한 값)
+     * @param pages 직전 이력 id 이후 페이지 조회 (빈 목록이면 끝)
+     * @param diffs 이력 문자셋 → 비교기
+     */
+    ReplayRun(Long id, ReplayPlan plan, long planned, int concurrency, CompareTarget baseline, CompareTarget candidate,
+              ProtocolRouter protocolRouter, Function<Long, List<TelegramHistory>> pages,
+              Function<String, ResponseDiff> diffs) {
+        this.id = id;
+        this.plan = plan;
+        this.planned = planned;
+        this.concurrency = concurrency;
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.protocolRouter = protocolRouter;
+        this.pages = pages;
+        this.diffs = diffs;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * 구동 스레드 시작
+     *
+     * @param onFinished 모든 송신이 끝난 뒤 호출
+     */
+    void start(Runnable onFinished) {
+        ExecutorProvider.threadFactory("replay-" + id + "-", true).newThread(() -> {
+            try {
+                drive();
+                status = stopRequested ? STOPPED : COMPLETED;
+            } catch (Exception e) {
+                log.error("[Replay] #{} 실패: {}", id, e.getMessage(), e);
+                errorMessage = e.getMessage();
+                status = FAILED;
+            } finally {
+                endNanos = System.nanoTime();
+                endedAt = LocalDateTime.now();
+                log.info("[Replay] 종료 #{} {} — 일치 {}, 불일치 {}, 실패 {}", id, status,
+                        matched.sum(), mismatched.sum(), failed.sum());
+                onFinished.run();
+            }
+        }).start();
+    }
+
+    void stop() {
+        stopRequested = true;
+    }
+
+    private void drive() throws InterruptedException {
+        long remaining = planned;
+        long afterId = 0;
+        try {
+            while (remaining > 0 && !stopRequested) {
+                List<TelegramHistory> page = pages.apply(afterId);
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (TelegramHistory history : page) {
+                    if (remaining == 0 || stopRequested) {
+                        break;
+                    }
+                    afterId = history.getId();
+                    byte[] request = history.getRawRequestBytes();
+                    ResponseDiff diff = diffs.apply(history.getCharset());
+                    permits.acquire();
+                    remaining--;
+                    submit(history.getId(), request, diff);
+                }
+            }
+        } finally {
+            // 진행 중 송신 완료 대기 (각 송신은 대상 타임아웃으로 끝남)
+            permits.acquireUninterruptibly(concurrency);
+        }
+    }
+
+    private void submit(Long historyId, byte[] request, ResponseDiff diff) {
+        sent.increment();
+        long start = System.nanoTime();
+        CompletableFuture<byte[]> expected = send(baseline, request, start, baselineLatency);
+        CompletableFuture<byte[]> actual = send(candidate, request, start, candidateLatency);
+        CompletableFuture.allOf(expected, actual).whenComplete((ignored, e) -> {
+            try {
+                record(historyId, diff, expected, actual);
+            } catch (RuntimeException ex) {
+                failed.increment();
+                error("비교", ex);
+            } finally {
+                completed.increment();
+                permits.release();
+            }
+        });
+    }
+
+    private CompletableFuture<byte[]> send(CompareTarget target, byte[] request, long start,
+                                           LatencyHistogram latency) {
+        return protocolRouter.sendAsync(target.config(), request).whenComplete((response, e) -> {
+            if (e == null) {
+                latency.recordNanos(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private void record(Long historyId, ResponseDiff diff,
+                        CompletableFuture<byte[]> expected, CompletableFuture<byte[]> actual) {
+        Exception expectedError = failure(baseline, expected);
+        Exception actualError = failure(candidate, actual);
+        if (expectedError != null || actualError != null) {
+            failed.increment();
+            if (expectedError != null) {
+                error(baseline.name(), expectedError);
+            }
+            if (actualError != null) {
+                error(candidate.name(), actualError);
+            }
+            return;
+        }
+
+        byte[] expectedData = expected.join();
+        byte[] actualData = actual.join();
+        int[] mismatches = diff.compare(expectedData, actualData);
+        if (mismatches.length == 0) {
+            matched.increment();
+            return;
+        }
+        mismatched.increment();
+        TelegramCodec codec = diff.getCodec();
+        for (int index : mismatches) {
+            fieldMismatches.computeIfAbsent(codec.getField(index).getName(), key -> new LongAdder()).increment();
+        }
+        if (sampleCount.getAndIncrement() < MAX_SAMPLES) {
+            samples.add(sample(historyId, codec, expectedData, actualData, mismatches));
+        }
+    }
+
+    private static Exception failure(CompareTarget target, CompletableFuture<byte[]> future) {
+        if (!future.isCompletedExceptionally()) {
+            return null;
+        }
+        return AsyncSend.unwrap(future.exceptionNow(), target.config().getProtocol(),
+                target.config().effectiveTimeoutMs());
+    }
+
+    private void error(String side, Exception e) {
+        String message = e.getMessage();
+        String reason = side + " — " + e.getClass().getSimpleName()
+                + (message == null ? "" : ": " + (message.length() > 80 ? message.substring(0, 80) : message));
+        LongAdder counter = errors.get(reason);
+        if (counter == null) {
+            counter = errors.size() < MAX_ERROR_TYPES
+                    ? errors.computeIfAbsent(reason, key -> new LongAdder())
+                    : errors.computeIfAbsent(OTHER_ERRORS, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static Map<String, Object> sample(Long historyId, TelegramCodec codec, byte[] expected, byte[] actual,
+                                              int[] mismatches) {
+        ParsedTelegram left = codec.view(expected);
+        ParsedTelegram right = codec.view(actual);
+        List<Map<String, Object>> fields = new ArrayList<>(mismatches.length);
+        for (int index : mismatches) {
+            Map<String, Object> field = new LinkedHashMap<>();
+            field.put("field", codec.getField(index).getName());
+            field.put("fieldNameKr", codec.getField(index).getNameKr());
+            field.put("baseline", left.getValue(index));
+            field.put("candidate", right.getValue(index));
+            fields.add(field);
+        }
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("historyId", historyId);
+        sample.put("fields", fields);
+        return sample;
+    }
+
+    // ── 조회 ──
+
+    /**
+     * 현황/결과 요약 (detail이면 불일치 상세 포함)
+     */
+    Map<String, Object> snapshot(boolean detail) {
+        long done = completed.sum();
+        long ok = matched.sum();
+        long diff = mismatched.sum();
+        long elapsedNanos = (endNanos > 0 ? endNanos : System.nanoTime()) - startNanos;
+        double elapsedSec = Math.max(elapsedNanos / 1e9, 0.001);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("replayId", id);
+        result.put("name", plan.getName());
+        result.put("telegramId", plan.getTelegramId());
+        result.put("status", status);
+        result.put("baseline", baseline.describe());
+        result.put("candidate", candidate.describe());
+        result.put("concurrency", concurrency);
+        result.put("ignoreFields", plan.getIgnoreFields());
+        result.put("planned", planned);
+        result.put("sent", sent.sum());
+        result.put("completed", done);
+        result.put("inFlight", sent.sum() - done);
+        result.put("matched", ok);
+        result.put("mismatched", diff);
+        result.put("failed", failed.sum());
+        result.put("matchRate", ok + diff > 0 ? Math.round(ok * 1000.0 / (ok + diff)) / 10.0 : null);
+        result.put("tps", Math.round(done * 10.0 / elapsedSec) / 10.0);
+        result.put("elapsedMs", elapsedNanos / 1_000_000);
+        result.put("latency", Map.of("baseline", baselineLatency.summary(),
+                "candidate", candidateLatency.summary()));
+        result.put("fieldMismatches", counts(fieldMismatches));
+        result.put("errors", counts(errors));
+        if (detail) {
+            result.put("samples", new ArrayList<>(samples));
+        }
+        result.put("errorMessage", errorMessage);
+        result.put("startedAt", startedAt);
+        result.put("endedAt", endedAt);
+        return result;
+    }
+
+    /**
+     * 건수 내림차순
+     */
+    private static Map<String, Long> counts(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counters.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().sum()));
+        return result;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    boolean isRunning() {
+        return RUNNING.equals(status);
+    }
+}
@@ -0,0 +1,79 @@
+package com.linkx.compare;
+
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 응답 전문 필드 단위 비교 (레이아웃 기준)
+ *
+ * 필드 구간의 원본 바이트를 먼저 비교하고, 다를 때만 디코딩해 trim 값으로 재확인
+ * - 대부분 일치하는 대량 재전송에서 필드값 디코딩/문자열 생성을 하지 않음
+ * - 패딩만 다른 경우(좌/우 정렬 차이 등)는 일치로 판단
+ * - 한쪽 응답 길이가 부족해 필드가 없으면 빈 값으로 비교
+ * - 컴파일 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class ResponseDiff {
+
+    private final TelegramCodec codec;
+    private final boolean[] ignored;
+
+    /**
+     * @param ignoreFields 비교 제외 필드 (거래시각/거래고유번호처럼 대상마다 달라지는 필드)
+     */
+    public ResponseDiff(TelegramCodec codec, Collection<String> ignoreFields) {
+        this.codec = codec;
+        this.ignored = new boolean[codec.getFieldCount()];
+        if (ignoreFields != null) {
+            for (String name : ignoreFields) {
+                int index = codec.indexOf(name);
+                if (index < 0) {
+                    throw new RuntimeException("비교 제외 필드가 레이아웃에 없습니다: " + name);
+                }
+                ignored[index] = true;
+            }
+        }
+    }
+
+    /**
+     * 불일치 필드 인덱스 (모두 일치하면 빈 배열)
+     */
+    public int[] compare(byte[] expected, byte[] actual) {
+        ParsedTelegram left = null;
+        ParsedTelegram right = null;
+        int[] mismatches = null;
+        int count = 0;
+        for (int i = 0; i < ignored.length; i++) {
+            if (ignored[i] || sameBytes(codec.getField(i), expected, actual)) {
+                continue;
+            }
+            if (left == null) {
+                left = codec.view(expected);
+                right = codec.view(actual);
+            }
+            if (left.getValue(i).equals(right.getValue(i))) {
+                continue;
+            }
+            if (mismatches == null) {
+                mismatches = new int[ignored.length - i];
+            }
+            mismatches[count++] = i;
+        }
+        return mismatches == null ? new int[0] : Arrays.copyOf(mismatches, count);
+    }
+
+    public TelegramCodec getCodec() {
+        return codec;
+    }
+
+    private static boolean sameBytes(TelegramCodec.Field field, byte[] expected, byte[] actual) {
+        int from = field.getOffset();
+        int to = from + field.getLength();
+        if (expected.length < to || actual.length < to) {
+            return false; // 길이 부족 필드는 디코딩 단계에서 비교
+        }
+        return Arrays.equals(expected, from, to, actual, from, to);
+    }
+}
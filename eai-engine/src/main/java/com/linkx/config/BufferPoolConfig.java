@@ -0,0 +1,25 @@
+package com.linkx.config;
+
+import com.linkx.protocol.buffer.BufferPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 전문 I/O 버퍼 풀 설정 (linkx.buffer.*)
+ *
+ * 설정값으로 만든 풀을 공용 풀로 등록 — 프레임 수신기/디코더/리스너 송신 버퍼가 함께 사용
+ * leak-detection은 반환 누락 위치를 로그로 남기는 디버그용 (할당마다 호출 스택 기록)
+ */
+@Configuration
+public class BufferPoolConfig {
+
+    @Bean
+    public BufferPool bufferPool(@Value("${linkx.buffer.max-class-size:65536}") int maxClassSize,
+                                 @Value("${linkx.buffer.max-per-class:256}") int maxPerClass,
+                                 @Value("${linkx.buffer.leak-detection:false}") boolean leakDetection) {
+        BufferPool pool = new BufferPool(maxClassSize, maxPerClass, leakDetection);
+        BufferPool.install(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,77 @@
+package com.linkx.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 작업용 실행기 제공
+ *
+ * 가상 스레드 모드(linkx.threads.virtual)가 켜져 있으면 작업마다 가상 스레드를 사용하고,
+ * 꺼져 있으면 기존처럼 플랫폼 스레드 풀을 사용
+ * - 시뮬레이터 리스너는 SimulatorConfig.virtualThreads로 개별 지정 가능 (null이면 전역 설정)
+ * - 같은 설정이 spring.threads.virtual.enabled에도 연결되어 REST 요청(외부 송신) 스레드에 적용됨
+ */
+@Component
+public class ExecutorProvider {
+
+    private final boolean virtualByDefault;
+
+    public ExecutorProvider(@Value("${linkx.threads.virtual:false}") boolean virtualByDefault) {
+        this.virtualByDefault = virtualByDefault;
+    }
+
+    public boolean isVirtualByDefault() {
+        return virtualByDefault;
+    }
+
+    /**
+     * 개별 설정값 해석 (null이면 전역 설정)
+     */
+    public boolean useVirtual(Boolean override) {
+        return override != null ? override : virtualByDefault;
+    }
+
+    /**
+     * 작업 실행기 생성
+     * - 가상: 작업당 가상 스레드 (풀링/튜닝 불필요)
+     * - 플랫폼: 데몬 캐시 스레드 풀
+     */
+    public ExecutorService newExecutor(String namePrefix, boolean virtual) {
+        return virtual
+                ? Executors.newThreadPerTaskExecutor(threadFactory(namePrefix, true))
+                : Executors.newCachedThreadPool(threadFactory(namePrefix, false));
+    }
+
+    /**
+     * 이름 붙은 스레드 팩토리 (플랫폼 스레드는 데몬)
+     */
+    public static ThreadFactory threadFactory(String namePrefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(namePrefix, 0).factory();
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + seq.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 단일 스레드 시작 (리스너 accept 루프 등)
+     */
+    public static Thread startThread(String name, boolean virtual, Runnable task) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name).start(task);
+        }
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
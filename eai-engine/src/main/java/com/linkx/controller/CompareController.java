@@ -0,0 +1,104 @@
+package com.linkx.controller;
+
+import com.linkx.compare.CompareService;
+import com.linkx.compare.ReplayPlan;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다중 대상 비교 (접속 프로파일별 동시 송신 / 이력 재전송)
+ */
+@RestController
+@RequestMapping("/api/compare")
+@RequiredArgsConstructor
+@CrossOrigin(originPatterns = "*")
+public class CompareController {
+
+    private final CompareService compareService;
+
+    /** 전문 1건 동시 송신 → 대상별 응답/지연 + 필드 차이 */
+    @PostMapping("/fan-out")
+    public ResponseEntity<Map<String, Object>> fanOut(@RequestBody FanOutRequest request) {
+        return ResponseEntity.ok(compareService.fanOut(request.getTelegramId(), request.getFieldValues(),
+                request.getFieldGenerators(), request.getCharset(), request.getProfileIds(),
+                request.getIgnoreFields()));
+    }
+
+    // ── 이력 재전송 ──
+
+    @PostMapping("/replays")
+    public ResponseEntity<Map<String, Object>> startReplay(@RequestBody ReplayRequest request) {
+        ReplayPlan plan = ReplayPlan.builder()
+                .name(request.getName())
+                .telegramId(request.getTelegramId())
+                .charset(request.getCharset())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .limit(request.getLimit())
+                .baselineProfileId(request.getBaselineProfileId())
+                .candidateProfileId(request.getCandidateProfileId())
+                .concurrency(request.getConcurrency())
+                .ignoreFields(request.getIgnoreFields())
+                .build();
+        return ResponseEntity.ok(compareService.startReplay(plan));
+    }
+
+    @GetMapping("/replays")
+    public ResponseEntity<List<Map<String, Object>>> getReplays() {
+        return ResponseEntity.ok(compareService.getReplays());
+    }
+
+    /** 진행 현황/결과 (필드별 불일치 건수 + 불일치 상세 일부) */
+    @GetMapping("/replays/{replayId}")
+    public ResponseEntity<Map<String, Object>> getReplay(@PathVariable Long replayId) {
+        return ResponseEntity.ok(compareService.getReplay(replayId));
+    }
+
+    @PostMapping("/replays/{replayId}/stop")
+    public ResponseEntity<Map<String, Object>> stopReplay(@PathVariable Long replayId) {
+        compareService.stopReplay(replayId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    @DeleteMapping("/replays/{replayId}")
+    public ResponseEntity<Map<String, Object>> deleteReplay(@PathVariable Long replayId) {
+        compareService.deleteReplay(replayId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    // ── Request DTOs ──
+
+    @Data
+    public static class FanOutRequest {
+        private String telegramId;
+        private Map<String, String> fieldValues;
+        private Map<String, String> fieldGenerators;
+        private String charset;
+        /** 송신 대상 프로파일 (순서대로 표시, 먼저 응답에 성공한 대상이 비교 기준) */
+        private List<Long> profileIds;
+        /** 비교 제외 필드 (거래시각, 거래고유번호 등) */
+        private Set<String> ignoreFields;
+    }
+
+    @Data
+    public static class ReplayRequest {
+        private String name;
+        private String telegramId;
+        private String charset;
+        /** 대상 이력 기간 (비우면 전체 ~ 시작 시점) */
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private int limit = 1000;
+        private Long baselineProfileId;
+        private Long candidateProfileId;
+        private int concurrency = 32;
+        private Set<String> ignoreFields;
+    }
+}
@@ -2,11 +2,13 @@ package com.linkx.controller;
 
 import com.linkx.domain.TelegramLayout;
 import com.linkx.repository.TelegramLayoutRepository;
+import com.linkx.telegram.LayoutRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 전문 레이아웃 관리 CRUD API
@@ -18,6 +20,7 @@ import java.util.List;
 public class LayoutController {
 
     private final TelegramLayoutRepository repository;
+    private final LayoutRegistry layoutRegistry;
 
     @GetMapping
     public ResponseEntity<List<TelegramLayout>> getAll() {
@@ -26,23 +29,55 @@ public class LayoutController {
 
     @PostMapping
     public ResponseEntity<TelegramLayout> create(@RequestBody TelegramLayout layout) {
-        return ResponseEntity.ok(repository.save(layout));
+        TelegramLayout saved = repository.save(layout);
+        layoutRegistry.invalidate(saved.getTelegramId());
+        return ResponseEntity.ok(saved);
     }
 
     @PostMapping("/batch")
     public ResponseEntity<List<TelegramLayout>> createBatch(@RequestBody List<TelegramLayout> layouts) {
-        return ResponseEntity.ok(repository.saveAll(layouts));
+        List<TelegramLayout> saved = repository.saveAll(layouts);
+        saved.stream().map(TelegramLayout::getTelegramId).distinct().forEach(layoutRegistry::invalidate);
+        return ResponseEntity.ok(saved);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TelegramLayout> update(@PathVariable Long id, @RequestBody TelegramLayout layout) {
+        // 전문코드가 바뀌는 경우 이전 전문코드도 무효화 (저장 후 — 전문 길이 맵이 변경 결과를 읽도록)
+        String previousTelegramId = repository.findById(id).map(TelegramLayout::getTelegramId).orElse(null);
         layout.setId(id);
-        return ResponseEntity.ok(repository.save(layout));
+        TelegramLayout saved = repository.save(layout);
+        if (previousTelegramId != null && !previousTelegramId.equals(saved.getTelegramId())) {
+            layoutRegistry.invalidate(previousTelegramId);
+        }
+        layoutRegistry.invalidate(saved.getTelegramId());
+        return ResponseEntity.ok(saved);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(existing -> {
+            repository.delete(existing);
+            layoutRegistry.invalidate(existing.getTelegramId());
+        });
         return ResponseEntity.noContent().build();
     }
+
+    // ── 레이아웃 캐시 ──
+
+    @GetMapping("/registry/stats")
+    public ResponseEntity<Map<String, Object>> getRegistryStats() {
+        return ResponseEntity.ok(layoutRegistry.getStats());
+    }
+
+    /** DB를 직접 수정한 경우 등 수동 무효화 */
+    @PostMapping("/registry/invalidate")
+    public ResponseEntity<Map<String, Object>> invalidateRegistry(@RequestParam(required = false) String telegramId) {
+        if (telegramId != null) {
+            layoutRegistry.invalidate(telegramId);
+        } else {
+            layoutRegistry.invalidateAll();
+        }
+        return ResponseEntity.ok(layoutRegistry.getStats());
+    }
 }
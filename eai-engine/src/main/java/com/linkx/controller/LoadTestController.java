@@ -0,0 +1,171 @@
+package com.linkx.controller;
+
+import com.linkx.domain.LoadRunReport;
+import com.linkx.load.LoadPlan;
+import com.linkx.load.LoadTestService;
+import com.linkx.load.ScenarioService;
+import com.linkx.load.ScenarioStep;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 (목표 TPS / 동시 사용자 기반 대량 송신)
+ */
+@RestController
+@RequestMapping("/api/load")
+@RequiredArgsConstructor
+@CrossOrigin(originPatterns = "*")
+public class LoadTestController {
+
+    private final LoadTestService loadTestService;
+    private final ScenarioService scenarioService;
+
+    // ── 실행 ──
+
+    @PostMapping("/runs")
+    public ResponseEntity<Map<String, Object>> start(@RequestBody LoadRunRequest request) {
+        LoadPlan plan = LoadPlan.builder()
+                .name(request.getName())
+                .telegramId(request.getTelegramId())
+                .scenarioId(request.getScenarioId())
+                .charset(request.getCharset())
+                .mode(request.getMode())
+                .targetTps(request.getTargetTps())
+                .users(request.getUsers())
+                .rampUpSec(request.getRampUpSec())
+                .durationSec(request.getDurationSec())
+                .maxInFlight(request.getMaxInFlight())
+                .fieldValues(request.getFieldValues())
+                .fieldGenerators(request.getFieldGenerators())
+                .successField(blankToNull(request.getSuccessField()))
+                .successValues(request.getSuccessValues())
+                .build();
+        return ResponseEntity.ok(loadTestService.start(plan, TelegramController.toConnectionConfig(request)));
+    }
+
+    @PostMapping("/runs/{runId}/stop")
+    public ResponseEntity<Map<String, Object>> stop(@PathVariable Long runId) {
+        loadTestService.stop(runId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    /** 실행 중 목록 */
+    @GetMapping("/runs")
+    public ResponseEntity<List<Map<String, Object>>> getActiveRuns() {
+        return ResponseEntity.ok(loadTestService.getActiveRuns());
+    }
+
+    /** 실행 중 현황 (초별 추이 포함) */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<Map<String, Object>> getRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(loadTestService.getLive(runId));
+    }
+
+    /**
+     * 실시간 구독 (SSE)
+     * - sample: 1초 구간 통계 + 누적 집계
+     * - report: 종료 후 저장된 결과 (이후 스트림 종료)
+     */
+    @GetMapping(value = "/runs/{runId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long runId) {
+        return loadTestService.subscribe(runId);
+    }
+
+    // ── 결과 ──
+
+    @GetMapping("/reports")
+    public ResponseEntity<List<LoadRunReport>> getReports() {
+        return ResponseEntity.ok(loadTestService.getReports());
+    }
+
+    @GetMapping("/reports/{runId}")
+    public ResponseEntity<LoadRunReport> getReport(@PathVariable Long runId) {
+        return ResponseEntity.ok(loadTestService.getReport(runId));
+    }
+
+    @DeleteMapping("/reports/{runId}")
+    public ResponseEntity<Map<String, Object>> deleteReport(@PathVariable Long runId) {
+        loadTestService.deleteReport(runId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    // ── 시나리오 ──
+
+    @GetMapping("/scenarios")
+    public ResponseEntity<List<Map<String, Object>>> getScenarios() {
+        return ResponseEntity.ok(scenarioService.getScenarios());
+    }
+
+    @GetMapping("/scenarios/{id}")
+    public ResponseEntity<Map<String, Object>> getScenario(@PathVariable Long id) {
+        return ResponseEntity.ok(scenarioService.getScenario(id));
+    }
+
+    @PostMapping("/scenarios")
+    public ResponseEntity<Map<String, Object>> createScenario(@RequestBody ScenarioRequest request) {
+        return ResponseEntity.ok(scenarioService.saveScenario(null, request.getName(), request.getDescription(),
+                request.getCharset(), request.getSteps()));
+    }
+
+    @PutMapping("/scenarios/{id}")
+    public ResponseEntity<Map<String, Object>> updateScenario(@PathVariable Long id,
+                                                              @RequestBody ScenarioRequest request) {
+        return ResponseEntity.ok(scenarioService.saveScenario(id, request.getName(), request.getDescription(),
+                request.getCharset(), request.getSteps()));
+    }
+
+    @DeleteMapping("/scenarios/{id}")
+    public ResponseEntity<Map<String, Object>> deleteScenario(@PathVariable Long id) {
+        scenarioService.deleteScenario(id);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    /** 1회 점검 실행 (단계별 요청/응답/추출 변수/검증 결과) — 접속정보는 송신 요청과 동일 */
+    @PostMapping("/scenarios/{id}/try")
+    public ResponseEntity<Map<String, Object>> tryScenario(@PathVariable Long id,
+                                                           @RequestBody TelegramController.SendRequest request) {
+        return ResponseEntity.ok(scenarioService.tryScenario(id, TelegramController.toConnectionConfig(request)));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    // ── Request DTOs ──
+
+    /**
+     * 송신 요청(전문/연결 정보) + 부하 조건
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class LoadRunRequest extends TelegramController.SendRequest {
+        private String name;
+        /** 지정 시 시나리오 1회가 실행 단위 (telegramId/fieldValues 무시) */
+        private Long scenarioId;
+        private LoadPlan.Mode mode;
+        private int targetTps;
+        private int users;
+        private int rampUpSec;
+        private int durationSec;
+        private int maxInFlight = 1000;
+        private String successField;
+        private Set<String> successValues;
+    }
+
+    @Data
+    public static class ScenarioRequest {
+        private String name;
+        private String description;
+        private String charset;
+        private List<ScenarioStep> steps;
+    }
+}
@@ -1,5 +1,6 @@
 package com.linkx.controller;
 
+import com.linkx.domain.ResponseDelay;
 import com.linkx.domain.ResponseRule;
 import com.linkx.domain.SimulatorConfig;
 import com.linkx.domain.SimulatorLog;
@@ -13,7 +14,7 @@ import java.util.Map;
 /**
  * 시뮬레이터 REST API Controller
  *
- * 리스너 제어, 응답 규칙 관리, 수신/응답 로그 조회
+ * 리스너 제어, 응답 규칙/지연 정책 관리, 수신/응답 로그 조회
  */
 @RestController
 @RequestMapping("/api/simulator")
@@ -45,6 +46,12 @@ public class SimulatorController {
         return ResponseEntity.ok(simulatorService.getListenerStatuses());
     }
 
+    /** 리스너의 전문코드별 통계 (건수, TPS, 단계별 지연 백분위) */
+    @GetMapping("/listener/{configId}/telegrams")
+    public ResponseEntity<List<Map<String, Object>>> getTelegramStats(@PathVariable Long configId) {
+        return ResponseEntity.ok(simulatorService.getTelegramStats(configId));
+    }
+
     /** 전체 리스너 중지 */
     @PostMapping("/listener/stop-all")
     public ResponseEntity<Map<String, String>> stopAll() {
@@ -127,6 +134,33 @@ public class SimulatorController {
         return ResponseEntity.noContent().build();
     }
 
+    // ==================== 응답 지연 정책 ====================
+
+    /** 전체 지연 정책 조회 */
+    @GetMapping("/delay")
+    public ResponseEntity<List<ResponseDelay>> getDelays() {
+        return ResponseEntity.ok(simulatorService.getDelays());
+    }
+
+    /** 전문코드별 지연 정책 조회 */
+    @GetMapping("/delay/{telegramId}")
+    public ResponseEntity<ResponseDelay> getDelay(@PathVariable String telegramId) {
+        return ResponseEntity.ok(simulatorService.getDelay(telegramId));
+    }
+
+    /** 지연 정책 등록/수정 */
+    @PostMapping("/delay")
+    public ResponseEntity<ResponseDelay> saveDelay(@RequestBody ResponseDelay delay) {
+        return ResponseEntity.ok(simulatorService.saveDelay(delay));
+    }
+
+    /** 지연 정책 삭제 */
+    @DeleteMapping("/delay/{delayId}")
+    public ResponseEntity<Void> deleteDelay(@PathVariable Long delayId) {
+        simulatorService.deleteDelay(delayId);
+        return ResponseEntity.noContent().build();
+    }
+
     // ==================== 로그 조회 ====================
 
     /** 최근 로그 조회 */
@@ -146,4 +180,10 @@ public class SimulatorController {
     public ResponseEntity<List<SimulatorLog>> getLogsByTelegram(@PathVariable String telegramId) {
         return ResponseEntity.ok(simulatorService.getLogsByTelegramId(telegramId));
     }
+
+    /** 로그 저장기 상태 (버퍼 적재량, 폐기 건수) */
+    @GetMapping("/log/writer")
+    public ResponseEntity<Map<String, Object>> getLogWriterStats() {
+        return ResponseEntity.ok(simulatorService.getLogWriterStats());
+    }
 }
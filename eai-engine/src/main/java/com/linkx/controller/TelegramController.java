@@ -45,7 +45,8 @@ public class TelegramController {
     @PostMapping("/preview")
     public ResponseEntity<Map<String, Object>> buildPreview(@RequestBody TelegramRequest request) {
         return ResponseEntity.ok(telegramService.buildPreview(
-                request.getTelegramId(), request.getFieldValues(), request.getCharset()));
+                request.getTelegramId(), request.getFieldValues(), request.getFieldGenerators(),
+                request.getCharset()));
     }
 
     @PostMapping("/parse")
@@ -58,7 +59,18 @@ public class TelegramController {
 
     @PostMapping("/send")
     public ResponseEntity<Map<String, Object>> sendTelegram(@RequestBody SendRequest request) {
-        ConnectionConfig config = ConnectionConfig.builder()
+        ConnectionConfig config = toConnectionConfig(request);
+
+        return ResponseEntity.ok(telegramService.sendTelegram(
+                request.getTelegramId(), request.getFieldValues(), request.getFieldGenerators(),
+                config, request.getCharset()));
+    }
+
+    /**
+     * 송신 요청의 연결 정보 → ConnectionConfig (부하 테스트 요청도 공용)
+     */
+    static ConnectionConfig toConnectionConfig(SendRequest request) {
+        return ConnectionConfig.builder()
                 .protocol(request.getProtocol())
                 .host(request.getHost())
                 .port(request.getPort())
@@ -70,13 +82,16 @@ public class TelegramController {
                 .headers(request.getHeaders())
                 .includeLengthHeader(request.isIncludeLengthHeader())
                 .lengthHeaderSize(request.getLengthHeaderSize())
+                .lengthEncoding(request.getLengthEncoding())
+                .lengthIncludesHeader(request.isLengthIncludesHeader())
+                .keepAlive(request.isKeepAlive())
+                .correlationField(request.getCorrelationField())
+                .muxConnections(request.getMuxConnections())
+                .receivePort(request.getReceivePort())
                 .queueManager(request.getQueueManager())
                 .requestQueue(request.getRequestQueue())
                 .responseQueue(request.getResponseQueue())
                 .build();
-
-        return ResponseEntity.ok(telegramService.sendTelegram(
-                request.getTelegramId(), request.getFieldValues(), config, request.getCharset()));
     }
 
     @PostMapping("/test-connection")
@@ -86,10 +101,18 @@ public class TelegramController {
                 .host(request.getHost())
                 .port(request.getPort())
                 .url(request.getUrl())
+                .includeLengthHeader(request.isIncludeLengthHeader())
+                .lengthHeaderSize(request.getLengthHeaderSize())
+                .keepAlive(request.isKeepAlive())
                 .build();
         return ResponseEntity.ok(telegramService.testConnection(config));
     }
 
+    @GetMapping("/connections")
+    public ResponseEntity<Map<String, Object>> getConnectionStats() {
+        return ResponseEntity.ok(telegramService.getConnectionStats());
+    }
+
     // ── 이력 ──
 
     @GetMapping("/history")
@@ -106,12 +129,19 @@ public class TelegramController {
                 telegramId, PageRequest.of(page, size)));
     }
 
+    @GetMapping("/history/raw/{historyId}")
+    public ResponseEntity<Map<String, Object>> getHistoryRaw(@PathVariable Long historyId) {
+        return ResponseEntity.ok(telegramService.getHistoryRaw(historyId));
+    }
+
     // ── Request DTOs ──
 
     @Data
     public static class TelegramRequest {
         private String telegramId;
         private Map<String, String> fieldValues;
+        /** 필드명 → 생성 규칙 (FieldGenerators 형식, 조립 후 생성값으로 덮어씀) */
+        private Map<String, String> fieldGenerators;
         private String charset;
     }
 
@@ -127,6 +157,8 @@ public class TelegramController {
     public static class SendRequest {
         private String telegramId;
         private Map<String, String> fieldValues;
+        /** 필드명 → 생성 규칙 (SEQ, RANDOM, AMOUNT, ACCOUNT, NAME, DATE, LIST, NOW, UUID) */
+        private Map<String, String> fieldGenerators;
         private String charset;
         // Connection
         private String protocol;
@@ -141,6 +173,13 @@ public class TelegramController {
         // TCP
         private boolean includeLengthHeader;
         private int lengthHeaderSize;
+        private String lengthEncoding;
+        private boolean lengthIncludesHeader;
+        private boolean keepAlive;
+        // TCP_MUX
+        private String correlationField;
+        private int muxConnections;
+        private int receivePort;
         // MQ
         private String queueManager;
         private String requestQueue;
@@ -153,5 +192,8 @@ public class TelegramController {
         private String host;
         private int port;
         private String url;
+        private boolean includeLengthHeader;
+        private int lengthHeaderSize;
+        private boolean keepAlive;
     }
 }
@@ -0,0 +1,66 @@
+package com.linkx.controller;
+
+import com.linkx.service.TrafficEvent;
+import com.linkx.service.TrafficStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 트래픽 (시뮬레이터 수신 + 전문 송신) — DB 조회 없이 메모리 링 버퍼에서 제공
+ */
+@RestController
+@RequestMapping("/api/traffic")
+@RequiredArgsConstructor
+@CrossOrigin(originPatterns = "*")
+public class TrafficController {
+
+    private final TrafficStreamService trafficStream;
+
+    /** 최근 트래픽 (최신순) */
+    @GetMapping("/recent")
+    public ResponseEntity<List<TrafficEvent>> getRecent(
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) Long configId,
+            @RequestParam(required = false) String telegramId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(trafficStream.recent(filter(source, configId, telegramId, status), limit));
+    }
+
+    /**
+     * 실시간 트래픽 구독 (SSE)
+     * - snapshot: 구독 시점의 최근 트래픽 (최신순)
+     * - traffic : 새 트래픽 배치 (발생순)
+     * - stats   : 초당 전송 수 초과로 생략/대기열 초과로 폐기된 누적 건수
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) Long configId,
+            @RequestParam(required = false) String telegramId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer maxRate) {
+        return trafficStream.subscribe(filter(source, configId, telegramId, status), maxRate);
+    }
+
+    /** 스트림 상태 (구독자별 전송/생략/폐기 건수) */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(trafficStream.getStats());
+    }
+
+    private static TrafficStreamService.Filter filter(String source, Long configId, String telegramId, String status) {
+        return new TrafficStreamService.Filter(blankToNull(source), configId, blankToNull(telegramId),
+                blankToNull(status));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
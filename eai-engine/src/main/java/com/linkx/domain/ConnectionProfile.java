@@ -52,6 +52,26 @@ public class ConnectionProfile {
     @Builder.Default
     private Integer lengthHeaderSize = 4;
 
+    @Column(name = "LENGTH_ENCODING", length = 10)
+    private String lengthEncoding; // ASCII / BINARY_BE / BINARY_LE
+
+    @Column(name = "LENGTH_INCLUDES_HEADER")
+    @Builder.Default
+    private Boolean lengthIncludesHeader = false;
+
+    @Column(name = "KEEP_ALIVE")
+    @Builder.Default
+    private Boolean keepAlive = false; // TCP 연결 유지 (커넥션 풀)
+
+    @Column(name = "CORRELATION_FIELD", length = 50)
+    private String correlationField; // TCP_MUX 응답 매칭 필드명 (거래고유번호 등)
+
+    @Column(name = "MUX_CONNECTIONS")
+    private Integer muxConnections; // TCP_MUX 송신 연결 수 (비어 있으면 1)
+
+    @Column(name = "RECEIVE_PORT")
+    private Integer receivePort; // TCP_MUX 수신 전용 포트 (비어 있으면 송신 연결로 수신)
+
     @Column(name = "DESCRIPTION", length = 200)
     private String description;
 
@@ -0,0 +1,132 @@
+package com.linkx.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 부하 테스트 실행 결과
+ *
+ * 실행 시작 시 RUNNING으로 저장하고 종료 시 집계값/초별 추이(timeline JSON)를 채워 갱신
+ * mode — OPEN: 목표 TPS로 도착률 고정, CLOSED: 동시 사용자 수 고정 (응답 후 바로 다음 송신)
+ * 시나리오 실행은 시나리오 1회가 1건 (지연 = think time 제외 전 단계 합), 단계별 집계는 stepSummary
+ */
+@Entity
+@Table(name = "TB_LOAD_RUN")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoadRunReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 실행 이름 (메모) */
+    @Column(name = "NAME", length = 100)
+    private String name;
+
+    /** 전문코드 (시나리오 실행은 null) */
+    @Column(name = "TELEGRAM_ID", length = 20)
+    private String telegramId;
+
+    /** 시나리오 실행 시 시나리오 ID / 이름 */
+    @Column(name = "SCENARIO_ID")
+    private Long scenarioId;
+
+    @Column(name = "SCENARIO_NAME", length = 100)
+    private String scenarioName;
+
+    @Column(name = "PROTOCOL", length = 10)
+    private String protocol;
+
+    /** 접속 대상 (host:port 또는 URL) */
+    @Column(name = "TARGET", length = 300)
+    private String target;
+
+    /** OPEN / CLOSED */
+    @Column(name = "MODE", nullable = false, length = 10)
+    private String mode;
+
+    /** OPEN: 목표 TPS */
+    @Column(name = "TARGET_TPS")
+    private Integer targetTps;
+
+    /** CLOSED: 동시 사용자 수 */
+    @Column(name = "USERS")
+    private Integer users;
+
+    @Column(name = "RAMP_UP_SEC")
+    private Integer rampUpSec;
+
+    @Column(name = "DURATION_SEC")
+    private Integer durationSec;
+
+    /** RUNNING / COMPLETED / STOPPED / FAILED */
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private String status;
+
+    /** 실행 설정 JSON (필드값/생성 규칙/성공 조건 포함) */
+    @Column(name = "PLAN", columnDefinition = "TEXT")
+    private String plan;
+
+    // ── 집계 ──
+
+    @Column(name = "TOTAL_COUNT")
+    private Long totalCount;
+
+    @Column(name = "SUCCESS_COUNT")
+    private Long successCount;
+
+    @Column(name = "ERROR_COUNT")
+    private Long errorCount;
+
+    /** OPEN에서 동시 처리 상한(maxInFlight)에 막혀 보내지 못한 건수 */
+    @Column(name = "DROPPED_COUNT")
+    private Long droppedCount;
+
+    /** 평균 처리량 (ramp-up 포함 전체 구간) */
+    @Column(name = "ACHIEVED_TPS")
+    private Double achievedTps;
+
+    @Column(name = "MEAN_MS")
+    private Double meanMs;
+
+    @Column(name = "P50_MS")
+    private Double p50Ms;
+
+    @Column(name = "P90_MS")
+    private Double p90Ms;
+
+    @Column(name = "P99_MS")
+    private Double p99Ms;
+
+    @Column(name = "P999_MS")
+    private Double p999Ms;
+
+    @Column(name = "MAX_MS")
+    private Double maxMs;
+
+    /** 오류 유형별 건수 JSON */
+    @Column(name = "ERROR_SUMMARY", columnDefinition = "TEXT")
+    private String errorSummary;
+
+    /** 시나리오 단계별 집계 JSON (건수/오류/지연 백분위/오류 유형) */
+    @Column(name = "STEP_SUMMARY", columnDefinition = "TEXT")
+    private String stepSummary;
+
+    /** 초별 추이 JSON (tps, errorRate, p50/p99, inFlight) */
+    @Column(name = "TIMELINE", columnDefinition = "TEXT")
+    private String timeline;
+
+    @Column(name = "ERROR_MESSAGE", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "STARTED_AT")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ENDED_AT")
+    private LocalDateTime endedAt;
+}
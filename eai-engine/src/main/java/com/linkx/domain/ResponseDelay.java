@@ -0,0 +1,122 @@
+package com.linkx.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 시뮬레이터 응답 지연 정책 엔티티
+ * 전문코드별 응답 지연을 분포로 정의 (없으면 리스너 설정의 responseDelayMs 고정값 사용)
+ *
+ * delayType:
+ *   FIXED      — 고정 지연 (fixedMs)
+ *   UNIFORM    — minMs ~ maxMs 균등 분포
+ *   NORMAL     — 평균 meanMs, 표준편차 stddevMs 정규 분포 (minMs/maxMs로 절단)
+ *   PERCENTILE — 백분위 지연표 (예: "50:20,90:150,99:800,100:2000", 구간 사이는 선형 보간)
+ */
+@Entity
+@Table(name = "TB_RESPONSE_DELAY",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"telegram_id"}))
+public class ResponseDelay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 전문코드 */
+    @Column(name = "telegram_id", nullable = false, length = 50)
+    private String telegramId;
+
+    /** 지연 분포 타입 */
+    @Column(name = "delay_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private DelayType delayType;
+
+    /** FIXED 지연 (ms) */
+    @Column(name = "fixed_ms")
+    private Integer fixedMs;
+
+    /** UNIFORM 범위 / NORMAL 절단 범위 (ms) */
+    @Column(name = "min_ms")
+    private Integer minMs;
+
+    @Column(name = "max_ms")
+    private Integer maxMs;
+
+    /** NORMAL 평균/표준편차 (ms) */
+    @Column(name = "mean_ms")
+    private Integer meanMs;
+
+    @Column(name = "stddev_ms")
+    private Integer stddevMs;
+
+    /** PERCENTILE 지연표 ("백분위:ms" 콤마 구분, 백분위 오름차순) */
+    @Column(name = "percentiles", length = 500)
+    private String percentiles;
+
+    /** 설명 메모 */
+    @Column(name = "description", length = 200)
+    private String description;
+
+    /** 활성/비활성 */
+    @Column(name = "active", nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // === Enum ===
+    public enum DelayType {
+        FIXED, UNIFORM, NORMAL, PERCENTILE
+    }
+
+    // === Getters & Setters ===
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTelegramId() { return telegramId; }
+    public void setTelegramId(String telegramId) { this.telegramId = telegramId; }
+
+    public DelayType getDelayType() { return delayType; }
+    public void setDelayType(DelayType delayType) { this.delayType = delayType; }
+
+    public Integer getFixedMs() { return fixedMs; }
+    public void setFixedMs(Integer fixedMs) { this.fixedMs = fixedMs; }
+
+    public Integer getMinMs() { return minMs; }
+    public void setMinMs(Integer minMs) { this.minMs = minMs; }
+
+    public Integer getMaxMs() { return maxMs; }
+    public void setMaxMs(Integer maxMs) { this.maxMs = maxMs; }
+
+    public Integer getMeanMs() { return meanMs; }
+    public void setMeanMs(Integer meanMs) { this.meanMs = meanMs; }
+
+    public Integer getStddevMs() { return stddevMs; }
+    public void setStddevMs(Integer stddevMs) { this.stddevMs = stddevMs; }
+
+    public String getPercentiles() { return percentiles; }
+    public void setPercentiles(String percentiles) { this.percentiles = percentiles; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
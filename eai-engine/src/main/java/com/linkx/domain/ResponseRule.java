@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
  *   ECHO_FROM — 요청 전문의 다른 필드값을 복사 (sourceField 지정)
  *   TIMESTAMP — 현재 시각 (yyyyMMddHHmmss 등 format 지정 가능)
  *   SEQUENCE  — 순차 번호 (seqPrefix + 자동 증가)
+ *   GENERATOR — 생성 규칙 (generator에 ACCOUNT / NAME / AMOUNT:1000-50000 등 FieldGenerators 형식)
  *   DEFAULT   — 레이아웃 기본값 사용 (규칙 미설정 필드와 동일)
  */
 @Entity
@@ -53,6 +54,10 @@ public class ResponseRule {
     @Column(name = "seq_prefix", length = 20)
     private String seqPrefix;
 
+    /** GENERATOR 타입일 때 생성 규칙 */
+    @Column(name = "generator", length = 200)
+    private String generator;
+
     /** 규칙 적용 순서 (같은 전문코드 내에서) */
     @Column(name = "sort_order")
     private Integer sortOrder;
@@ -84,7 +89,7 @@ public class ResponseRule {
 
     // === Enum ===
     public enum RuleType {
-        FIXED, ECHO, ECHO_FROM, TIMESTAMP, SEQUENCE, DEFAULT
+        FIXED, ECHO, ECHO_FROM, TIMESTAMP, SEQUENCE, GENERATOR, DEFAULT
     }
 
     // === Getters & Setters ===
@@ -112,6 +117,9 @@ public class ResponseRule {
     public String getSeqPrefix() { return seqPrefix; }
     public void setSeqPrefix(String seqPrefix) { this.seqPrefix = seqPrefix; }
 
+    public String getGenerator() { return generator; }
+    public void setGenerator(String generator) { this.generator = generator; }
+
     public Integer getSortOrder() { return sortOrder; }
     public void setSortOrder(Integer sortOrder) { this.sortOrder = sortOrder; }
 
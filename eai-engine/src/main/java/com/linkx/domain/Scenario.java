@@ -0,0 +1,56 @@
+package com.linkx.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 시나리오 (순서가 있는 전문 단계 묶음)
+ *
+ * 단계 정의는 JSON 배열로 저장 (ScenarioStep — 전문코드, 필드값/${변수}, 응답 필드 추출, 검증, think time)
+ * 예) 잔액조회 응답의 잔액/토큰을 변수로 추출 → 이체 요청 필드에 ${balance}, ${token}으로 사용
+ */
+@Entity
+@Table(name = "TB_SCENARIO")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Scenario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "NAME", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "DESCRIPTION", length = 500)
+    private String description;
+
+    /** 전 단계 공통 인코딩 (null이면 기본 인코딩) */
+    @Column(name = "CHARSET", length = 20)
+    private String charset;
+
+    /** 단계 정의 JSON 배열 */
+    @Column(name = "STEPS", nullable = false, columnDefinition = "TEXT")
+    private String steps;
+
+    @Column(name = "CREATED_AT")
+    private LocalDateTime createdAt;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
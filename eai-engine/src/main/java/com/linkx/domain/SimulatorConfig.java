@@ -11,6 +11,31 @@ import java.time.LocalDateTime;
 @Table(name = "TB_SIMULATOR_CONFIG")
 public class SimulatorConfig {
 
+    /** 리스너 I/O 방식 */
+    public static final String IO_MODE_BLOCKING = "BLOCKING";
+    public static final String IO_MODE_NIO = "NIO";
+
+    /** 연결 유지 모드 기본 유휴 타임아웃 (ms) */
+    public static final int DEFAULT_IDLE_TIMEOUT_MS = 30000;
+
+    /** 과부하 차단 방식 (CLOSE: 즉시 종료 / BUSY: 고정 응답 후 종료) */
+    public static final String SHED_MODE_CLOSE = "CLOSE";
+    public static final String SHED_MODE_BUSY = "BUSY";
+
+    /** 전문 프레임 방식 (LENGTH: 길이 헤더 / FIXED: 고정 길이 / LAYOUT: 레이아웃 전체 길이 / DELIMITER: 구분자 / IDLE: 유휴 간격) */
+    public static final String FRAMING_LENGTH = "LENGTH";
+    public static final String FRAMING_FIXED = "FIXED";
+    public static final String FRAMING_LAYOUT = "LAYOUT";
+    public static final String FRAMING_DELIMITER = "DELIMITER";
+    public static final String FRAMING_IDLE = "IDLE";
+
+    /** 길이 정보 없는 전문의 기본 유휴 간격 (ms) */
+    public static final int DEFAULT_IDLE_GAP_MS = 100;
+
+    /** 기본 동시 처리 연결 수 / 수락 대기열 크기 */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+    public static final int DEFAULT_ACCEPT_QUEUE_SIZE = 1000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,6 +60,26 @@ public class SimulatorConfig {
     @Column(name = "length_includes_header")
     private boolean lengthIncludesHeader = false;
 
+    /** 전문 프레임 방식 (비어 있으면 길이헤더 크기가 0이면 IDLE, 아니면 LENGTH) */
+    @Column(name = "framing", length = 10)
+    private String framing;
+
+    /** 길이 헤더 표기 (ASCII / BINARY_BE / BINARY_LE) */
+    @Column(name = "length_encoding", length = 10)
+    private String lengthEncoding = "ASCII";
+
+    /** FIXED 방식 전문 길이 */
+    @Column(name = "fixed_length")
+    private Integer fixedLength;
+
+    /** DELIMITER 방식 구분자 (\r \n \xHH 이스케이프) */
+    @Column(name = "frame_delimiter", length = 20)
+    private String frameDelimiter;
+
+    /** IDLE 방식 전문 끝 판단 유휴 간격 (ms) */
+    @Column(name = "idle_gap_ms")
+    private Integer idleGapMs = DEFAULT_IDLE_GAP_MS;
+
     /** 전문코드 추출 시작 오프셋 (길이헤더 이후 기준) */
     @Column(name = "telegram_id_offset")
     private int telegramIdOffset = 0;
@@ -47,6 +92,50 @@ public class SimulatorConfig {
     @Column(name = "response_delay_ms")
     private int responseDelayMs = 0;
 
+    /** 리스너 I/O 방식 (BLOCKING: 연결당 스레드 / NIO: 공유 셀렉터 이벤트 루프) */
+    @Column(name = "io_mode", length = 10)
+    private String ioMode = IO_MODE_BLOCKING;
+
+    /** 연결 유지 (true면 한 연결에서 길이헤더 단위로 전문을 반복 수신, 파이프라이닝 허용) */
+    @Column(name = "keep_alive")
+    private Boolean keepAlive = false;
+
+    /** 연결 유지 모드 유휴 타임아웃 (ms) — 전문 사이 대기 시간이 넘으면 연결 종료 */
+    @Column(name = "idle_timeout_ms")
+    private Integer idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+
+    /** 연결당 최대 전문 수 (0이면 무제한) — 도달하면 마지막 응답 후 연결 종료 */
+    @Column(name = "max_messages_per_connection")
+    private Integer maxMessagesPerConnection = 0;
+
+    /** 동시 처리 연결 수 (0이면 무제한) — 초과 연결은 수락 대기열로 */
+    @Column(name = "max_in_flight")
+    private Integer maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    /** 수락 대기열 크기 — 대기열도 가득 차면 과부하 차단 */
+    @Column(name = "accept_queue_size")
+    private Integer acceptQueueSize = DEFAULT_ACCEPT_QUEUE_SIZE;
+
+    /** 클라이언트 IP별 초당 허용 전문 수 (0이면 무제한) — 초과 전문은 과부하 차단 */
+    @Column(name = "client_rate_per_sec")
+    private Integer clientRatePerSec = 0;
+
+    /** 클라이언트 IP별 순간 허용 전문 수 (null이면 clientRatePerSec) */
+    @Column(name = "client_burst")
+    private Integer clientBurst;
+
+    /** 과부하 차단 방식 (CLOSE / BUSY) */
+    @Column(name = "shed_mode", length = 10)
+    private String shedMode = SHED_MODE_CLOSE;
+
+    /** BUSY 차단 시 보낼 고정 응답 전문 (길이 헤더 제외, 리스너 인코딩) */
+    @Column(name = "busy_response", length = 2000)
+    private String busyResponse;
+
+    /** 가상 스레드 사용 여부 (null이면 전역 설정 linkx.threads.virtual) */
+    @Column(name = "virtual_threads")
+    private Boolean virtualThreads;
+
     /** 활성/비활성 */
     @Column(name = "active", nullable = false)
     private boolean active = true;
@@ -91,6 +180,28 @@ public class SimulatorConfig {
     public boolean isLengthIncludesHeader() { return lengthIncludesHeader; }
     public void setLengthIncludesHeader(boolean lengthIncludesHeader) { this.lengthIncludesHeader = lengthIncludesHeader; }
 
+    public String getFraming() {
+        if (framing != null && !framing.isBlank()) {
+            return framing.trim().toUpperCase();
+        }
+        return lengthHeaderSize > 0 ? FRAMING_LENGTH : FRAMING_IDLE;
+    }
+    public void setFraming(String framing) { this.framing = framing; }
+
+    public String getLengthEncoding() { return lengthEncoding; }
+    public void setLengthEncoding(String lengthEncoding) { this.lengthEncoding = lengthEncoding; }
+
+    public int getFixedLength() { return fixedLength != null ? fixedLength : 0; }
+    public void setFixedLength(Integer fixedLength) { this.fixedLength = fixedLength; }
+
+    public String getFrameDelimiter() { return frameDelimiter; }
+    public void setFrameDelimiter(String frameDelimiter) { this.frameDelimiter = frameDelimiter; }
+
+    public int getIdleGapMs() {
+        return idleGapMs != null && idleGapMs > 0 ? idleGapMs : DEFAULT_IDLE_GAP_MS;
+    }
+    public void setIdleGapMs(Integer idleGapMs) { this.idleGapMs = idleGapMs; }
+
     public int getTelegramIdOffset() { return telegramIdOffset; }
     public void setTelegramIdOffset(int telegramIdOffset) { this.telegramIdOffset = telegramIdOffset; }
 
@@ -100,6 +211,60 @@ public class SimulatorConfig {
     public int getResponseDelayMs() { return responseDelayMs; }
     public void setResponseDelayMs(int responseDelayMs) { this.responseDelayMs = responseDelayMs; }
 
+    public String getIoMode() { return ioMode; }
+    public void setIoMode(String ioMode) { this.ioMode = ioMode; }
+
+    public boolean isNioMode() { return IO_MODE_NIO.equalsIgnoreCase(ioMode); }
+
+    public boolean isKeepAlive() { return Boolean.TRUE.equals(keepAlive); }
+    public void setKeepAlive(Boolean keepAlive) { this.keepAlive = keepAlive; }
+
+    public int getIdleTimeoutMs() {
+        return idleTimeoutMs != null && idleTimeoutMs > 0 ? idleTimeoutMs : DEFAULT_IDLE_TIMEOUT_MS;
+    }
+    public void setIdleTimeoutMs(Integer idleTimeoutMs) { this.idleTimeoutMs = idleTimeoutMs; }
+
+    public int getMaxMessagesPerConnection() {
+        return maxMessagesPerConnection != null ? maxMessagesPerConnection : 0;
+    }
+    public void setMaxMessagesPerConnection(Integer maxMessagesPerConnection) {
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight != null ? maxInFlight : DEFAULT_MAX_IN_FLIGHT;
+    }
+    public void setMaxInFlight(Integer maxInFlight) { this.maxInFlight = maxInFlight; }
+
+    public int getAcceptQueueSize() {
+        return acceptQueueSize != null ? acceptQueueSize : DEFAULT_ACCEPT_QUEUE_SIZE;
+    }
+    public void setAcceptQueueSize(Integer acceptQueueSize) { this.acceptQueueSize = acceptQueueSize; }
+
+    public int getClientRatePerSec() {
+        return clientRatePerSec != null ? clientRatePerSec : 0;
+    }
+    public void setClientRatePerSec(Integer clientRatePerSec) { this.clientRatePerSec = clientRatePerSec; }
+
+    public int getClientBurst() {
+        return clientBurst != null && clientBurst > 0 ? clientBurst : getClientRatePerSec();
+    }
+    public void setClientBurst(Integer clientBurst) { this.clientBurst = clientBurst; }
+
+    public String getShedMode() { return shedMode; }
+    public void setShedMode(String shedMode) { this.shedMode = shedMode; }
+
+    /** BUSY 차단 여부 (고정 응답이 없으면 CLOSE로 동작) */
+    public boolean isShedBusy() {
+        return SHED_MODE_BUSY.equalsIgnoreCase(shedMode) && busyResponse != null && !busyResponse.isEmpty();
+    }
+
+    public String getBusyResponse() { return busyResponse; }
+    public void setBusyResponse(String busyResponse) { this.busyResponse = busyResponse; }
+
+    public Boolean getVirtualThreads() { return virtualThreads; }
+    public void setVirtualThreads(Boolean virtualThreads) { this.virtualThreads = virtualThreads; }
+
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
 
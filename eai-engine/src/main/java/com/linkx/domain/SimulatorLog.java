@@ -1,5 +1,8 @@
 package com.linkx.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TextCodec;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -12,7 +15,8 @@ import java.time.LocalDateTime;
 public class SimulatorLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sim_log_seq")
+    @SequenceGenerator(name = "sim_log_seq", sequenceName = SEQUENCE_NAME, allocationSize = ID_ALLOCATION_SIZE) // IDENTITY는 배치 INSERT 불가
     private Long id;
 
     /** 리스너 설정 ID */
@@ -31,13 +35,33 @@ public class SimulatorLog {
     @Column(name = "client_port")
     private int clientPort;
 
-    /** 수신 원문 (Raw) */
-    @Column(name = "request_raw", columnDefinition = "TEXT")
-    private String requestRaw;
+    /** 수신 원문 바이트 (bytea / BLOB, compressed면 Deflate 압축) */
+    @JsonIgnore
+    @Column(name = "request_data", length = RAW_MAX_LENGTH)
+    private byte[] requestData;
 
-    /** 응답 원문 (Raw) */
-    @Column(name = "response_raw", columnDefinition = "TEXT")
-    private String responseRaw;
+    /** 응답 원문 바이트 */
+    @JsonIgnore
+    @Column(name = "response_data", length = RAW_MAX_LENGTH)
+    private byte[] responseData;
+
+    /** 바이너리 컬럼 도입 전 수신 원문 텍스트 (기존 로그 조회용 읽기 전용) */
+    @JsonIgnore
+    @Column(name = "request_raw", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String legacyRequestRaw;
+
+    /** 바이너리 컬럼 도입 전 응답 원문 텍스트 */
+    @JsonIgnore
+    @Column(name = "response_raw", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String legacyResponseRaw;
+
+    /** 원문 압축 여부 (기존 로그 행은 null — 미압축으로 취급) */
+    @Column(name = "compressed")
+    private Boolean compressed;
+
+    /** 원문 문자셋 (텍스트 표시용) */
+    @Column(name = "encoding", length = 20)
+    private String encoding;
 
     /** 처리 상태 (SUCCESS / PARSE_ERROR / NO_RULE / ERROR) */
     @Column(name = "status", length = 20)
@@ -78,11 +102,17 @@ public class SimulatorLog {
     public int getClientPort() { return clientPort; }
     public void setClientPort(int clientPort) { this.clientPort = clientPort; }
 
-    public String getRequestRaw() { return requestRaw; }
-    public void setRequestRaw(String requestRaw) { this.requestRaw = requestRaw; }
+    public byte[] getRequestData() { return requestData; }
+    public void setRequestData(byte[] requestData) { this.requestData = requestData; }
+
+    public byte[] getResponseData() { return responseData; }
+    public void setResponseData(byte[] responseData) { this.responseData = responseData; }
 
-    public String getResponseRaw() { return responseRaw; }
-    public void setResponseRaw(String responseRaw) { this.responseRaw = responseRaw; }
+    public boolean isCompressed() { return Boolean.TRUE.equals(compressed); }
+    public void setCompressed(boolean compressed) { this.compressed = compressed; }
+
+    public String getEncoding() { return encoding; }
+    public void setEncoding(String encoding) { this.encoding = encoding; }
 
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
@@ -95,4 +125,45 @@ public class SimulatorLog {
 
     public LocalDateTime getReceivedAt() { return receivedAt; }
     public void setReceivedAt(LocalDateTime receivedAt) { this.receivedAt = receivedAt; }
+
+    public static final int RAW_MAX_LENGTH = 1024 * 1024;
+
+    /** ID 시퀀스 (IDENTITY 시절 데이터가 있으면 SimulatorLogWriter가 기동 시 max(id) 이후로 맞춤) */
+    public static final String SEQUENCE_NAME = "SEQ_SIMULATOR_LOG";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // === 원문 (요청 시점에 복원/렌더링) ===
+
+    @JsonIgnore
+    public byte[] getRequestBytes() { return restore(requestData, legacyRequestRaw); }
+
+    @JsonIgnore
+    public byte[] getResponseBytes() { return restore(responseData, legacyResponseRaw); }
+
+    /** 수신 원문 텍스트 (기존 로그는 저장된 텍스트 그대로) */
+    public String getRequestRaw() { return requestData != null ? render(getRequestBytes()) : legacyRequestRaw; }
+
+    /** 응답 원문 텍스트 */
+    public String getResponseRaw() { return responseData != null ? render(getResponseBytes()) : legacyResponseRaw; }
+
+    /**
+     * 원문 저장 (compress면 요청/응답 모두 Deflate 압축)
+     */
+    public void storeRaw(byte[] request, byte[] response, boolean compress) {
+        this.compressed = compress;
+        this.requestData = compress ? PayloadCompression.compress(request) : request;
+        this.responseData = compress ? PayloadCompression.compress(response) : response;
+    }
+
+    private byte[] restore(byte[] stored, String legacyText) {
+        if (stored == null) {
+            return legacyText != null ? TextCodec.encode(legacyText, TextCodec.resolve(encoding)) : null;
+        }
+        if (!isCompressed()) return stored;
+        return PayloadCompression.decompress(stored);
+    }
+
+    private String render(byte[] data) {
+        return data != null ? TextCodec.decode(data, TextCodec.resolve(encoding)) : null;
+    }
 }
@@ -1,5 +1,8 @@
 package com.linkx.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.linkx.telegram.HexCodec;
+import com.linkx.telegram.PayloadCompression;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -35,13 +38,36 @@ public class TelegramHistory {
     @Column(name = "TARGET", length = 300)
     private String target;
 
-    /** 송신 원문 (Full raw bytes hex) */
-    @Column(name = "RAW_REQUEST", columnDefinition = "TEXT")
-    private String rawRequest;
+    /** 송신 원문 바이트 (bytea / BLOB, rawCompressed면 Deflate 압축) */
+    @JsonIgnore
+    @Column(name = "RAW_REQUEST_DATA", length = RAW_MAX_LENGTH)
+    private byte[] rawRequestData;
+
+    /** 수신 원문 바이트 */
+    @JsonIgnore
+    @Column(name = "RAW_RESPONSE_DATA", length = RAW_MAX_LENGTH)
+    private byte[] rawResponseData;
+
+    /** 바이너리 컬럼 도입 전 송신 원문 (Hex 덤프, 기존 이력 조회용 읽기 전용) */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "RAW_REQUEST", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String legacyRawRequest;
+
+    /** 바이너리 컬럼 도입 전 수신 원문 (Hex 덤프) */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "RAW_RESPONSE", columnDefinition = "TEXT", insertable = false, updatable = false)
+    private String legacyRawResponse;
+
+    /** 원문 압축 여부 */
+    @Column(name = "RAW_COMPRESSED")
+    @Builder.Default
+    private Boolean rawCompressed = false;
 
-    /** 수신 원문 */
-    @Column(name = "RAW_RESPONSE", columnDefinition = "TEXT")
-    private String rawResponse;
+    /** 원문 문자셋 (텍스트 표시용) */
+    @Column(name = "CHARSET", length = 20)
+    private String charset;
 
     /** 파싱된 송신 JSON */
     @Column(name = "PARSED_REQUEST", columnDefinition = "TEXT")
@@ -75,4 +101,39 @@ public class TelegramHistory {
     /** 메모 */
     @Column(name = "MEMO", length = 500)
     private String memo;
+
+    public static final int RAW_MAX_LENGTH = 1024 * 1024;
+
+    // ── 원문 (Hex/텍스트 렌더링은 /api/telegram/history/raw/{id} 요청 시점에 수행) ──
+
+    /** 송신 원문 바이트 (압축 해제, 기존 이력은 Hex 덤프에서 복원) */
+    @JsonIgnore
+    public byte[] getRawRequestBytes() {
+        return restore(rawRequestData, legacyRawRequest);
+    }
+
+    /** 수신 원문 바이트 (압축 해제, 기존 이력은 Hex 덤프에서 복원) */
+    @JsonIgnore
+    public byte[] getRawResponseBytes() {
+        return restore(rawResponseData, legacyRawResponse);
+    }
+
+    /**
+     * 원문 저장 (compress면 요청/응답 모두 Deflate 압축)
+     */
+    public void storeRaw(byte[] request, byte[] response, boolean compress) {
+        this.rawCompressed = compress;
+        this.rawRequestData = compress ? PayloadCompression.compress(request) : request;
+        this.rawResponseData = compress ? PayloadCompression.compress(response) : response;
+    }
+
+    private byte[] restore(byte[] stored, String legacyHex) {
+        if (stored == null) {
+            return legacyHex != null ? HexCodec.fromHex(legacyHex) : null;
+        }
+        if (!Boolean.TRUE.equals(rawCompressed)) {
+            return stored;
+        }
+        return PayloadCompression.decompress(stored);
+    }
 }
@@ -0,0 +1,74 @@
+package com.linkx.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 실행 계획
+ *
+ * - OPEN  : 목표 TPS로 송신 시각을 정해 두고 응답과 무관하게 송신 (지연은 예정 송신 시각부터 측정)
+ *           동시 처리 수가 maxInFlight에 닿으면 보내지 않고 dropped로 집계
+ * - CLOSED: 사용자 users명이 응답을 받는 즉시 다음 전문 송신
+ * - rampUpSec 동안 OPEN은 송신율을, CLOSED는 사용자 수를 0부터 선형 증가
+ * - scenarioId 지정 시 전문 1건 대신 시나리오 1회가 실행 단위 (OPEN은 초당 시작 수, 전문/필드/성공 조건 무시)
+ */
+@Getter
+@Builder
+public class LoadPlan {
+
+    public enum Mode { OPEN, CLOSED }
+
+    private final String name;
+    private final String telegramId;
+    private final Long scenarioId;
+    private final String charset;
+    private final Mode mode;
+    private final int targetTps;
+    private final int users;
+    private final int rampUpSec;
+    private final int durationSec;
+    private final int maxInFlight;
+
+    /** 고정 필드값 */
+    private final Map<String, String> fieldValues;
+
+    /** 필드명 → 생성 규칙 (FieldGenerators) */
+    private final Map<String, String> fieldGenerators;
+
+    /** 응답 성공 판정 필드 (null이면 응답 수신 = 성공) */
+    private final String successField;
+    private final Set<String> successValues;
+
+    /**
+     * 실행 전 검증 (상한은 서버 설정)
+     */
+    void validate(int maxUsers, int maxTps, int maxDurationSec) {
+        if (scenarioId == null && (telegramId == null || telegramId.isBlank())) {
+            throw new RuntimeException("전문코드 또는 시나리오를 지정하세요");
+        }
+        if (mode == null) {
+            throw new RuntimeException("부하 모드(OPEN/CLOSED)를 지정하세요");
+        }
+        if (durationSec <= 0 || durationSec > maxDurationSec) {
+            throw new RuntimeException("실행 시간 범위 오류: " + durationSec + "초 (1~" + maxDurationSec + ")");
+        }
+        if (rampUpSec < 0 || rampUpSec > durationSec) {
+            throw new RuntimeException("ramp-up 시간은 0 ~ 실행 시간 이내여야 합니다: " + rampUpSec);
+        }
+        if (mode == Mode.OPEN && (targetTps <= 0 || targetTps > maxTps)) {
+            throw new RuntimeException("목표 TPS 범위 오류: " + targetTps + " (1~" + maxTps + ")");
+        }
+        if (mode == Mode.CLOSED && (users <= 0 || users > maxUsers)) {
+            throw new RuntimeException("동시 사용자 수 범위 오류: " + users + " (1~" + maxUsers + ")");
+        }
+        if (mode == Mode.OPEN && maxInFlight <= 0) {
+            throw new RuntimeException("최대 동시 처리 수(maxInFlight)를 지정하세요");
+        }
+        if (successField != null && (successValues == null || successValues.isEmpty())) {
+            throw new RuntimeException("성공 판정 필드의 성공 값(successValues)을 지정하세요");
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.linkx.load;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.protocol.ConnectionConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 실행 1건
+ *
+ * 구동 스레드 1개(플랫폼)가 송신 시각/사용자 투입을 제어하고 실행 단위(LoadWorkload)는 가상 스레드에서 수행
+ * - OPEN  : 누적 도착 수 N(t)를 계산해 밀린 만큼 한 번에 투입 (parkNanos 정밀도와 무관하게 목표 TPS 유지)
+ * - CLOSED: 사용자마다 가상 스레드 1개가 실행 시간 동안 실행 단위 반복
+ * 송신 1건의 추가 비용은 템플릿 복제 + 생성 필드 인코딩 + 히스토그램 기록 정도 (이력 저장/트래픽 발행 없음)
+ */
+@Slf4j
+final class LoadRun {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String STOPPED = "STOPPED";
+    static final String FAILED = "FAILED";
+
+    /** 종료 후 진행 중 송신을 기다리는 추가 시간 */
+    private static final long DRAIN_GRACE_MS = 5000;
+
+    /** OPEN 구동 스레드 최대 대기 (정지 요청 확인 주기) */
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Long id;
+    private final LoadPlan plan;
+    private final ConnectionConfig connection;
+    private final LoadWorkload workload;
+    private final LoadStats stats = new LoadStats();
+    private final ExecutorService executor;
+
+    private final AtomicLong seq = new AtomicLong();
+    private final AtomicInteger activeUsers = new AtomicInteger();
+    private final CountDownLatch stopSignal = new CountDownLatch(1);
+    private final List<Map<String, Object>> timeline = new ArrayList<>();   // 보고 스레드만 추가
+
+    private volatile boolean stopRequested;
+    private volatile String status = RUNNING;
+    private volatile String errorMessage;
+    private volatile LocalDateTime endedAt;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private long startNanos;
+    private long deadlineNanos;
+    private volatile long endNanos;
+    private long lastSampleNanos;
+
+    LoadRun(Long id, LoadPlan plan, ConnectionConfig connection, LoadWorkload workload) {
+        this.id = id;
+        this.plan = plan;
+        this.connection = connection;
+        this.workload = workload;
+        this.executor = Executors.newThreadPerTaskExecutor(ExecutorProvider.threadFactory("load-" + id + "-", true));
+    }
+
+    /**
+     * 실행 시작 (구동 스레드)
+     *
+     * @param onFinished 모든 송신이 끝난 뒤 호출
+     */
+    void start(Runnable onFinished) {
+        startNanos = System.nanoTime();
+        lastSampleNanos = startNanos;
+        deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(plan.getDurationSec());
+        ExecutorProvider.startThread("load-driver-" + id, false, () -> {
+            try {
+                if (plan.getMode() == LoadPlan.Mode.OPEN) {
+                    pace();
+                } else {
+                    runUsers();
+                }
+                status = stopRequested ? STOPPED : COMPLETED;
+            } catch (Exception e) {
+                log.error("[Load] 실행 오류 #{}: {}", id, e.getMessage(), e);
+                errorMessage = e.getMessage();
+                status = FAILED;
+            } finally {
+                drain();
+                endNanos = System.nanoTime();
+                endedAt = LocalDateTime.now();
+                onFinished.run();
+            }
+        });
+    }
+
+    void stop() {
+        stopRequested = true;
+        stopSignal.countDown();
+    }
+
+    // ── OPEN: 도착률 고정 ──
+
+    private void pace() {
+        Semaphore permits = new Semaphore(plan.getMaxInFlight());
+        double rate = plan.getTargetTps();
+        double rampSec = plan.getRampUpSec();
+        long issued = 0;
+
+        while (!stopRequested) {
+            long now = System.nanoTime();
+            if (now >= deadlineNanos) {
+                break;
+            }
+            long due = dueCount((now - startNanos) / 1e9, rate, rampSec);
+            while (issued < due && !stopRequested) {
+                issued++;
+                long intended = startNanos + (long) (timeOf(issued, rate, rampSec) * 1e9);
+                if (!permits.tryAcquire()) {
+                    stats.dropped();
+                    continue;
+                }
+                VirtualUser user = new VirtualUser((int) issued, workload.variableCount(), stopSignal);
+                executor.execute(() -> {
+                    try {
+                        execute(intended, user);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            long next = startNanos + (long) (timeOf(issued + 1, rate, rampSec) * 1e9);
+            long wait = Math.min(next, deadlineNanos) - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(Math.min(wait, MAX_PARK_NANOS));
+            }
+        }
+    }
+
+    /**
+     * 시작 후 t초까지 보내야 할 누적 송신 수 (ramp-up 동안 송신율 선형 증가)
+     */
+    static long dueCount(double t, double rate, double rampSec) {
+        if (rampSec <= 0) {
+            return (long) (rate * t);
+        }
+        if (t < rampSec) {
+            return (long) (rate * t * t / (2 * rampSec));
+        }
+        return (long) (rate * (t - rampSec / 2));
+    }
+
+    /**
+     * n번째 송신 예정 시각 (초, dueCount의 역함수)
+     */
+    static double timeOf(long n, double rate, double rampSec) {
+        if (rampSec <= 0) {
+            return n / rate;
+        }
+        if (n <= rate * rampSec / 2) {
+            return Math.sqrt(2 * rampSec * n / rate);
+        }
+        return n / rate + rampSec / 2;
+    }
+
+    // ── CLOSED: 사용자 수 고정 ──
+
+    private void runUsers() throws InterruptedException {
+        int users = plan.getUsers();
+        long rampNanos = TimeUnit.SECONDS.toNanos(plan.getRampUpSec());
+        for (int i = 0; i < users; i++) {
+            long startAt = startNanos + rampNanos * i / users;
+            VirtualUser user = new VirtualUser(i + 1, workload.variableCount(), stopSignal);
+            executor.execute(() -> userLoop(startAt, user));
+        }
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            stopSignal.await(remaining, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void userLoop(long startAt, VirtualUser user) {
+        long wait = startAt - System.nanoTime();
+        try {
+            if (wait > 0 && stopSignal.await(wait, TimeUnit.NANOSECONDS)) {
+                return; // ramp-up 대기 중 정지
+            }
+        } catch (InterruptedException e) {
+            return;
+        }
+        activeUsers.incrementAndGet();
+        try {
+            while (!stopRequested && System.nanoTime() < deadlineNanos) {
+                execute(System.nanoTime(), user);
+            }
+        } finally {
+            activeUsers.decrementAndGet();
+        }
+    }
+
+    // ── 실행 ──
+
+    /**
+     * 실행 단위 1회 — 지연은 startNanos(OPEN은 예정 송신 시각)부터 완료까지 (think time 제외)
+     */
+    private void execute(long startNanos, VirtualUser user) {
+        stats.begin();
+        user.reset();
+        try {
+            LoadWorkload.Outcome outcome = workload.execute(seq.getAndIncrement(), user);
+            if (outcome.aborted()) {
+                stats.aborted();
+            } else if (outcome.failure() == null) {
+                stats.success(System.nanoTime() - startNanos - user.pausedNanos());
+            } else {
+                stats.failure(outcome.failure());
+            }
+        } catch (Exception e) {
+            stats.failure(LoadWorkload.errorType(e));
+        }
+    }
+
+    /**
+     * 구동 종료 후 진행 중 송신 대기 (송신 타임아웃 + 여유 시간까지)
+     */
+    private void drain() {
+        executor.shutdown();
+        long timeoutMs = (connection.getTimeoutMs() > 0 ? connection.getTimeoutMs() : 30000) + DRAIN_GRACE_MS;
+        try {
+            if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── 보고 ──
+
+    /**
+     * 직전 sample 이후 구간 집계 (보고 스레드에서 1초마다 호출)
+     */
+    Map<String, Object> sample() {
+        long now = System.nanoTime();
+        double intervalSec = Math.max(0.001, (now - lastSampleNanos) / 1e9);
+        lastSampleNanos = now;
+        Map<String, Object> sample = stats.sample(TimeUnit.NANOSECONDS.toMillis(now - startNanos), intervalSec,
+                plan.getMode() == LoadPlan.Mode.CLOSED ? activeUsers.get() : 0);
+        synchronized (timeline) {
+            timeline.add(sample);
+        }
+        return sample;
+    }
+
+    /**
+     * 실행 경과 시간 (초, 종료 후에는 전체 실행 시간)
+     */
+    double elapsedSec() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return Math.max(0.001, (end - startNanos) / 1e9);
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    LoadPlan getPlan() {
+        return plan;
+    }
+
+    ConnectionConfig getConnection() {
+        return connection;
+    }
+
+    LoadStats getStats() {
+        return stats;
+    }
+
+    LoadWorkload getWorkload() {
+        return workload;
+    }
+
+    List<Map<String, Object>> getTimeline() {
+        synchronized (timeline) {
+            return new ArrayList<>(timeline);
+        }
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    String getErrorMessage() {
+        return errorMessage;
+    }
+
+    LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+}
@@ -0,0 +1,135 @@
+package com.linkx.load;
+
+import com.linkx.simulator.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 실행 통계 (잠금 없이 기록)
+ *
+ * - 전체 히스토그램 + 1초 구간 히스토그램 (sample 호출 시 새 구간으로 교체)
+ *   교체 직전에 구간 참조를 얻은 기록은 이전 구간에 들어가 해당 초 백분위에서 빠질 수 있음 (전체에는 반영)
+ * - 오류는 유형별 건수 (유형 수 상한 초과분은 기타로 합산)
+ */
+final class LoadStats {
+
+    private static final int MAX_ERROR_TYPES = 20;
+    private static final String OTHER_ERRORS = "기타";
+
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final AtomicReference<LatencyHistogram> interval = new AtomicReference<>(new LatencyHistogram());
+
+    private final LongAdder success = new LongAdder();
+    private final LongAdder failure = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /** 직전 sample 시점 누적값 (sample은 보고 스레드 1개에서만 호출) */
+    private long sampledSuccess;
+    private long sampledFailure;
+    private long sampledDropped;
+
+    void begin() {
+        inFlight.incrementAndGet();
+    }
+
+    void success(long latencyNanos) {
+        inFlight.decrementAndGet();
+        success.increment();
+        total.recordNanos(latencyNanos);
+        interval.get().recordNanos(latencyNanos);
+    }
+
+    void failure(String reason) {
+        inFlight.decrementAndGet();
+        failure.increment();
+        LongAdder counter = errors.get(reason);
+        if (counter == null) {
+            counter = errors.size() < MAX_ERROR_TYPES
+                    ? errors.computeIfAbsent(reason, key -> new LongAdder())
+                    : errors.computeIfAbsent(OTHER_ERRORS, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * 정지 요청으로 중단된 실행 (건수 집계 없음)
+     */
+    void aborted() {
+        inFlight.decrementAndGet();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    /**
+     * 1초 구간 집계 후 새 구간 시작
+     */
+    Map<String, Object> sample(long elapsedMs, double intervalSec, int activeUsers) {
+        LatencyHistogram window = interval.getAndSet(new LatencyHistogram());
+        long ok = success.sum();
+        long failed = failure.sum();
+        long drop = dropped.sum();
+        long okDelta = ok - sampledSuccess;
+        long failedDelta = failed - sampledFailure;
+        long dropDelta = drop - sampledDropped;
+        sampledSuccess = ok;
+        sampledFailure = failed;
+        sampledDropped = drop;
+
+        long done = okDelta + failedDelta;
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("elapsedSec", Math.round(elapsedMs / 100.0) / 10.0);
+        sample.put("tps", round1(done / intervalSec));
+        sample.put("errorRate", done > 0 ? round1(failedDelta * 100.0 / done) : 0.0);
+        sample.put("dropped", dropDelta);
+        sample.put("p50Ms", toMs(window.percentile(50)));
+        sample.put("p99Ms", toMs(window.percentile(99)));
+        sample.put("inFlight", inFlight.get());
+        sample.put("users", activeUsers);
+        return sample;
+    }
+
+    long successCount() {
+        return success.sum();
+    }
+
+    long failureCount() {
+        return failure.sum();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    LatencyHistogram histogram() {
+        return total;
+    }
+
+    Map<String, Long> errorSummary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        errors.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> summary.put(entry.getKey(), entry.getValue().sum()));
+        return summary;
+    }
+
+    static double toMs(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,390 @@
+package com.linkx.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.LoadRunReport;
+import com.linkx.domain.Scenario;
+import com.linkx.domain.TelegramLayout;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolRouter;
+import com.linkx.repository.LoadRunReportRepository;
+import com.linkx.simulator.LatencyHistogram;
+import com.linkx.telegram.EncodeResult;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.TelegramEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 실행 관리
+ *
+ * 등록된 레이아웃/TelegramEngine/ProtocolRouter를 그대로 사용해 전문을 대량 송신
+ * - 실행 시작 시 결과를 RUNNING으로 저장하고 종료 시 집계/초별 추이로 갱신
+ * - 보고 스레드 1개가 1초마다 실행 중인 부하의 구간 통계를 계산해 SSE 구독자에게 sample 이벤트 전송
+ *   (종료 시 report 이벤트 후 구독 종료)
+ * - 송신 경로에서는 이력 저장/트래픽 발행을 하지 않음 (부하 발생기가 병목이 되지 않도록)
+ */
+@Slf4j
+@Service
+public class LoadTestService {
+
+    private final LayoutRegistry layoutRegistry;
+    private final TelegramEngine telegramEngine;
+    private final ProtocolRouter protocolRouter;
+    private final ScenarioService scenarioService;
+    private final LoadRunReportRepository reportRepository;
+    private final ObjectMapper objectMapper;
+
+    private final int maxConcurrentRuns;
+    private final int maxUsers;
+    private final int maxTps;
+    private final int maxDurationSec;
+
+    private final Map<Long, LoadRun> active = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reporter;
+
+    public LoadTestService(LayoutRegistry layoutRegistry,
+                           TelegramEngine telegramEngine,
+                           ProtocolRouter protocolRouter,
+                           ScenarioService scenarioService,
+                           LoadRunReportRepository reportRepository,
+                           ObjectMapper objectMapper,
+                           @Value("${linkx.load.max-concurrent-runs:2}") int maxConcurrentRuns,
+                           @Value("${linkx.load.max-users:5000}") int maxUsers,
+                           @Value("${linkx.load.max-tps:20000}") int maxTps,
+                           @Value("${linkx.load.max-duration-sec:3600}") int maxDurationSec) {
+        this.layoutRegistry = layoutRegistry;
+        this.telegramEngine = telegramEngine;
+        this.protocolRouter = protocolRouter;
+        this.scenarioService = scenarioService;
+        this.reportRepository = reportRepository;
+        this.objectMapper = objectMapper;
+        this.maxConcurrentRuns = maxConcurrentRuns;
+        this.maxUsers = maxUsers;
+        this.maxTps = maxTps;
+        this.maxDurationSec = maxDurationSec;
+        this.reporter = Executors.newSingleThreadScheduledExecutor(
+                ExecutorProvider.threadFactory("load-report-", false));
+        reporter.scheduleAtFixedRate(this::sampleAll, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 서버 재시작 전 실행 중이던 결과 정리
+     */
+    @PostConstruct
+    public void markInterrupted() {
+        for (LoadRunReport report : reportRepository.findByStatus(LoadRun.RUNNING)) {
+            report.setStatus(LoadRun.FAILED);
+            report.setErrorMessage("서버 재시작으로 중단");
+            reportRepository.save(report);
+        }
+    }
+
+    // ==================== 실행 제어 ====================
+
+    /**
+     * 부하 실행 시작 — 동시 실행 수 검사와 등록을 한 번에 하도록 직렬화 (시작 요청은 드묾)
+     *
+     * @return runId, 필드 검증 실패 시 success=false + errors
+     */
+    public synchronized Map<String, Object> start(LoadPlan plan, ConnectionConfig connection) {
+        plan.validate(maxUsers, maxTps, maxDurationSec);
+        if (active.size() >= maxConcurrentRuns) {
+            throw new RuntimeException("동시 실행 가능한 부하 테스트 수 초과 (최대 " + maxConcurrentRuns + ")");
+        }
+
+        LoadWorkload workload;
+        Scenario scenario = null;
+        if (plan.getScenarioId() != null) {
+            scenario = scenarioService.find(plan.getScenarioId());
+            workload = scenarioService.compile(scenario, connection);
+        } else {
+            Map<String, Object> rejected = new LinkedHashMap<>();
+            workload = telegramWorkload(plan, connection, rejected);
+            if (workload == null) {
+                return rejected;
+            }
+        }
+
+        LoadRunReport report = reportRepository.save(LoadRunReport.builder()
+                .name(plan.getName())
+                .telegramId(scenario == null ? plan.getTelegramId() : null)
+                .scenarioId(scenario != null ? scenario.getId() : null)
+                .scenarioName(scenario != null ? scenario.getName() : null)
+                .protocol(connection.getProtocol())
+                .target(connection.formatTarget())
+                .mode(plan.getMode().name())
+                .targetTps(plan.getMode() == LoadPlan.Mode.OPEN ? plan.getTargetTps() : null)
+                .users(plan.getMode() == LoadPlan.Mode.CLOSED ? plan.getUsers() : null)
+                .rampUpSec(plan.getRampUpSec())
+                .durationSec(plan.getDurationSec())
+                .status(LoadRun.RUNNING)
+                .plan(toJson(plan))
+                .startedAt(LocalDateTime.now())
+                .build());
+
+        LoadRun run = new LoadRun(report.getId(), plan, connection, workload);
+        active.put(run.getId(), run);
+        run.start(() -> reporter.execute(() -> complete(run)));
+        log.info("[Load] 시작 #{} {} {} → {} ({}초)", run.getId(), plan.getMode(),
+                scenario != null ? "시나리오 " + scenario.getName() : plan.getTelegramId(),
+                connection.formatTarget(), plan.getDurationSec());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("runId", run.getId());
+        return result;
+    }
+
+    /**
+     * 단일 전문 부하 — 필드 검증 실패 시 result에 실패 응답(errors/fieldErrors)을 채우고 null
+     */
+    private LoadWorkload telegramWorkload(LoadPlan plan, ConnectionConfig connection, Map<String, Object> result) {
+        List<TelegramLayout> layouts = layoutRegistry.getLayouts(plan.getTelegramId());
+        if (layouts.isEmpty()) {
+            throw new RuntimeException("전문코드 [" + plan.getTelegramId() + "] 레이아웃 없음");
+        }
+
+        // 고정 필드값 검증 + 기본 전문 조립 (생성 규칙 필드는 송신마다 채우므로 검증 제외)
+        Map<String, String> fieldValues = plan.getFieldValues() != null ? plan.getFieldValues() : Map.of();
+        Map<String, String> generators = plan.getFieldGenerators() != null ? plan.getFieldGenerators() : Map.of();
+        EncodeResult encoded = telegramEngine.encode(layouts, fieldValues, plan.getCharset());
+        List<EncodeResult.FieldError> errors = encoded.getErrors().stream()
+                .filter(error -> !generators.containsKey(error.getFieldName()))
+                .toList();
+        if (!errors.isEmpty()) {
+            result.put("success", false);
+            result.put("errors", errors.stream().map(EncodeResult.FieldError::getMessage).toList());
+            result.put("fieldErrors", errors);
+            return null;
+        }
+
+        TelegramCodec codec = telegramEngine.codec(layouts, plan.getCharset());
+        RequestTemplate template = RequestTemplate.compile(codec, encoded.getData(), generators);
+        connection.resolveCorrelation(codec);
+        return new TelegramWorkload(template, protocolRouter, connection, plan.getSuccessField(),
+                plan.getSuccessValues());
+    }
+
+    public void stop(Long runId) {
+        LoadRun run = active.get(runId);
+        if (run == null) {
+            throw new RuntimeException("실행 중인 부하 테스트가 아닙니다: " + runId);
+        }
+        run.stop();
+    }
+
+    // ==================== 조회 / 구독 ====================
+
+    public List<Map<String, Object>> getActiveRuns() {
+        List<Map<String, Object>> runs = new ArrayList<>();
+        active.values().forEach(run -> runs.add(live(run, false)));
+        return runs;
+    }
+
+    /**
+     * 실행 중 현황 (초별 추이 포함)
+     */
+    public Map<String, Object> getLive(Long runId) {
+        LoadRun run = active.get(runId);
+        if (run == null) {
+            throw new RuntimeException("실행 중인 부하 테스트가 아닙니다: " + runId);
+        }
+        return live(run, true);
+    }
+
+    /**
+     * 실시간 구독 — 1초마다 sample, 종료 시 report 이벤트 (이미 끝난 실행은 report만 보내고 종료)
+     */
+    public SseEmitter subscribe(Long runId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        if (!active.containsKey(runId)) {
+            LoadRunReport report = getReport(runId);
+            try {
+                emitter.send(SseEmitter.event().name("report").data(report, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+            }
+            return emitter;
+        }
+        List<SseEmitter> list = emitters.computeIfAbsent(runId, id -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> list.remove(emitter));
+        emitter.onTimeout(() -> list.remove(emitter));
+        emitter.onError(e -> list.remove(emitter));
+        return emitter;
+    }
+
+    public List<LoadRunReport> getReports() {
+        return reportRepository.findTop50ByOrderByStartedAtDesc();
+    }
+
+    public LoadRunReport getReport(Long runId) {
+        return reportRepository.findById(runId)
+                .orElseThrow(() -> new RuntimeException("부하 테스트 결과 없음: " + runId));
+    }
+
+    public void deleteReport(Long runId) {
+        if (active.containsKey(runId)) {
+            throw new RuntimeException("실행 중인 부하 테스트는 삭제할 수 없습니다: " + runId);
+        }
+        reportRepository.deleteById(runId);
+    }
+
+    // ==================== 보고 (보고 스레드) ====================
+
+    private void sampleAll() {
+        for (LoadRun run : active.values()) {
+            try {
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("sample", run.sample());
+                event.put("totals", totals(run));
+                emit(run.getId(), "sample", event);
+            } catch (Exception e) {
+                log.warn("[Load] 통계 집계 실패 #{}: {}", run.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 실행 종료 — 마지막 구간 집계 후 결과 저장, 구독자에게 report 전송
+     */
+    private void complete(LoadRun run) {
+        try {
+            run.sample();
+            LoadRunReport report = getReport(run.getId());
+            LoadStats stats = run.getStats();
+            LatencyHistogram histogram = stats.histogram();
+            Map<String, Object> latency = histogram.summary();
+
+            long success = stats.successCount();
+            long failure = stats.failureCount();
+            report.setStatus(run.getStatus());
+            report.setErrorMessage(run.getErrorMessage());
+            report.setTotalCount(success + failure);
+            report.setSuccessCount(success);
+            report.setErrorCount(failure);
+            report.setDroppedCount(stats.droppedCount());
+            report.setAchievedTps(Math.round((success + failure) * 10.0 / run.elapsedSec()) / 10.0);
+            report.setMeanMs((Double) latency.get("meanMs"));
+            report.setP50Ms((Double) latency.get("p50Ms"));
+            report.setP90Ms(LoadStats.toMs(histogram.percentile(90)));
+            report.setP99Ms((Double) latency.get("p99Ms"));
+            report.setP999Ms((Double) latency.get("p999Ms"));
+            report.setMaxMs((Double) latency.get("maxMs"));
+            report.setErrorSummary(toJson(stats.errorSummary()));
+            List<Map<String, Object>> steps = run.getWorkload().stepSummary();
+            if (steps != null) {
+                report.setStepSummary(toJson(steps));
+            }
+            report.setTimeline(toJson(run.getTimeline()));
+            report.setEndedAt(run.getEndedAt());
+            reportRepository.save(report);
+
+            log.info("[Load] 종료 #{} {} — {}건 (오류 {}), {} TPS, p99 {}ms", run.getId(), run.getStatus(),
+                    report.getTotalCount(), failure, report.getAchievedTps(), report.getP99Ms());
+            emit(run.getId(), "report", report);
+        } catch (Exception e) {
+            log.error("[Load] 결과 저장 실패 #{}: {}", run.getId(), e.getMessage(), e);
+        } finally {
+            active.remove(run.getId());
+            List<SseEmitter> list = emitters.remove(run.getId());
+            if (list != null) {
+                list.forEach(SseEmitter::complete);
+            }
+        }
+    }
+
+    private void emit(Long runId, String name, Object data) {
+        List<SseEmitter> list = emitters.get(runId);
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                list.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private Map<String, Object> live(LoadRun run, boolean withTimeline) {
+        LoadPlan plan = run.getPlan();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runId", run.getId());
+        result.put("name", plan.getName());
+        result.put("telegramId", plan.getTelegramId());
+        result.put("scenarioId", plan.getScenarioId());
+        result.put("target", run.getConnection().formatTarget());
+        result.put("mode", plan.getMode());
+        result.put("targetTps", plan.getTargetTps());
+        result.put("users", plan.getUsers());
+        result.put("rampUpSec", plan.getRampUpSec());
+        result.put("durationSec", plan.getDurationSec());
+        result.put("status", run.getStatus());
+        result.put("startedAt", run.getStartedAt());
+        result.put("totals", totals(run));
+        if (withTimeline) {
+            result.put("timeline", run.getTimeline());
+        }
+        return result;
+    }
+
+    private Map<String, Object> totals(LoadRun run) {
+        LoadStats stats = run.getStats();
+        long success = stats.successCount();
+        long failure = stats.failureCount();
+        long total = success + failure;
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("elapsedSec", Math.round(run.elapsedSec() * 10) / 10.0);
+        totals.put("total", total);
+        totals.put("success", success);
+        totals.put("errors", failure);
+        totals.put("dropped", stats.droppedCount());
+        totals.put("inFlight", stats.inFlight());
+        totals.put("errorRate", total > 0 ? Math.round(failure * 1000.0 / total) / 10.0 : 0.0);
+        totals.put("achievedTps", Math.round(total * 10.0 / run.elapsedSec()) / 10.0);
+        totals.put("latency", stats.histogram().summary());
+        totals.put("errorTypes", stats.errorSummary());
+        List<Map<String, Object>> steps = run.getWorkload().stepSummary();
+        if (steps != null) {
+            totals.put("steps", steps);
+        }
+        return totals;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        active.values().forEach(LoadRun::stop);
+        reporter.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package com.linkx.load;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 실행 단위 (전문 1건 송수신 또는 시나리오 1회)
+ *
+ * LoadRun이 OPEN은 도착마다, CLOSED는 사용자마다 반복 호출 — 여러 가상 스레드에서 동시에 호출되므로
+ * 실행 중 상태는 VirtualUser에만 둠
+ */
+interface LoadWorkload {
+
+    /**
+     * @param seq 실행 순번 (0부터)
+     */
+    Outcome execute(long seq, VirtualUser user) throws Exception;
+
+    /**
+     * 변수 슬롯 수 (VirtualUser 생성용)
+     */
+    default int variableCount() {
+        return 0;
+    }
+
+    /**
+     * 단계별 누적 집계 (시나리오만, 단일 전문은 null)
+     */
+    default List<Map<String, Object>> stepSummary() {
+        return null;
+    }
+
+    /**
+     * 예외 → 오류 유형 (유형별 집계 키이므로 메시지 길이 제한)
+     */
+    static String errorType(Exception e) {
+        String message = e.getMessage();
+        if (message == null) {
+            return e.getClass().getSimpleName();
+        }
+        return e.getClass().getSimpleName() + ": " + (message.length() > 80 ? message.substring(0, 80) : message);
+    }
+
+    /**
+     * 실행 1회 결과
+     *
+     * @param failure 실패 사유 (성공/중단이면 null)
+     * @param aborted 실행 도중 정지 요청으로 중단 (성공/실패 어디에도 집계하지 않음)
+     */
+    record Outcome(String failure, boolean aborted) {
+
+        static final Outcome SUCCESS = new Outcome(null, false);
+        static final Outcome ABORTED = new Outcome(null, true);
+
+        static Outcome failed(String failure) {
+            return new Outcome(failure, false);
+        }
+    }
+}
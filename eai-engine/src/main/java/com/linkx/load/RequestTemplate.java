@@ -0,0 +1,62 @@
+package com.linkx.load;
+
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.generator.FieldEncoder;
+import com.linkx.telegram.generator.FieldGenerators;
+
+import java.util.Map;
+
+/**
+ * 부하 송신 요청 전문 템플릿
+ *
+ * 고정 필드값으로 전문을 한 번 조립해 두고, 송신마다 복제 후 생성 규칙 필드만 덮어씀
+ * (레이아웃 조회/전체 필드 인코딩/검증을 송신마다 반복하지 않음)
+ * 생성 규칙은 필드에 바인딩된 FieldEncoder로 버퍼에 직접 기록
+ */
+final class RequestTemplate {
+
+    private final TelegramCodec codec;
+    private final byte[] base;
+    private final FieldEncoder[] encoders;
+
+    private RequestTemplate(TelegramCodec codec, byte[] base, FieldEncoder[] encoders) {
+        this.codec = codec;
+        this.base = base;
+        this.encoders = encoders;
+    }
+
+    /**
+     * @param base       고정 필드값으로 조립·검증된 전문
+     * @param generators 필드명 → 생성 규칙
+     */
+    static RequestTemplate compile(TelegramCodec codec, byte[] base, Map<String, String> generators) {
+        int size = generators == null ? 0 : generators.size();
+        FieldEncoder[] encoders = new FieldEncoder[size];
+        int i = 0;
+        if (generators != null) {
+            for (Map.Entry<String, String> entry : generators.entrySet()) {
+                int index = codec.indexOf(entry.getKey());
+                if (index < 0) {
+                    throw new RuntimeException("생성 규칙 필드가 레이아웃에 없습니다: " + entry.getKey());
+                }
+                encoders[i++] = FieldGenerators.parse(entry.getValue()).bind(codec, index);
+            }
+        }
+        return new RequestTemplate(codec, base, encoders);
+    }
+
+    /**
+     * seq번째 송신 전문
+     */
+    byte[] next(long seq) {
+        byte[] data = base.clone();
+        for (FieldEncoder encoder : encoders) {
+            encoder.write(seq, data);
+        }
+        return data;
+    }
+
+    TelegramCodec getCodec() {
+        return codec;
+    }
+}
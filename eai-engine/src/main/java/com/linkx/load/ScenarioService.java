@@ -0,0 +1,115 @@
+package com.linkx.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkx.domain.Scenario;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolRouter;
+import com.linkx.repository.ScenarioRepository;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.TelegramEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 시나리오 관리 (등록/조회/1회 점검 실행)
+ *
+ * 저장 시 단계 정의를 컴파일해 레이아웃/필드/변수 참조 오류를 미리 거름
+ * 부하 실행은 LoadTestService가 compile 결과(ScenarioWorkload)를 LoadRun에 넘겨 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class ScenarioService {
+
+    private static final TypeReference<List<ScenarioStep>> STEP_LIST = new TypeReference<>() {};
+
+    private final ScenarioRepository scenarioRepository;
+    private final LayoutRegistry layoutRegistry;
+    private final TelegramEngine telegramEngine;
+    private final ProtocolRouter protocolRouter;
+    private final ObjectMapper objectMapper;
+
+    public List<Map<String, Object>> getScenarios() {
+        return scenarioRepository.findAllByOrderByNameAsc().stream().map(this::toView).toList();
+    }
+
+    public Map<String, Object> getScenario(Long id) {
+        return toView(find(id));
+    }
+
+    /**
+     * 등록/수정 (id가 null이면 신규)
+     */
+    public Map<String, Object> saveScenario(Long id, String name, String description, String charset,
+                                            List<ScenarioStep> steps) {
+        if (name == null || name.isBlank()) {
+            throw new RuntimeException("시나리오 이름을 입력하세요");
+        }
+        ScenarioWorkload.compile(steps, charset, layoutRegistry, telegramEngine, protocolRouter,
+                ConnectionConfig.builder().build());
+
+        Scenario scenario = id != null ? find(id) : new Scenario();
+        scenario.setName(name);
+        scenario.setDescription(description);
+        scenario.setCharset(charset);
+        try {
+            scenario.setSteps(objectMapper.writeValueAsString(steps));
+        } catch (Exception e) {
+            throw new RuntimeException("시나리오 단계 저장 실패: " + e.getMessage());
+        }
+        return toView(scenarioRepository.save(scenario));
+    }
+
+    public void deleteScenario(Long id) {
+        scenarioRepository.deleteById(id);
+    }
+
+    /**
+     * 1회 점검 실행 — 단계별 요청/응답 필드, 추출 변수, 검증 결과 (think time 없이, 통계 미반영)
+     */
+    public Map<String, Object> tryScenario(Long id, ConnectionConfig connection) {
+        Scenario scenario = find(id);
+        ScenarioWorkload workload = compile(scenario, connection);
+        List<Map<String, Object>> trace = workload.trace(new VirtualUser(1, workload.variableCount(), null));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", trace.stream().allMatch(step -> Boolean.TRUE.equals(step.get("success"))));
+        result.put("scenarioId", scenario.getId());
+        result.put("steps", trace);
+        return result;
+    }
+
+    Scenario find(Long id) {
+        return scenarioRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("시나리오 없음: " + id));
+    }
+
+    ScenarioWorkload compile(Scenario scenario, ConnectionConfig connection) {
+        return ScenarioWorkload.compile(parseSteps(scenario), scenario.getCharset(), layoutRegistry,
+                telegramEngine, protocolRouter, connection);
+    }
+
+    private List<ScenarioStep> parseSteps(Scenario scenario) {
+        try {
+            return objectMapper.readValue(scenario.getSteps(), STEP_LIST);
+        } catch (Exception e) {
+            throw new RuntimeException("시나리오 단계 정의 오류: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toView(Scenario scenario) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", scenario.getId());
+        view.put("name", scenario.getName());
+        view.put("description", scenario.getDescription());
+        view.put("charset", scenario.getCharset());
+        view.put("steps", parseSteps(scenario));
+        view.put("createdAt", scenario.getCreatedAt());
+        view.put("updatedAt", scenario.getUpdatedAt());
+        return view;
+    }
+}
@@ -0,0 +1,40 @@
+package com.linkx.load;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 단계 1개 (Scenario.steps JSON 배열 원소)
+ *
+ * - fieldValues    : 필드값, ${변수} 포함 가능 (내장 변수 ${seq} 실행 순번, ${user} 가상 사용자 번호)
+ * - fieldGenerators: 필드별 생성 규칙 (FieldGenerators)
+ * - extract        : 변수명 → 응답 필드명 (이후 단계에서 ${변수}로 사용)
+ * - assertions     : 응답 필드 검증 (실패 시 해당 실행은 이후 단계 없이 실패 처리)
+ * - thinkTimeMs    : 응답 후 다음 단계 전 대기 (thinkTimeMaxMs 지정 시 그 사이 균등 난수)
+ */
+@Data
+public class ScenarioStep {
+
+    private String name;
+    private String telegramId;
+    private Map<String, String> fieldValues;
+    private Map<String, String> fieldGenerators;
+    private Map<String, String> extract;
+    private List<Assertion> assertions;
+    private int thinkTimeMs;
+    private Integer thinkTimeMaxMs;
+
+    /**
+     * 응답 필드 검증
+     *
+     * op: EQ / NE / IN / NOT_IN (쉼표 구분) / NOT_EMPTY / EMPTY — value에 ${변수} 사용 가능
+     */
+    @Data
+    public static class Assertion {
+        private String field;
+        private String op;
+        private String value;
+    }
+}
@@ -0,0 +1,424 @@
+package com.linkx.load;
+
+import com.linkx.domain.TelegramLayout;
+import com.linkx.protocol.AsyncSend;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolRouter;
+import com.linkx.telegram.EncodeResult;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.TelegramEngine;
+import com.linkx.telegram.generator.FieldEncoder;
+import com.linkx.telegram.generator.FieldGenerators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오 부하 — 단계별 전문을 순서대로 송수신하며 응답 필드를 변수로 넘김
+ *
+ * 시작 시 단계마다 레이아웃 코덱/기본 전문/변수 슬롯/검증을 한 번 컴파일
+ * 실행 중에는 기본 전문 복제 + 동적 필드 인코딩 + 응답 뷰에서 필요한 필드만 디코딩
+ * - 송신은 ProtocolRouter.sendAsync 후 응답 future 대기 (실행 가상 스레드가 인터럽트되면 송신 취소)
+ * - 변수는 이름 대신 슬롯 번호로 접근 (사용자별 상태는 VirtualUser의 String[] 하나)
+ * - 단계 실패(송수신 오류/검증 실패) 시 이후 단계는 실행하지 않음 (변수 의존)
+ * - 단계별 통계는 LoadStats를 단계마다 두고 기록, 실행 1회의 지연은 think time을 뺀 전체 시간
+ */
+final class ScenarioWorkload implements LoadWorkload {
+
+    private static final String VAR_SEQ = "seq";
+    private static final String VAR_USER = "user";
+
+    private final Step[] steps;
+    private final int variableCount;
+    private final int seqSlot;
+    private final int userSlot;
+    private final ProtocolRouter protocolRouter;
+    private final ConnectionConfig connection;
+
+    private ScenarioWorkload(Step[] steps, Map<String, Integer> slots, ProtocolRouter protocolRouter,
+                             ConnectionConfig connection) {
+        this.steps = steps;
+        this.variableCount = slots.size();
+        this.seqSlot = slots.get(VAR_SEQ);
+        this.userSlot = slots.get(VAR_USER);
+        this.protocolRouter = protocolRouter;
+        this.connection = connection;
+    }
+
+    /**
+     * 단계 정의 컴파일 — 레이아웃 없음/고정 필드값 오류/알 수 없는 필드는 단계명과 함께 RuntimeException
+     */
+    static ScenarioWorkload compile(List<ScenarioStep> definitions, String charset, LayoutRegistry layoutRegistry,
+                                    TelegramEngine telegramEngine, ProtocolRouter protocolRouter,
+                                    ConnectionConfig connection) {
+        if (definitions == null || definitions.isEmpty()) {
+            throw new RuntimeException("시나리오 단계가 없습니다");
+        }
+        Map<String, Integer> slots = new HashMap<>();
+        slots.put(VAR_SEQ, 0);
+        slots.put(VAR_USER, 1);
+
+        Set<String> extracted = new HashSet<>(Set.of(VAR_SEQ, VAR_USER));
+        Step[] steps = new Step[definitions.size()];
+        Integer correlationOffset = null;
+        for (int i = 0; i < steps.length; i++) {
+            ScenarioStep definition = definitions.get(i);
+            String label = "단계 " + (i + 1) + (definition.getName() != null ? " [" + definition.getName() + "]" : "");
+            try {
+                steps[i] = Step.compile(definition, charset, layoutRegistry, telegramEngine, slots, extracted);
+            } catch (RuntimeException e) {
+                throw new RuntimeException(label + ": " + e.getMessage());
+            }
+
+            // TCP_MUX 상관키는 연결 설정 하나로 매칭하므로 단계마다 위치가 같아야 함
+            connection.resolveCorrelation(steps[i].codec);
+            if (connection.getCorrelationField() != null && !connection.getCorrelationField().isBlank()) {
+                if (correlationOffset != null && correlationOffset != connection.getCorrelationOffset()) {
+                    throw new RuntimeException(label + ": 상관키 필드 위치가 앞 단계와 다릅니다");
+                }
+                correlationOffset = connection.getCorrelationOffset();
+            }
+        }
+        return new ScenarioWorkload(steps, slots, protocolRouter, connection);
+    }
+
+    @Override
+    public int variableCount() {
+        return variableCount;
+    }
+
+    @Override
+    public Outcome execute(long seq, VirtualUser user) {
+        return run(seq, user, null);
+    }
+
+    /**
+     * 1회 실행 결과를 단계별로 기록 (시나리오 점검용, 통계 미반영)
+     */
+    List<Map<String, Object>> trace(VirtualUser user) {
+        List<Map<String, Object>> trace = new ArrayList<>();
+        user.reset();
+        run(0, user, trace);
+        return trace;
+    }
+
+    private Outcome run(long seq, VirtualUser user, List<Map<String, Object>> trace) {
+        String[] variables = user.variables();
+        variables[seqSlot] = Long.toString(seq);
+        variables[userSlot] = Integer.toString(user.getId());
+
+        for (int i = 0; i < steps.length; i++) {
+            Step step = steps[i];
+            Map<String, Object> record = trace != null ? new LinkedHashMap<>() : null;
+            if (record != null) {
+                record.put("step", step.name);
+                record.put("telegramId", step.codec.getTelegramId());
+                trace.add(record);
+            }
+
+            String failure;
+            long start = System.nanoTime();
+            if (trace == null) {
+                step.stats.begin();
+            }
+            try {
+                byte[] request = step.request(seq, variables);
+                byte[] response = AsyncSend.await(protocolRouter.sendAsync(connection, request),
+                        connection.getProtocol(), connection.effectiveTimeoutMs());
+                ParsedTelegram view = step.codec.view(response);
+                step.extract(view, variables);
+                failure = step.check(view, variables);
+                if (record != null) {
+                    record.put("request", step.codec.view(request).toMap());
+                    record.put("response", view.toMap());
+                }
+            } catch (Exception e) {
+                failure = LoadWorkload.errorType(e);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (record != null) {
+                record.put("elapsedMs", Math.round(elapsed / 10_000.0) / 100.0);
+                record.put("success", failure == null);
+                record.put("variables", step.snapshot(variables));
+                if (failure != null) {
+                    record.put("error", failure);
+                }
+            } else if (failure == null) {
+                step.stats.success(elapsed);
+            } else {
+                step.stats.failure(failure);
+            }
+            if (failure != null) {
+                return Outcome.failed(step.name + ": " + failure);
+            }
+
+            if (i < steps.length - 1 && trace == null && !user.pause(step.thinkTime())) {
+                return Outcome.ABORTED;
+            }
+        }
+        return Outcome.SUCCESS;
+    }
+
+    /**
+     * 단계별 누적 집계
+     */
+    @Override
+    public List<Map<String, Object>> stepSummary() {
+        List<Map<String, Object>> summary = new ArrayList<>();
+        for (Step step : steps) {
+            LoadStats stats = step.stats;
+            Map<String, Object> latency = stats.histogram().summary();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("step", step.name);
+            item.put("telegramId", step.codec.getTelegramId());
+            item.put("total", stats.successCount() + stats.failureCount());
+            item.put("success", stats.successCount());
+            item.put("errors", stats.failureCount());
+            item.put("meanMs", latency.get("meanMs"));
+            item.put("p50Ms", latency.get("p50Ms"));
+            item.put("p90Ms", LoadStats.toMs(stats.histogram().percentile(90)));
+            item.put("p99Ms", latency.get("p99Ms"));
+            item.put("maxMs", latency.get("maxMs"));
+            item.put("errorTypes", stats.errorSummary());
+            summary.add(item);
+        }
+        return summary;
+    }
+
+    /**
+     * 컴파일된 단계
+     */
+    private static final class Step {
+
+        final String name;
+        final TelegramCodec codec;
+        final byte[] base;
+        final LoadStats stats = new LoadStats();
+
+        /** 송신마다 채우는 필드 (생성 규칙 또는 ${변수} 치환) */
+        final int[] dynamicIndexes;
+        final FieldEncoder[] generators;        // 원소가 null이면 templates 사용
+        final VariableTemplate[] templates;
+
+        /** 응답 필드 → 변수 슬롯 */
+        final int[] extractIndexes;
+        final int[] extractSlots;
+        final String[] extractNames;
+
+        final Check[] checks;
+        final int thinkTimeMs;
+        final int thinkTimeMaxMs;
+
+        private Step(String name, TelegramCodec codec, byte[] base, int[] dynamicIndexes,
+                     FieldEncoder[] generators, VariableTemplate[] templates, int[] extractIndexes,
+                     int[] extractSlots, String[] extractNames, Check[] checks, int thinkTimeMs, int thinkTimeMaxMs) {
+            this.name = name;
+            this.codec = codec;
+            this.base = base;
+            this.dynamicIndexes = dynamicIndexes;
+            this.generators = generators;
+            this.templates = templates;
+            this.extractIndexes = extractIndexes;
+            this.extractSlots = extractSlots;
+            this.extractNames = extractNames;
+            this.checks = checks;
+            this.thinkTimeMs = thinkTimeMs;
+            this.thinkTimeMaxMs = thinkTimeMaxMs;
+        }
+
+        static Step compile(ScenarioStep definition, String charset, LayoutRegistry layoutRegistry,
+                            TelegramEngine telegramEngine, Map<String, Integer> slots, Set<String> extracted) {
+            String telegramId = definition.getTelegramId();
+            if (telegramId == null || telegramId.isBlank()) {
+                throw new RuntimeException("전문코드를 지정하세요");
+            }
+            List<TelegramLayout> layouts = layoutRegistry.getLayouts(telegramId);
+            if (layouts.isEmpty()) {
+                throw new RuntimeException("전문코드 [" + telegramId + "] 레이아웃 없음");
+            }
+            TelegramCodec codec = telegramEngine.codec(layouts, charset);
+
+            // 고정값은 기본 전문에, ${변수}/생성 규칙 필드는 송신마다
+            Map<String, String> fixed = new HashMap<>();
+            Map<String, VariableTemplate> variableFields = new LinkedHashMap<>();
+            if (definition.getFieldValues() != null) {
+                definition.getFieldValues().forEach((field, value) -> {
+                    if (VariableTemplate.hasVariables(value)) {
+                        VariableTemplate template = VariableTemplate.compile(value, slots);
+                        variableFields.put(field, template);
+                    } else {
+                        fixed.put(field, value);
+                    }
+                });
+            }
+            Map<String, String> generatorSpecs = definition.getFieldGenerators() != null
+                    ? definition.getFieldGenerators() : Map.of();
+
+            EncodeResult encoded = telegramEngine.encode(layouts, fixed, charset);
+            List<String> errors = encoded.getErrors().stream()
+                    .filter(error -> !variableFields.containsKey(error.getFieldName())
+                            && !generatorSpecs.containsKey(error.getFieldName()))
+                    .map(EncodeResult.FieldError::getMessage)
+                    .toList();
+            if (!errors.isEmpty()) {
+                throw new RuntimeException(String.join(", ", errors));
+            }
+
+            int dynamicCount = variableFields.size() + generatorSpecs.size();
+            int[] dynamicIndexes = new int[dynamicCount];
+            FieldEncoder[] generators = new FieldEncoder[dynamicCount];
+            VariableTemplate[] templates = new VariableTemplate[dynamicCount];
+            int d = 0;
+            for (Map.Entry<String, VariableTemplate> entry : variableFields.entrySet()) {
+                dynamicIndexes[d] = fieldIndex(codec, entry.getKey());
+                templates[d++] = entry.getValue();
+            }
+            for (Map.Entry<String, String> entry : generatorSpecs.entrySet()) {
+                dynamicIndexes[d] = fieldIndex(codec, entry.getKey());
+                generators[d] = FieldGenerators.parse(entry.getValue()).bind(codec, dynamicIndexes[d]);
+                d++;
+            }
+
+            // 앞 단계에서 추출하지 않은 변수 참조는 항상 빈 값이므로 정의 오류로 처리
+            requireExtracted(slots, extracted);
+
+            Map<String, String> extract = definition.getExtract() != null ? definition.getExtract() : Map.of();
+            int[] extractIndexes = new int[extract.size()];
+            int[] extractSlots = new int[extract.size()];
+            String[] extractNames = new String[extract.size()];
+            int e = 0;
+            for (Map.Entry<String, String> entry : extract.entrySet()) {
+                extractIndexes[e] = fieldIndex(codec, entry.getValue());
+                extractSlots[e] = slots.computeIfAbsent(entry.getKey(), key -> slots.size());
+                extractNames[e++] = entry.getKey();
+            }
+            extracted.addAll(extract.keySet());
+
+            List<ScenarioStep.Assertion> assertions = definition.getAssertions() != null
+                    ? definition.getAssertions() : List.of();
+            Check[] checks = new Check[assertions.size()];
+            for (int a = 0; a < checks.length; a++) {
+                checks[a] = Check.compile(assertions.get(a), codec, slots);
+            }
+
+            requireExtracted(slots, extracted);
+
+            int thinkTimeMs = Math.max(0, definition.getThinkTimeMs());
+            int thinkTimeMaxMs = definition.getThinkTimeMaxMs() != null
+                    ? Math.max(thinkTimeMs, definition.getThinkTimeMaxMs())
+                    : thinkTimeMs;
+            String name = definition.getName() != null && !definition.getName().isBlank()
+                    ? definition.getName()
+                    : telegramId;
+            return new Step(name, codec, encoded.getData(), dynamicIndexes, generators, templates,
+                    extractIndexes, extractSlots, extractNames, checks, thinkTimeMs, thinkTimeMaxMs);
+        }
+
+        byte[] request(long seq, String[] variables) {
+            byte[] data = base.clone();
+            for (int i = 0; i < dynamicIndexes.length; i++) {
+                if (generators[i] != null) {
+                    generators[i].write(seq, data);
+                } else {
+                    codec.encodeField(dynamicIndexes[i], templates[i].render(variables), data);
+                }
+            }
+            return data;
+        }
+
+        void extract(ParsedTelegram response, String[] variables) {
+            for (int i = 0; i < extractIndexes.length; i++) {
+                variables[extractSlots[i]] = response.getValue(extractIndexes[i]);
+            }
+        }
+
+        /**
+         * @return 첫 번째 검증 실패 사유, 모두 통과하면 null
+         */
+        String check(ParsedTelegram response, String[] variables) {
+            for (Check check : checks) {
+                String failure = check.test(response, variables);
+                if (failure != null) {
+                    return failure;
+                }
+            }
+            return null;
+        }
+
+        long thinkTime() {
+            return thinkTimeMaxMs > thinkTimeMs
+                    ? ThreadLocalRandom.current().nextInt(thinkTimeMs, thinkTimeMaxMs + 1)
+                    : thinkTimeMs;
+        }
+
+        Map<String, String> snapshot(String[] variables) {
+            Map<String, String> snapshot = new LinkedHashMap<>();
+            for (int i = 0; i < extractNames.length; i++) {
+                snapshot.put(extractNames[i], variables[extractSlots[i]]);
+            }
+            return snapshot;
+        }
+
+        private static void requireExtracted(Map<String, Integer> slots, Set<String> extracted) {
+            for (String variable : slots.keySet()) {
+                if (!extracted.contains(variable)) {
+                    throw new RuntimeException("앞 단계에서 추출하지 않은 변수: ${" + variable + "}");
+                }
+            }
+        }
+
+        private static int fieldIndex(TelegramCodec codec, String field) {
+            int index = codec.indexOf(field);
+            if (index < 0) {
+                throw new RuntimeException("레이아웃에 없는 필드: " + field);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 컴파일된 응답 검증
+     */
+    private record Check(String field, int index, String op, VariableTemplate expected) {
+
+        static Check compile(ScenarioStep.Assertion assertion, TelegramCodec codec, Map<String, Integer> slots) {
+            int index = codec.indexOf(assertion.getField());
+            if (index < 0) {
+                throw new RuntimeException("검증 필드가 레이아웃에 없습니다: " + assertion.getField());
+            }
+            String op = assertion.getOp() != null ? assertion.getOp().toUpperCase() : "EQ";
+            if (!List.of("EQ", "NE", "IN", "NOT_IN", "NOT_EMPTY", "EMPTY").contains(op)) {
+                throw new RuntimeException("알 수 없는 검증 연산: " + assertion.getOp());
+            }
+            String value = assertion.getValue() != null ? assertion.getValue() : "";
+            return new Check(assertion.getField(), index, op, VariableTemplate.compile(value, slots));
+        }
+
+        String test(ParsedTelegram response, String[] variables) {
+            String actual = response.getValue(index);
+            boolean passed = switch (op) {
+                case "NOT_EMPTY" -> !actual.isEmpty();
+                case "EMPTY" -> actual.isEmpty();
+                case "NE" -> !actual.equals(expected.render(variables));
+                case "IN" -> contains(expected.render(variables), actual);
+                case "NOT_IN" -> !contains(expected.render(variables), actual);
+                default -> actual.equals(expected.render(variables));
+            };
+            return passed ? null : "검증 실패 " + field + " " + op;
+        }
+
+        private static boolean contains(String list, String value) {
+            return Arrays.stream(list.split(",")).map(String::trim).anyMatch(value::equals);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.linkx.load;
+
+import com.linkx.protocol.AsyncSend;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolRouter;
+
+import java.util.Set;
+
+/**
+ * 단일 전문 부하 — 템플릿 전문 1건 송수신 + 성공 판정 필드 검사
+ *
+ * 송신은 ProtocolRouter.sendAsync — 실행 가상 스레드는 응답 future만 기다림
+ * (비동기 핸들러는 응답 대기 중 소켓/스레드를 점유하지 않고, 인터럽트되면 진행 중 송신 취소)
+ */
+final class TelegramWorkload implements LoadWorkload {
+
+    private final RequestTemplate template;
+    private final ProtocolRouter protocolRouter;
+    private final ConnectionConfig connection;
+    private final int successFieldIndex;
+    private final String successField;
+    private final Set<String> successValues;
+
+    TelegramWorkload(RequestTemplate template, ProtocolRouter protocolRouter, ConnectionConfig connection,
+                     String successField, Set<String> successValues) {
+        this.template = template;
+        this.protocolRouter = protocolRouter;
+        this.connection = connection;
+        this.successField = successField;
+        this.successValues = successValues;
+        this.successFieldIndex = successField != null ? template.getCodec().indexOf(successField) : -1;
+        if (successField != null && successFieldIndex < 0) {
+            throw new RuntimeException("성공 판정 필드가 레이아웃에 없습니다: " + successField);
+        }
+    }
+
+    @Override
+    public Outcome execute(long seq, VirtualUser user) throws Exception {
+        byte[] response = AsyncSend.await(protocolRouter.sendAsync(connection, template.next(seq)),
+                connection.getProtocol(), connection.effectiveTimeoutMs());
+        if (successFieldIndex < 0) {
+            return Outcome.SUCCESS;
+        }
+        String value = template.getCodec().view(response).getValue(successFieldIndex);
+        return successValues.contains(value) ? Outcome.SUCCESS : Outcome.failed("응답코드 " + successField + "=" + value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.linkx.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ${변수} 치환 문자열 (시나리오 필드값/검증값)
+ *
+ * 변수명은 컴파일 시 슬롯 번호로 바꿔 두고 실행 시에는 사용자별 변수 배열에서 읽기만 함
+ * - "${balance}"처럼 변수 하나로만 된 값은 문자열 조립 없이 변수값 그대로 반환
+ * - 값이 없는 변수는 빈 문자열
+ */
+final class VariableTemplate {
+
+    private final String[] literals;   // literals.length == slots.length + 1
+    private final int[] slots;
+
+    private VariableTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    static boolean hasVariables(String text) {
+        return text != null && text.contains("${");
+    }
+
+    /**
+     * @param slotsByName 변수명 → 슬롯 (처음 나온 변수는 새 슬롯 배정)
+     */
+    static VariableTemplate compile(String text, Map<String, Integer> slotsByName) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int start = text.indexOf("${", pos);
+            if (start < 0) {
+                break;
+            }
+            int end = text.indexOf('}', start + 2);
+            if (end < 0) {
+                throw new RuntimeException("변수 표기 오류 (닫는 } 없음): " + text);
+            }
+            String name = text.substring(start + 2, end).trim();
+            if (name.isEmpty()) {
+                throw new RuntimeException("변수명이 비어 있습니다: " + text);
+            }
+            literals.add(text.substring(pos, start));
+            slots.add(slotsByName.computeIfAbsent(name, key -> slotsByName.size()));
+            pos = end + 1;
+        }
+        literals.add(text.substring(pos));
+        return new VariableTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    String render(String[] variables) {
+        if (slots.length == 1 && literals[0].isEmpty() && literals[1].isEmpty()) {
+            String value = variables[slots[0]];
+            return value != null ? value : "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            String value = variables[slots[i]];
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        return sb.append(literals[slots.length]).toString();
+    }
+}
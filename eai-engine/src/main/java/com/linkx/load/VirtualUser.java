@@ -0,0 +1,68 @@
+package com.linkx.load;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 사용자 1명의 실행 상태
+ *
+ * CLOSED는 사용자마다 1개를 만들어 반복 재사용, OPEN은 도착마다 새로 만듦
+ * 사용자당 메모리는 변수 슬롯 배열 + 대기 시간 누적값 정도
+ */
+final class VirtualUser {
+
+    private final int id;
+    private final String[] variables;
+    private final CountDownLatch stopSignal;
+
+    /** 현재 실행에서 think time으로 대기한 시간 (응답 시간 집계에서 제외) */
+    private long pausedNanos;
+
+    VirtualUser(int id, int variableCount, CountDownLatch stopSignal) {
+        this.id = id;
+        this.variables = new String[variableCount];
+        this.stopSignal = stopSignal;
+    }
+
+    /**
+     * 실행 1회 시작 — 이전 실행의 변수/대기 시간 초기화
+     */
+    void reset() {
+        Arrays.fill(variables, null);
+        pausedNanos = 0;
+    }
+
+    /**
+     * think time 대기 (정지 요청 시 즉시 깨어남)
+     *
+     * @return false면 정지 요청으로 중단
+     */
+    boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        long start = System.nanoTime();
+        try {
+            boolean stopped = stopSignal.await(millis, TimeUnit.MILLISECONDS);
+            return !stopped;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pausedNanos += System.nanoTime() - start;
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+
+    String[] variables() {
+        return variables;
+    }
+
+    long pausedNanos() {
+        return pausedNanos;
+    }
+}
@@ -0,0 +1,105 @@
+package com.linkx.protocol;
+
+import com.linkx.config.ExecutorProvider;
+
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비동기 송신 공용 처리 (ProtocolHandler.sendAsync)
+ *
+ * - 타임아웃: 응답 대기 시간이 지나면 future를 TimeoutException으로 완료
+ * - 중단: future가 타임아웃/취소/실패로 끝나면 진행 중인 I/O를 중단 (소켓 닫기, HTTP 교환 취소, 블로킹 호출 인터럽트)
+ * - 블로킹 핸들러 어댑터: 요청마다 가상 스레드에서 sendAndReceive 실행
+ *   (대기 중 캐리어 스레드를 점유하지 않으므로 동시 수천 건도 스레드 풀 크기와 무관)
+ */
+public final class AsyncSend {
+
+    private static final ExecutorService BLOCKING =
+            Executors.newThreadPerTaskExecutor(ExecutorProvider.threadFactory("protocol-async-", true));
+
+    private AsyncSend() {
+    }
+
+    /**
+     * 블로킹 송수신을 가상 스레드에서 실행 — 타임아웃/취소 시 실행 스레드 인터럽트
+     * (가상 스레드의 소켓 I/O는 인터럽트되면 소켓을 닫고 예외로 빠져나옴)
+     */
+    static CompletableFuture<byte[]> blocking(Callable<byte[]> call, int timeoutMs) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        Future<?> task = BLOCKING.submit(() -> {
+            try {
+                future.complete(call.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return bind(future, timeoutMs, () -> task.cancel(true));
+    }
+
+    /**
+     * 응답 대기 시간 적용 + 비정상 완료(타임아웃/취소/실패) 시 abort 실행
+     */
+    static CompletableFuture<byte[]> bind(CompletableFuture<byte[]> future, int timeoutMs, Runnable abort) {
+        future.whenComplete((response, e) -> {
+            if (e != null) {
+                abort.run();
+            }
+        });
+        return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 비동기 송신 결과 대기 (동기 sendAndReceive용) — 타임아웃은 SocketTimeoutException, 원인 예외는 그대로
+     */
+    public static byte[] await(CompletableFuture<byte[]> future, String label, int timeoutMs) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause(), label, timeoutMs);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * future 실패 원인 → 동기 호출자에게 던질 예외
+     */
+    public static Exception unwrap(Throwable cause, String label, int timeoutMs) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TimeoutException) {
+            return new SocketTimeoutException("[" + label + "] 응답 대기 시간 초과 (" + timeoutMs + "ms)");
+        }
+        if (cause instanceof CancellationException cancelled) {
+            return cancelled;
+        }
+        return cause instanceof Exception exception ? exception : new ExecutionException(cause);
+    }
+
+    /**
+     * 버퍼의 position~limit 구간 바이트 (버퍼 위치는 바꾸지 않음, 배열 전체를 감싼 버퍼면 복사 없이 그 배열)
+     */
+    public static byte[] toBytes(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        if (view.hasArray() && view.arrayOffset() == 0 && view.position() == 0
+                && view.limit() == view.array().length) {
+            return view.array();
+        }
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+}
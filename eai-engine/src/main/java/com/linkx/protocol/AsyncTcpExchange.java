@@ -0,0 +1,207 @@
+package com.linkx.protocol;
+
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+import com.linkx.protocol.framing.FrameDecoder;
+import com.linkx.protocol.framing.FrameSpec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.InterruptedByTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비동기 TCP 송수신 1건 (연결 → 프레임 송신 → 응답 프레임 1개 수신 → 종료)
+ *
+ * AsynchronousSocketChannel 완료 콜백으로 단계를 이어가므로 응답 대기 중 점유하는 스레드가 없음
+ * - 응답 경계는 블로킹 경로와 같은 FrameDecoder로 판단 (유휴 간격 방식은 읽기 타임아웃으로 끝을 판단)
+ * - 타임아웃/취소로 future가 먼저 끝나면 채널을 닫아 대기 중인 I/O를 중단
+ * - 송수신 버퍼는 공용 풀에서 꺼내며, 진행 중인 I/O가 버퍼를 쓰지 않도록 해당 I/O의 콜백에서만 반환
+ */
+@Slf4j
+final class AsyncTcpExchange {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final ConnectionConfig config;
+    private final FrameSpec frameSpec;
+    private final FrameDecoder decoder;
+    private final byte[] requestData;
+    private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private volatile AsynchronousSocketChannel channel;
+    private PooledBuffer writeBuffer;
+    private PooledBuffer readBuffer;
+
+    private AsyncTcpExchange(ConnectionConfig config, byte[] requestData) {
+        this.config = config;
+        this.frameSpec = config.frameSpec();
+        this.decoder = frameSpec.newDecoder();
+        this.requestData = requestData;
+    }
+
+    static CompletableFuture<byte[]> start(ConnectionConfig config, byte[] requestData) {
+        AsyncTcpExchange exchange = new AsyncTcpExchange(config, requestData);
+        exchange.connect();
+        return AsyncSend.bind(exchange.future, config.effectiveTimeoutMs(), exchange::closeChannel);
+    }
+
+    private void connect() {
+        try {
+            channel = AsynchronousSocketChannel.open();
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        channel.connect(new InetSocketAddress(config.getHost(), config.getPort()), null,
+                new CompletionHandler<Void, Void>() {
+                    @Override
+                    public void completed(Void result, Void attachment) {
+                        write();
+                    }
+
+                    @Override
+                    public void failed(Throwable e, Void attachment) {
+                        fail(e);
+                    }
+                });
+    }
+
+    private void write() {
+        if (future.isDone()) {
+            finish();
+            return;
+        }
+        writeBuffer = BufferPool.shared().acquire(frameSpec.frameLength(requestData.length));
+        ByteBuffer out = writeBuffer.buffer();
+        frameSpec.encodeTo(out, requestData);
+        out.flip();
+        channel.write(out, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer written, Void attachment) {
+                if (out.hasRemaining() && !future.isDone()) {
+                    channel.write(out, null, this);
+                    return;
+                }
+                log.debug("[TCP] Sent {} bytes to {}:{} (async)", requestData.length, config.getHost(), config.getPort());
+                writeBuffer.release();
+                writeBuffer = null;
+                readBuffer = BufferPool.shared().acquire(READ_BUFFER_SIZE);
+                read();
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                fail(e);
+            }
+        });
+    }
+
+    private void read() {
+        if (future.isDone()) {
+            finish();
+            return;
+        }
+        ByteBuffer in = readBuffer.buffer();
+        CompletionHandler<Integer, Void> handler = new CompletionHandler<>() {
+            @Override
+            public void completed(Integer n, Void attachment) {
+                onRead(n);
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                if (e instanceof InterruptedByTimeoutException) {
+                    byte[] frame = decoder.idle(); // 유휴 간격 경과 → 받은 만큼이 전문
+                    if (frame != null) {
+                        complete(frame);
+                        return;
+                    }
+                }
+                fail(e);
+            }
+        };
+        long idleGapMs = frameSpec.getIdleGapMs();
+        if (idleGapMs > 0 && decoder.hasPartial()) {
+            channel.read(in, idleGapMs, TimeUnit.MILLISECONDS, null, handler);
+        } else {
+            channel.read(in, null, handler);
+        }
+    }
+
+    private void onRead(int n) {
+        ByteBuffer in = readBuffer.buffer();
+        if (n < 0) {
+            byte[] frame = decoder.finish();
+            if (frame == null && decoder.hasPartial()) {
+                fail(new EOFException("스트림 종료 (" + decoder.progress() + ")"));
+            } else if (frame == null && config.isIncludeLengthHeader()) {
+                fail(new EOFException("응답 전 연결 종료"));
+            } else {
+                complete(frame != null ? frame : new byte[0]);
+            }
+            return;
+        }
+        in.flip();
+        byte[] frame;
+        try {
+            frame = decoder.decode(in);
+        } catch (RuntimeException e) {
+            fail(new IOException(e.getMessage(), e));
+            return;
+        }
+        in.compact();
+        if (frame != null) {
+            complete(frame);
+        } else {
+            read();
+        }
+    }
+
+    private void complete(byte[] response) {
+        log.debug("[TCP] Received {} bytes (async)", response.length);
+        future.complete(response);
+        finish();
+    }
+
+    private void fail(Throwable e) {
+        future.completeExceptionally(e);
+        finish();
+    }
+
+    /**
+     * 마지막 콜백 — 채널 종료 + 버퍼 반환 (1회)
+     */
+    private void finish() {
+        closeChannel();
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        decoder.release();
+        if (writeBuffer != null) {
+            writeBuffer.release();
+        }
+        if (readBuffer != null) {
+            readBuffer.release();
+        }
+    }
+
+    private void closeChannel() {
+        AsynchronousSocketChannel current = channel;
+        if (current == null || !current.isOpen()) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
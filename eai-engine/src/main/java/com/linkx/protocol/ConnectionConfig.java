@@ -1,5 +1,9 @@
 package com.linkx.protocol;
 
+import com.linkx.domain.ConnectionProfile;
+import com.linkx.protocol.framing.FrameSpec;
+import com.linkx.protocol.framing.LengthEncoding;
+import com.linkx.telegram.TelegramCodec;
 import lombok.Builder;
 import lombok.Data;
 
@@ -9,7 +13,7 @@ import lombok.Data;
 @Data
 @Builder
 public class ConnectionConfig {
-    private String protocol;     // TCP, HTTP, MQ
+    private String protocol;     // TCP, TCP_MUX, HTTP, MQ
     private String host;
     private int port;
     private String url;          // HTTP용
@@ -29,4 +33,80 @@ public class ConnectionConfig {
     // TCP 전용
     private boolean includeLengthHeader;
     private int lengthHeaderSize;  // 보통 4 or 8
+    private String lengthEncoding; // ASCII / BINARY_BE / BINARY_LE (비어 있으면 4/8byte는 ASCII, 그 외 Binary 4byte)
+    private boolean lengthIncludesHeader; // 길이 값에 헤더 자신 포함
+    private boolean keepAlive;     // 연결 유지 — host:port별 커넥션 풀 사용
+
+    // TCP_MUX 전용 (다중화 채널)
+    private String correlationField;   // 응답 매칭 필드명 (거래고유번호 등)
+    private int correlationOffset;     // 매칭 필드 오프셋 (레이아웃에서 해석)
+    private int correlationLength;     // 매칭 필드 길이
+    private int muxConnections;        // 송신 연결 수 (0이면 1)
+    private int receivePort;           // 수신 전용 포트 (0이면 송신 연결로 수신)
+
+    /**
+     * TCP 프레임 규칙 (길이 헤더가 없으면 상대가 연결을 닫을 때까지 수신 — 최대 프레임 길이를 넘으면 오류)
+     */
+    public FrameSpec frameSpec() {
+        if (!includeLengthHeader) {
+            return FrameSpec.idle(0);
+        }
+        if (lengthEncoding == null || lengthEncoding.isBlank()) {
+            return lengthHeaderSize == 4 || lengthHeaderSize == 8
+                    ? FrameSpec.length(lengthHeaderSize, LengthEncoding.ASCII, lengthIncludesHeader)
+                    : FrameSpec.length(4, LengthEncoding.BINARY_BE, lengthIncludesHeader);
+        }
+        return FrameSpec.length(lengthHeaderSize, LengthEncoding.of(lengthEncoding), lengthIncludesHeader);
+    }
+
+    /**
+     * 다중화 상관키 필드의 위치/길이를 레이아웃에서 해석 (correlationField 지정 시)
+     */
+    public void resolveCorrelation(TelegramCodec codec) {
+        if (correlationField == null || correlationField.isBlank()) {
+            return;
+        }
+        int index = codec.indexOf(correlationField);
+        if (index < 0) {
+            throw new RuntimeException("상관키 필드가 레이아웃에 없습니다: " + correlationField);
+        }
+        correlationOffset = codec.getField(index).getOffset();
+        correlationLength = codec.getField(index).getLength();
+    }
+
+    /**
+     * 응답 대기 시간 (미지정이면 30초)
+     */
+    public int effectiveTimeoutMs() {
+        return timeoutMs > 0 ? timeoutMs : 30000;
+    }
+
+    /**
+     * 접속 대상 표기 (URL 또는 host:port)
+     */
+    public String formatTarget() {
+        return url != null && !url.isEmpty() ? url : host + ":" + port;
+    }
+
+    /**
+     * 접속 프로파일 → 커넥션 설정
+     */
+    public static ConnectionConfig of(ConnectionProfile profile) {
+        return ConnectionConfig.builder()
+                .protocol(profile.getProtocol())
+                .host(profile.getHost())
+                .port(profile.getPort() != null ? profile.getPort() : 0)
+                .url(profile.getUrl())
+                .timeoutMs(profile.getTimeoutMs() != null ? profile.getTimeoutMs() : 30000)
+                .charset(profile.getCharset())
+                .includeLengthHeader(Boolean.TRUE.equals(profile.getIncludeLengthHeader()))
+                .lengthHeaderSize(profile.getLengthHeaderSize() != null ? profile.getLengthHeaderSize() : 4)
+                .lengthEncoding(profile.getLengthEncoding())
+                .lengthIncludesHeader(Boolean.TRUE.equals(profile.getLengthIncludesHeader()))
+                .keepAlive(Boolean.TRUE.equals(profile.getKeepAlive()))
+                .correlationField(profile.getCorrelationField())
+                .muxConnections(profile.getMuxConnections() != null ? profile.getMuxConnections() : 0)
+                .receivePort(profile.getReceivePort() != null ? profile.getReceivePort() : 0)
+                .build();
+    }
 }
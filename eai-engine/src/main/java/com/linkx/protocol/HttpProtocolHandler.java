@@ -1,5 +1,6 @@
 package com.linkx.protocol;
 
+import com.linkx.config.ExecutorProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -7,19 +8,31 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * HTTP 프로토콜 핸들러
  * - REST API 래핑된 전문 테스트용
+ * - 가상 스레드 모드면 HttpClient 내부 작업도 가상 스레드에서 실행
+ * - sendAsync는 HttpClient.sendAsync로 처리 (응답 대기 중 스레드 점유 없음)
  */
 @Slf4j
 @Component
 public class HttpProtocolHandler implements ProtocolHandler {
 
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
+    private final HttpClient httpClient;
+
+    public HttpProtocolHandler(ExecutorProvider executorProvider) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10));
+        if (executorProvider.isVirtualByDefault()) {
+            builder.executor(executorProvider.newExecutor("http-client-", true));
+        }
+        this.httpClient = builder.build();
+    }
 
     @Override
     public String getProtocolName() {
@@ -28,14 +41,41 @@ public class HttpProtocolHandler implements ProtocolHandler {
 
     @Override
     public byte[] sendAndReceive(ConnectionConfig config, byte[] requestData) throws Exception {
-        String url = config.getUrl();
-        if (url == null || url.isEmpty()) {
-            url = String.format("http://%s:%d", config.getHost(), config.getPort());
+        HttpRequest request = buildRequest(config, HttpRequest.BodyPublishers.ofByteArray(requestData));
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return logResponse(request, response);
+    }
+
+    /**
+     * HttpClient.sendAsync 기반 비동기 송신 (요청당 스레드 없음)
+     * - 요청 timeout으로 응답 대기 시간 적용, 타임아웃/취소 시 HTTP 교환 취소
+     */
+    @Override
+    public CompletableFuture<byte[]> sendAsync(ConnectionConfig config, ByteBuffer requestData) {
+        HttpRequest request;
+        try {
+            request = buildRequest(config, bodyOf(requestData));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        exchange.whenComplete((response, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e instanceof CompletionException && e.getCause() != null
+                        ? e.getCause() : e);
+            } else {
+                result.complete(logResponse(request, response));
+            }
+        });
+        return AsyncSend.bind(result, config.effectiveTimeoutMs(), () -> exchange.cancel(true));
+    }
 
+    private HttpRequest buildRequest(ConnectionConfig config, HttpRequest.BodyPublisher body) {
         HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofMillis(config.getTimeoutMs() > 0 ? config.getTimeoutMs() : 30000));
+                .uri(URI.create(resolveUrl(config)))
+                .timeout(Duration.ofMillis(config.effectiveTimeoutMs()));
 
         // 커스텀 헤더
         if (config.getHeaders() != null) {
@@ -47,19 +87,34 @@ public class HttpProtocolHandler implements ProtocolHandler {
 
         String method = config.getHttpMethod() != null ? config.getHttpMethod().toUpperCase() : "POST";
         if ("POST".equals(method)) {
-            requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(requestData));
+            requestBuilder.POST(body);
         } else if ("PUT".equals(method)) {
-            requestBuilder.PUT(HttpRequest.BodyPublishers.ofByteArray(requestData));
+            requestBuilder.PUT(body);
         } else {
             requestBuilder.GET();
         }
+        return requestBuilder.build();
+    }
 
-        HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(),
-                HttpResponse.BodyHandlers.ofByteArray());
+    private String resolveUrl(ConnectionConfig config) {
+        String url = config.getUrl();
+        if (url == null || url.isEmpty()) {
+            url = String.format("http://%s:%d", config.getHost(), config.getPort());
+        }
+        return url;
+    }
 
-        log.info("[HTTP] {} {} → Status: {}, Body: {} bytes",
-                method, url, response.statusCode(), response.body().length);
+    private static HttpRequest.BodyPublisher bodyOf(ByteBuffer data) {
+        if (data.hasArray()) {
+            return HttpRequest.BodyPublishers.ofByteArray(data.array(),
+                    data.arrayOffset() + data.position(), data.remaining());
+        }
+        return HttpRequest.BodyPublishers.ofByteArray(AsyncSend.toBytes(data));
+    }
 
+    private byte[] logResponse(HttpRequest request, HttpResponse<byte[]> response) {
+        log.debug("[HTTP] {} {} → Status: {}, Body: {} bytes",
+                request.method(), request.uri(), response.statusCode(), response.body().length);
         return response.body();
     }
 
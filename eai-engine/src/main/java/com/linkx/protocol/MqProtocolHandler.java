@@ -29,7 +29,7 @@ public class MqProtocolHandler implements ProtocolHandler {
                     "com.ibm.mq:com.ibm.mq.allclient 또는 ActiveMQ 의존성을 추가해주세요.");
         }
 
-        log.info("[MQ] Sending to QueueManager={}, Queue={}, {} bytes",
+        log.debug("[MQ] Sending to QueueManager={}, Queue={}, {} bytes",
                 config.getQueueManager(), config.getRequestQueue(), requestData.length);
 
         // 실제 MQ 구현은 라이브러리 의존성에 따라 분기
@@ -1,5 +1,8 @@
 package com.linkx.protocol;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 프로토콜별 송수신 인터페이스
  */
@@ -15,6 +18,19 @@ public interface ProtocolHandler {
      */
     byte[] sendAndReceive(ConnectionConfig config, byte[] requestData) throws Exception;
 
+    /**
+     * 비동기 송신 — 응답 전문으로 완료되는 future
+     * - 응답 대기 시간(timeoutMs)이 지나면 TimeoutException으로 완료되고 진행 중인 I/O를 중단
+     * - future를 cancel하면 송수신을 중단 (이미 보낸 전문은 회수되지 않음)
+     * - 기본 구현은 sendAndReceive를 가상 스레드에서 실행하는 어댑터 (자체 비동기 I/O가 있으면 재정의)
+     *
+     * @param request position~limit 구간이 송신 데이터 (버퍼 위치는 바꾸지 않으며, 완료 전까지 내용을 바꾸지 말 것)
+     */
+    default CompletableFuture<byte[]> sendAsync(ConnectionConfig config, ByteBuffer request) {
+        byte[] requestData = AsyncSend.toBytes(request);
+        return AsyncSend.blocking(() -> sendAndReceive(config, requestData), config.effectiveTimeoutMs());
+    }
+
     /**
      * 연결 테스트
      */
@@ -5,9 +5,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 프로토콜 라우터
@@ -43,6 +45,23 @@ public class ProtocolRouter {
         return handler.sendAndReceive(config, data);
     }
 
+    /**
+     * 비동기 송신 (ProtocolHandler.sendAsync) — 핸들러 조회 실패도 실패한 future로 반환
+     */
+    public CompletableFuture<byte[]> sendAsync(ConnectionConfig config, ByteBuffer request) {
+        ProtocolHandler handler;
+        try {
+            handler = getHandler(config.getProtocol());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return handler.sendAsync(config, request);
+    }
+
+    public CompletableFuture<byte[]> sendAsync(ConnectionConfig config, byte[] data) {
+        return sendAsync(config, ByteBuffer.wrap(data));
+    }
+
     public boolean testConnection(ConnectionConfig config) {
         ProtocolHandler handler = getHandler(config.getProtocol());
         return handler.testConnection(config);
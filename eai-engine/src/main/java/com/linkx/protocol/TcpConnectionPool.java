@@ -0,0 +1,318 @@
+package com.linkx.protocol;
+
+import com.linkx.config.ExecutorProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TCP 커넥션 풀 (host:port별)
+ *
+ * 연결 유지(keepAlive) 송신에서 전문마다 connect/close 비용을 없애기 위해 사용
+ * - 대여 시 검증: 닫힘/EOF/잔여 수신 데이터가 있으면 폐기 후 다른 연결 사용
+ *   (일정 시간 이상 유휴였던 연결만 1ms 읽기로 EOF 확인)
+ * - 유휴 정리: 유휴 타임아웃을 넘긴 연결은 백그라운드에서 종료
+ * - 최대 크기: host당 동시 대여 수 제한, 초과 시 반납 대기 (대기 시간 초과면 예외)
+ */
+@Slf4j
+@Component
+public class TcpConnectionPool {
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final int maxPerHost;
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+    private final long validateAfterIdleMs;
+
+    private final Map<String, HostPool> pools = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+
+    public TcpConnectionPool(@Value("${linkx.protocol.tcp.pool.max-per-host:8}") int maxPerHost,
+                             @Value("${linkx.protocol.tcp.pool.idle-timeout-ms:60000}") long idleTimeoutMs,
+                             @Value("${linkx.protocol.tcp.pool.borrow-timeout-ms:5000}") long borrowTimeoutMs,
+                             @Value("${linkx.protocol.tcp.pool.validate-after-idle-ms:2000}") long validateAfterIdleMs) {
+        this.maxPerHost = Math.max(1, maxPerHost);
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.validateAfterIdleMs = validateAfterIdleMs;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                ExecutorProvider.threadFactory("tcp-pool-evictor-", false));
+        long period = Math.max(1000, idleTimeoutMs / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 풀 키 (host:port)
+     */
+    public static String key(ConnectionConfig config) {
+        return config.getHost() + ":" + config.getPort();
+    }
+
+    /**
+     * 연결 대여 — 사용 후 반드시 release 또는 invalidate
+     */
+    public PooledConnection borrow(ConnectionConfig config) throws IOException {
+        HostPool pool = pools.computeIfAbsent(key(config), key -> new HostPool(config.getHost(), config.getPort()));
+        return pool.borrow();
+    }
+
+    /**
+     * 정상 사용 후 반납 (유휴 목록으로)
+     */
+    public void release(PooledConnection connection) {
+        connection.pool.release(connection);
+    }
+
+    /**
+     * 오류 발생 연결 폐기
+     */
+    public void invalidate(PooledConnection connection) {
+        connection.pool.invalidate(connection);
+    }
+
+    /**
+     * host:port당 최대 동시 대여 수
+     */
+    public int getMaxPerHost() {
+        return maxPerHost;
+    }
+
+    public List<Map<String, Object>> getStats() {
+        List<Map<String, Object>> stats = new ArrayList<>();
+        pools.values().forEach(pool -> stats.add(pool.getStats()));
+        return stats;
+    }
+
+    private void evictIdle() {
+        long deadline = System.currentTimeMillis() - idleTimeoutMs;
+        pools.values().forEach(pool -> pool.evictIdleBefore(deadline));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+        pools.values().forEach(HostPool::closeAll);
+        pools.clear();
+    }
+
+    /**
+     * 풀링된 연결 1개
+     */
+    public static final class PooledConnection {
+
+        private final HostPool pool;
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private long lastUsedAt = System.currentTimeMillis();
+        private int uses;
+
+        private PooledConnection(HostPool pool, Socket socket) throws IOException {
+            this.pool = pool;
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        public Socket getSocket() { return socket; }
+        public InputStream getInputStream() { return in; }
+        public OutputStream getOutputStream() { return out; }
+
+        /**
+         * 이전에 사용된 적 있는 연결인지 (재사용 연결은 상대가 이미 닫았을 수 있음)
+         */
+        public boolean isReused() {
+            return uses > 1;
+        }
+
+        private boolean isUsable(long validateAfterIdleMs) {
+            if (socket.isClosed() || !socket.isConnected() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+                return false;
+            }
+            try {
+                if (in.available() > 0) {
+                    return false; // 이전 응답 잔여분 또는 상대 측 종료 통지 — 전문 경계가 어긋난 연결
+                }
+                if (System.currentTimeMillis() - lastUsedAt < validateAfterIdleMs) {
+                    return true;
+                }
+                // 오래 유휴였던 연결은 짧은 읽기로 상대 종료(EOF) 확인
+                int timeout = socket.getSoTimeout();
+                socket.setSoTimeout(1);
+                try {
+                    in.read(); // EOF(-1)든 요청 전에 도착한 데이터든 재사용 불가
+                    return false;
+                } catch (SocketTimeoutException e) {
+                    return true;
+                } finally {
+                    socket.setSoTimeout(timeout);
+                }
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * host:port별 풀
+     */
+    private final class HostPool {
+
+        private final String host;
+        private final int port;
+        private final Semaphore permits = new Semaphore(maxPerHost, true);
+        private final Deque<PooledConnection> idle = new ArrayDeque<>();   // this 동기화, LIFO
+        private final AtomicInteger borrowed = new AtomicInteger();
+
+        private final LongAdder created = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder discarded = new LongAdder();
+        private final LongAdder evicted = new LongAdder();
+
+        HostPool(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        PooledConnection borrow() throws IOException {
+            try {
+                if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("커넥션 풀 대기 시간 초과 (" + host + ":" + port
+                            + ", 최대 " + maxPerHost + "개)");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("커넥션 풀 대기 중 인터럽트", e);
+            }
+
+            try {
+                PooledConnection connection;
+                while ((connection = pollIdle()) != null) {
+                    if (connection.isUsable(validateAfterIdleMs)) {
+                        reused.increment();
+                        return checkout(connection);
+                    }
+                    discarded.increment();
+                    connection.closeQuietly();
+                }
+                return checkout(connect());
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private PooledConnection checkout(PooledConnection connection) {
+            connection.uses++;
+            borrowed.incrementAndGet();
+            return connection;
+        }
+
+        private PooledConnection connect() throws IOException {
+            Socket socket = new Socket();
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setKeepAlive(true);
+                socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+                PooledConnection connection = new PooledConnection(this, socket);
+                created.increment();
+                log.debug("[TCP] Pool connect {}:{} (created={})", host, port, created.sum());
+                return connection;
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        private synchronized PooledConnection pollIdle() {
+            return idle.pollFirst();
+        }
+
+        void release(PooledConnection connection) {
+            connection.lastUsedAt = System.currentTimeMillis();
+            synchronized (this) {
+                idle.addFirst(connection);
+            }
+            borrowed.decrementAndGet();
+            permits.release();
+        }
+
+        void invalidate(PooledConnection connection) {
+            connection.closeQuietly();
+            discarded.increment();
+            borrowed.decrementAndGet();
+            permits.release();
+        }
+
+        void evictIdleBefore(long deadline) {
+            List<PooledConnection> expired = new ArrayList<>();
+            synchronized (this) {
+                Iterator<PooledConnection> it = idle.descendingIterator(); // 오래된 것부터
+                while (it.hasNext()) {
+                    PooledConnection connection = it.next();
+                    if (connection.lastUsedAt >= deadline) {
+                        break;
+                    }
+                    it.remove();
+                    expired.add(connection);
+                }
+            }
+            expired.forEach(PooledConnection::closeQuietly);
+            evicted.add(expired.size());
+        }
+
+        void closeAll() {
+            synchronized (this) {
+                idle.forEach(PooledConnection::closeQuietly);
+                idle.clear();
+            }
+        }
+
+        Map<String, Object> getStats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("target", host + ":" + port);
+            synchronized (this) {
+                stats.put("idle", idle.size());
+            }
+            stats.put("borrowed", borrowed.get());
+            stats.put("maxSize", maxPerHost);
+            stats.put("created", created.sum());
+            stats.put("reused", reused.sum());
+            stats.put("discarded", discarded.sum());
+            stats.put("evicted", evicted.sum());
+            return stats;
+        }
+    }
+}
@@ -1,22 +1,33 @@
 package com.linkx.protocol;
 
+import com.linkx.protocol.framing.FrameReader;
+import com.linkx.protocol.framing.FrameSpec;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.net.Socket;
+import java.net.SocketException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TCP/IP 소켓 통신 핸들러
  * - 동기 송수신
- * - 길이 헤더(4/8byte) 지원
+ * - 길이 헤더 지원 (ASCII 4/8byte, Binary big/little-endian — ConnectionConfig.frameSpec)
+ * - 연결 유지(keepAlive) 설정 시 host:port별 커넥션 풀 사용 (길이 헤더 필수)
+ * - 블로킹 소켓 I/O만 사용하므로 가상 스레드에서 호출하면 대기 중 캐리어 스레드를 점유하지 않음
+ * - sendAsync: 비풀링 연결은 AsynchronousSocketChannel로 처리(AsyncTcpExchange),
+ *   풀링 연결은 블로킹 풀을 공유하므로 가상 스레드 어댑터 (동시 처리 수는 풀 크기로 제한)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TcpProtocolHandler implements ProtocolHandler {
 
+    private final TcpConnectionPool connectionPool;
+
     @Override
     public String getProtocolName() {
         return "TCP";
@@ -24,37 +35,109 @@ public class TcpProtocolHandler implements ProtocolHandler {
 
     @Override
     public byte[] sendAndReceive(ConnectionConfig config, byte[] requestData) throws Exception {
+        if (isPooled(config)) {
+            return sendPooled(config, requestData);
+        }
+
+        FrameSpec frameSpec = config.frameSpec();
         try (Socket socket = new Socket(config.getHost(), config.getPort())) {
-            socket.setSoTimeout(config.getTimeoutMs() > 0 ? config.getTimeoutMs() : 30000);
+            socket.setSoTimeout(timeoutMs(config));
 
+            // 전문 길이 헤더 포함 여부는 프레임 규칙에 반영 (헤더 없으면 연결 종료 시점까지 수신)
             OutputStream out = socket.getOutputStream();
-            InputStream in = socket.getInputStream();
-
-            // 전문 길이 헤더 포함 여부
-            if (config.isIncludeLengthHeader()) {
-                byte[] lengthHeader = buildLengthHeader(requestData.length, config.getLengthHeaderSize());
-                out.write(lengthHeader);
-            }
-
-            out.write(requestData);
+            frameSpec.writeTo(out, requestData); // 헤더+본문을 풀 버퍼에서 조립해 1회 기록
             out.flush();
-            log.info("[TCP] Sent {} bytes to {}:{}", requestData.length, config.getHost(), config.getPort());
+            log.debug("[TCP] Sent {} bytes to {}:{}", requestData.length, config.getHost(), config.getPort());
 
             // 응답 수신
             byte[] response;
-            if (config.isIncludeLengthHeader()) {
-                response = readWithLengthHeader(in, config.getLengthHeaderSize());
-            } else {
-                response = readUntilClose(in);
+            try (FrameReader reader = new FrameReader(socket, frameSpec)) {
+                response = reader.read();
+            }
+            if (response == null) {
+                if (config.isIncludeLengthHeader()) {
+                    throw new EOFException("응답 전 연결 종료");
+                }
+                response = new byte[0];
             }
 
-            log.info("[TCP] Received {} bytes", response.length);
+            log.debug("[TCP] Received {} bytes", response.length);
             return response;
         }
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendAsync(ConnectionConfig config, ByteBuffer request) {
+        if (isPooled(config)) {
+            return ProtocolHandler.super.sendAsync(config, request);
+        }
+        return AsyncTcpExchange.start(config, AsyncSend.toBytes(request));
+    }
+
+    /**
+     * 풀링된 연결로 송수신
+     * - 재사용 연결에서 기록이 실패했거나 응답을 한 바이트도 받지 못하고 끊기면
+     *   상대가 유휴 연결을 닫은 것으로 보고 새 연결로 1회 재시도
+     * - 응답을 일부라도 받은 뒤 끊기면 상대가 요청을 처리한 것이므로 재시도하지 않음 (중복 송신 방지)
+     * - 오류가 난 연결은 전문 경계를 신뢰할 수 없으므로 폐기
+     */
+    private byte[] sendPooled(ConnectionConfig config, byte[] requestData) throws IOException {
+        FrameSpec frameSpec = config.frameSpec();
+        for (int attempt = 1; ; attempt++) {
+            TcpConnectionPool.PooledConnection connection = connectionPool.borrow(config);
+            boolean responseStarted = false;
+            try {
+                connection.getSocket().setSoTimeout(timeoutMs(config));
+                OutputStream out = connection.getOutputStream();
+                frameSpec.writeTo(out, requestData);
+                out.flush();
+                log.debug("[TCP] Sent {} bytes to {}:{} (pooled)", requestData.length, config.getHost(), config.getPort());
+
+                byte[] response;
+                boolean trailing;
+                try (FrameReader reader = new FrameReader(connection.getSocket(), connection.getInputStream(), frameSpec)) {
+                    try {
+                        response = reader.read();
+                        trailing = reader.hasBuffered();
+                    } finally {
+                        responseStarted = reader.hasReceived();
+                    }
+                }
+                if (response == null) {
+                    throw new EOFException("응답 전 연결 종료");
+                }
+                if (trailing) {
+                    // 응답 뒤에 추가 바이트가 있으면 다음 송신의 응답 경계를 신뢰할 수 없으므로 폐기
+                    connectionPool.invalidate(connection);
+                } else {
+                    connectionPool.release(connection);
+                }
+                log.debug("[TCP] Received {} bytes", response.length);
+                return response;
+            } catch (IOException e) {
+                connectionPool.invalidate(connection);
+                boolean stale = connection.isReused() && !responseStarted
+                        && (e instanceof EOFException || e instanceof SocketException);
+                if (!stale || attempt > 1) {
+                    throw e;
+                }
+                log.debug("[TCP] Stale pooled connection {}:{} — retry: {}", config.getHost(), config.getPort(), e.getMessage());
+            }
+        }
+    }
+
     @Override
     public boolean testConnection(ConnectionConfig config) {
+        if (isPooled(config)) {
+            // 풀에서 연결을 확보해 두면 이후 송신은 연결 비용 없이 시작
+            try {
+                connectionPool.release(connectionPool.borrow(config));
+                return true;
+            } catch (Exception e) {
+                log.warn("[TCP] Connection test failed: {}:{} - {}", config.getHost(), config.getPort(), e.getMessage());
+                return false;
+            }
+        }
         try (Socket socket = new Socket(config.getHost(), config.getPort())) {
             socket.setSoTimeout(3000);
             return socket.isConnected();
@@ -64,45 +147,14 @@ public class TcpProtocolHandler implements ProtocolHandler {
         }
     }
 
-    private byte[] buildLengthHeader(int dataLength, int headerSize) {
-        if (headerSize == 4) {
-            // 4바이트 문자열 길이 (금융권 일반적 방식)
-            return String.format("%04d", dataLength).getBytes(StandardCharsets.US_ASCII);
-        } else if (headerSize == 8) {
-            return String.format("%08d", dataLength).getBytes(StandardCharsets.US_ASCII);
-        } else {
-            // Binary 4byte
-            return ByteBuffer.allocate(4).putInt(dataLength).array();
-        }
+    /**
+     * 풀 사용 여부 (길이 헤더가 없으면 종료 시점으로 응답 끝을 판단하므로 연결 재사용 불가)
+     */
+    public static boolean isPooled(ConnectionConfig config) {
+        return config.isKeepAlive() && config.isIncludeLengthHeader();
     }
 
-    private byte[] readWithLengthHeader(InputStream in, int headerSize) throws IOException {
-        byte[] header = in.readNBytes(headerSize);
-        if (header.length < headerSize) {
-            throw new IOException("응답 길이 헤더 수신 실패");
-        }
-
-        int bodyLength;
-        try {
-            bodyLength = Integer.parseInt(new String(header, StandardCharsets.US_ASCII).trim());
-        } catch (NumberFormatException e) {
-            bodyLength = ByteBuffer.wrap(header).getInt();
-        }
-
-        byte[] body = in.readNBytes(bodyLength);
-        if (body.length < bodyLength) {
-            log.warn("[TCP] Expected {} bytes but received {}", bodyLength, body.length);
-        }
-        return body;
-    }
-
-    private byte[] readUntilClose(InputStream in) throws IOException {
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-        byte[] chunk = new byte[4096];
-        int read;
-        while ((read = in.read(chunk)) != -1) {
-            buffer.write(chunk, 0, read);
-        }
-        return buffer.toByteArray();
+    private int timeoutMs(ConnectionConfig config) {
+        return config.getTimeoutMs() > 0 ? config.getTimeoutMs() : 30000;
     }
 }
@@ -0,0 +1,207 @@
+package com.linkx.protocol.buffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 등급별 I/O 버퍼 풀 (힙/다이렉트)
+ *
+ * 전문 송수신마다 같은 크기의 읽기/조립/송신 버퍼를 새로 만들지 않고 반환된 버퍼를 재사용
+ * - 등급: 256byte부터 2배씩 최대 등급 크기까지, 요청 크기 이상인 가장 작은 등급에서 꺼냄
+ * - 최대 등급보다 큰 요청은 풀을 거치지 않고 할당 (반환 시 버림)
+ * - 등급별 보관 수 상한을 넘는 반환분은 버림 (순간 최대치만큼 메모리를 잡아두지 않도록)
+ * - 보관 목록은 고정 크기 배열 큐 (꺼내기/반환에 노드 할당 없음)
+ *   가상 스레드는 스레드 수가 많아 스레드별 캐시를 두지 않음
+ *
+ * 사용한 버퍼는 반드시 release (연결 단위 버퍼는 연결 종료 시)
+ * 누수 감지(leakDetection)를 켜면 반환하지 않고 버려진 버퍼를 GC 시점에 할당 위치와 함께 경고
+ * (할당마다 호출 스택을 기록하므로 디버그용)
+ */
+public final class BufferPool {
+
+    private static final Logger log = LoggerFactory.getLogger(BufferPool.class);
+
+    public static final int MIN_CLASS_SIZE = 256;
+    public static final int DEFAULT_MAX_CLASS_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_PER_CLASS = 256;
+
+    private static volatile BufferPool shared =
+            new BufferPool(DEFAULT_MAX_CLASS_SIZE, DEFAULT_MAX_PER_CLASS, false);
+
+    private final int maxClassSize;
+    private final int maxPerClass;
+    private final boolean leakDetection;
+    private final SizeClass[] heapClasses;
+    private final SizeClass[] directClasses;
+    private final Cleaner cleaner;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder oversize = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    final LongAdder leaks = new LongAdder();
+
+    /**
+     * @param maxClassSize  최대 등급 크기 (2의 거듭제곱으로 올림)
+     * @param maxPerClass   등급별 보관 수 상한
+     * @param leakDetection 반환 누락 감지 (디버그용)
+     */
+    public BufferPool(int maxClassSize, int maxPerClass, boolean leakDetection) {
+        this.maxClassSize = classSize(Math.max(MIN_CLASS_SIZE, maxClassSize));
+        this.maxPerClass = Math.max(1, maxPerClass);
+        this.leakDetection = leakDetection;
+        int count = Integer.numberOfTrailingZeros(this.maxClassSize / MIN_CLASS_SIZE) + 1;
+        this.heapClasses = new SizeClass[count];
+        this.directClasses = new SizeClass[count];
+        for (int i = 0; i < count; i++) {
+            heapClasses[i] = new SizeClass(MIN_CLASS_SIZE << i, false, this.maxPerClass);
+            directClasses[i] = new SizeClass(MIN_CLASS_SIZE << i, true, this.maxPerClass);
+        }
+        this.cleaner = leakDetection ? Cleaner.create() : null;
+    }
+
+    /**
+     * 공용 풀 (프레임 수신기/디코더/리스너 송신 버퍼)
+     */
+    public static BufferPool shared() {
+        return shared;
+    }
+
+    /**
+     * 공용 풀 교체 (설정 반영) — 이전 풀에서 꺼낸 버퍼는 이전 풀로 반환됨
+     */
+    public static void install(BufferPool pool) {
+        shared = pool;
+    }
+
+    /**
+     * 힙 버퍼 (array() 사용 가능 — 스트림 I/O, 디코더 조립용)
+     */
+    public PooledBuffer acquire(int minCapacity) {
+        return acquire(minCapacity, heapClasses, false);
+    }
+
+    /**
+     * 다이렉트 버퍼 (채널 I/O용 — 커널 복사 전 임시 다이렉트 버퍼 복사가 없음)
+     */
+    public PooledBuffer acquireDirect(int minCapacity) {
+        return acquire(minCapacity, directClasses, true);
+    }
+
+    private PooledBuffer acquire(int minCapacity, SizeClass[] classes, boolean direct) {
+        acquired.increment();
+        PooledBuffer buffer;
+        if (minCapacity > maxClassSize) {
+            oversize.increment();
+            buffer = new PooledBuffer(this, null, allocate(minCapacity, direct));
+        } else {
+            SizeClass sizeClass = classes[classIndex(minCapacity)];
+            buffer = sizeClass.free.poll();
+            if (buffer != null) {
+                reused.increment();
+            } else {
+                allocated.increment();
+                buffer = new PooledBuffer(this, sizeClass, allocate(sizeClass.size, direct));
+            }
+        }
+        buffer.reset(leakDetection ? cleaner : null);
+        return buffer;
+    }
+
+    /**
+     * 반환 (PooledBuffer.release에서 호출)
+     */
+    void recycle(PooledBuffer buffer) {
+        released.increment();
+        SizeClass sizeClass = buffer.sizeClass();
+        if (sizeClass == null || !sizeClass.free.offer(buffer)) {
+            discarded.increment();
+        }
+    }
+
+    public boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    public int getMaxClassSize() {
+        return maxClassSize;
+    }
+
+    public Map<String, Object> getStats() {
+        long acquiredCount = acquired.sum();
+        long releasedCount = released.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxClassSize", maxClassSize);
+        stats.put("maxPerClass", maxPerClass);
+        stats.put("leakDetection", leakDetection);
+        stats.put("acquired", acquiredCount);
+        stats.put("reused", reused.sum());
+        stats.put("allocated", allocated.sum());
+        stats.put("oversize", oversize.sum());
+        stats.put("released", releasedCount);
+        stats.put("discarded", discarded.sum());
+        stats.put("outstanding", acquiredCount - releasedCount);
+        stats.put("leaks", leaks.sum());
+        stats.put("hitRate", acquiredCount > 0 ? Math.round(reused.sum() * 1000.0 / acquiredCount) / 10.0 : 0.0);
+
+        List<Map<String, Object>> classes = new ArrayList<>();
+        for (int i = 0; i < heapClasses.length; i++) {
+            int heapFree = heapClasses[i].free.size();
+            int directFree = directClasses[i].free.size();
+            if (heapFree == 0 && directFree == 0) {
+                continue;
+            }
+            Map<String, Object> sizeClass = new LinkedHashMap<>();
+            sizeClass.put("size", heapClasses[i].size);
+            sizeClass.put("heapFree", heapFree);
+            sizeClass.put("directFree", directFree);
+            classes.add(sizeClass);
+        }
+        stats.put("classes", classes);
+        return stats;
+    }
+
+    private int classIndex(int minCapacity) {
+        return Integer.numberOfTrailingZeros(classSize(Math.max(MIN_CLASS_SIZE, minCapacity)) / MIN_CLASS_SIZE);
+    }
+
+    private static int classSize(int capacity) {
+        int size = Integer.highestOneBit(capacity);
+        return size == capacity ? size : size << 1;
+    }
+
+    private static ByteBuffer allocate(int capacity, boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    static void reportLeak(int capacity, Throwable origin) {
+        log.warn("버퍼 반환 누락 ({}byte) — 할당 위치:", capacity, origin);
+    }
+
+    /**
+     * 등급 1개 (크기 + 반환된 버퍼 보관 목록)
+     */
+    static final class SizeClass {
+
+        final int size;
+        final boolean direct;
+        final ArrayBlockingQueue<PooledBuffer> free;
+
+        SizeClass(int size, boolean direct, int maxPerClass) {
+            this.size = size;
+            this.direct = direct;
+            this.free = new ArrayBlockingQueue<>(maxPerClass);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.linkx.protocol.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 풀에서 꺼낸 버퍼 (반환 후에는 사용 금지)
+ *
+ * 꺼낼 때마다 position 0, limit = capacity로 초기화
+ * 같은 객체가 풀에 보관되었다가 재사용되므로 release 후 참조를 남기지 않아야 함
+ */
+public final class PooledBuffer implements AutoCloseable {
+
+    private final BufferPool pool;
+    private final BufferPool.SizeClass sizeClass;
+    private final ByteBuffer buffer;
+    private final AtomicBoolean inUse = new AtomicBoolean();
+
+    /** 누수 감지 등록 (감지 꺼져 있으면 null) */
+    private LeakTracker tracker;
+    private Cleaner.Cleanable cleanable;
+
+    PooledBuffer(BufferPool pool, BufferPool.SizeClass sizeClass, ByteBuffer buffer) {
+        this.pool = pool;
+        this.sizeClass = sizeClass;
+        this.buffer = buffer;
+    }
+
+    void reset(Cleaner cleaner) {
+        buffer.clear();
+        inUse.set(true);
+        if (cleaner != null) {
+            tracker = new LeakTracker(buffer.capacity(), pool.leaks, new Throwable("버퍼 할당"));
+            cleanable = cleaner.register(this, tracker);
+        }
+    }
+
+    BufferPool.SizeClass sizeClass() {
+        return sizeClass;
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * 힙 버퍼의 배열 (다이렉트 버퍼는 UnsupportedOperationException)
+     */
+    public byte[] array() {
+        return buffer.array();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    /**
+     * 풀에 반환
+     *
+     * @throws IllegalStateException 이미 반환된 버퍼
+     */
+    public void release() {
+        if (!inUse.compareAndSet(true, false)) {
+            throw new IllegalStateException("이미 반환된 버퍼입니다 (" + buffer.capacity() + "byte)");
+        }
+        if (cleanable != null) {
+            tracker.released = true;
+            cleanable.clean();
+            tracker = null;
+            cleanable = null;
+        }
+        pool.recycle(this);
+    }
+
+    /**
+     * try-with-resources용 (이미 반환되었으면 무시)
+     */
+    @Override
+    public void close() {
+        if (inUse.get()) {
+            release();
+        }
+    }
+
+    /**
+     * 반환되지 않은 채 GC된 버퍼 보고 (버퍼 객체를 참조하지 않아야 GC 대상이 됨)
+     */
+    private static final class LeakTracker implements Runnable {
+
+        private final int capacity;
+        private final LongAdder leaks;
+        private final Throwable origin;
+        volatile boolean released;
+
+        LeakTracker(int capacity, LongAdder leaks, Throwable origin) {
+            this.capacity = capacity;
+            this.leaks = leaks;
+            this.origin = origin;
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                leaks.increment();
+                BufferPool.reportLeak(capacity, origin);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.linkx.protocol.framing;
+
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 구분자 프레임 디코더 — [본문 + 구분자] (예: CRLF, ETX)
+ *
+ * 새로 받은 구간만 검색 (이전 수신분과 걸친 구분자는 구분자 길이-1만큼 겹쳐서 확인)
+ * 구분자 뒤의 바이트는 입력 버퍼로 되돌려 다음 프레임에서 사용
+ * 조립 버퍼는 첫 바이트 수신 시 풀에서 꺼내고 프레임 완성 시 반환
+ */
+final class DelimiterFrameDecoder implements FrameDecoder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final byte[] delimiter;
+    private final int maxFrameLength;
+    private final BufferPool pool;
+    private PooledBuffer pooled;
+    private byte[] buffer;
+    private int size;
+
+    DelimiterFrameDecoder(byte[] delimiter, int maxFrameLength, BufferPool pool) {
+        this.delimiter = delimiter;
+        this.maxFrameLength = maxFrameLength;
+        this.pool = pool;
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer in) {
+        int limit = maxFrameLength + delimiter.length;
+        int n = Math.min(in.remaining(), limit - size);
+        ensureCapacity(size + n);
+        in.get(buffer, size, n);
+
+        int from = Math.max(0, size - delimiter.length + 1);
+        size += n;
+        int found = indexOf(from);
+        if (found < 0) {
+            if (size >= limit) {
+                throw new RuntimeException("구분자 없이 최대 길이 초과: " + maxFrameLength);
+            }
+            return null;
+        }
+
+        int end = found + delimiter.length;
+        in.position(in.position() - (size - end)); // 구분자 뒤 바이트는 입력으로 되돌림
+        return take(found);
+    }
+
+    /**
+     * 입력 종료 시 구분자 없이 남은 바이트도 마지막 전문으로 간주
+     */
+    @Override
+    public byte[] finish() {
+        return size == 0 ? null : take(size);
+    }
+
+    @Override
+    public boolean hasPartial() {
+        return size > 0;
+    }
+
+    @Override
+    public String progress() {
+        return "구분자 대기 " + size + "byte";
+    }
+
+    @Override
+    public void release() {
+        size = 0;
+        if (pooled != null) {
+            pooled.release();
+            pooled = null;
+            buffer = null;
+        }
+    }
+
+    private byte[] take(int length) {
+        byte[] frame = Arrays.copyOf(buffer, length);
+        release();
+        return frame;
+    }
+
+    private int indexOf(int from) {
+        outer:
+        for (int i = from; i <= size - delimiter.length; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer != null && capacity <= buffer.length) {
+            return;
+        }
+        PooledBuffer grown = pool.acquire(Math.max(capacity, buffer == null ? INITIAL_CAPACITY : buffer.length * 2));
+        if (pooled != null) {
+            System.arraycopy(buffer, 0, grown.array(), 0, size);
+            pooled.release();
+        }
+        pooled = grown;
+        buffer = grown.array();
+    }
+}
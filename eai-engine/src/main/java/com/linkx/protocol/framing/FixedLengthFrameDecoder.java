@@ -0,0 +1,72 @@
+package com.linkx.protocol.framing;
+
+import java.nio.ByteBuffer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 고정 길이 프레임 디코더 (길이 헤더 없음)
+ *
+ * - 고정 길이: 항상 같은 길이
+ * - 레이아웃 기반: 앞부분(전문코드 위치까지)을 받으면 전문코드의 레이아웃 전체 길이로 프레임 길이 결정
+ *   (앞부분도 본문에 포함, 본문 배열은 길이 결정 후 한 번만 할당)
+ */
+final class FixedLengthFrameDecoder implements FrameDecoder {
+
+    private final byte[] prefix;
+    private final ToIntFunction<byte[]> lengthResolver;
+    private final int maxFrameLength;
+    private int prefixRead;
+
+    private byte[] body;
+    private int bodyRead;
+
+    FixedLengthFrameDecoder(int prefixLength, ToIntFunction<byte[]> lengthResolver, int maxFrameLength) {
+        this.prefix = new byte[prefixLength];
+        this.lengthResolver = lengthResolver;
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer in) {
+        if (body == null) {
+            int n = Math.min(in.remaining(), prefix.length - prefixRead);
+            in.get(prefix, prefixRead, n);
+            prefixRead += n;
+            if (prefixRead < prefix.length) {
+                return null;
+            }
+            int length = lengthResolver.applyAsInt(prefix);
+            if (length < prefix.length || length > maxFrameLength) {
+                throw new RuntimeException("전문 길이 범위 초과: " + length);
+            }
+            body = new byte[length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            bodyRead = prefix.length;
+        }
+
+        int n = Math.min(in.remaining(), body.length - bodyRead);
+        in.get(body, bodyRead, n);
+        bodyRead += n;
+        if (bodyRead < body.length) {
+            return null;
+        }
+
+        byte[] frame = body;
+        body = null;
+        prefixRead = 0;
+        bodyRead = 0;
+        return frame;
+    }
+
+    @Override
+    public boolean hasPartial() {
+        return prefixRead > 0 || bodyRead > 0;
+    }
+
+    @Override
+    public String progress() {
+        return body == null
+                ? "전문코드 " + prefixRead + "/" + prefix.length
+                : "본문 " + bodyRead + "/" + body.length;
+    }
+}
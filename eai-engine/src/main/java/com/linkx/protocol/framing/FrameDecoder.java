@@ -0,0 +1,58 @@
+package com.linkx.protocol.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 증분 프레임 디코더
+ *
+ * 부분 수신(읽기 1회에 프레임 일부/여러 개)을 그대로 넘기면 프레임 경계를 찾아 전문 본문을 조립
+ * - 블로킹(FrameReader)/NIO 경로 공용, 연결 1개당 1개 (스레드 안전하지 않음)
+ * - 입력 버퍼에서 필요한 바이트만 소비하고 나머지는 다음 프레임을 위해 남김
+ * - 길이를 미리 알 수 있는 방식은 본문 배열을 한 번만 할당해 입력 버퍼에서 바로 복사
+ * - 길이를 모르는 방식은 조립 중에만 풀 버퍼를 사용하고 프레임 완성 시 반환 (유휴 연결은 버퍼 없음)
+ *
+ * 길이 헤더/길이 초과 오류는 RuntimeException (이후 경계를 신뢰할 수 없으므로 연결 종료 대상)
+ */
+public interface FrameDecoder {
+
+    /**
+     * 버퍼의 바이트를 소비해 프레임 조립
+     *
+     * @return 완성된 전문 본문 (길이 헤더/구분자 제외), 아직 부족하면 null
+     */
+    byte[] decode(ByteBuffer in);
+
+    /**
+     * 입력 종료(EOF) — 종료 시점으로 끝을 판단하는 방식이면 수신한 만큼을 프레임으로 반환
+     *
+     * @return 전문 본문, 없으면 null (조립 중인 프레임이 남았는지는 hasPartial로 확인)
+     */
+    default byte[] finish() {
+        return null;
+    }
+
+    /**
+     * 유휴 간격 경과 — 유휴 간격 방식이면 수신한 만큼을 프레임으로 반환
+     *
+     * @return 전문 본문, 해당 없으면 null
+     */
+    default byte[] idle() {
+        return null;
+    }
+
+    /**
+     * 조립 중인 프레임이 있는지 (헤더 일부라도 수신)
+     */
+    boolean hasPartial();
+
+    /**
+     * 수신 진행 상황 (오류 메시지용)
+     */
+    String progress();
+
+    /**
+     * 조립 중인 버퍼를 풀에 반환 (연결 종료 시 — 이후 사용 금지)
+     */
+    default void release() {
+    }
+}
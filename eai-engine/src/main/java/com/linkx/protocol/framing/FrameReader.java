@@ -0,0 +1,178 @@
+package com.linkx.protocol.framing;
+
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+
+/**
+ * 블로킹 스트림용 프레임 수신기 (FrameDecoder + 읽기 버퍼)
+ *
+ * 한 번에 읽은 바이트 중 프레임 뒤에 남은 부분은 다음 read에서 이어서 사용하므로 연결 1개당 1개 사용
+ * - 유휴 간격 방식: 프레임 일부를 받은 뒤에는 읽기 타임아웃을 유휴 간격으로 바꿔 끝을 판단
+ * - 디코딩 오류(길이 헤더 등)는 IOException으로 변환 (호출자가 연결을 폐기하도록)
+ * - 읽기 버퍼는 공용 풀에서 꺼내므로 사용 후 close (소켓은 닫지 않음)
+ */
+public final class FrameReader implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final FrameDecoder decoder;
+    private final long idleGapMs;
+    private final PooledBuffer readBuffer;
+    private final ByteBuffer buffer;
+    private long received;
+    private boolean closed;
+
+    public FrameReader(Socket socket, InputStream in, FrameSpec spec) {
+        this.socket = socket;
+        this.in = in;
+        this.decoder = spec.newDecoder();
+        this.idleGapMs = spec.getIdleGapMs();
+        this.readBuffer = BufferPool.shared().acquire(READ_BUFFER_SIZE);
+        this.buffer = readBuffer.buffer().flip();
+    }
+
+    public FrameReader(Socket socket, FrameSpec spec) throws IOException {
+        this(socket, socket.getInputStream(), spec);
+    }
+
+    /**
+     * 다음 프레임 수신
+     *
+     * @return 전문 본문, 프레임 시작 전에 스트림이 끝났으면 null
+     * @throws EOFException 프레임 도중 스트림 종료
+     */
+    public byte[] read() throws IOException {
+        ensureOpen();
+        while (true) {
+            if (buffer.hasRemaining()) {
+                byte[] frame = decode();
+                if (frame != null) {
+                    return frame;
+                }
+            }
+            int n;
+            try {
+                n = fillAfterPartial();
+            } catch (SocketTimeoutException e) {
+                byte[] frame = decoder.hasPartial() ? decoder.idle() : null;
+                if (frame == null) {
+                    throw e;
+                }
+                return frame;
+            }
+            if (n < 0) {
+                byte[] frame = decoder.finish();
+                if (frame != null) {
+                    return frame;
+                }
+                if (decoder.hasPartial()) {
+                    throw new EOFException("스트림 종료 (" + decoder.progress() + ")");
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 다음 프레임의 첫 바이트 대기 (바이트는 소비하지 않음)
+     *
+     * @param timeoutMs 대기 시간 (0이면 무제한)
+     * @return 수신 데이터가 있으면 true, 스트림 종료/대기 시간 초과면 false
+     */
+    public boolean await(int timeoutMs) throws IOException {
+        ensureOpen();
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        int saved = socket.getSoTimeout();
+        socket.setSoTimeout(timeoutMs);
+        try {
+            return fill() > 0;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } finally {
+            socket.setSoTimeout(saved);
+        }
+    }
+
+    /**
+     * 다음 프레임의 바이트를 이미 읽어 둔 상태인지 (요청-응답 연결에서 잔여 데이터 확인용)
+     */
+    public boolean hasBuffered() {
+        return buffer.hasRemaining() || decoder.hasPartial();
+    }
+
+    /**
+     * 이 수신기로 한 바이트라도 읽었는지 (요청 재전송 가능 여부 판단용)
+     */
+    public boolean hasReceived() {
+        return received > 0;
+    }
+
+    /**
+     * 읽기 버퍼/조립 중 버퍼를 풀에 반환 (남은 수신 바이트는 버림)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        decoder.release();
+        readBuffer.release();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("프레임 수신기가 닫혔습니다");
+        }
+    }
+
+    private byte[] decode() throws IOException {
+        try {
+            return decoder.decode(buffer);
+        } catch (RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 유휴 간격 방식이면 프레임 일부를 받은 뒤에는 유휴 간격만큼만 대기
+     */
+    private int fillAfterPartial() throws IOException {
+        if (idleGapMs <= 0 || !decoder.hasPartial()) {
+            return fill();
+        }
+        int saved = socket.getSoTimeout();
+        socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, idleGapMs));
+        try {
+            return fill();
+        } finally {
+            socket.setSoTimeout(saved);
+        }
+    }
+
+    private int fill() throws IOException {
+        buffer.compact();
+        try {
+            int n = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (n > 0) {
+                received += n;
+                buffer.position(buffer.position() + n);
+            }
+            return n;
+        } finally {
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.linkx.protocol.framing;
+
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+import com.linkx.telegram.HexCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * 전문 프레임 규칙 (송신/수신 공용, 불변)
+ *
+ * - LENGTH   : [길이 헤더 + 본문] — ASCII / Binary big·little-endian, 길이에 헤더 포함 여부
+ * - FIXED    : 고정 길이 (헤더 없음)
+ * - LAYOUT   : 전문코드의 레이아웃 전체 길이 (헤더 없음, 수신 전용)
+ * - DELIMITER: [본문 + 구분자]
+ * - IDLE     : 길이 정보 없음 — 유휴 간격 또는 입력 종료로 끝 판단 (idleGapMs 0이면 입력 종료만, 최대 길이 초과 시 오류)
+ *
+ * 수신은 newDecoder()로 연결마다 디코더를 만들고, 송신은 encode / encodeTo / writeTo 사용
+ */
+public final class FrameSpec {
+
+    public enum Type { LENGTH, FIXED, LAYOUT, DELIMITER, IDLE }
+
+    /** 기본 최대 프레임(본문) 크기 */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Type type;
+    private final int headerSize;
+    private final LengthEncoding encoding;
+    private final boolean includesHeader;
+    private final int fixedLength;
+    private final int prefixLength;
+    private final ToIntFunction<byte[]> lengthResolver;
+    private final byte[] delimiter;
+    private final long idleGapMs;
+    private final int maxFrameLength;
+
+    private FrameSpec(Type type, int headerSize, LengthEncoding encoding, boolean includesHeader,
+                      int fixedLength, int prefixLength, ToIntFunction<byte[]> lengthResolver,
+                      byte[] delimiter, long idleGapMs, int maxFrameLength) {
+        this.type = type;
+        this.headerSize = headerSize;
+        this.encoding = encoding;
+        this.includesHeader = includesHeader;
+        this.fixedLength = fixedLength;
+        this.prefixLength = prefixLength;
+        this.lengthResolver = lengthResolver;
+        this.delimiter = delimiter;
+        this.idleGapMs = idleGapMs;
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    // ==================== 생성 ====================
+
+    public static FrameSpec length(int headerSize, LengthEncoding encoding, boolean includesHeader) {
+        encoding.checkSize(headerSize);
+        return new FrameSpec(Type.LENGTH, headerSize, encoding, includesHeader,
+                0, 0, null, null, 0, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public static FrameSpec fixed(int length) {
+        if (length <= 0) {
+            throw new RuntimeException("고정 길이 오류: " + length);
+        }
+        return new FrameSpec(Type.FIXED, 0, null, false,
+                length, 0, null, null, 0, Math.max(length, DEFAULT_MAX_FRAME_LENGTH));
+    }
+
+    /**
+     * 레이아웃 기반 고정 길이
+     *
+     * @param prefixLength   길이 결정에 필요한 앞부분 크기 (전문코드 오프셋 + 길이)
+     * @param lengthResolver 앞부분 → 전문 전체 길이 (앞부분 포함)
+     */
+    public static FrameSpec layout(int prefixLength, ToIntFunction<byte[]> lengthResolver) {
+        if (prefixLength <= 0) {
+            throw new RuntimeException("전문코드 위치 오류: " + prefixLength);
+        }
+        return new FrameSpec(Type.LAYOUT, 0, null, false,
+                0, prefixLength, lengthResolver, null, 0, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public static FrameSpec delimiter(byte[] delimiter) {
+        if (delimiter == null || delimiter.length == 0) {
+            throw new RuntimeException("구분자가 비어 있습니다");
+        }
+        return new FrameSpec(Type.DELIMITER, 0, null, false,
+                0, 0, null, delimiter.clone(), 0, DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * 길이 정보 없는 전문
+     *
+     * @param idleGapMs 이 시간 동안 추가 수신이 없으면 전문 끝 (0이면 입력 종료 시에만)
+     */
+    public static FrameSpec idle(long idleGapMs) {
+        return new FrameSpec(Type.IDLE, 0, null, false,
+                0, 0, null, null, Math.max(0, idleGapMs), DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public FrameSpec withMaxFrameLength(int maxFrameLength) {
+        return new FrameSpec(type, headerSize, encoding, includesHeader, fixedLength, prefixLength,
+                lengthResolver, delimiter, idleGapMs, maxFrameLength);
+    }
+
+    /**
+     * 구분자 설정값 → 바이트 (\r \n \t \0 \xHH 이스케이프 지원, 예: "\r\n", "\x03")
+     */
+    public static byte[] parseDelimiter(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                out.write(c);
+                continue;
+            }
+            char next = text.charAt(++i);
+            switch (next) {
+                case 'r' -> out.write('\r');
+                case 'n' -> out.write('\n');
+                case 't' -> out.write('\t');
+                case '0' -> out.write(0);
+                case '\\' -> out.write('\\');
+                case 'x' -> {
+                    try {
+                        out.write(Integer.parseInt(text.substring(i + 1, i + 3), 16));
+                    } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                        throw new RuntimeException("구분자 형식 오류: " + text);
+                    }
+                    i += 2;
+                }
+                default -> throw new RuntimeException("구분자 형식 오류: " + text);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // ==================== 수신 ====================
+
+    public FrameDecoder newDecoder() {
+        return switch (type) {
+            case LENGTH -> new LengthFieldFrameDecoder(headerSize, encoding, includesHeader, maxFrameLength);
+            case FIXED -> new FixedLengthFrameDecoder(0, prefix -> fixedLength, maxFrameLength);
+            case LAYOUT -> new FixedLengthFrameDecoder(prefixLength, lengthResolver, maxFrameLength);
+            case DELIMITER -> new DelimiterFrameDecoder(delimiter, maxFrameLength, BufferPool.shared());
+            case IDLE -> new IdleGapFrameDecoder(maxFrameLength, idleGapMs == 0, BufferPool.shared());
+        };
+    }
+
+    /**
+     * 한 연결에서 전문을 이어서 주고받을 수 있는지 (입력 종료로 끝을 판단하는 방식은 불가)
+     */
+    public boolean isSelfDelimiting() {
+        return type != Type.IDLE || idleGapMs > 0;
+    }
+
+    // ==================== 송신 ====================
+
+    /**
+     * 본문 → 프레임 (헤더/구분자 포함 1개 배열)
+     */
+    public byte[] encode(byte[] body) {
+        if (!hasEnvelope()) {
+            return body;
+        }
+        byte[] frame = new byte[frameLength(body.length)];
+        encodeTo(ByteBuffer.wrap(frame), body);
+        return frame;
+    }
+
+    /**
+     * 본문 길이 → 프레임 길이 (헤더/구분자 포함)
+     */
+    public int frameLength(int bodyLength) {
+        return switch (type) {
+            case LENGTH -> headerSize + bodyLength;
+            case DELIMITER -> bodyLength + delimiter.length;
+            default -> bodyLength;
+        };
+    }
+
+    /**
+     * 버퍼의 현재 위치에 프레임 기록 (남은 공간은 frameLength 이상, 다이렉트 버퍼 가능)
+     */
+    public void encodeTo(ByteBuffer dst, byte[] body) {
+        if (type == Type.LENGTH) {
+            encoding.write(includesHeader ? body.length + headerSize : body.length, dst, headerSize);
+        }
+        dst.put(body);
+        if (type == Type.DELIMITER) {
+            dst.put(delimiter);
+        }
+    }
+
+    /**
+     * 스트림에 프레임 쓰기 (flush는 호출자)
+     * 헤더/구분자가 붙는 방식은 풀 버퍼에서 조립해 1회 기록 (버퍼 없는 소켓 스트림에서도 세그먼트 1개)
+     */
+    public void writeTo(OutputStream out, byte[] body) throws IOException {
+        if (!hasEnvelope()) {
+            out.write(body);
+            return;
+        }
+        PooledBuffer frame = BufferPool.shared().acquire(frameLength(body.length));
+        try {
+            encodeTo(frame.buffer(), body);
+            out.write(frame.array(), 0, frame.buffer().position());
+        } finally {
+            frame.release();
+        }
+    }
+
+    /**
+     * 본문 앞뒤에 헤더/구분자가 붙는지
+     */
+    private boolean hasEnvelope() {
+        return type == Type.LENGTH || type == Type.DELIMITER;
+    }
+
+    // ==================== 속성 ====================
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getHeaderSize() {
+        return headerSize;
+    }
+
+    public long getIdleGapMs() {
+        return idleGapMs;
+    }
+
+    public int getMaxFrameLength() {
+        return maxFrameLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FrameSpec other)) return false;
+        return type == other.type && headerSize == other.headerSize && encoding == other.encoding
+                && includesHeader == other.includesHeader && fixedLength == other.fixedLength
+                && prefixLength == other.prefixLength && lengthResolver == other.lengthResolver
+                && Arrays.equals(delimiter, other.delimiter) && idleGapMs == other.idleGapMs
+                && maxFrameLength == other.maxFrameLength;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, headerSize, encoding, includesHeader, fixedLength, prefixLength,
+                Arrays.hashCode(delimiter), idleGapMs, maxFrameLength);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case LENGTH -> "LENGTH(" + headerSize + "byte " + encoding + (includesHeader ? ", 헤더 포함" : "") + ")";
+            case FIXED -> "FIXED(" + fixedLength + ")";
+            case LAYOUT -> "LAYOUT(전문코드 " + prefixLength + "byte)";
+            case DELIMITER -> "DELIMITER(0x" + HexCodec.toHex(delimiter) + ")";
+            case IDLE -> idleGapMs > 0 ? "IDLE(" + idleGapMs + "ms)" : "EOF";
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.linkx.protocol.framing;
+
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 길이 정보 없는 프레임 디코더 — 유휴 간격 또는 입력 종료(EOF)로 전문 끝을 판단
+ *
+ * 수신 후 유휴 간격 동안 추가 바이트가 없으면(idle 호출) 또는 상대가 송신을 닫으면(finish) 수신분 전체가 전문
+ * 유휴 간격 방식은 최대 길이에 도달하면 그 자리에서 프레임으로 반환 (읽기 블로킹 없이 최대 길이 이하 전문 처리)
+ * 입력 종료 방식은 잘린 전문을 정상 응답으로 넘기지 않도록 최대 길이를 넘는 입력이 오면 오류
+ * 조립 버퍼는 첫 바이트 수신 시 풀에서 꺼내고 프레임 완성 시 반환
+ */
+final class IdleGapFrameDecoder implements FrameDecoder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxFrameLength;
+    private final boolean untilEof;
+    private final BufferPool pool;
+    private PooledBuffer pooled;
+    private byte[] buffer;
+    private int size;
+
+    IdleGapFrameDecoder(int maxFrameLength, boolean untilEof, BufferPool pool) {
+        this.maxFrameLength = maxFrameLength;
+        this.untilEof = untilEof;
+        this.pool = pool;
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer in) {
+        if (untilEof && in.remaining() > maxFrameLength - size) {
+            throw new RuntimeException("입력 종료 전 최대 길이 초과: " + maxFrameLength);
+        }
+        int n = Math.min(in.remaining(), maxFrameLength - size);
+        ensureCapacity(size + n);
+        in.get(buffer, size, n);
+        size += n;
+        return size >= maxFrameLength && !untilEof ? take() : null;
+    }
+
+    @Override
+    public byte[] finish() {
+        return take();
+    }
+
+    @Override
+    public byte[] idle() {
+        return take();
+    }
+
+    @Override
+    public boolean hasPartial() {
+        return size > 0;
+    }
+
+    @Override
+    public String progress() {
+        return "수신 " + size + "byte";
+    }
+
+    @Override
+    public void release() {
+        size = 0;
+        if (pooled != null) {
+            pooled.release();
+            pooled = null;
+            buffer = null;
+        }
+    }
+
+    private byte[] take() {
+        if (size == 0) {
+            return null;
+        }
+        byte[] frame = Arrays.copyOf(buffer, size);
+        release();
+        return frame;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buffer != null && capacity <= buffer.length) {
+            return;
+        }
+        int grownSize = buffer == null
+                ? Math.min(maxFrameLength, Math.max(capacity, INITIAL_CAPACITY))
+                : Math.min(maxFrameLength, Math.max(capacity, buffer.length * 2));
+        PooledBuffer grown = pool.acquire(grownSize);
+        if (pooled != null) {
+            System.arraycopy(buffer, 0, grown.array(), 0, size);
+            pooled.release();
+        }
+        pooled = grown;
+        buffer = grown.array();
+    }
+}
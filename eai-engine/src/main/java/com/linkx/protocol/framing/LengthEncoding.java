@@ -0,0 +1,137 @@
+package com.linkx.protocol.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 길이 헤더 표기 방식
+ * - ASCII    : 0 패딩 숫자 문자열 (금융권 일반적 방식, 수신 시 앞뒤 공백 허용)
+ * - BINARY_BE: 부호 없는 정수 big-endian (1~8byte)
+ * - BINARY_LE: 부호 없는 정수 little-endian (1~8byte)
+ */
+public enum LengthEncoding {
+
+    ASCII, BINARY_BE, BINARY_LE;
+
+    /**
+     * 설정값 → 표기 방식 (비어 있으면 ASCII)
+     */
+    public static LengthEncoding of(String name) {
+        if (name == null || name.isBlank()) {
+            return ASCII;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("지원하지 않는 길이 헤더 방식: " + name);
+        }
+    }
+
+    /**
+     * 헤더 바이트 → 길이 값
+     *
+     * @throws RuntimeException 숫자가 아니거나 int 범위를 넘는 경우
+     */
+    public int read(byte[] src, int offset, int size) {
+        long value = 0;
+        switch (this) {
+            case ASCII -> {
+                int start = offset;
+                int end = offset + size;
+                while (start < end && src[start] == ' ') start++;
+                while (end > start && src[end - 1] == ' ') end--;
+                if (start == end) {
+                    throw new RuntimeException("길이 헤더 오류: [" + ascii(src, offset, size) + "]");
+                }
+                for (int i = start; i < end; i++) {
+                    int digit = src[i] - '0';
+                    if (digit < 0 || digit > 9) {
+                        throw new RuntimeException("길이 헤더 오류: [" + ascii(src, offset, size) + "]");
+                    }
+                    value = value * 10 + digit;
+                }
+            }
+            case BINARY_BE -> {
+                for (int i = 0; i < size; i++) {
+                    value = (value << 8) | (src[offset + i] & 0xFF);
+                }
+            }
+            case BINARY_LE -> {
+                for (int i = size - 1; i >= 0; i--) {
+                    value = (value << 8) | (src[offset + i] & 0xFF);
+                }
+            }
+        }
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new RuntimeException("길이 헤더 범위 초과: " + Long.toUnsignedString(value));
+        }
+        return (int) value;
+    }
+
+    /**
+     * 길이 값 → 헤더 바이트
+     *
+     * @throws RuntimeException 헤더 크기로 표현할 수 없는 값
+     */
+    public void write(int value, byte[] dst, int offset, int size) {
+        write(value, ByteBuffer.wrap(dst), offset, size);
+    }
+
+    /**
+     * 길이 값 → 헤더 바이트 (버퍼의 현재 위치에 기록 후 위치 이동, 다이렉트 버퍼 가능)
+     */
+    public void write(int value, ByteBuffer dst, int size) {
+        write(value, dst, dst.position(), size);
+        dst.position(dst.position() + size);
+    }
+
+    private void write(int value, ByteBuffer dst, int offset, int size) {
+        switch (this) {
+            case ASCII -> {
+                int remaining = value;
+                for (int i = offset + size - 1; i >= offset; i--) {
+                    dst.put(i, (byte) ('0' + remaining % 10));
+                    remaining /= 10;
+                }
+                if (remaining != 0) {
+                    throw new RuntimeException("길이 헤더 자릿수 초과: " + value + " (" + size + "byte)");
+                }
+            }
+            case BINARY_BE -> {
+                checkBinaryRange(value, size);
+                for (int i = 0; i < size; i++) {
+                    dst.put(offset + i, (byte) (size - 1 - i < 4 ? value >>> (8 * (size - 1 - i)) : 0));
+                }
+            }
+            case BINARY_LE -> {
+                checkBinaryRange(value, size);
+                for (int i = 0; i < size; i++) {
+                    dst.put(offset + i, (byte) (i < 4 ? value >>> (8 * i) : 0));
+                }
+            }
+        }
+    }
+
+    /**
+     * 헤더 크기 검증 (ASCII는 1~10byte, BINARY는 1~8byte)
+     */
+    void checkSize(int size) {
+        if (size <= 0 || size > (this == ASCII ? 10 : 8)) {
+            throw new RuntimeException("길이 헤더 크기 오류: " + name() + " " + size + "byte");
+        }
+    }
+
+    private static void checkBinaryRange(int value, int size) {
+        if (size < 4 && value >>> (8 * size) != 0) {
+            throw new RuntimeException("길이 헤더 범위 초과: " + value + " (" + size + "byte)");
+        }
+    }
+
+    private static String ascii(byte[] src, int offset, int size) {
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            int b = src[offset + i] & 0xFF;
+            sb.append(b >= 0x20 && b < 0x7F ? (char) b : '.');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.linkx.protocol.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 길이 헤더 프레임 디코더 — [길이 헤더 + 본문]
+ *
+ * 헤더를 다 받으면 본문 길이만큼 배열을 할당하고 이후 수신분을 바로 복사
+ */
+final class LengthFieldFrameDecoder implements FrameDecoder {
+
+    private final LengthEncoding encoding;
+    private final boolean includesHeader;
+    private final int maxFrameLength;
+    private final byte[] header;
+    private int headerRead;
+
+    private byte[] body;
+    private int bodyRead;
+
+    LengthFieldFrameDecoder(int headerSize, LengthEncoding encoding, boolean includesHeader, int maxFrameLength) {
+        this.encoding = encoding;
+        this.includesHeader = includesHeader;
+        this.maxFrameLength = maxFrameLength;
+        this.header = new byte[headerSize];
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer in) {
+        if (body == null) {
+            int n = Math.min(in.remaining(), header.length - headerRead);
+            in.get(header, headerRead, n);
+            headerRead += n;
+            if (headerRead < header.length) {
+                return null;
+            }
+            body = new byte[bodyLength()];
+        }
+
+        int n = Math.min(in.remaining(), body.length - bodyRead);
+        in.get(body, bodyRead, n);
+        bodyRead += n;
+        if (bodyRead < body.length) {
+            return null;
+        }
+
+        byte[] frame = body;
+        body = null;
+        headerRead = 0;
+        bodyRead = 0;
+        return frame;
+    }
+
+    private int bodyLength() {
+        int length = encoding.read(header, 0, header.length);
+        if (includesHeader) {
+            length -= header.length;
+        }
+        if (length < 0 || length > maxFrameLength) {
+            throw new RuntimeException("전문 길이 범위 초과: " + length);
+        }
+        return length;
+    }
+
+    @Override
+    public boolean hasPartial() {
+        return headerRead > 0;
+    }
+
+    @Override
+    public String progress() {
+        return body == null
+                ? "헤더 " + headerRead + "/" + header.length
+                : "본문 " + bodyRead + "/" + body.length;
+    }
+}
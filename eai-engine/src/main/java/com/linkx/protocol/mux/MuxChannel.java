@@ -0,0 +1,314 @@
+package com.linkx.protocol.mux;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.protocol.framing.FrameReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 다중화 TCP 채널
+ *
+ * 장기 연결 N개를 여러 송신 요청이 공유하고, 응답은 상관키(거래고유번호 등) 필드로 요청과 매칭
+ * - 송신: 연결을 라운드로빈 선택 → 연결별 잠금 안에서 길이헤더+전문 기록 (왕복을 기다리지 않음)
+ * - 수신: 연결별 수신 스레드가 프레임을 읽어 상관키로 대기 중인 요청을 완료 (응답 순서 무관)
+ * - 송신/수신 소켓 분리형 기관은 receivePort로 수신 전용 연결 1개를 사용
+ * - 연결이 끊기면 해당 연결로 보낸 미응답 요청을 실패 처리하고, 다음 송신 시 재연결
+ *
+ * 응답 future는 수신 스레드에서 완료되므로 무거운 후속 처리는 *Async 콜백으로 분리할 것
+ */
+@Slf4j
+class MuxChannel {
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+
+    private final MuxChannelKey key;
+    private final boolean virtualThreads;
+    private final Link[] sendLinks;
+    private final Link receiveLink;   // null이면 송신 연결로 수신
+
+    /** 상관키 → 응답 대기 요청 */
+    private final Map<String, Pending> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile boolean closed;
+
+    // === 통계 ===
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder unmatched = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private record Pending(CompletableFuture<byte[]> future, Link link) {
+    }
+
+    MuxChannel(MuxChannelKey key, boolean virtualThreads) {
+        this.key = key;
+        this.virtualThreads = virtualThreads;
+        boolean separate = key.separateReceive();
+        this.sendLinks = new Link[key.connections()];
+        for (int i = 0; i < sendLinks.length; i++) {
+            sendLinks[i] = new Link("mux-" + key.port() + "-" + i, key.port(), !separate);
+        }
+        this.receiveLink = separate ? new Link("mux-" + key.receivePort() + "-rx", key.receivePort(), true) : null;
+    }
+
+    /**
+     * 전문 송신 — 응답은 상관키가 같은 수신 프레임으로 완료
+     */
+    CompletableFuture<byte[]> send(byte[] request, int timeoutMs) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IOException("다중화 채널이 종료되었습니다: " + key));
+        }
+        String correlationKey = correlationKey(request);
+        if (correlationKey == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "전문 길이(" + request.length + ")가 상관키 범위를 벗어납니다"));
+        }
+
+        Link link = sendLinks[Math.floorMod(cursor.getAndIncrement(), sendLinks.length)];
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        Pending pending = new Pending(future, link);
+        if (inFlight.putIfAbsent(correlationKey, pending) != null) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "상관키 중복 — 응답 대기 중인 전문이 있습니다: [" + correlationKey.trim() + "]"));
+        }
+        future.whenComplete((response, e) -> {
+            inFlight.remove(correlationKey, pending);
+            if (e instanceof TimeoutException) {
+                timeouts.increment();
+            } else if (e != null) {
+                failed.increment();
+            }
+        });
+        future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+
+        try {
+            if (receiveLink != null) {
+                receiveLink.ensureOpen(); // 응답을 놓치지 않도록 수신 연결을 먼저 확보
+            }
+            link.write(request);
+            sent.increment();
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 수신 프레임 → 대기 요청 완료
+     */
+    private void onResponse(byte[] frame) {
+        String correlationKey = correlationKey(frame);
+        Pending pending = correlationKey != null ? inFlight.remove(correlationKey) : null;
+        if (pending == null) {
+            unmatched.increment();
+            log.warn("[TCP_MUX] 매칭되지 않는 응답 — 상관키: [{}], {}bytes ({})",
+                    correlationKey, frame.length, key);
+            return;
+        }
+        matched.increment();
+        pending.future().complete(frame);
+    }
+
+    /**
+     * 연결 단절 시 응답을 받을 수 없게 된 요청 실패 처리
+     * - 수신 연결 분리형: 수신 연결이 끊기면 전체, 송신 연결 단절은 이미 보낸 요청과 무관
+     * - 공용형: 해당 연결로 보낸 요청만
+     */
+    private void failPending(Link link, Exception cause) {
+        if (receiveLink != null && link != receiveLink) {
+            return;
+        }
+        IOException failure = new IOException("다중화 연결 단절 (" + link.name + "): " + cause.getMessage(), cause);
+        inFlight.forEach((correlationKey, pending) -> {
+            if (link == receiveLink || pending.link() == link) {
+                pending.future().completeExceptionally(failure);
+            }
+        });
+    }
+
+    /**
+     * 전문의 상관키 (바이트 그대로 비교하기 위해 ISO-8859-1로 1:1 매핑)
+     *
+     * @return 전문이 상관키 범위보다 짧으면 null
+     */
+    private String correlationKey(byte[] data) {
+        int offset = key.correlationOffset();
+        int length = key.correlationLength();
+        if (length <= 0 || offset < 0 || offset + length > data.length) {
+            return null;
+        }
+        return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    void close() {
+        closed = true;
+        for (Link link : sendLinks) {
+            link.close();
+        }
+        if (receiveLink != null) {
+            receiveLink.close();
+        }
+        IOException failure = new IOException("다중화 채널이 종료되었습니다: " + key);
+        inFlight.values().forEach(pending -> pending.future().completeExceptionally(failure));
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("channel", key.toString());
+        int open = 0;
+        for (Link link : sendLinks) {
+            if (link.isOpen()) open++;
+        }
+        stats.put("openConnections", open);
+        if (receiveLink != null) {
+            stats.put("receiveConnected", receiveLink.isOpen());
+        }
+        stats.put("inFlight", inFlight.size());
+        stats.put("sent", sent.sum());
+        stats.put("matched", matched.sum());
+        stats.put("unmatched", unmatched.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    /**
+     * 장기 연결 1개 (지연 연결, 단절 후 다음 사용 시 재연결)
+     */
+    private final class Link {
+
+        private final String name;
+        private final int port;
+        private final boolean reads;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private volatile Socket socket;
+        private OutputStream out;   // lock 보호
+
+        Link(String name, int port, boolean reads) {
+            this.name = name;
+            this.port = port;
+            this.reads = reads;
+        }
+
+        boolean isOpen() {
+            return socket != null;
+        }
+
+        void ensureOpen() throws IOException {
+            if (socket != null) {
+                return;
+            }
+            lock.lock();
+            try {
+                openIfNeeded();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void write(byte[] data) throws IOException {
+            Socket current;
+            lock.lock();
+            try {
+                openIfNeeded();
+                current = socket;
+                try {
+                    key.frameSpec().writeTo(out, data);
+                    out.flush();
+                    return;
+                } catch (IOException e) {
+                    drop(current, e);
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void openIfNeeded() throws IOException {
+            if (socket != null) {
+                return;
+            }
+            if (closed) {
+                throw new IOException("다중화 채널이 종료되었습니다: " + key);
+            }
+            Socket s = new Socket();
+            s.setTcpNoDelay(true);
+            s.setKeepAlive(true);
+            s.connect(new InetSocketAddress(key.host(), port), CONNECT_TIMEOUT_MS);
+            out = new BufferedOutputStream(s.getOutputStream());
+            socket = s; // 수신 스레드의 단절 처리가 이 소켓을 인식하도록 먼저 등록
+            if (reads) {
+                InputStream in = new BufferedInputStream(s.getInputStream());
+                ExecutorProvider.startThread(name + "-reader", virtualThreads, () -> readLoop(s, in));
+            }
+            log.info("[TCP_MUX] 연결 — {} → {}:{}", name, key.host(), port);
+        }
+
+        private void readLoop(Socket s, InputStream in) {
+            try (FrameReader reader = new FrameReader(s, in, key.frameSpec())) {
+                byte[] frame;
+                while ((frame = reader.read()) != null) {
+                    onResponse(frame);
+                }
+                drop(s, new IOException("상대방이 연결을 종료했습니다"));
+            } catch (IOException e) {
+                drop(s, e);
+            }
+        }
+
+        /**
+         * 연결 폐기 (이미 재연결된 소켓이면 무시)
+         */
+        private void drop(Socket s, Exception cause) {
+            closeQuietly(s); // 먼저 닫아 블로킹된 쓰기를 깨움
+            lock.lock();
+            try {
+                if (socket != s) {
+                    return;
+                }
+                socket = null;
+                out = null;
+            } finally {
+                lock.unlock();
+            }
+            if (!closed) {
+                log.warn("[TCP_MUX] 연결 단절 — {}: {}", name, cause.getMessage());
+            }
+            failPending(this, cause);
+        }
+
+        void close() {
+            Socket s = socket;
+            if (s != null) {
+                drop(s, new IOException("채널 종료"));
+            }
+        }
+
+        private void closeQuietly(Socket s) {
+            try {
+                s.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.linkx.protocol.mux;
+
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.framing.FrameSpec;
+
+/**
+ * 다중화 채널 식별키 — 같은 키의 송신은 하나의 채널(연결 묶음)을 공유
+ */
+record MuxChannelKey(String host,
+                     int port,
+                     int receivePort,
+                     int connections,
+                     FrameSpec frameSpec,
+                     int correlationOffset,
+                     int correlationLength) {
+
+    static MuxChannelKey of(ConnectionConfig config) {
+        return new MuxChannelKey(
+                config.getHost(),
+                config.getPort(),
+                config.getReceivePort(),
+                Math.max(1, config.getMuxConnections()),
+                config.frameSpec(),
+                config.getCorrelationOffset(),
+                config.getCorrelationLength());
+    }
+
+    boolean separateReceive() {
+        return receivePort > 0 && receivePort != port;
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port + (separateReceive() ? "/" + receivePort : "") + " x" + connections;
+    }
+}
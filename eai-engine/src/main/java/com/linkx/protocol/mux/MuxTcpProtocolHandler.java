@@ -0,0 +1,98 @@
+package com.linkx.protocol.mux;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.protocol.AsyncSend;
+import com.linkx.protocol.ConnectionConfig;
+import com.linkx.protocol.ProtocolHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중화 TCP 핸들러 (TCP_MUX)
+ * - 같은 대상(host:port/수신포트/연결수/상관키 위치)으로 가는 전문은 하나의 MuxChannel을 공유
+ * - 동시에 여러 전문을 보내고 상관키로 응답을 매칭하므로 처리량이 왕복 지연이 아닌 대역폭에 좌우됨
+ * - 길이 헤더 필수 (장기 연결에서 전문 경계 구분)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MuxTcpProtocolHandler implements ProtocolHandler {
+
+    private final ExecutorProvider executorProvider;
+    private final Map<MuxChannelKey, MuxChannel> channels = new ConcurrentHashMap<>();
+
+    @Override
+    public String getProtocolName() {
+        return "TCP_MUX";
+    }
+
+    @Override
+    public byte[] sendAndReceive(ConnectionConfig config, byte[] requestData) throws Exception {
+        return AsyncSend.await(sendAsync(config, ByteBuffer.wrap(requestData)), "TCP_MUX",
+                config.effectiveTimeoutMs());
+    }
+
+    /**
+     * 비동기 송신 — 응답 전문(길이 헤더 제외)으로 완료되는 future
+     * (취소/타임아웃 시 응답 대기 목록에서 제거되며, 늦게 온 응답은 unmatched로 집계)
+     */
+    @Override
+    public CompletableFuture<byte[]> sendAsync(ConnectionConfig config, ByteBuffer request) {
+        try {
+            validate(config);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        byte[] requestData = AsyncSend.toBytes(request);
+        MuxChannel channel = channels.computeIfAbsent(MuxChannelKey.of(config),
+                key -> new MuxChannel(key, executorProvider.isVirtualByDefault()));
+        log.debug("[TCP_MUX] Send {} bytes to {}:{}", requestData.length, config.getHost(), config.getPort());
+        return channel.send(requestData, config.effectiveTimeoutMs());
+    }
+
+    @Override
+    public boolean testConnection(ConnectionConfig config) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(config.getHost(), config.getPort()), 3000);
+            return socket.isConnected();
+        } catch (Exception e) {
+            log.warn("[TCP_MUX] Connection test failed: {}:{} - {}", config.getHost(), config.getPort(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 채널별 송수신 통계
+     */
+    public List<Map<String, Object>> getChannelStats() {
+        List<Map<String, Object>> stats = new ArrayList<>();
+        channels.values().forEach(channel -> stats.add(channel.getStats()));
+        return stats;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        channels.values().forEach(MuxChannel::close);
+        channels.clear();
+    }
+
+    private void validate(ConnectionConfig config) {
+        if (!config.isIncludeLengthHeader()) {
+            throw new IllegalArgumentException("TCP_MUX는 길이 헤더가 필요합니다");
+        }
+        if (config.getCorrelationLength() <= 0) {
+            throw new IllegalArgumentException("TCP_MUX는 상관키 필드(correlationField)가 필요합니다");
+        }
+    }
+}
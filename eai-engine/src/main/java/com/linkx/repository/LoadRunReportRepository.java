@@ -0,0 +1,15 @@
+package com.linkx.repository;
+
+import com.linkx.domain.LoadRunReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LoadRunReportRepository extends JpaRepository<LoadRunReport, Long> {
+
+    List<LoadRunReport> findTop50ByOrderByStartedAtDesc();
+
+    List<LoadRunReport> findByStatus(String status);
+}
@@ -0,0 +1,24 @@
+package com.linkx.repository;
+
+import com.linkx.domain.ResponseDelay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResponseDelayRepository extends JpaRepository<ResponseDelay, Long> {
+
+    /** 전문코드별 활성 지연 정책 */
+    Optional<ResponseDelay> findByTelegramIdAndActiveTrue(String telegramId);
+
+    /** 전체 활성 지연 정책 (스케줄러 일괄 적재) */
+    List<ResponseDelay> findByActiveTrue();
+
+    /** 전문코드별 지연 정책 */
+    Optional<ResponseDelay> findByTelegramId(String telegramId);
+
+    /** 전체 정책 (전문코드순) */
+    List<ResponseDelay> findAllByOrderByTelegramIdAsc();
+}
@@ -0,0 +1,13 @@
+package com.linkx.repository;
+
+import com.linkx.domain.Scenario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScenarioRepository extends JpaRepository<Scenario, Long> {
+
+    List<Scenario> findAllByOrderByNameAsc();
+}
@@ -4,8 +4,11 @@ import com.linkx.domain.TelegramHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,4 +19,17 @@ public interface TelegramHistoryRepository extends JpaRepository<TelegramHistory
     List<TelegramHistory> findTop20ByOrderByCreatedAtDesc();
 
     Page<TelegramHistory> findByProtocolOrderByCreatedAtDesc(String protocol, Pageable pageable);
+
+    /** 재전송 대상 송신 이력 (송신 원문 보유 건, id 키셋 페이지) */
+    @Query("SELECT h FROM TelegramHistory h WHERE h.telegramId = :telegramId AND h.direction = 'SEND'"
+            + " AND h.rawRequestData IS NOT NULL AND h.id > :afterId"
+            + " AND h.createdAt BETWEEN :from AND :to ORDER BY h.id")
+    List<TelegramHistory> findReplayPage(@Param("telegramId") String telegramId, @Param("afterId") Long afterId,
+                                         @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                         Pageable pageable);
+
+    @Query("SELECT COUNT(h) FROM TelegramHistory h WHERE h.telegramId = :telegramId AND h.direction = 'SEND'"
+            + " AND h.rawRequestData IS NOT NULL AND h.createdAt BETWEEN :from AND :to")
+    long countReplay(@Param("telegramId") String telegramId,
+                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -17,6 +17,10 @@ public interface TelegramLayoutRepository extends JpaRepository<TelegramLayout,
     @Query("SELECT DISTINCT t.telegramId, t.telegramName FROM TelegramLayout t WHERE t.active = true ORDER BY t.telegramId")
     List<Object[]> findDistinctTelegrams();
 
+    /** 전문코드별 전문 전체 길이 (시뮬레이터 기준 — 비활성 필드 포함 길이 합) */
+    @Query("SELECT t.telegramId, SUM(t.fieldLength) FROM TelegramLayout t GROUP BY t.telegramId")
+    List<Object[]> sumFieldLengthByTelegram();
+
     /** 섹션별 필드 조회 */
     List<TelegramLayout> findByTelegramIdAndSectionAndActiveTrueOrderByFieldSeq(
             String telegramId, String section);
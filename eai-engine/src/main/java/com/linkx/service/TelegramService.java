@@ -5,9 +5,21 @@ import com.linkx.domain.TelegramHistory;
 import com.linkx.domain.TelegramLayout;
 import com.linkx.protocol.ConnectionConfig;
 import com.linkx.protocol.ProtocolRouter;
+import com.linkx.protocol.TcpConnectionPool;
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.mux.MuxTcpProtocolHandler;
 import com.linkx.repository.TelegramHistoryRepository;
 import com.linkx.repository.TelegramLayoutRepository;
+import com.linkx.telegram.EncodeResult;
+import com.linkx.telegram.HexCodec;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TelegramCodec;
 import com.linkx.telegram.TelegramEngine;
+import com.linkx.telegram.TextCodec;
+import com.linkx.telegram.generator.FieldEncoder;
+import com.linkx.telegram.generator.FieldGenerators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -15,7 +27,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -23,10 +38,25 @@ import java.util.*;
 public class TelegramService {
 
     private final TelegramLayoutRepository layoutRepository;
+    private final LayoutRegistry layoutRegistry;
     private final TelegramHistoryRepository historyRepository;
+    private final TrafficStreamService trafficStream;
     private final TelegramEngine telegramEngine;
     private final ProtocolRouter protocolRouter;
     private final ObjectMapper objectMapper;
+    private final PayloadCompression payloadCompression;
+    private final TcpConnectionPool tcpConnectionPool;
+    private final MuxTcpProtocolHandler muxHandler;
+    private final BufferPool bufferPool;
+
+    /** 생성 규칙 캐시 상한 (넘으면 비우고 다시 컴파일, 레이아웃 변경 전 코덱 항목도 함께 정리) */
+    private static final int MAX_ENCODERS = 1024;
+
+    /** 생성 규칙 송신 순번 (SEQ/ACCOUNT 등) */
+    private final AtomicLong generatorSeq = new AtomicLong();
+
+    /** 코덱 필드 + 생성 규칙 → 바인딩된 인코더 (코덱은 레이아웃 변경 시 새 인스턴스이므로 식별 비교) */
+    private final Map<EncoderKey, FieldEncoder> encoders = new ConcurrentHashMap<>();
 
     /**
      * 전문코드 목록 조회
@@ -47,7 +77,7 @@ public class TelegramService {
      * 전문 레이아웃 조회
      */
     public List<TelegramLayout> getLayout(String telegramId) {
-        return layoutRepository.findByTelegramIdAndActiveTrueOrderByFieldSeq(telegramId);
+        return layoutRegistry.getLayouts(telegramId);
     }
 
     /**
@@ -55,37 +85,41 @@ public class TelegramService {
      */
     public Map<String, List<TelegramLayout>> getLayoutBySection(String telegramId) {
         Map<String, List<TelegramLayout>> result = new LinkedHashMap<>();
-        result.put("HEADER", layoutRepository.findByTelegramIdAndSectionAndActiveTrueOrderByFieldSeq(
-                telegramId, "HEADER"));
-        result.put("BODY", layoutRepository.findByTelegramIdAndSectionAndActiveTrueOrderByFieldSeq(
-                telegramId, "BODY"));
+        result.put("HEADER", new ArrayList<>());
+        result.put("BODY", new ArrayList<>());
+        for (TelegramLayout layout : getLayout(telegramId)) {
+            List<TelegramLayout> section = result.get(layout.getSection());
+            if (section != null) {
+                section.add(layout);
+            }
+        }
         return result;
     }
 
     /**
      * 전문 조립 미리보기 (실제 전송 X)
      */
-    public Map<String, Object> buildPreview(String telegramId, Map<String, String> fieldValues, String charset) {
+    public Map<String, Object> buildPreview(String telegramId, Map<String, String> fieldValues,
+                                            Map<String, String> fieldGenerators, String charset) {
         List<TelegramLayout> layouts = getLayout(telegramId);
 
-        // 유효성 검사
-        List<String> errors = telegramEngine.validate(layouts, fieldValues);
-        if (!errors.isEmpty()) {
-            Map<String, Object> result = new LinkedHashMap<>();
-            result.put("success", false);
-            result.put("errors", errors);
-            return result;
+        // 유효성 검사 + 조립 (단일 패스)
+        Map<String, Object> rejected = new LinkedHashMap<>();
+        Assembled assembled = assemble(layouts, fieldValues, fieldGenerators, charset, rejected);
+        if (assembled == null) {
+            return rejected;
         }
-
-        byte[] rawData = telegramEngine.build(layouts, fieldValues, charset);
+        byte[] rawData = assembled.data();
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("success", true);
-        result.put("rawHex", telegramEngine.toHexDump(rawData));
-        result.put("rawText", new String(rawData, java.nio.charset.Charset.forName(
-                charset != null ? charset : "EUC-KR")));
+        result.put("rawHex", HexCodec.toHexDump(rawData));
+        result.put("rawText", TextCodec.decode(rawData, TextCodec.resolve(charset)));
         result.put("totalLength", rawData.length);
         result.put("fieldCount", layouts.size());
+        if (fieldGenerators != null && !fieldGenerators.isEmpty()) {
+            result.put("fields", assembled.fields());
+        }
         return result;
     }
 
@@ -94,26 +128,29 @@ public class TelegramService {
      */
     @Transactional
     public Map<String, Object> sendTelegram(String telegramId, Map<String, String> fieldValues,
+                                             Map<String, String> fieldGenerators,
                                              ConnectionConfig connConfig, String charset) {
         List<TelegramLayout> layouts = getLayout(telegramId);
         long startTime = System.currentTimeMillis();
 
-        // 유효성 검사
-        List<String> errors = telegramEngine.validate(layouts, fieldValues);
-        if (!errors.isEmpty()) {
-            return Map.of("success", false, "errors", errors);
+        // 유효성 검사 + 전문 조립 (필드값은 송신 문자셋으로 한 번만 인코딩)
+        Map<String, Object> rejected = new LinkedHashMap<>();
+        Assembled assembled = assemble(layouts, fieldValues, fieldGenerators, charset, rejected);
+        if (assembled == null) {
+            return rejected;
         }
-
-        // 전문 조립
-        byte[] requestData = telegramEngine.build(layouts, fieldValues, charset);
+        byte[] requestData = assembled.data();
+        fieldValues = assembled.fields();
+        connConfig.resolveCorrelation(telegramEngine.codec(layouts, charset));
 
         TelegramHistory history = TelegramHistory.builder()
                 .telegramId(telegramId)
                 .protocol(connConfig.getProtocol())
                 .direction("SEND")
-                .target(formatTarget(connConfig))
-                .rawRequest(telegramEngine.toHexDump(requestData))
+                .target(connConfig.formatTarget())
+                .charset(charset)
                 .build();
+        history.storeRaw(requestData, null, payloadCompression.shouldCompress(requestData.length));
 
         try {
             // 파싱된 요청 저장
@@ -123,23 +160,25 @@ public class TelegramService {
             byte[] responseData = protocolRouter.sendAndReceive(connConfig, requestData);
             long elapsed = System.currentTimeMillis() - startTime;
 
-            // 응답 파싱
-            Map<String, Object> parsedResponse = telegramEngine.parse(responseData, layouts, charset);
+            // 응답 파싱 (지연 디코딩 뷰, REST 응답용 Map은 필요한 시점에 생성)
+            ParsedTelegram response = telegramEngine.codec(layouts, charset).view(responseData);
+            Map<String, Object> parsedResponse = response.toMap();
 
-            history.setRawResponse(telegramEngine.toHexDump(responseData));
+            history.storeRaw(requestData, responseData,
+                    payloadCompression.shouldCompress(requestData.length + responseData.length));
             history.setParsedResponse(objectMapper.writeValueAsString(parsedResponse));
             history.setElapsedMs(elapsed);
             history.setSuccess(true);
 
             historyRepository.save(history);
+            trafficStream.publish(history);
 
             Map<String, Object> result = new LinkedHashMap<>();
             result.put("success", true);
             result.put("elapsedMs", elapsed);
             result.put("request", Map.of(
-                    "rawHex", telegramEngine.toHexDump(requestData),
-                    "rawText", new String(requestData, java.nio.charset.Charset.forName(
-                            charset != null ? charset : "EUC-KR")),
+                    "rawHex", HexCodec.toHexDump(requestData),
+                    "rawText", TextCodec.decode(requestData, TextCodec.resolve(charset)),
                     "fields", fieldValues
             ));
             result.put("response", parsedResponse);
@@ -154,6 +193,7 @@ public class TelegramService {
             history.setSuccess(false);
             history.setErrorMessage(e.getMessage());
             historyRepository.save(history);
+            trafficStream.publish(history);
 
             Map<String, Object> result = new LinkedHashMap<>();
             result.put("success", false);
@@ -164,6 +204,104 @@ public class TelegramService {
         }
     }
 
+    /**
+     * 송신 전문 조립 (유효성 검사 + 생성 규칙 적용) — 미리보기/송신/다중 대상 비교 공용
+     *
+     * @return 조립 결과, 실패 시 rejected에 실패 응답(errors/fieldErrors)을 채우고 null
+     */
+    public Assembled assemble(List<TelegramLayout> layouts, Map<String, String> fieldValues,
+                              Map<String, String> fieldGenerators, String charset,
+                              Map<String, Object> rejected) {
+        EncodeResult encoded = telegramEngine.encode(layouts, fieldValues, charset);
+        List<EncodeResult.FieldError> errors = fieldErrors(encoded, fieldGenerators);
+        if (!errors.isEmpty()) {
+            rejected.putAll(invalid(errors));
+            return null;
+        }
+        byte[] data = encoded.getData();
+        try {
+            return new Assembled(data, applyGenerators(layouts, charset, fieldGenerators, data, fieldValues));
+        } catch (RuntimeException e) {
+            rejected.put("success", false);
+            rejected.put("errors", List.of(e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * 조립된 전문 + 생성값을 포함한 필드값
+     */
+    public record Assembled(byte[] data, Map<String, String> fields) {
+    }
+
+    /**
+     * 검증 오류 (생성 규칙 필드는 조립 후 채우므로 제외)
+     */
+    private static List<EncodeResult.FieldError> fieldErrors(EncodeResult encoded, Map<String, String> fieldGenerators) {
+        if (fieldGenerators == null || fieldGenerators.isEmpty()) {
+            return encoded.getErrors();
+        }
+        return encoded.getErrors().stream()
+                .filter(error -> !fieldGenerators.containsKey(error.getFieldName()))
+                .toList();
+    }
+
+    private static Map<String, Object> invalid(List<EncodeResult.FieldError> errors) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", false);
+        result.put("errors", errors.stream().map(EncodeResult.FieldError::getMessage).toList());
+        result.put("fieldErrors", errors);
+        return result;
+    }
+
+    /**
+     * 조립된 전문에 생성 규칙 필드를 직접 기록하고, 생성된 값을 포함한 필드값 맵 반환 (이력/응답 표시용)
+     */
+    private Map<String, String> applyGenerators(List<TelegramLayout> layouts, String charset,
+                                                Map<String, String> fieldGenerators, byte[] data,
+                                                Map<String, String> fieldValues) {
+        if (fieldGenerators == null || fieldGenerators.isEmpty()) {
+            return fieldValues;
+        }
+        TelegramCodec codec = telegramEngine.codec(layouts, charset);
+        long seq = generatorSeq.getAndIncrement();
+        int[] indexes = new int[fieldGenerators.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : fieldGenerators.entrySet()) {
+            int index = codec.indexOf(entry.getKey());
+            if (index < 0) {
+                throw new RuntimeException("생성 규칙 필드가 레이아웃에 없습니다: " + entry.getKey());
+            }
+            encoder(codec, index, entry.getValue()).write(seq, data);
+            indexes[i++] = index;
+        }
+
+        Map<String, String> values = fieldValues != null ? new LinkedHashMap<>(fieldValues) : new LinkedHashMap<>();
+        ParsedTelegram view = codec.view(data);
+        for (int index : indexes) {
+            values.put(codec.getField(index).getName(), view.getValue(index));
+        }
+        return values;
+    }
+
+    /**
+     * 생성 규칙 파싱/바인딩은 코덱 필드 + 규칙마다 한 번 (부하 실행의 RequestTemplate과 같은 인코더)
+     */
+    private FieldEncoder encoder(TelegramCodec codec, int index, String spec) {
+        EncoderKey key = new EncoderKey(codec, index, spec);
+        FieldEncoder encoder = encoders.get(key);
+        if (encoder != null) {
+            return encoder;
+        }
+        if (encoders.size() >= MAX_ENCODERS) {
+            encoders.clear();
+        }
+        return encoders.computeIfAbsent(key, k -> FieldGenerators.parse(spec).bind(codec, index));
+    }
+
+    private record EncoderKey(TelegramCodec codec, int index, String spec) {
+    }
+
     /**
      * 수신 전문 파싱
      */
@@ -173,13 +311,12 @@ public class TelegramService {
         byte[] rawData;
 
         if (isHex) {
-            rawData = hexStringToBytes(rawHexOrText);
+            rawData = HexCodec.fromHex(rawHexOrText);
         } else {
-            rawData = rawHexOrText.getBytes(java.nio.charset.Charset.forName(
-                    charset != null ? charset : "EUC-KR"));
+            rawData = TextCodec.encode(rawHexOrText, TextCodec.resolve(charset));
         }
 
-        return telegramEngine.parse(rawData, layouts, charset);
+        return telegramEngine.codec(layouts, charset).view(rawData).toMap();
     }
 
     /**
@@ -193,6 +330,22 @@ public class TelegramService {
         return historyRepository.findByTelegramIdOrderByCreatedAtDesc(telegramId, pageable);
     }
 
+    /**
+     * 이력 원문 조회 (Hex / 텍스트는 요청 시점에 렌더링)
+     */
+    public Map<String, Object> getHistoryRaw(Long historyId) {
+        TelegramHistory history = historyRepository.findById(historyId)
+                .orElseThrow(() -> new RuntimeException("이력을 찾을 수 없습니다: " + historyId));
+        Charset charset = TextCodec.resolve(history.getCharset());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("historyId", historyId);
+        result.put("charset", charset.name());
+        result.put("request", renderRaw(history.getRawRequestBytes(), charset));
+        result.put("response", renderRaw(history.getRawResponseBytes(), charset));
+        return result;
+    }
+
     /**
      * 연결 테스트
      */
@@ -204,26 +357,32 @@ public class TelegramService {
         return Map.of(
                 "connected", connected,
                 "protocol", config.getProtocol(),
-                "target", formatTarget(config),
+                "target", config.formatTarget(),
                 "elapsedMs", elapsed
         );
     }
 
-    // ── Helpers ──
-
-    private String formatTarget(ConnectionConfig config) {
-        if (config.getUrl() != null && !config.getUrl().isEmpty()) {
-            return config.getUrl();
-        }
-        return config.getHost() + ":" + config.getPort();
+    /**
+     * 송신 연결 현황 (TCP 커넥션 풀 / 다중화 채널 / I/O 버퍼 풀)
+     */
+    public Map<String, Object> getConnectionStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tcpPool", tcpConnectionPool.getStats());
+        result.put("muxChannels", muxHandler.getChannelStats());
+        result.put("bufferPool", bufferPool.getStats());
+        return result;
     }
 
-    private byte[] hexStringToBytes(String hex) {
-        hex = hex.replaceAll("\\s+", "");
-        byte[] bytes = new byte[hex.length() / 2];
-        for (int i = 0; i < bytes.length; i++) {
-            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+    // ── Helpers ──
+
+    private Map<String, Object> renderRaw(byte[] data, Charset charset) {
+        if (data == null) {
+            return null;
         }
-        return bytes;
+        Map<String, Object> raw = new LinkedHashMap<>();
+        raw.put("length", data.length);
+        raw.put("rawHex", HexCodec.toHexDump(data));
+        raw.put("rawText", TextCodec.decode(data, charset));
+        return raw;
     }
 }
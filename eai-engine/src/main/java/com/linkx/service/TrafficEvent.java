@@ -0,0 +1,70 @@
+package com.linkx.service;
+
+import com.linkx.domain.SimulatorLog;
+import com.linkx.domain.TelegramHistory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 트래픽 이벤트 (원문 제외한 요약)
+ *
+ * source — SIMULATOR: 시뮬레이터 수신/응답, CLIENT: 전문 송신(테스터)
+ */
+@Getter
+@Builder
+public class TrafficEvent {
+
+    public static final String SOURCE_SIMULATOR = "SIMULATOR";
+    public static final String SOURCE_CLIENT = "CLIENT";
+
+    /** 발행 순번 (전체 이벤트 기준 단조 증가) */
+    private final long seq;
+    private final String source;
+
+    /** 시뮬레이터 설정 ID (CLIENT는 null) */
+    private final Long configId;
+    private final String telegramId;
+    private final String protocol;
+
+    /** SIMULATOR: 클라이언트 ip:port, CLIENT: 송신 대상 */
+    private final String peer;
+    private final String status;
+    private final boolean success;
+    private final long elapsedMs;
+    private final String errorMessage;
+    private final LocalDateTime createdAt;
+
+    static TrafficEvent of(long seq, SimulatorLog simLog) {
+        return TrafficEvent.builder()
+                .seq(seq)
+                .source(SOURCE_SIMULATOR)
+                .configId(simLog.getConfigId())
+                .telegramId(simLog.getTelegramId())
+                .protocol("TCP")
+                .peer(simLog.getClientIp() + ":" + simLog.getClientPort())
+                .status(simLog.getStatus())
+                .success("SUCCESS".equals(simLog.getStatus()))
+                .elapsedMs(simLog.getProcessTimeMs())
+                .errorMessage(simLog.getErrorMessage())
+                .createdAt(simLog.getReceivedAt())
+                .build();
+    }
+
+    static TrafficEvent of(long seq, TelegramHistory history) {
+        boolean success = Boolean.TRUE.equals(history.getSuccess());
+        return TrafficEvent.builder()
+                .seq(seq)
+                .source(SOURCE_CLIENT)
+                .telegramId(history.getTelegramId())
+                .protocol(history.getProtocol())
+                .peer(history.getTarget())
+                .status(success ? "SUCCESS" : "ERROR")
+                .success(success)
+                .elapsedMs(history.getElapsedMs() != null ? history.getElapsedMs() : 0)
+                .errorMessage(history.getErrorMessage())
+                .createdAt(history.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.linkx.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구독자별 초당 전송 수 제한 (균등 샘플링)
+ *
+ * 초당 maxRate건을 넘으면 앞에서부터 자르지 않고, 직전 1초의 발생 건수로 간격 N을 정해 N건마다 1건만 통과
+ * → 폭주 중에도 1초 전체에 고르게 퍼진 이벤트를 보여줌
+ * - 첫 초 / 유휴 후 첫 초는 직전 발생량을 모르므로 간격 1 (maxRate까지 통과)
+ * - 발생량이 직전 초보다 늘어도 통과 건수는 maxRate를 넘지 않음
+ * 발행 스레드 여러 개에서 잠금 없이 호출 (초가 바뀌는 순간의 건수는 근사치)
+ */
+final class TrafficSampler {
+
+    private final int maxRate;
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicInteger windowPassed = new AtomicInteger();
+    private volatile int stride = 1;
+
+    TrafficSampler(int maxRate) {
+        this.maxRate = Math.max(1, maxRate);
+    }
+
+    /**
+     * 이번 이벤트를 전송할지
+     *
+     * @param second 현재 시각 (epoch 초)
+     */
+    boolean accept(long second) {
+        long current = windowSecond.get();
+        if (current != second && windowSecond.compareAndSet(current, second)) {
+            int previous = windowCount.getAndSet(0);
+            stride = current == second - 1 && previous > maxRate ? (previous + maxRate - 1) / maxRate : 1;
+            windowPassed.set(0);
+        }
+        int count = windowCount.incrementAndGet();
+        return count % stride == 0 && windowPassed.incrementAndGet() <= maxRate;
+    }
+
+    /**
+     * 현재 샘플링 간격 (1이면 샘플링 없음)
+     */
+    int stride() {
+        return stride;
+    }
+}
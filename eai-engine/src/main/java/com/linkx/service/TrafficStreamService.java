@@ -0,0 +1,364 @@
+package com.linkx.service;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.SimulatorLog;
+import com.linkx.domain.TelegramHistory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 트래픽 스트림 (DB 조회 없이 최근 트래픽 제공)
+ *
+ * - 최근 이벤트: 리스너별(+ 송신 1개) 고정 크기 링 버퍼, 발행은 잠금 없이 덮어쓰기
+ * - SSE 구독: 구독자별 필터(출처/리스너/전문코드/상태) + 고정 크기 대기열
+ *   → 타이머 스레드가 flush 간격마다 구독자별 전송 작업을 가상 스레드에 넘겨 배치 전송
+ *   (구독자당 전송 작업은 1개, 느린 구독자가 다른 구독자의 전송을 막지 않음)
+ * - 전송이 send-timeout-ms 넘게 끝나지 않는 구독자는 구독 해제
+ * - 느린 구독자는 대기열이 차면 이벤트 폐기 (발행 스레드는 막히지 않음)
+ * - 초당 최대 전송 수를 넘으면 N건마다 1건만 전송(샘플링, TrafficSampler)하고 생략/폐기 건수를 stats 이벤트로 알림
+ */
+@Slf4j
+@Service
+public class TrafficStreamService {
+
+    private static final String CLIENT_BUFFER = "client";
+
+    /** 구독 시작 시 보내는 최근 이벤트 수 */
+    private static final int SNAPSHOT_SIZE = 100;
+
+    /** 1회 전송 최대 이벤트 수 */
+    private static final int MAX_BATCH = 500;
+
+    private final int bufferSize;
+    private final int queueSize;
+    private final int defaultMaxRate;
+    private final int maxSubscribers;
+    private final long heartbeatMs;
+    private final long sendTimeoutMs;
+
+    private final AtomicLong seq = new AtomicLong();
+    private final Map<String, RingBuffer> buffers = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService sender;
+    private final ExecutorService sendExecutor;
+
+    public TrafficStreamService(@Value("${linkx.traffic.buffer-size:500}") int bufferSize,
+                                @Value("${linkx.traffic.subscriber-queue-size:1000}") int queueSize,
+                                @Value("${linkx.traffic.flush-interval-ms:200}") long flushIntervalMs,
+                                @Value("${linkx.traffic.max-events-per-sec:100}") int defaultMaxRate,
+                                @Value("${linkx.traffic.max-subscribers:50}") int maxSubscribers,
+                                @Value("${linkx.traffic.heartbeat-ms:15000}") long heartbeatMs,
+                                @Value("${linkx.traffic.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.queueSize = Math.max(1, queueSize);
+        this.defaultMaxRate = Math.max(1, defaultMaxRate);
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatMs = heartbeatMs;
+        this.sendTimeoutMs = Math.max(flushIntervalMs, sendTimeoutMs);
+        this.sender = Executors.newSingleThreadScheduledExecutor(
+                ExecutorProvider.threadFactory("traffic-sse-", false));
+        this.sendExecutor = Executors.newThreadPerTaskExecutor(
+                ExecutorProvider.threadFactory("traffic-sse-send-", true));
+        sender.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 필터 (null 항목은 조건 없음)
+     */
+    public record Filter(String source, Long configId, String telegramId, String status) {
+
+        boolean matches(TrafficEvent event) {
+            return (source == null || source.equalsIgnoreCase(event.getSource()))
+                    && (configId == null || configId.equals(event.getConfigId()))
+                    && (telegramId == null || telegramId.equals(event.getTelegramId()))
+                    && (status == null || status.equalsIgnoreCase(event.getStatus()));
+        }
+    }
+
+    // ==================== 발행 ====================
+
+    /**
+     * 시뮬레이터 처리 완료 (리스너 LogCallback — 워커 스레드에서 호출)
+     */
+    public void publish(SimulatorLog simLog) {
+        publish("sim:" + simLog.getConfigId(), TrafficEvent.of(seq.incrementAndGet(), simLog));
+    }
+
+    /**
+     * 전문 송신 완료
+     */
+    public void publish(TelegramHistory history) {
+        publish(CLIENT_BUFFER, TrafficEvent.of(seq.incrementAndGet(), history));
+    }
+
+    private void publish(String bufferKey, TrafficEvent event) {
+        buffers.computeIfAbsent(bufferKey, key -> new RingBuffer(bufferSize)).add(event);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    // ==================== 조회 / 구독 ====================
+
+    /**
+     * 최근 이벤트 (최신순)
+     *
+     * @param limit 최대 건수 (1 ~ 링 버퍼 크기로 보정)
+     */
+    public List<TrafficEvent> recent(Filter filter, int limit) {
+        limit = Math.max(1, Math.min(limit, bufferSize));
+        List<TrafficEvent> events = new ArrayList<>();
+        buffers.forEach((key, buffer) -> {
+            if (filter.configId() != null && !key.equals("sim:" + filter.configId())) return;
+            buffer.collect(filter, events);
+        });
+        events.sort(Comparator.comparingLong(TrafficEvent::getSeq).reversed());
+        return events.size() > limit ? new ArrayList<>(events.subList(0, limit)) : events;
+    }
+
+    /**
+     * SSE 구독 — 최근 이벤트(snapshot) 전송 후 새 이벤트를 traffic 이벤트로 배치 전송
+     *
+     * @param maxRate 초당 최대 전송 수 (null이면 기본값)
+     */
+    public SseEmitter subscribe(Filter filter, Integer maxRate) {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, filter,
+                maxRate != null && maxRate > 0 ? maxRate : defaultMaxRate);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (subscribers) { // 구독자 수 확인과 등록을 한 번에
+            if (subscribers.size() >= maxSubscribers) {
+                throw new RuntimeException("실시간 구독자 수 초과 (최대 " + maxSubscribers + ")");
+            }
+            subscribers.add(subscriber);
+        }
+        try {
+            emitter.send(SseEmitter.event().name("snapshot")
+                    .data(recent(filter, SNAPSHOT_SIZE), MediaType.APPLICATION_JSON));
+        } catch (Exception e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("published", seq.get());
+        stats.put("buffers", buffers.size());
+        stats.put("bufferSize", bufferSize);
+        List<Map<String, Object>> subs = new ArrayList<>();
+        subscribers.forEach(subscriber -> subs.add(subscriber.getStats()));
+        stats.put("subscribers", subs);
+        return stats;
+    }
+
+    /**
+     * 리스너 설정 삭제 시 해당 링 버퍼 제거
+     */
+    public void removeBuffer(Long configId) {
+        buffers.remove("sim:" + configId);
+    }
+
+    /**
+     * 구독자별 전송 작업 시작 (타이머 스레드 — 직접 전송하지 않음)
+     */
+    private void flushAll() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.startFlush(now);
+            } catch (Exception e) {
+                log.debug("[Traffic] 구독자 전송 시작 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 구독 해제 — 전송 중인 emitter는 잠금을 잡고 있을 수 있으므로 종료 처리는 전송 실행기에서
+     */
+    private void unsubscribe(Subscriber subscriber, Exception cause) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        log.debug("[Traffic] 구독 해제: {}", cause.getMessage());
+        try {
+            sendExecutor.execute(() -> subscriber.emitter.completeWithError(cause));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        sendExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * 고정 크기 링 버퍼 (쓰기 잠금 없음 — 가장 오래된 이벤트를 덮어씀)
+     */
+    private static final class RingBuffer {
+
+        private final AtomicReferenceArray<TrafficEvent> slots;
+        private final AtomicLong cursor = new AtomicLong();
+
+        RingBuffer(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        void add(TrafficEvent event) {
+            slots.set((int) (cursor.getAndIncrement() % slots.length()), event);
+        }
+
+        void collect(Filter filter, List<TrafficEvent> target) {
+            for (int i = 0; i < slots.length(); i++) {
+                TrafficEvent event = slots.get(i);
+                if (event != null && filter.matches(event)) {
+                    target.add(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * SSE 구독자 1명
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final int maxRate;
+        private final TrafficSampler sampler;
+        private final BlockingQueue<TrafficEvent> queue = new ArrayBlockingQueue<>(queueSize);
+
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        private volatile long flushStartedAt;
+
+        // 전송 작업 전용 (flushing으로 한 번에 하나만 실행)
+        private long reportedRateLimited;
+        private long reportedDropped;
+        private long lastSentAt = System.currentTimeMillis();
+
+        Subscriber(SseEmitter emitter, Filter filter, int maxRate) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.maxRate = maxRate;
+            this.sampler = new TrafficSampler(maxRate);
+        }
+
+        /**
+         * 이벤트 적재 (발행 스레드) — 필터, 초당 전송 수(샘플링), 대기열 순서로 판단
+         */
+        void offer(TrafficEvent event) {
+            if (!filter.matches(event)) {
+                return;
+            }
+            if (!sampler.accept(System.currentTimeMillis() / 1000)) {
+                rateLimited.increment();
+                return;
+            }
+            if (!queue.offer(event)) {
+                dropped.increment();
+            }
+        }
+
+        /**
+         * 전송 작업 시작 — 이전 전송이 아직 끝나지 않았으면 건너뛰고, 제한 시간을 넘겼으면 구독 해제
+         */
+        void startFlush(long now) {
+            if (!flushing.compareAndSet(false, true)) {
+                if (now - flushStartedAt > sendTimeoutMs) {
+                    unsubscribe(this, new TimeoutException("전송 지연 " + (now - flushStartedAt) + "ms"));
+                }
+                return;
+            }
+            flushStartedAt = now;
+            try {
+                sendExecutor.execute(() -> {
+                    try {
+                        flush(now);
+                    } catch (Exception e) {
+                        unsubscribe(this, e);
+                    } finally {
+                        flushing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                flushing.set(false);
+            }
+        }
+
+        /**
+         * 대기열 배치 전송 (전송 작업)
+         */
+        private void flush(long now) throws Exception {
+            List<TrafficEvent> batch = new ArrayList<>();
+            queue.drainTo(batch, MAX_BATCH);
+            if (!batch.isEmpty()) {
+                emitter.send(SseEmitter.event().name("traffic").data(batch, MediaType.APPLICATION_JSON));
+                sent.add(batch.size());
+                lastSentAt = now;
+            }
+
+            long limited = rateLimited.sum();
+            long drop = dropped.sum();
+            if (limited != reportedRateLimited || drop != reportedDropped) {
+                emitter.send(SseEmitter.event().name("stats")
+                        .data(Map.of("rateLimited", limited, "dropped", drop), MediaType.APPLICATION_JSON));
+                reportedRateLimited = limited;
+                reportedDropped = drop;
+                lastSentAt = now;
+            }
+
+            if (now - lastSentAt >= heartbeatMs) {
+                emitter.send(SseEmitter.event().comment("ping")); // 끊긴 연결 감지
+                lastSentAt = now;
+            }
+        }
+
+        Map<String, Object> getStats() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("filter", filter);
+            stats.put("maxRate", maxRate);
+            stats.put("sampleEvery", sampler.stride());
+            stats.put("queued", queue.size());
+            stats.put("sent", sent.sum());
+            stats.put("rateLimited", rateLimited.sum());
+            stats.put("dropped", dropped.sum());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.linkx.simulator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리스너 연결 수락 제어
+ *
+ * 동시 처리 연결 수(maxInFlight)를 넘는 연결은 대기열(acceptQueueSize)에 보관했다가
+ * 처리 중인 연결이 끝나면 순서대로 처리, 대기열도 가득 차면 거절 (LoadShedder로 차단)
+ * maxInFlight가 0이면 제한 없음
+ *
+ * @param <T> 연결 타입 (Socket / SocketChannel)
+ */
+final class AdmissionControl<T> {
+
+    enum Admission { ADMITTED, QUEUED, REJECTED }
+
+    private final int maxInFlight;
+    private final int queueSize;
+    private final ArrayDeque<T> waiting = new ArrayDeque<>();   // this 동기화
+    private int inFlight;                                       // this 동기화
+
+    AdmissionControl(int maxInFlight, int queueSize) {
+        this.maxInFlight = Math.max(0, maxInFlight);
+        this.queueSize = Math.max(0, queueSize);
+    }
+
+    /**
+     * 새 연결 수락 판단 — ADMITTED면 호출자가 바로 처리, QUEUED면 release 시 반환됨
+     */
+    synchronized Admission admit(T connection) {
+        if (maxInFlight == 0 || inFlight < maxInFlight) {
+            inFlight++;
+            return Admission.ADMITTED;
+        }
+        if (waiting.size() < queueSize) {
+            waiting.add(connection);
+            return Admission.QUEUED;
+        }
+        return Admission.REJECTED;
+    }
+
+    /**
+     * 처리 중인 연결 종료 — 대기 중인 연결이 있으면 슬롯을 넘겨받아 반환 (호출자가 처리 시작)
+     */
+    synchronized T release() {
+        T next = waiting.poll();
+        if (next == null && inFlight > 0) {
+            inFlight--;
+        }
+        return next;
+    }
+
+    /**
+     * 리스너 중지 — 대기 중인 연결을 모두 꺼냄 (호출자가 닫음)
+     */
+    synchronized List<T> drain() {
+        List<T> drained = new ArrayList<>(waiting);
+        waiting.clear();
+        return drained;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int queued() {
+        return waiting.size();
+    }
+
+    int maxInFlight() {
+        return maxInFlight;
+    }
+}
@@ -0,0 +1,74 @@
+package com.linkx.simulator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트 IP별 토큰 버킷 (전문 수신율 제한)
+ *
+ * 초당 ratePerSec개씩 토큰이 차고 최대 burst개까지 누적, 전문 1건마다 토큰 1개 소비
+ * 오래 사용하지 않은 버킷은 버킷 수가 많아지면 정리
+ */
+final class ClientRateLimiter {
+
+    /** 정리를 시작하는 버킷 수 */
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    /** 정리 대상 유휴 시간 */
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+    }
+
+    ClientRateLimiter(int ratePerSec, int burst) {
+        this.tokensPerNano = ratePerSec / (double) TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, burst);
+    }
+
+    /**
+     * 전문 1건 허용 여부
+     */
+    boolean tryAcquire(String clientIp) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(clientIp);
+        if (bucket == null) {
+            if (buckets.size() >= SWEEP_THRESHOLD) {
+                sweep(now);
+            }
+            bucket = buckets.computeIfAbsent(clientIp, ip -> new Bucket(burst, now));
+        }
+        synchronized (bucket) {
+            bucket.tokens = Math.min(burst, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+            bucket.refilledAt = now;
+            if (bucket.tokens < 1) {
+                return false;
+            }
+            bucket.tokens -= 1;
+            return true;
+        }
+    }
+
+    int clients() {
+        return buckets.size();
+    }
+
+    private void sweep(long now) {
+        buckets.entrySet().removeIf(entry -> {
+            Bucket bucket = entry.getValue();
+            synchronized (bucket) {
+                return now - bucket.refilledAt > IDLE_NANOS;
+            }
+        });
+    }
+}
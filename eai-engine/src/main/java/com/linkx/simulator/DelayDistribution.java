@@ -0,0 +1,130 @@
+package com.linkx.simulator;
+
+import com.linkx.domain.ResponseDelay;
+
+import java.util.Random;
+
+/**
+ * 컴파일된 응답 지연 분포
+ *
+ * ResponseDelay 정의를 매 요청마다 해석하지 않도록 타입별 샘플러로 변환
+ * 샘플 값은 항상 0 이상 (ms)
+ */
+sealed interface DelayDistribution {
+
+    long sample(Random random);
+
+    record Fixed(long delayMs) implements DelayDistribution {
+        @Override
+        public long sample(Random random) {
+            return delayMs;
+        }
+    }
+
+    record Uniform(long minMs, long maxMs) implements DelayDistribution {
+        @Override
+        public long sample(Random random) {
+            return minMs == maxMs ? minMs : minMs + (long) (random.nextDouble() * (maxMs - minMs + 1));
+        }
+    }
+
+    /**
+     * 정규 분포 (min/max로 절단 — 음수 지연이나 비현실적인 꼬리값 방지)
+     */
+    record Normal(double meanMs, double stddevMs, long minMs, long maxMs) implements DelayDistribution {
+        @Override
+        public long sample(Random random) {
+            long value = Math.round(meanMs + stddevMs * random.nextGaussian());
+            return Math.max(minMs, Math.min(maxMs, value));
+        }
+    }
+
+    /**
+     * 백분위 지연표 — 역누적분포를 구간별 선형 보간
+     * (0백분위 = 첫 지연값, 표의 마지막 백분위 이후는 마지막 지연값)
+     */
+    record Percentile(double[] points, long[] delays) implements DelayDistribution {
+        @Override
+        public long sample(Random random) {
+            double p = random.nextDouble() * 100.0;
+            double prevPoint = 0;
+            long prevDelay = delays[0];
+            for (int i = 0; i < points.length; i++) {
+                if (p <= points[i]) {
+                    double span = points[i] - prevPoint;
+                    double ratio = span > 0 ? (p - prevPoint) / span : 1.0;
+                    return prevDelay + Math.round((delays[i] - prevDelay) * ratio);
+                }
+                prevPoint = points[i];
+                prevDelay = delays[i];
+            }
+            return delays[delays.length - 1];
+        }
+    }
+
+    /**
+     * 정책 → 분포 (잘못된 정의면 RuntimeException)
+     */
+    static DelayDistribution compile(ResponseDelay delay) {
+        if (delay.getDelayType() == null) {
+            throw new RuntimeException("지연 타입이 없습니다: " + delay.getTelegramId());
+        }
+        return switch (delay.getDelayType()) {
+            case FIXED -> new Fixed(nonNegative(delay.getFixedMs(), "fixedMs"));
+            case UNIFORM -> {
+                long min = nonNegative(delay.getMinMs(), "minMs");
+                long max = nonNegative(delay.getMaxMs(), "maxMs");
+                if (max < min) {
+                    throw new RuntimeException("지연 범위 오류: minMs(" + min + ") > maxMs(" + max + ")");
+                }
+                yield new Uniform(min, max);
+            }
+            case NORMAL -> {
+                long mean = nonNegative(delay.getMeanMs(), "meanMs");
+                long stddev = delay.getStddevMs() != null ? nonNegative(delay.getStddevMs(), "stddevMs") : 0;
+                long min = delay.getMinMs() != null ? nonNegative(delay.getMinMs(), "minMs") : 0;
+                long max = delay.getMaxMs() != null ? nonNegative(delay.getMaxMs(), "maxMs") : Long.MAX_VALUE;
+                if (max < min) {
+                    throw new RuntimeException("지연 범위 오류: minMs(" + min + ") > maxMs(" + max + ")");
+                }
+                yield new Normal(mean, stddev, min, max);
+            }
+            case PERCENTILE -> parsePercentiles(delay.getPercentiles());
+        };
+    }
+
+    /**
+     * "50:20,90:150,99:800,100:2000" 형식 파싱 (백분위/지연 모두 오름차순)
+     */
+    private static Percentile parsePercentiles(String table) {
+        if (table == null || table.isBlank()) {
+            throw new RuntimeException("백분위 지연표가 비어 있습니다");
+        }
+        String[] entries = table.split(",");
+        double[] points = new double[entries.length];
+        long[] delays = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            try {
+                points[i] = Double.parseDouble(pair[0].trim());
+                delays[i] = Long.parseLong(pair[1].trim());
+            } catch (RuntimeException e) {
+                throw new RuntimeException("백분위 지연표 형식 오류: [" + entries[i].trim() + "] (예: 50:20,99:800)");
+            }
+            if (points[i] <= 0 || points[i] > 100 || delays[i] < 0) {
+                throw new RuntimeException("백분위 지연표 범위 오류: [" + entries[i].trim() + "]");
+            }
+            if (i > 0 && (points[i] <= points[i - 1] || delays[i] < delays[i - 1])) {
+                throw new RuntimeException("백분위 지연표는 오름차순이어야 합니다: [" + entries[i].trim() + "]");
+            }
+        }
+        return new Percentile(points, delays);
+    }
+
+    private static long nonNegative(Integer value, String name) {
+        if (value == null || value < 0) {
+            throw new RuntimeException(name + " 값이 없거나 음수입니다");
+        }
+        return value;
+    }
+}
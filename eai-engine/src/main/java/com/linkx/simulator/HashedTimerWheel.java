@@ -0,0 +1,201 @@
+package com.linkx.simulator;
+
+import com.linkx.config.ExecutorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시드 타이머 휠
+ *
+ * 지연 작업을 틱 단위 버킷(wheelSize개, 원형)에 넣고, 틱 스레드 1개가 매 틱 해당 버킷만 검사
+ * - 등록/만료 O(1), 예약 건수가 늘어도 대기 스레드가 늘지 않음
+ * - 휠 1바퀴(tick × wheelSize)보다 긴 지연은 남은 바퀴 수로 구분
+ * - 만료된 작업은 등록 시 지정한 실행기에서 실행 (틱 스레드는 작업을 직접 실행하지 않음)
+ * - 정밀도는 틱 단위 (만료는 최대 1틱 늦어질 수 있음)
+ * - 실행기가 작업을 거부하거나 만료 전에 휠이 중지되면 등록 시 지정한 취소 콜백 호출 (작업을 조용히 버리지 않음)
+ */
+final class HashedTimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    /** 틱당 버킷으로 옮길 최대 신규 등록 수 (등록 폭주 시 틱 지연 방지) */
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final long startNanos = System.nanoTime();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /** 틱 스레드 전용 */
+    private long tick;
+
+    private static final class Timeout {
+        final Runnable task;
+        final Executor executor;
+        final Runnable onCancel;
+        final long deadline;    // startNanos 기준 상대 시각
+        long remainingRounds;
+
+        Timeout(Runnable task, Executor executor, Runnable onCancel, long deadline) {
+            this.task = task;
+            this.executor = executor;
+            this.onCancel = onCancel;
+            this.deadline = deadline;
+        }
+    }
+
+    HashedTimerWheel(String name, long tickMs, int wheelSize) {
+        int size = 16;
+        while (size < wheelSize) {
+            size <<= 1; // 2의 거듭제곱 (버킷 인덱스를 마스크로 계산)
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.thread = ExecutorProvider.startThread(name, false, this::run);
+    }
+
+    /**
+     * 지연 작업 등록 (모든 스레드에서 호출 가능)
+     *
+     * @param onCancel 작업을 실행하지 못할 때 호출 (실행기 거부 / 휠 중지)
+     */
+    void schedule(Runnable task, long delayMs, Executor executor, Runnable onCancel) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        Timeout timeout = new Timeout(task, executor, onCancel, deadline);
+        pending.incrementAndGet();
+        incoming.add(timeout);
+        if (!running && incoming.remove(timeout)) {
+            cancel(timeout); // 틱 스레드의 종료 정리 이후 등록된 작업
+        }
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    long tickMs() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+
+    int wheelSize() {
+        return buckets.size();
+    }
+
+    /**
+     * 틱 스레드 중지 — 만료 전 작업은 모두 취소 콜백으로 넘김
+     */
+    void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            transferIncoming();
+            expire(buckets.get((int) (tick & mask)), deadline);
+            tick++;
+        }
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            cancel(timeout);
+        }
+        for (List<Timeout> bucket : buckets) {
+            bucket.forEach(this::cancel);
+            bucket.clear();
+        }
+    }
+
+    /**
+     * 다음 틱 경계까지 대기
+     *
+     * @return 현재 틱의 마감 시각, 중지되었으면 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferIncoming() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = incoming.poll();
+            if (timeout == null) {
+                return;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / buckets.size();
+            long ticks = Math.max(calculated, tick); // 이미 지난 마감은 현재 틱에서 처리
+            buckets.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket, long deadline) {
+        int kept = 0;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                dispatch(timeout);
+            } else {
+                if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                bucket.set(kept++, timeout);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void dispatch(Timeout timeout) {
+        try {
+            timeout.executor.execute(timeout.task);
+            pending.decrementAndGet();
+        } catch (RejectedExecutionException e) {
+            log.debug("지연 작업 실행 거부 (실행기 종료): {}", e.getMessage());
+            cancel(timeout);
+        } catch (Exception e) {
+            log.error("지연 작업 실행 실패: {}", e.getMessage());
+            cancel(timeout);
+        }
+    }
+
+    private void cancel(Timeout timeout) {
+        pending.decrementAndGet();
+        try {
+            timeout.onCancel.run();
+        } catch (Exception e) {
+            log.error("지연 작업 취소 처리 실패: {}", e.getMessage());
+        }
+    }
+}
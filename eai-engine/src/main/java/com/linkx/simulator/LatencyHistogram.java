@@ -0,0 +1,98 @@
+package com.linkx.simulator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (HDR 방식 로그-선형 버킷, 마이크로초 단위)
+ *
+ * 2의 거듭제곱 구간마다 64개 하위 버킷으로 나눠 상대 오차 약 1.5% 이내로 기록
+ * - 기록: 버킷 인덱스 계산 + 원자적 증가 (잠금 없음, 여러 스레드에서 동시 호출 가능)
+ * - 조회: 버킷을 순회해 백분위 계산 (조회 중 기록은 반영될 수도, 안 될 수도 있음)
+ * - 최대 기록값 2^37-1µs (약 38시간, 초과 값은 최대값으로 잘라 마지막 구간에 기록)
+ * - 리스너 통계와 부하 발생기(load) 공용
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF = 1 << (SUB_BUCKET_BITS - 1);   // 64
+    private static final int MAX_SHIFT = 30;
+    private static final long MAX_VALUE = (1L << (MAX_SHIFT + SUB_BUCKET_BITS)) - 1;
+    private static final int BUCKET_COUNT = (MAX_SHIFT + 2) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void recordNanos(long nanos) {
+        record(nanos / 1000);
+    }
+
+    public void record(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_VALUE));
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * 백분위 값 (마이크로초, 해당 버킷의 중간값)
+     */
+    public long percentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(midpoint(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 요약 (ms 단위, 소수 셋째 자리)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long total = count.sum();
+        summary.put("count", total);
+        summary.put("meanMs", total > 0 ? toMs(sum.sum() / (double) total) : 0.0);
+        summary.put("p50Ms", toMs(percentile(50)));
+        summary.put("p99Ms", toMs(percentile(99)));
+        summary.put("p999Ms", toMs(percentile(99.9)));
+        summary.put("maxMs", toMs(max.get()));
+        return summary;
+    }
+
+    private static int index(long value) {
+        int shift = Math.max(0, (64 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    private static long midpoint(int index) {
+        if (index < 2 * SUB_BUCKET_HALF) {
+            return index; // 128 미만은 1µs 단위 버킷
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long lower = (long) (index - shift * SUB_BUCKET_HALF) << shift;
+        return lower + (1L << shift) / 2;
+    }
+
+    private static double toMs(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
@@ -0,0 +1,140 @@
+package com.linkx.simulator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리스너 처리 통계 (리스너 전체 + 전문코드별)
+ *
+ * - 건수: LongAdder (여러 워커 스레드에서 경합 없이 증가)
+ * - 지연: 단계별 LatencyHistogram
+ *   read  — 수신 시작 ~ 전문 수신 완료
+ *   parse — 전문코드 추출 + 레이아웃 매칭 + 파싱 뷰 (NIO 파이프라이닝 대기열 대기 시간 제외)
+ *   rule  — 규칙 매칭 (전문코드의 규칙 프로그램·응답 템플릿 조회, 규칙 변경 후 첫 건은 컴파일 포함)
+ *   build — 응답 조립 (템플릿 복제 + 동적 필드 패치)
+ *   write — 응답 준비 ~ 송신 완료 (파이프라이닝 순서 대기 포함)
+ *   total — 수신 시작 ~ 송신 완료 (응답 지연 포함)
+ * - 처리량: 최근 10초/60초 TPS
+ */
+final class ListenerMetrics {
+
+    /** 전문코드별 통계 최대 수 (잘못된 전문코드 폭주 시 메모리 보호) */
+    private static final int MAX_TELEGRAMS = 1000;
+
+    enum Phase { READ, PARSE, RULE, BUILD, WRITE }
+
+    private final Stats listener = new Stats();
+    private final ConcurrentHashMap<String, Stats> byTelegram = new ConcurrentHashMap<>();
+
+    /**
+     * 통계 묶음 1개 (리스너 또는 전문코드)
+     */
+    static final class Stats {
+        final LongAdder total = new LongAdder();
+        final LongAdder success = new LongAdder();
+        final LongAdder error = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+        final ThroughputWindow throughput = new ThroughputWindow();
+
+        Stats() {
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        void success(long totalNanos, long[] phaseNanos) {
+            total.increment();
+            success.increment();
+            throughput.record();
+            latency.recordNanos(totalNanos);
+            for (int i = 0; i < phases.length; i++) {
+                if (phaseNanos[i] >= 0) {
+                    phases[i].recordNanos(phaseNanos[i]);
+                }
+            }
+        }
+
+        void error() {
+            total.increment();
+            error.increment();
+            throughput.record();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("totalRequests", total.sum());
+            map.put("successCount", success.sum());
+            map.put("errorCount", error.sum());
+            map.put("tps", throughput.tps(10));
+            map.put("tps1m", throughput.tps(60));
+            map.put("latency", latency.summary());
+            Map<String, Object> phaseMap = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                phaseMap.put(phase.name().toLowerCase(), phases[phase.ordinal()].summary());
+            }
+            map.put("phases", phaseMap);
+            return map;
+        }
+    }
+
+    /**
+     * 응답 송신 완료
+     *
+     * @param phaseNanos Phase 순서의 단계별 소요 시간 (측정하지 못한 단계는 -1)
+     */
+    void success(String telegramId, long totalNanos, long[] phaseNanos) {
+        listener.success(totalNanos, phaseNanos);
+        Stats stats = telegram(telegramId);
+        if (stats != null) {
+            stats.success(totalNanos, phaseNanos);
+        }
+    }
+
+    void error(String telegramId) {
+        listener.error();
+        Stats stats = telegram(telegramId);
+        if (stats != null) {
+            stats.error();
+        }
+    }
+
+    /**
+     * 리스너 통계 (getStats에 합쳐지는 항목)
+     */
+    void putStats(Map<String, Object> target) {
+        target.putAll(listener.toMap());
+    }
+
+    /**
+     * 전문코드별 통계 (처리 건수 내림차순)
+     */
+    List<Map<String, Object>> telegramStats() {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(byTelegram.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().total.sum()).reversed());
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<String, Stats> entry : entries) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("telegramId", entry.getKey());
+            map.putAll(entry.getValue().toMap());
+            result.add(map);
+        }
+        return result;
+    }
+
+    private Stats telegram(String telegramId) {
+        if (telegramId == null || telegramId.isEmpty()) {
+            return null;
+        }
+        Stats stats = byTelegram.get(telegramId);
+        if (stats != null || byTelegram.size() >= MAX_TELEGRAMS) {
+            return stats;
+        }
+        return byTelegram.computeIfAbsent(telegramId, id -> new Stats());
+    }
+}
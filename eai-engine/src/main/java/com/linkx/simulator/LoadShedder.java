@@ -0,0 +1,90 @@
+package com.linkx.simulator;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.protocol.framing.FrameReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 과부하 연결 차단
+ *
+ * 수락 제어에서 거절된 연결을 리스너의 차단 방식(shedMode)대로 처리
+ * - CLOSE: 즉시 종료
+ * - BUSY : 요청 1건을 읽고 고정 응답(busyResponse) 송신 후 종료
+ *          (고정 크기 전용 스레드에서 처리, 전용 대기열도 가득 차면 즉시 종료)
+ */
+final class LoadShedder {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadShedder.class);
+
+    private static final int SHED_THREADS = 2;
+    private static final int SHED_QUEUE_SIZE = 256;
+    private static final int SHED_READ_TIMEOUT_MS = 1000;
+
+    private final TelegramProcessor processor;
+    private final ThreadPoolExecutor executor;
+
+    LoadShedder(int port, TelegramProcessor processor) {
+        this.processor = processor;
+        if (processor.busyFrame() != null) {
+            this.executor = new ThreadPoolExecutor(SHED_THREADS, SHED_THREADS, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(SHED_QUEUE_SIZE),
+                    ExecutorProvider.threadFactory("sim-shed-" + port + "-", false));
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * 거절된 연결 차단 (호출 스레드를 막지 않음)
+     */
+    void shed(Socket socket) {
+        processor.shedConnection();
+        if (executor == null) {
+            closeQuietly(socket);
+            return;
+        }
+        try {
+            executor.execute(() -> replyBusy(socket));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(socket);
+        }
+    }
+
+    private void replyBusy(Socket socket) {
+        try (socket; FrameReader reader = new FrameReader(socket, processor.getFrameSpec())) {
+            socket.setSoTimeout(SHED_READ_TIMEOUT_MS);
+
+            // 요청을 읽지 않고 닫으면 클라이언트가 응답 대신 RST를 받을 수 있으므로 1건은 읽고 버림
+            if (reader.read() == null) {
+                return;
+            }
+
+            OutputStream out = socket.getOutputStream();
+            out.write(processor.busyFrame());
+            out.flush();
+        } catch (Exception e) {
+            log.debug("과부하 응답 실패: {}", e.getMessage());
+        }
+    }
+
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (Exception ignored) {}
+    }
+}
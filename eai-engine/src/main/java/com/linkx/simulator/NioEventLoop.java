@@ -0,0 +1,172 @@
+package com.linkx.simulator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 셀렉터 이벤트 루프 (스레드 1개)
+ *
+ * 등록된 채널의 I/O 이벤트를 처리하고, 다른 스레드가 맡긴 작업을 루프 스레드에서 실행
+ * 채널 상태는 루프 스레드에서만 변경하므로 연결별 동기화가 필요 없음
+ */
+final class NioEventLoop implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(NioEventLoop.class);
+
+    /** 셀렉트 대기 시간 (타임아웃 점검 주기) */
+    private static final long SELECT_TIMEOUT_MS = 1000;
+
+    /** 루프 공용 읽기 버퍼 크기 */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 셀렉터에 등록되는 채널 핸들러
+     */
+    interface Handler {
+        /** 준비된 I/O 이벤트 처리 */
+        void onReady(SelectionKey key);
+
+        /** 타임아웃 점검 (루프가 주기적으로 호출) */
+        default void checkTimeout(long now) {
+        }
+
+        /** 루프 종료 시 정리 */
+        void close();
+    }
+
+    private final String name;
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+    /** 타임아웃 점검 대상 (루프 스레드 전용) */
+    private final Set<Handler> handlers = new HashSet<>();
+
+    private volatile boolean running = true;
+    private Thread thread;
+    private long lastTimeoutCheck = System.currentTimeMillis();
+
+    NioEventLoop(String name) throws IOException {
+        this.name = name;
+        this.selector = Selector.open();
+    }
+
+    void start() {
+        thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 루프 스레드에서 작업 실행
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    /**
+     * 루프 공용 읽기 버퍼 (루프 스레드에서만 사용, 사용 전 clear)
+     */
+    ByteBuffer readBuffer() {
+        return readBuffer;
+    }
+
+    /** 타임아웃 점검/종료 정리 대상 등록 (루프 스레드) */
+    void track(Handler handler) {
+        handlers.add(handler);
+    }
+
+    void untrack(Handler handler) {
+        handlers.remove(handler);
+    }
+
+    int handlerCount() {
+        return handlers.size();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                // 루프 스레드가 직접 맡긴 작업은 wakeup이 없으므로 대기 없이 바로 실행
+                if (tasks.isEmpty()) {
+                    selector.select(SELECT_TIMEOUT_MS);
+                } else {
+                    selector.selectNow();
+                }
+                runTasks();
+                processSelectedKeys();
+
+                long now = System.currentTimeMillis();
+                if (now - lastTimeoutCheck >= SELECT_TIMEOUT_MS) {
+                    lastTimeoutCheck = now;
+                    for (Handler handler : new ArrayList<>(handlers)) {
+                        handler.checkTimeout(now);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("이벤트 루프 에러 ({}): {}", name, e.getMessage());
+            }
+        }
+
+        runTasks();
+        for (Handler handler : new ArrayList<>(handlers)) {
+            handler.close();
+        }
+        handlers.clear();
+        try {
+            selector.close();
+        } catch (IOException ignored) {}
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("이벤트 루프 작업 에러 ({}): {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while (it.hasNext()) {
+            SelectionKey key = it.next();
+            it.remove();
+            Handler handler = (Handler) key.attachment();
+            try {
+                if (key.isValid()) {
+                    handler.onReady(key);
+                }
+            } catch (CancelledKeyException e) {
+                handler.close();
+            }
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+}
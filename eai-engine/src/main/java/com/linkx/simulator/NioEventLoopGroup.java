@@ -0,0 +1,107 @@
+package com.linkx.simulator;
+
+import com.linkx.config.ExecutorProvider;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NIO 이벤트 루프 그룹
+ *
+ * 모든 NioTcpListener가 공유하는 소수의 셀렉터 루프 + 처리 워커
+ * - 셀렉터 루프: accept/read/write만 수행 (블로킹 작업 금지)
+ * - 워커: 응답 생성, DB 로그 저장 등 블로킹 가능 작업
+ *   (가상 스레드 모드 리스너는 자체 가상 스레드 실행기를 사용)
+ * - 응답 지연은 ResponseDelayScheduler의 타이머 휠이 스레드 점유 없이 처리
+ *
+ * 첫 NIO 리스너 시작 시 생성
+ */
+@Component
+public class NioEventLoopGroup {
+
+    private static final Logger log = LoggerFactory.getLogger(NioEventLoopGroup.class);
+
+    private final int loopThreads;
+    private final int workerThreads;
+
+    private volatile NioEventLoop[] loops;
+    private volatile ExecutorService workers;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    public NioEventLoopGroup(@Value("${linkx.simulator.nio.loop-threads:0}") int loopThreads,
+                             @Value("${linkx.simulator.nio.worker-threads:0}") int workerThreads) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.loopThreads = loopThreads > 0 ? loopThreads : Math.min(4, cores);
+        this.workerThreads = workerThreads > 0 ? workerThreads : cores * 2;
+    }
+
+    /**
+     * 연결/리스너를 배정할 다음 루프 (라운드로빈)
+     */
+    NioEventLoop next() {
+        NioEventLoop[] current = ensureStarted();
+        return current[Math.floorMod(nextLoop.getAndIncrement(), current.length)];
+    }
+
+    Executor workers() {
+        ensureStarted();
+        return workers;
+    }
+
+    private NioEventLoop[] ensureStarted() {
+        NioEventLoop[] current = loops;
+        return current != null ? current : start();
+    }
+
+    private synchronized NioEventLoop[] start() {
+        if (loops != null) {
+            return loops;
+        }
+        NioEventLoop[] created = new NioEventLoop[loopThreads];
+        try {
+            for (int i = 0; i < loopThreads; i++) {
+                created[i] = new NioEventLoop("nio-loop-" + i);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("셀렉터 생성 실패: " + e.getMessage());
+        }
+        for (NioEventLoop loop : created) {
+            loop.start();
+        }
+
+        workers = Executors.newFixedThreadPool(workerThreads, ExecutorProvider.threadFactory("nio-worker-", false));
+        loops = created; // 마지막에 공개 (workers가 먼저 보이도록)
+
+        log.info("NIO 이벤트 루프 그룹 시작 — 루프: {}, 워커: {}", loopThreads, workerThreads);
+        return loops;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("started", loops != null);
+        stats.put("loopThreads", loopThreads);
+        stats.put("workerThreads", workerThreads);
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (loops == null) {
+            return;
+        }
+        for (NioEventLoop loop : loops) {
+            loop.shutdown();
+        }
+        workers.shutdownNow();
+        loops = null;
+        log.info("NIO 이벤트 루프 그룹 종료");
+    }
+}
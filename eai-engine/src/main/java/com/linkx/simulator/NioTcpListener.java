@@ -0,0 +1,680 @@
+package com.linkx.simulator;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.SimulatorConfig;
+import com.linkx.protocol.buffer.BufferPool;
+import com.linkx.protocol.buffer.PooledBuffer;
+import com.linkx.protocol.framing.FrameDecoder;
+import com.linkx.protocol.framing.FrameSpec;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TelegramEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TCP 리스너 (NIO 모드)
+ *
+ * ServerSocketChannel을 공유 이벤트 루프 그룹에 등록해 스레드 점유 없이 연결을 처리
+ * - 수락한 연결은 루프에 라운드로빈으로 분배, 읽기 이벤트마다 FrameDecoder로 프레임 조립
+ * - 프레임이 완성되면 워커에서 응답 생성, 지연은 스케줄러로 처리 후 루프에서 쓰기
+ * - 기본은 연결당 전문 1건 처리 후 연결 종료, 연결 유지(keepAlive) 설정 시 파이프라이닝 지원
+ * - 가상 스레드 모드면 응답 생성/로그 저장을 공유 워커 대신 작업당 가상 스레드에서 수행
+ * - 동시 처리 연결 수(maxInFlight)를 넘는 연결은 등록하지 않고 수락 대기열에 보관, 대기열도 차면 과부하 차단
+ */
+public class NioTcpListener implements SimulatorListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NioTcpListener.class);
+
+    private static final int BACKLOG = 1024;
+
+    /** accept 이벤트 1회에 수락하는 최대 연결 수 (다른 채널 이벤트 처리 지연 방지) */
+    private static final int MAX_ACCEPTS_PER_EVENT = 256;
+
+    private final SimulatorConfig config;
+    private final TelegramProcessor processor;
+    private final NioEventLoopGroup group;
+    private final boolean virtualThreads;
+
+    /** 처리 실행기 (공유 워커 또는 리스너 전용 가상 스레드 실행기) */
+    private Executor workers;
+    private ExecutorService virtualExecutor;
+
+    private ServerSocketChannel serverChannel;
+    private NioEventLoop acceptLoop;
+    private Acceptor acceptor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 열린 연결 */
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong acceptedCount = new AtomicLong();
+
+    /** 연결 수락 제어 (동시 처리 연결 수 + 수락 대기열) / 과부하 차단 */
+    private final AdmissionControl<SocketChannel> admission;
+    private final LoadShedder shedder;
+
+    public NioTcpListener(SimulatorConfig config,
+                          LayoutRegistry layoutRegistry,
+                          SimulatorLogWriter logWriter,
+                          ResponseGenerator responseGenerator,
+                          ResponseDelayScheduler delayScheduler,
+                          TelegramEngine telegramEngine,
+                          PayloadCompression payloadCompression,
+                          NioEventLoopGroup group,
+                          boolean virtualThreads) {
+        this.config = config;
+        this.group = group;
+        this.virtualThreads = virtualThreads;
+        this.processor = new TelegramProcessor(config, layoutRegistry, logWriter, responseGenerator,
+                delayScheduler, telegramEngine, payloadCompression);
+        this.admission = new AdmissionControl<>(config.getMaxInFlight(), config.getAcceptQueueSize());
+        this.shedder = new LoadShedder(config.getPort(), processor);
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.configureBlocking(false);
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(new InetSocketAddress(config.getPort()), BACKLOG);
+        } catch (IOException e) {
+            closeQuietly(serverChannel);
+            throw new RuntimeException("포트 " + config.getPort() + " 바인딩 실패: " + e.getMessage());
+        }
+        if (virtualThreads) {
+            virtualExecutor = Executors.newThreadPerTaskExecutor(
+                    ExecutorProvider.threadFactory("sim-nio-" + config.getPort() + "-", true));
+            workers = virtualExecutor;
+        } else {
+            workers = group.workers();
+        }
+        running.set(true);
+
+        acceptLoop = group.next();
+        acceptor = new Acceptor();
+        acceptLoop.execute(acceptor::register);
+
+        log.info("▶ NIO 리스너 시작 — 포트: {}, 이름: {}", config.getPort(), config.getName());
+    }
+
+    // === 연결 수락 ===
+
+    private final class Acceptor implements NioEventLoop.Handler {
+
+        void register() {
+            try {
+                serverChannel.register(acceptLoop.selector(), SelectionKey.OP_ACCEPT, this);
+                acceptLoop.track(this);
+            } catch (IOException e) {
+                log.error("NIO 리스너 등록 실패 (포트: {}): {}", config.getPort(), e.getMessage());
+                NioTcpListener.this.stop();
+            }
+        }
+
+        @Override
+        public void onReady(SelectionKey key) {
+            for (int i = 0; i < MAX_ACCEPTS_PER_EVENT; i++) {
+                SocketChannel channel;
+                try {
+                    channel = serverChannel.accept();
+                } catch (IOException e) {
+                    log.error("연결 수락 에러 (포트: {}): {}", config.getPort(), e.getMessage());
+                    return;
+                }
+                if (channel == null) {
+                    return;
+                }
+                accepted(channel);
+            }
+        }
+
+        @Override
+        public void close() {
+            acceptLoop.untrack(this);
+            closeQuietly(serverChannel);
+        }
+    }
+
+    private void accepted(SocketChannel channel) {
+        switch (admission.admit(channel)) {
+            case ADMITTED -> serve(channel);
+            case QUEUED -> log.debug("동시 처리 연결 수 초과 — 수락 대기 (포트: {})", config.getPort());
+            case REJECTED -> shedder.shed(channel.socket()); // 아직 블로킹 모드인 채널
+        }
+    }
+
+    /**
+     * 처리 중인 연결 종료 — 수락 대기 중인 연결이 있으면 이어서 처리
+     */
+    private void released() {
+        SocketChannel next;
+        while ((next = admission.release()) != null) {
+            if (running.get()) {
+                serve(next);
+                return;
+            }
+            closeQuietly(next);
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            InetSocketAddress remote = (InetSocketAddress) channel.getRemoteAddress();
+
+            NioEventLoop loop = group.next();
+            Connection connection = new Connection(channel, loop,
+                    remote.getAddress().getHostAddress(), remote.getPort());
+            connections.add(connection);
+            acceptedCount.incrementAndGet();
+            loop.execute(connection::register);
+        } catch (IOException e) {
+            log.error("연결 설정 실패: {}", e.getMessage());
+            closeQuietly(channel);
+            released();
+        }
+    }
+
+    // === 연결 처리 ===
+
+    /** 수신 완료된 전문 */
+    private record Inbound(TelegramProcessor.Exchange exchange, byte[] frame) {
+    }
+
+    /**
+     * 연결 1개 (채널/큐 상태는 배정된 루프 스레드에서만 변경)
+     *
+     * 연결 유지 모드에서는 수신한 전문을 큐에 쌓고 한 번에 1건씩 처리해 응답 순서를 보장
+     */
+    private final class Connection implements NioEventLoop.Handler {
+
+        private final SocketChannel channel;
+        private final NioEventLoop loop;
+        private final String clientIp;
+        private final int clientPort;
+        private final FrameDecoder decoder = processor.getFrameSpec().newDecoder();
+        private final long idleGapMs = processor.getFrameSpec().getIdleGapMs();
+        private final boolean keepAlive = processor.isKeepAlive();
+
+        private SelectionKey key;
+
+        /** 수신 중인 전문의 처리 상태 (첫 바이트 수신 시 생성) */
+        private TelegramProcessor.Exchange receiving;
+
+        /** 처리 대기 전문 */
+        private final ArrayDeque<Inbound> pending = new ArrayDeque<>();
+
+        /** 처리/응답 중인 전문 */
+        private Inbound current;
+
+        /** 송신 중인 응답 프레임 (풀 다이렉트 버퍼, 송신 완료/연결 종료 시 반환) */
+        private PooledBuffer out;
+
+        /** 수신 완료 전문 수 */
+        private int received;
+
+        /** 더 이상 읽지 않음 (단건 수신 완료, 최대 전문 수 도달, 입력 종료) */
+        private boolean inputDone;
+
+        private long lastReadAt;
+        private long writeDeadline;
+
+        /** 유휴 간격 점검 예약 여부 (IDLE 프레임 방식) */
+        private boolean idleCheckPending;
+        private volatile boolean closed;
+
+        Connection(SocketChannel channel, NioEventLoop loop, String clientIp, int clientPort) {
+            this.channel = channel;
+            this.loop = loop;
+            this.clientIp = clientIp;
+            this.clientPort = clientPort;
+        }
+
+        void register() {
+            if (!running.get()) {
+                close();
+                return;
+            }
+            try {
+                key = channel.register(loop.selector(), SelectionKey.OP_READ, this);
+                loop.track(this);
+                lastReadAt = System.currentTimeMillis();
+            } catch (IOException e) {
+                abort(e);
+            }
+        }
+
+        @Override
+        public void onReady(SelectionKey key) {
+            if (key.isReadable()) {
+                read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                flush();
+            }
+        }
+
+        // ── 수신 ──
+
+        private void read() {
+            ByteBuffer buffer = loop.readBuffer();
+            buffer.clear();
+            try {
+                int n = channel.read(buffer);
+                if (n < 0) {
+                    endOfInput();
+                    return;
+                }
+                buffer.flip();
+                lastReadAt = System.currentTimeMillis();
+
+                while (buffer.hasRemaining() && !inputDone) {
+                    if (receiving == null) {
+                        receiving = processor.begin(clientIp, clientPort);
+                    }
+                    byte[] frame = decoder.decode(buffer);
+                    if (frame == null) {
+                        break;
+                    }
+                    enqueue(frame);
+                }
+            } catch (Exception e) {
+                abort(e);
+                return;
+            }
+            if (idleGapMs > 0 && decoder.hasPartial() && !idleCheckPending) {
+                scheduleIdleCheck(idleGapMs);
+            }
+            if (current == null) {
+                next();
+            }
+            updateInterest();
+        }
+
+        /**
+         * 유휴 간격 점검 예약 (타이머 휠 만료 시 루프 스레드에서 점검)
+         */
+        private void scheduleIdleCheck(long delayMs) {
+            idleCheckPending = true;
+            processor.schedule(() -> loop.execute(this::checkIdleGap), delayMs, workers,
+                    () -> { }); // 리스너 중지 중 — 연결은 중지 시 닫힘
+        }
+
+        /**
+         * 마지막 수신 후 유휴 간격이 지났으면 수신분을 전문 1건으로 처리 (루프 스레드)
+         */
+        private void checkIdleGap() {
+            idleCheckPending = false;
+            if (closed || inputDone || !decoder.hasPartial()) {
+                return;
+            }
+            long quiet = System.currentTimeMillis() - lastReadAt;
+            if (quiet < idleGapMs) {
+                scheduleIdleCheck(idleGapMs - quiet);
+                return;
+            }
+            if (receiving == null) {
+                receiving = processor.begin(clientIp, clientPort);
+            }
+            enqueue(decoder.idle());
+            if (current == null) {
+                next();
+            }
+            updateInterest();
+        }
+
+        private void enqueue(byte[] frame) {
+            receiving.received();
+            pending.add(new Inbound(receiving, frame));
+            receiving = null;
+            received++;
+            if (!keepAlive || processor.isMessageLimitReached(received)) {
+                inputDone = true; // 남은 바이트는 버림
+            }
+        }
+
+        /**
+         * 입력 종료 (클라이언트 FIN)
+         */
+        private void endOfInput() {
+            inputDone = true;
+            byte[] frame = decoder.finish();
+            if (frame != null) {
+                if (receiving == null) {
+                    receiving = processor.begin(clientIp, clientPort);
+                }
+                enqueue(frame);
+            } else if (decoder.hasPartial() || (!keepAlive && received == 0)) {
+                abort(new RuntimeException("스트림 종료 (" + decoder.progress() + ")"));
+                return;
+            }
+            if (current == null) {
+                next(); // 처리할 전문이 없으면 연결 종료
+            } else {
+                updateInterest();
+            }
+        }
+
+        // ── 처리 ──
+
+        /**
+         * 다음 대기 전문 처리 시작 (루프 스레드)
+         */
+        private void next() {
+            current = pending.poll();
+            if (current == null) {
+                if (inputDone) {
+                    close();
+                }
+                return;
+            }
+            Inbound inbound = current;
+            workers.execute(() -> process(inbound));
+        }
+
+        /**
+         * 전문 해석 → 응답 지연 (워커)
+         */
+        private void process(Inbound inbound) {
+            try {
+                // 클라이언트 수신율 초과 → 과부하 차단 (BUSY면 고정 응답, CLOSE면 연결 종료)
+                if (!processor.admit(inbound.exchange(), inbound.frame())) {
+                    if (processor.isShedByClose()) {
+                        finish(inbound);
+                    } else {
+                        respond(inbound);
+                    }
+                    return;
+                }
+                if (!processor.accept(inbound.exchange(), inbound.frame())) {
+                    finish(inbound); // 응답할 수 없으므로 연결 종료
+                    return;
+                }
+                long delay = processor.responseDelayMs(inbound.exchange());
+                if (delay > 0) {
+                    processor.schedule(() -> respond(inbound), delay, workers, () -> {
+                        processor.fail(inbound.exchange(), new RuntimeException("응답 지연 취소 (리스너 중지)"));
+                        finish(inbound);
+                    });
+                } else {
+                    respond(inbound);
+                }
+            } catch (Exception e) {
+                processor.fail(inbound.exchange(), e);
+                finish(inbound);
+            }
+        }
+
+        /**
+         * 응답 생성 후 루프에 쓰기 요청 (워커)
+         */
+        private void respond(Inbound inbound) {
+            try {
+                byte[] body = processor.respond(inbound.exchange());
+                loop.execute(() -> write(inbound, body));
+            } catch (Exception e) {
+                processor.fail(inbound.exchange(), e);
+                finish(inbound);
+            }
+        }
+
+        /**
+         * 처리 종료 후 연결 닫기 (워커)
+         */
+        private void finish(Inbound inbound) {
+            processor.complete(inbound.exchange());
+            loop.execute(() -> {
+                failPending();
+                close();
+            });
+        }
+
+        // ── 송신 ──
+
+        private void write(Inbound inbound, byte[] body) {
+            if (closed) {
+                workers.execute(() -> {
+                    processor.fail(inbound.exchange(), new RuntimeException("응답 전 연결 종료"));
+                    processor.complete(inbound.exchange());
+                });
+                return;
+            }
+            FrameSpec spec = processor.getFrameSpec();
+            out = BufferPool.shared().acquireDirect(spec.frameLength(body.length));
+            spec.encodeTo(out.buffer(), body);
+            out.buffer().flip();
+            writeDeadline = System.currentTimeMillis() + TelegramProcessor.IO_TIMEOUT_MS;
+            flush();
+        }
+
+        private void flush() {
+            try {
+                channel.write(out.buffer());
+            } catch (IOException e) {
+                abort(e);
+                return;
+            }
+            if (out.buffer().hasRemaining()) {
+                updateInterest();
+                return;
+            }
+
+            Inbound done = current;
+            done.exchange().written();
+            current = null;
+            out.release();
+            out = null;
+            workers.execute(() -> {
+                processor.sent(done.exchange());
+                processor.complete(done.exchange());
+            });
+
+            next();
+            if (!closed) {
+                updateInterest();
+            }
+        }
+
+        /**
+         * 관심 이벤트 갱신 (대기 큐가 차면 읽기 중단 — 백프레셔)
+         */
+        private void updateInterest() {
+            if (closed || key == null || !key.isValid()) return;
+            int ops = 0;
+            if (!inputDone && pending.size() < TelegramProcessor.MAX_PIPELINED) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (out != null && out.buffer().hasRemaining()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+
+        // ── 종료 ──
+
+        /**
+         * 오류로 연결 종료 (루프 스레드)
+         * - 쓰기 중이면 해당 전문을, 수신 중이면 수신 중인 전문을 오류로 기록
+         *   (둘 다 없으면 연결 오류를 빈 전문으로 기록)
+         * - 수신했지만 처리 전인 전문은 "응답 전 연결 종료"로 기록
+         * - 워커에서 처리 중인 전문은 쓰기 시점에 종료를 감지해 기록
+         */
+        void abort(Exception cause) {
+            if (closed) return;
+            List<TelegramProcessor.Exchange> failed = new ArrayList<>(2);
+            if (out != null && current != null) {
+                failed.add(current.exchange());
+            }
+            if (receiving != null) {
+                failed.add(receiving);
+            } else if (current == null && pending.isEmpty()) {
+                failed.add(processor.begin(clientIp, clientPort));
+            }
+            failPending();
+            close();
+
+            if (!failed.isEmpty()) {
+                workers.execute(() -> failed.forEach(exchange -> {
+                    processor.fail(exchange, cause);
+                    processor.complete(exchange);
+                }));
+            }
+        }
+
+        /**
+         * 처리 대기 전문을 응답 전 연결 종료로 기록 (루프 스레드, 연결을 닫기 직전)
+         */
+        private void failPending() {
+            if (pending.isEmpty()) return;
+            List<TelegramProcessor.Exchange> unanswered = new ArrayList<>(pending.size());
+            for (Inbound inbound : pending) {
+                unanswered.add(inbound.exchange());
+            }
+            pending.clear();
+            workers.execute(() -> unanswered.forEach(exchange -> {
+                processor.fail(exchange, new RuntimeException("응답 전 연결 종료"));
+                processor.complete(exchange);
+            }));
+        }
+
+        /**
+         * 리스너 중지 — 진행 중인 전문이 없으면 조용히 종료
+         */
+        void shutdown() {
+            if (current == null && receiving == null && pending.isEmpty()) {
+                close();
+            } else {
+                abort(new RuntimeException("리스너 중지"));
+            }
+        }
+
+        @Override
+        public void checkTimeout(long now) {
+            if (out != null && out.buffer().hasRemaining()) {
+                if (now > writeDeadline) {
+                    abort(new RuntimeException("쓰기 타임아웃 (" + TelegramProcessor.IO_TIMEOUT_MS + "ms)"));
+                }
+                return;
+            }
+            if (current != null || !pending.isEmpty() || inputDone) {
+                return; // 처리 중
+            }
+            if (decoder.hasPartial() || !keepAlive) {
+                if (now - lastReadAt > TelegramProcessor.IO_TIMEOUT_MS) {
+                    abort(new RuntimeException("읽기 타임아웃 (" + TelegramProcessor.IO_TIMEOUT_MS + "ms)"));
+                }
+            } else if (now - lastReadAt > processor.getIdleTimeoutMs()) {
+                log.debug("유휴 타임아웃으로 연결 종료: {}:{}", clientIp, clientPort);
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            loop.untrack(this);
+            decoder.release();
+            if (out != null) {
+                out.release();
+                out = null;
+            }
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+            if (connections.remove(this)) {
+                released();
+            }
+        }
+    }
+
+    // === 제어 메서드 ===
+
+    @Override
+    public void stop() {
+        if (!running.getAndSet(false)) {
+            return;
+        }
+        if (acceptLoop != null) {
+            acceptLoop.execute(acceptor::close);
+        } else {
+            closeQuietly(serverChannel);
+        }
+        for (Connection connection : connections) {
+            connection.loop.execute(connection::shutdown);
+        }
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown(); // 처리 중인 요청은 마무리
+        }
+        shedder.shutdown();
+        admission.drain().forEach(NioTcpListener::closeQuietly);
+        log.info("■ NIO 리스너 중지 — 포트: {}", config.getPort());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @Override
+    public SimulatorConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public void setLogCallback(LogCallback callback) {
+        processor.setLogCallback(callback);
+    }
+
+    @Override
+    public List<Map<String, Object>> getTelegramStats() {
+        return processor.getTelegramStats();
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("port", config.getPort());
+        stats.put("name", config.getName());
+        stats.put("ioMode", SimulatorConfig.IO_MODE_NIO);
+        stats.put("virtualThreads", virtualThreads);
+        stats.put("running", running.get());
+        stats.put("openConnections", connections.size());
+        stats.put("acceptedConnections", acceptedCount.get());
+        stats.put("inFlight", admission.inFlight());
+        stats.put("acceptQueued", admission.queued());
+        processor.putStats(stats);
+        return stats;
+    }
+
+    private static void closeQuietly(Channel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {}
+    }
+}
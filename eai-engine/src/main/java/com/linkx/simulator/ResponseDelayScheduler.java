@@ -0,0 +1,174 @@
+package com.linkx.simulator;
+
+import com.linkx.domain.ResponseDelay;
+import com.linkx.repository.ResponseDelayRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 지연 스케줄러
+ *
+ * - 지연 결정: 전문코드별 지연 정책(ResponseDelay)의 분포에서 샘플, 정책이 없으면 리스너의 responseDelayMs
+ * - 지연 실행: 공유 해시드 타이머 휠에 예약 — 지연 중인 응답이 스레드를 점유하지 않음
+ *
+ * 활성 정책 전체를 한 번에 적재해 전문코드별 DelayDistribution으로 컴파일하며,
+ * SimulatorService가 정책을 변경하면 invalidate로 무효화 (다음 요청에서 다시 적재)
+ * - 정책이 없는 전문코드도 적재된 목록으로 판단하므로 메시지마다 DB를 조회하지 않음
+ */
+@Component
+public class ResponseDelayScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseDelayScheduler.class);
+
+    private final ResponseDelayRepository delayRepository;
+    private final long tickMs;
+    private final int wheelSize;
+
+    /** 컴파일된 활성 정책 전체 (전문코드 → 분포, null이면 다음 조회 시 적재) */
+    private volatile Map<String, DelayDistribution> distributions;
+
+    /** 적재 직렬화 (무효화 직후 워커들이 동시에 DB를 조회하지 않도록) */
+    private final Object loadLock = new Object();
+
+    /** 무효화 버전 (무효화 이전에 시작된 적재 결과는 캐시하지 않음) */
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile HashedTimerWheel wheel;
+    private boolean shutdown;   // this 동기화
+
+    public ResponseDelayScheduler(ResponseDelayRepository delayRepository,
+                                  @Value("${linkx.simulator.timer.tick-ms:10}") long tickMs,
+                                  @Value("${linkx.simulator.timer.wheel-size:512}") int wheelSize) {
+        this.delayRepository = delayRepository;
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+    }
+
+    /**
+     * 이번 응답의 지연 시간 (ms)
+     *
+     * @param telegramId     전문코드
+     * @param defaultDelayMs 정책이 없을 때 사용할 리스너 고정 지연
+     */
+    public long delayMs(String telegramId, int defaultDelayMs) {
+        DelayDistribution distribution = telegramId != null ? distributions().get(telegramId) : null;
+        if (distribution != null) {
+            return distribution.sample(ThreadLocalRandom.current());
+        }
+        return Math.max(0, defaultDelayMs);
+    }
+
+    /**
+     * 지연 후 실행기에서 작업 실행
+     *
+     * @param onCancel 작업을 실행하지 못할 때 호출 (실행기 거부 / 스케줄러 종료)
+     */
+    public void schedule(Runnable task, long delayMs, Executor executor, Runnable onCancel) {
+        HashedTimerWheel current = wheel();
+        if (current == null) {
+            onCancel.run();
+            return;
+        }
+        current.schedule(task, delayMs, executor, onCancel);
+    }
+
+    private Map<String, DelayDistribution> distributions() {
+        Map<String, DelayDistribution> current = distributions;
+        if (current != null) {
+            return current;
+        }
+        synchronized (loadLock) {
+            current = distributions;
+            if (current != null) {
+                return current;
+            }
+            long loading = version.get();
+            Map<String, DelayDistribution> loaded = load();
+            if (version.get() == loading) {
+                distributions = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 활성 정책 전체 컴파일 (오류 정책은 제외 — 해당 전문코드는 기본 지연 사용)
+     */
+    private Map<String, DelayDistribution> load() {
+        Map<String, DelayDistribution> loaded = new HashMap<>();
+        for (ResponseDelay delay : delayRepository.findByActiveTrue()) {
+            String telegramId = delay.getTelegramId();
+            if (telegramId == null) {
+                continue;
+            }
+            try {
+                DelayDistribution distribution = DelayDistribution.compile(delay);
+                loaded.put(telegramId, distribution);
+                log.debug("지연 정책 컴파일: telegramId={}, {}", telegramId, distribution);
+            } catch (RuntimeException e) {
+                log.warn("지연 정책 오류로 기본 지연 사용: telegramId={}, {}", telegramId, e.getMessage());
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+
+    /**
+     * 전문코드의 지연 정책 무효화 (정책 등록/수정/삭제 시)
+     */
+    public void invalidate(String telegramId) {
+        if (telegramId == null) return;
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        distributions = null;
+    }
+
+    private HashedTimerWheel wheel() {
+        HashedTimerWheel current = wheel;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (wheel == null && !shutdown) {
+                wheel = new HashedTimerWheel("sim-delay-timer", tickMs, wheelSize);
+                log.info("응답 지연 타이머 휠 시작 — 틱: {}ms, 버킷: {}", tickMs, wheel.wheelSize());
+            }
+            return wheel;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        HashedTimerWheel current = wheel;
+        stats.put("started", current != null);
+        stats.put("tickMs", tickMs);
+        stats.put("pendingResponses", current != null ? current.pending() : 0);
+        Map<String, DelayDistribution> loaded = distributions;
+        stats.put("cachedPolicies", loaded != null ? loaded.size() : 0);
+        return stats;
+    }
+
+    /**
+     * 타이머 휠 중지 — 지연 중인 응답은 취소 콜백으로 실패 처리
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (wheel != null) {
+            wheel.stop();
+            wheel = null;
+        }
+    }
+}
@@ -3,13 +3,15 @@ package com.linkx.simulator;
 import com.linkx.domain.ResponseRule;
 import com.linkx.domain.ResponseRule.RuleType;
 import com.linkx.repository.ResponseRuleRepository;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.generator.FieldGenerators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,115 +20,202 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * 응답 전문 생성 엔진
  *
- * 수신된 전문의 파싱 결과(필드맵)와 응답 규칙을 기반으로
+ * 수신된 전문의 파싱 뷰와 응답 규칙을 기반으로
  * 응답 전문의 필드값을 자동 생성
+ *
+ * 규칙은 전문코드별로 RuleProgram으로 컴파일해 캐시하며,
+ * SimulatorService가 규칙을 변경하면 invalidate로 무효화
  */
 @Component
 public class ResponseGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(ResponseGenerator.class);
 
+    /** 캐시할 최대 프로그램 수 (초과 시 규칙 없는 전문코드는 캐시하지 않음) */
+    private static final int MAX_PROGRAMS = 1024;
+
     private final ResponseRuleRepository ruleRepository;
 
     /** SEQUENCE 타입 카운터 (전문코드별) */
     private final ConcurrentHashMap<String, AtomicLong> sequenceCounters = new ConcurrentHashMap<>();
 
+    /** 컴파일된 규칙 프로그램 캐시 (전문코드 → 프로그램) */
+    private final ConcurrentHashMap<String, RuleProgram> programs = new ConcurrentHashMap<>();
+
+    /** 응답 템플릿 캐시 (전문코드 → 템플릿, 코덱/프로그램이 바뀌면 재컴파일) */
+    private final ConcurrentHashMap<String, ResponseTemplate> templates = new ConcurrentHashMap<>();
+
+    /** 무효화 버전 (무효화 이전에 시작된 컴파일 결과는 캐시하지 않음) */
+    private final AtomicLong programVersion = new AtomicLong();
+
     public ResponseGenerator(ResponseRuleRepository ruleRepository) {
         this.ruleRepository = ruleRepository;
     }
 
     /**
      * 응답 필드값 생성
+     * - 규칙이 값을 만든 필드만 반환하고, 나머지 필드는 요청 전문을 그대로 에코
+     * - 요청 전문은 규칙이 참조하는 필드만 디코딩
+     *
+     * @param telegramId 전문코드
+     * @param request    수신 전문 파싱 뷰
+     * @return 규칙 적용 필드값 맵 (fieldName → value)
+     */
+    public Map<String, String> generateResponseFields(String telegramId, ParsedTelegram request) {
+        return program(telegramId).execute(request); // 규칙 없으면 빈 맵 (에코백)
+    }
+
+    /**
+     * 응답 템플릿 조회
+     * - 레이아웃이 바뀌면 코덱 인스턴스가, 규칙이 바뀌면 프로그램 인스턴스가 바뀌므로
+     *   참조 비교로 유효성 확인 후 필요할 때만 재컴파일
      *
-     * @param telegramId    전문코드
-     * @param requestFields 수신 전문 파싱 결과 (fieldName → value)
-     * @return 응답 필드값 맵 (fieldName → value)
+     * @param codec 수신 전문을 파싱한 코덱
+     */
+    public ResponseTemplate responseTemplate(TelegramCodec codec) {
+        String telegramId = codec.getTelegramId();
+        RuleProgram program = program(telegramId);
+
+        ResponseTemplate template = templates.get(telegramId);
+        if (template == null || !template.isCompiledFrom(codec, program)) {
+            template = ResponseTemplate.compile(codec, program);
+            templates.put(telegramId, template);
+            log.debug("응답 템플릿 컴파일: telegramId={}, length={}, patches={}",
+                    telegramId, codec.getTotalLength(), template.getPatchCount());
+        }
+        return template;
+    }
+
+    /**
+     * 전문코드의 컴파일된 규칙 프로그램 조회 (없으면 컴파일 후 캐시)
+     */
+    RuleProgram program(String telegramId) {
+        RuleProgram program = programs.get(telegramId);
+        if (program != null) {
+            return program;
+        }
+
+        long version = programVersion.get();
+        program = compile(telegramId);
+        if (program.isEmpty() && programs.size() >= MAX_PROGRAMS) {
+            return program; // 알 수 없는 전문코드가 캐시를 채우지 않도록
+        }
+        RuleProgram existing = programs.putIfAbsent(telegramId, program);
+        if (existing != null) {
+            return existing;
+        }
+        if (programVersion.get() != version) {
+            programs.remove(telegramId, program);
+        }
+        return program;
+    }
+
+    /**
+     * 전문코드의 규칙 프로그램 무효화 (규칙 등록/수정/삭제 시)
      */
-    public Map<String, String> generateResponseFields(String telegramId, Map<String, String> requestFields) {
+    public void invalidate(String telegramId) {
+        if (telegramId == null) return;
+        programVersion.incrementAndGet();
+        programs.remove(telegramId);
+        templates.remove(telegramId);
+    }
+
+    public void invalidateAll() {
+        programVersion.incrementAndGet();
+        programs.clear();
+        templates.clear();
+    }
+
+    /**
+     * 활성 규칙을 필드 writer 목록으로 컴파일
+     */
+    private RuleProgram compile(String telegramId) {
         List<ResponseRule> rules = ruleRepository.findByTelegramIdAndActiveTrueOrderBySortOrderAsc(telegramId);
 
         if (rules.isEmpty()) {
             log.warn("전문코드 [{}]에 대한 응답 규칙이 없습니다.", telegramId);
-            return new LinkedHashMap<>(requestFields); // 규칙 없으면 에코백
         }
 
-        Map<String, String> responseFields = new LinkedHashMap<>(requestFields);
-
+        List<RuleProgram.FieldWriter> writers = new ArrayList<>(rules.size());
         for (ResponseRule rule : rules) {
-            String fieldName = rule.getFieldName();
-            String value = generateFieldValue(rule, requestFields);
-            if (value != null) {
-                responseFields.put(fieldName, value);
+            RuleProgram.FieldWriter writer = compileRule(rule);
+            if (writer != null) {
+                writers.add(writer);
             }
         }
 
-        return responseFields;
+        log.debug("응답 규칙 컴파일: telegramId={}, rules={}, writers={}", telegramId, rules.size(), writers.size());
+        return new RuleProgram(telegramId, writers);
     }
 
     /**
-     * 개별 필드 규칙에 따라 값 생성
+     * 개별 필드 규칙을 writer로 변환 (DEFAULT는 기존값 유지이므로 writer 없음)
      */
-    private String generateFieldValue(ResponseRule rule, Map<String, String> requestFields) {
+    private RuleProgram.FieldWriter compileRule(ResponseRule rule) {
+        String fieldName = rule.getFieldName();
+        RuleType ruleType = rule.getRuleType() != null ? rule.getRuleType() : RuleType.DEFAULT;
         try {
-            switch (rule.getRuleType()) {
+            switch (ruleType) {
                 case FIXED:
-                    return rule.getFixedValue() != null ? rule.getFixedValue() : "";
+                    return new RuleProgram.Fixed(fieldName,
+                            rule.getFixedValue() != null ? rule.getFixedValue() : "");
 
                 case ECHO:
-                    return requestFields.getOrDefault(rule.getFieldName(), "");
+                    return new RuleProgram.Echo(fieldName, fieldName);
 
                 case ECHO_FROM:
                     String sourceField = rule.getSourceField();
                     if (sourceField == null || sourceField.isEmpty()) {
-                        log.warn("ECHO_FROM 규칙에 sourceField가 없습니다: {}", rule.getFieldName());
-                        return "";
+                        log.warn("ECHO_FROM 규칙에 sourceField가 없습니다: {}", fieldName);
+                        return new RuleProgram.Fixed(fieldName, "");
                     }
-                    return requestFields.getOrDefault(sourceField, "");
+                    return new RuleProgram.Echo(fieldName, sourceField);
 
                 case TIMESTAMP:
                     String format = rule.getTimeFormat();
                     if (format == null || format.isEmpty()) {
                         format = "yyyyMMddHHmmss";
                     }
-                    return LocalDateTime.now().format(DateTimeFormatter.ofPattern(format));
+                    return new RuleProgram.Timestamp(fieldName, DateTimeFormatter.ofPattern(format));
 
                 case SEQUENCE:
-                    return generateSequence(rule);
+                    String key = rule.getTelegramId() + ":" + fieldName;
+                    AtomicLong counter = sequenceCounters.computeIfAbsent(key, k -> new AtomicLong(0));
+                    String prefix = rule.getSeqPrefix() != null ? rule.getSeqPrefix() : "";
+                    return new RuleProgram.Sequence(fieldName, prefix, counter);
+
+                case GENERATOR:
+                    AtomicLong generatorCounter = sequenceCounters.computeIfAbsent(
+                            rule.getTelegramId() + ":" + fieldName, k -> new AtomicLong(0));
+                    return new RuleProgram.Generated(fieldName, FieldGenerators.parse(rule.getGenerator()),
+                            generatorCounter);
 
                 case DEFAULT:
                 default:
-                    return null; // null이면 기존값 유지
+                    return null; // 기존값 유지
             }
         } catch (Exception e) {
-            log.error("필드값 생성 실패 [{}]: {}", rule.getFieldName(), e.getMessage());
-            return "";
+            log.error("필드값 생성 규칙 컴파일 실패 [{}]: {}", fieldName, e.getMessage());
+            return new RuleProgram.Fixed(fieldName, "");
         }
     }
 
-    /**
-     * 시퀀스 번호 생성
-     */
-    private String generateSequence(ResponseRule rule) {
-        String key = rule.getTelegramId() + ":" + rule.getFieldName();
-        AtomicLong counter = sequenceCounters.computeIfAbsent(key, k -> new AtomicLong(0));
-        long seq = counter.incrementAndGet();
-
-        String prefix = rule.getSeqPrefix() != null ? rule.getSeqPrefix() : "";
-        return prefix + String.format("%010d", seq);
-    }
-
     /**
      * 시퀀스 카운터 리셋
+     * - 컴파일된 프로그램이 카운터를 참조하고 있으므로 제거하지 않고 0으로 되돌림
      */
     public void resetSequence(String telegramId, String fieldName) {
         String key = telegramId + ":" + fieldName;
-        sequenceCounters.remove(key);
+        AtomicLong counter = sequenceCounters.get(key);
+        if (counter != null) {
+            counter.set(0);
+        }
     }
 
     /**
      * 전체 시퀀스 카운터 리셋
      */
     public void resetAllSequences() {
-        sequenceCounters.clear();
+        sequenceCounters.values().forEach(counter -> counter.set(0));
     }
 }
@@ -0,0 +1,156 @@
+package com.linkx.simulator;
+
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.generator.FieldEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사전 조립된 응답 전문 템플릿
+ *
+ * 전문코드별 레이아웃(코덱)과 컴파일된 응답 규칙으로 한 번 생성하며,
+ * 정적 필드(FIXED, 에코 필드의 기본값)는 미리 바이트 배열에 기록해 둠
+ *
+ * 요청마다 템플릿을 복제한 뒤 동적 필드만 패치
+ * - ECHO / 규칙 없는 필드 / 형식이 같은 ECHO_FROM: 요청 바이트 구간 복사 (디코딩/재인코딩 없음)
+ * - 형식이 다른 ECHO_FROM, TIMESTAMP, SEQUENCE: 값 생성 후 해당 필드만 인코딩
+ * - GENERATOR: 필드에 바인딩한 생성기가 버퍼에 직접 기록 (미리 인코딩한 풀 복사 / ASCII 숫자)
+ *
+ * 한 필드에 규칙이 여러 개면 마지막 규칙만 적용
+ */
+public final class ResponseTemplate {
+
+    /** 요청마다 적용하는 필드 패치 */
+    private interface Patch {
+        void apply(ParsedTelegram request, byte[] out);
+    }
+
+    /** 요청 필드 바이트 복사 (요청에 필드가 없으면 템플릿의 기본값 유지) */
+    private record CopyPatch(int sourceIndex, int targetOffset) implements Patch {
+        @Override
+        public void apply(ParsedTelegram request, byte[] out) {
+            request.copyField(sourceIndex, out, targetOffset);
+        }
+    }
+
+    /** 값 생성 후 필드 인코딩 */
+    private record ValuePatch(TelegramCodec codec, int targetIndex, RuleProgram.FieldWriter writer)
+            implements Patch {
+        @Override
+        public void apply(ParsedTelegram request, byte[] out) {
+            codec.encodeField(targetIndex, RuleProgram.valueOf(writer, request), out);
+        }
+    }
+
+    /** 필드에 바인딩된 생성기로 직접 기록 */
+    private record EncoderPatch(FieldEncoder encoder, AtomicLong counter) implements Patch {
+        @Override
+        public void apply(ParsedTelegram request, byte[] out) {
+            encoder.write(counter.getAndIncrement(), out);
+        }
+    }
+
+    private final TelegramCodec codec;
+    private final RuleProgram program;
+    private final byte[] template;
+    private final Patch[] patches;
+
+    private ResponseTemplate(TelegramCodec codec, RuleProgram program, byte[] template, Patch[] patches) {
+        this.codec = codec;
+        this.program = program;
+        this.template = template;
+        this.patches = patches;
+    }
+
+    /**
+     * 코덱 + 규칙 프로그램으로 템플릿 컴파일
+     */
+    static ResponseTemplate compile(TelegramCodec codec, RuleProgram program) {
+        int fieldCount = codec.getFieldCount();
+
+        // 필드별 최종 규칙 (레이아웃에 없는 필드의 규칙은 무시)
+        RuleProgram.FieldWriter[] writerByField = new RuleProgram.FieldWriter[fieldCount];
+        for (RuleProgram.FieldWriter writer : program.getWriters()) {
+            int index = codec.indexOf(writer.fieldName());
+            if (index >= 0) {
+                writerByField[index] = writer;
+            }
+        }
+
+        byte[] template = new byte[codec.getTotalLength()];
+        List<Patch> patches = new ArrayList<>();
+
+        for (int i = 0; i < fieldCount; i++) {
+            TelegramCodec.Field field = codec.getField(i);
+            RuleProgram.FieldWriter writer = writerByField[i];
+
+            if (writer instanceof RuleProgram.Fixed fixed) {
+                codec.encodeField(i, fixed.fixedValue(), template);
+                continue;
+            }
+
+            // 에코 대상 필드: 요청에 값이 없을 때를 대비해 기본값을 미리 기록
+            codec.encodeField(i, "", template);
+
+            if (writer == null) {
+                patches.add(new CopyPatch(i, field.getOffset()));
+            } else if (writer instanceof RuleProgram.Echo echo) {
+                int sourceIndex = codec.indexOf(echo.sourceField());
+                if (sourceIndex < 0) {
+                    continue; // 요청에 없는 필드 → 기본값
+                }
+                if (codec.getField(sourceIndex).hasSameFormat(field)) {
+                    patches.add(new CopyPatch(sourceIndex, field.getOffset()));
+                } else {
+                    patches.add(new ValuePatch(codec, i, writer));
+                }
+            } else if (writer instanceof RuleProgram.Generated generated) {
+                patches.add(bind(codec, i, generated));
+            } else {
+                patches.add(new ValuePatch(codec, i, writer));
+            }
+        }
+
+        return new ResponseTemplate(codec, program, template, patches.toArray(new Patch[0]));
+    }
+
+    /**
+     * 필드 길이/문자셋에 맞출 수 없는 생성 규칙(예: 짧은 필드의 NAME)은 값 생성 후 인코딩(잘림)으로 대체
+     */
+    private static Patch bind(TelegramCodec codec, int index, RuleProgram.Generated generated) {
+        try {
+            return new EncoderPatch(generated.generator().bind(codec, index), generated.counter());
+        } catch (RuntimeException e) {
+            return new ValuePatch(codec, index, generated);
+        }
+    }
+
+    /**
+     * 응답 전문 생성 (템플릿 복제 + 동적 필드 패치)
+     */
+    public byte[] render(ParsedTelegram request) {
+        if (request.getCodec() != codec) {
+            // 다른 레이아웃으로 파싱된 요청은 값 기반 조립
+            return codec.build(program.execute(request), request);
+        }
+        byte[] out = template.clone();
+        for (Patch patch : patches) {
+            patch.apply(request, out);
+        }
+        return out;
+    }
+
+    /**
+     * 현재 코덱/규칙 프로그램으로 만든 템플릿인지
+     */
+    boolean isCompiledFrom(TelegramCodec codec, RuleProgram program) {
+        return this.codec == codec && this.program == program;
+    }
+
+    public TelegramCodec getCodec() { return codec; }
+
+    public int getPatchCount() { return patches.length; }
+}
@@ -0,0 +1,131 @@
+package com.linkx.simulator;
+
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.generator.FieldGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컴파일된 응답 규칙 프로그램
+ *
+ * 전문코드별 활성 ResponseRule을 한 번 해석해
+ * 포맷터/접두사/시퀀스 카운터가 미리 바인딩된 필드 writer 목록으로 보관
+ */
+final class RuleProgram {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleProgram.class);
+
+    /**
+     * 응답 필드 하나의 값을 만드는 writer
+     */
+    interface FieldWriter {
+        String fieldName();
+
+        String value(ParsedTelegram request);
+    }
+
+    private final String telegramId;
+    private final FieldWriter[] writers;
+
+    RuleProgram(String telegramId, List<FieldWriter> writers) {
+        this.telegramId = telegramId;
+        this.writers = writers.toArray(new FieldWriter[0]);
+    }
+
+    String getTelegramId() { return telegramId; }
+
+    FieldWriter[] getWriters() { return writers; }
+
+    boolean isEmpty() { return writers.length == 0; }
+
+    /**
+     * 규칙 실행 — 규칙이 값을 만든 필드만 반환
+     */
+    Map<String, String> execute(ParsedTelegram request) {
+        Map<String, String> responseFields = new LinkedHashMap<>(writers.length * 2);
+        for (FieldWriter writer : writers) {
+            responseFields.put(writer.fieldName(), valueOf(writer, request));
+        }
+        return responseFields;
+    }
+
+    /**
+     * writer 실행 — 값 생성에 실패하면 해당 필드만 빈 값 (응답 전체는 계속 생성)
+     */
+    static String valueOf(FieldWriter writer, ParsedTelegram request) {
+        try {
+            return writer.value(request);
+        } catch (RuntimeException e) {
+            log.error("필드값 생성 실패 [{}]: {}", writer.fieldName(), e.getMessage());
+            return "";
+        }
+    }
+
+    // ── Writers ──
+
+    /** FIXED — 고정값 */
+    record Fixed(String fieldName, String fixedValue) implements FieldWriter {
+        @Override
+        public String value(ParsedTelegram request) {
+            return fixedValue;
+        }
+    }
+
+    /** ECHO / ECHO_FROM — 요청 전문의 sourceField 값 */
+    record Echo(String fieldName, String sourceField) implements FieldWriter {
+        @Override
+        public String value(ParsedTelegram request) {
+            return request.getValue(sourceField);
+        }
+    }
+
+    /** TIMESTAMP — 미리 생성한 포맷터로 현재 시각 */
+    record Timestamp(String fieldName, DateTimeFormatter formatter) implements FieldWriter {
+        @Override
+        public String value(ParsedTelegram request) {
+            return LocalDateTime.now().format(formatter);
+        }
+    }
+
+    /** GENERATOR — 생성 규칙 (순번은 SEQUENCE와 같은 카운터 맵에서, 리셋 대상) */
+    record Generated(String fieldName, FieldGenerator generator, AtomicLong counter) implements FieldWriter {
+        @Override
+        public String value(ParsedTelegram request) {
+            return generator.next(counter.getAndIncrement());
+        }
+    }
+
+    /** SEQUENCE — 접두사 + 10자리 0패딩 순번 */
+    record Sequence(String fieldName, String prefix, AtomicLong counter) implements FieldWriter {
+        private static final int WIDTH = 10;
+
+        @Override
+        public String value(ParsedTelegram request) {
+            return format(prefix, counter.incrementAndGet());
+        }
+
+        /**
+         * prefix + String.format("%010d", seq) 와 동일
+         */
+        static String format(String prefix, long seq) {
+            String digits = Long.toString(seq);
+            int pad = WIDTH - digits.length();
+            if (pad <= 0) {
+                return prefix.isEmpty() ? digits : prefix + digits;
+            }
+            StringBuilder sb = new StringBuilder(prefix.length() + WIDTH);
+            sb.append(prefix);
+            for (int i = 0; i < pad; i++) {
+                sb.append('0');
+            }
+            return sb.append(digits).toString();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.linkx.simulator;
+
+import com.linkx.domain.SimulatorConfig;
+import com.linkx.domain.SimulatorLog;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이터 리스너
+ *
+ * SimulatorConfig 1건에 대응하는 포트 리스너
+ * - TcpListener: 블로킹 소켓 + 연결당 스레드
+ * - NioTcpListener: 논블로킹 채널 + 공유 셀렉터 이벤트 루프
+ */
+public interface SimulatorListener {
+
+    /**
+     * 포트 바인딩 후 수신 시작 (바인딩 실패 시 예외)
+     */
+    void start();
+
+    void stop();
+
+    boolean isRunning();
+
+    SimulatorConfig getConfig();
+
+    void setLogCallback(LogCallback callback);
+
+    /**
+     * 리스너 통계 (건수, TPS, 지연 백분위, 단계별 지연)
+     */
+    Map<String, Object> getStats();
+
+    /**
+     * 전문코드별 통계
+     */
+    List<Map<String, Object>> getTelegramStats();
+
+    /** 실시간 로그 콜백 (SSE 등에서 활용) */
+    @FunctionalInterface
+    interface LogCallback {
+        void onLog(SimulatorLog log);
+    }
+}
@@ -0,0 +1,287 @@
+package com.linkx.simulator;
+
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.SimulatorLog;
+import com.linkx.repository.SimulatorLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시뮬레이터 로그 비동기 배치 저장기 (write-behind)
+ *
+ * 응답 경로에서는 고정 크기 버퍼에 넣기만 하고, 백그라운드 스레드가 모아서 저장
+ * - 배치 크기(batch-size)가 차거나 flush-interval-ms가 지나면 한 트랜잭션으로 saveAll
+ *   (SEQUENCE 채번 + hibernate.jdbc.batch_size로 JDBC 배치 INSERT)
+ * - 버퍼가 가득 찼을 때 정책(overflow-policy)
+ *   BLOCK  — block-timeout-ms까지 대기 후 폐기 (응답 지연 대신 로그 보존 우선)
+ *   DROP   — 즉시 폐기 (응답 지연 최소화)
+ *   SAMPLE — 버퍼가 절반 이상 차면 sample-rate건 중 1건만 저장, 가득 차면 폐기
+ * - 저장 실패 시
+ *   DB 연결/일시 오류 — 같은 배치를 간격을 늘려 최대 MAX_RETRIES회 재시도
+ *   그 외(데이터 오류 등) — 배치를 반으로 나눠 재시도해 문제 행만 실패 건수로 집계
+ * - 기동 시 ID 시퀀스를 기존 로그의 max(id) 이후로 맞춤 (IDENTITY로 쌓인 기존 데이터와 충돌 방지)
+ * - 종료 시 writer 스레드를 인터럽트하지 않고 버퍼를 비울 때까지 대기 (JDBC 저장 도중 중단 없음)
+ */
+@Component
+public class SimulatorLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatorLogWriter.class);
+
+    /** DB 연결/일시 오류 재시도 횟수 */
+    private static final int MAX_RETRIES = 3;
+
+    /** 종료 시 남은 로그 저장 대기 시간 */
+    private static final long SHUTDOWN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, SAMPLE
+    }
+
+    private final SimulatorLogRepository logRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<SimulatorLog> buffer;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int sampleRate;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // === 통계 ===
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private volatile long lastFlushMs;
+
+    public SimulatorLogWriter(SimulatorLogRepository logRepository,
+                              TransactionTemplate transactionTemplate,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${linkx.simulator.log.buffer-size:65536}") int capacity,
+                              @Value("${linkx.simulator.log.batch-size:500}") int batchSize,
+                              @Value("${linkx.simulator.log.flush-interval-ms:200}") long flushIntervalMs,
+                              @Value("${linkx.simulator.log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                              @Value("${linkx.simulator.log.block-timeout-ms:100}") long blockTimeoutMs,
+                              @Value("${linkx.simulator.log.sample-rate:10}") int sampleRate) {
+        this.logRepository = logRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.capacity = Math.max(1, capacity);
+        this.buffer = new ArrayBlockingQueue<>(this.capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.sampleRate = Math.max(1, sampleRate);
+        alignSequence(jdbcTemplate);
+        this.writer = ExecutorProvider.startThread("sim-log-writer", false, this::run);
+    }
+
+    /**
+     * 로그 저장 요청 (응답 경로에서 호출 — BLOCK 정책이 아니면 대기하지 않음)
+     *
+     * @return 버퍼에 들어갔으면 true, 폐기/샘플링 제외면 false
+     */
+    public boolean enqueue(SimulatorLog simLog) {
+        if (overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() >= capacity / 2
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            sampledOut.increment();
+            return false;
+        }
+
+        boolean accepted;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = buffer.offer(simLog, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = buffer.offer(simLog);
+        }
+
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    private void run() {
+        List<SimulatorLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                if (running) continue;
+                buffer.drainTo(batch, batchSize - batch.size()); // 종료 시 남은 로그 저장
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 크기가 차거나 첫 로그 이후 flush 간격이 지날 때까지 수집
+     */
+    private void collect(List<SimulatorLog> batch) throws InterruptedException {
+        SimulatorLog first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            SimulatorLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<SimulatorLog> batch) {
+        long start = System.currentTimeMillis();
+        save(batch, 0);
+        lastFlushMs = System.currentTimeMillis() - start;
+    }
+
+    /**
+     * 배치 저장 — 일시 오류는 전체 재시도, 그 외 오류는 반씩 나눠 재시도
+     */
+    private void save(List<SimulatorLog> batch, int attempt) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> logRepository.saveAll(batch));
+            written.add(batch.size());
+            batches.increment();
+            return;
+        } catch (Exception e) {
+            batch.forEach(simLog -> simLog.setId(null)); // 롤백된 채번 ID는 버리고 재시도 시 새로 채번
+            if (isTransient(e) && attempt < MAX_RETRIES) {
+                retried.increment();
+                log.warn("로그 배치 저장 재시도 {}/{} ({}건): {}", attempt + 1, MAX_RETRIES, batch.size(), e.getMessage());
+                if (backoff(attempt)) {
+                    save(batch, attempt + 1);
+                    return;
+                }
+            }
+            if (batch.size() == 1 || isTransient(e)) {
+                failed.add(batch.size());
+                log.error("로그 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+                return;
+            }
+            retried.increment();
+        }
+        int half = batch.size() / 2;
+        save(new ArrayList<>(batch.subList(0, half)), 0);
+        save(new ArrayList<>(batch.subList(half, batch.size())), 0);
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof CannotCreateTransactionException
+                || e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 재시도 전 대기 (flush 간격 × 시도 횟수)
+     *
+     * @return 인터럽트되면 false
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(flushIntervalMs * (attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * ID 시퀀스를 기존 로그의 max(id) 이후로 맞춤
+     * - IDENTITY로 쌓인 테이블에 ddl-auto: update로 시퀀스가 새로 생기면 1부터 시작해 기존 ID와 충돌
+     * - 할당 크기만큼 여유를 두어 pooled 채번의 첫 구간도 max(id)를 넘도록 함
+     */
+    private static void alignSequence(JdbcTemplate jdbcTemplate) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM TB_SIMULATOR_LOG", Long.class);
+            if (maxId == null || maxId == 0) {
+                return;
+            }
+            long next = maxId + SimulatorLog.ID_ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + SimulatorLog.SEQUENCE_NAME + " RESTART WITH " + next);
+            log.info("시뮬레이터 로그 ID 시퀀스 조정: max(id)={}, 다음 값={}", maxId, next);
+        } catch (Exception e) {
+            log.warn("시뮬레이터 로그 ID 시퀀스 조정 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("queueDepth", buffer.size());
+        stats.put("capacity", capacity);
+        stats.put("batchSize", batchSize);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("written", written.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("sampledOut", sampledOut.sum());
+        stats.put("failed", failed.sum());
+        stats.put("retried", retried.sum());
+        stats.put("batches", batches.sum());
+        stats.put("lastFlushMs", lastFlushMs);
+        return stats;
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 로그까지 저장
+     * - writer는 flush 간격마다 running을 확인하므로 인터럽트 없이 남은 버퍼를 비우고 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("종료 시 저장하지 못한 시뮬레이터 로그: {}건", buffer.size());
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.linkx.simulator;
 
+import com.linkx.config.ExecutorProvider;
+import com.linkx.domain.ResponseDelay;
 import com.linkx.domain.ResponseRule;
 import com.linkx.domain.SimulatorConfig;
 import com.linkx.domain.SimulatorLog;
+import com.linkx.repository.ResponseDelayRepository;
 import com.linkx.repository.ResponseRuleRepository;
 import com.linkx.repository.SimulatorConfigRepository;
 import com.linkx.repository.SimulatorLogRepository;
-import com.linkx.repository.TelegramLayoutRepository;
+import com.linkx.service.TrafficStreamService;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TelegramEngine;
+import com.linkx.telegram.generator.FieldGenerators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,7 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * 시뮬레이터 관리 서비스
  *
  * TCP 리스너의 시작/중지/상태관리,
- * 응답 규칙 CRUD, 로그 조회
+ * 응답 규칙/지연 정책 CRUD, 로그 조회
  */
 @Service
 public class SimulatorService {
@@ -28,26 +37,47 @@ public class SimulatorService {
 
     private final SimulatorConfigRepository configRepository;
     private final ResponseRuleRepository ruleRepository;
+    private final ResponseDelayRepository delayRepository;
     private final SimulatorLogRepository logRepository;
-    private final TelegramLayoutRepository layoutRepository;
+    private final SimulatorLogWriter logWriter;
+    private final LayoutRegistry layoutRegistry;
     private final ResponseGenerator responseGenerator;
+    private final ResponseDelayScheduler delayScheduler;
+    private final TelegramEngine telegramEngine;
+    private final PayloadCompression payloadCompression;
+    private final NioEventLoopGroup nioEventLoopGroup;
+    private final ExecutorProvider executorProvider;
+    private final TrafficStreamService trafficStream;
 
-    /** 실행 중인 리스너 관리 (configId → TcpListener) */
-    private final ConcurrentHashMap<Long, TcpListener> activeListeners = new ConcurrentHashMap<>();
-
-    /** 리스너 스레드 관리 */
-    private final ConcurrentHashMap<Long, Thread> listenerThreads = new ConcurrentHashMap<>();
+    /** 실행 중인 리스너 관리 (configId → 리스너) */
+    private final ConcurrentHashMap<Long, SimulatorListener> activeListeners = new ConcurrentHashMap<>();
 
     public SimulatorService(SimulatorConfigRepository configRepository,
                             ResponseRuleRepository ruleRepository,
+                            ResponseDelayRepository delayRepository,
                             SimulatorLogRepository logRepository,
-                            TelegramLayoutRepository layoutRepository,
-                            ResponseGenerator responseGenerator) {
+                            SimulatorLogWriter logWriter,
+                            LayoutRegistry layoutRegistry,
+                            ResponseGenerator responseGenerator,
+                            ResponseDelayScheduler delayScheduler,
+                            TelegramEngine telegramEngine,
+                            PayloadCompression payloadCompression,
+                            NioEventLoopGroup nioEventLoopGroup,
+                            ExecutorProvider executorProvider,
+                            TrafficStreamService trafficStream) {
         this.configRepository = configRepository;
         this.ruleRepository = ruleRepository;
+        this.delayRepository = delayRepository;
         this.logRepository = logRepository;
-        this.layoutRepository = layoutRepository;
+        this.logWriter = logWriter;
+        this.layoutRegistry = layoutRegistry;
         this.responseGenerator = responseGenerator;
+        this.delayScheduler = delayScheduler;
+        this.telegramEngine = telegramEngine;
+        this.payloadCompression = payloadCompression;
+        this.nioEventLoopGroup = nioEventLoopGroup;
+        this.executorProvider = executorProvider;
+        this.trafficStream = trafficStream;
     }
 
     // ==================== 리스너 제어 ====================
@@ -60,36 +90,48 @@ public class SimulatorService {
                 .orElseThrow(() -> new RuntimeException("설정을 찾을 수 없습니다: " + configId));
 
         // 이미 실행 중인지 체크
-        TcpListener existing = activeListeners.get(configId);
+        SimulatorListener existing = activeListeners.get(configId);
         if (existing != null && existing.isRunning()) {
             throw new RuntimeException("이미 실행 중인 리스너입니다 (포트: " + config.getPort() + ")");
         }
 
         // 포트 중복 체크
-        for (TcpListener listener : activeListeners.values()) {
+        for (SimulatorListener listener : activeListeners.values()) {
             if (listener.isRunning() && listener.getConfig().getPort() == config.getPort()) {
                 throw new RuntimeException("포트 " + config.getPort() + "이 이미 사용 중입니다");
             }
         }
 
-        TcpListener listener = new TcpListener(config, layoutRepository, logRepository, responseGenerator);
-        Thread thread = new Thread(listener, "tcp-listener-" + config.getPort());
-        thread.setDaemon(true);
-        thread.start();
+        SimulatorListener listener = createListener(config);
+        listener.start();
 
         activeListeners.put(configId, listener);
-        listenerThreads.put(configId, thread);
 
-        log.info("리스너 시작 요청: {} (포트: {})", config.getName(), config.getPort());
+        log.info("리스너 시작 요청: {} (포트: {}, 모드: {})", config.getName(), config.getPort(),
+                config.isNioMode() ? SimulatorConfig.IO_MODE_NIO : SimulatorConfig.IO_MODE_BLOCKING);
 
         return listener.getStats();
     }
 
+    /**
+     * 설정의 I/O 방식에 맞는 리스너 생성
+     */
+    private SimulatorListener createListener(SimulatorConfig config) {
+        boolean virtualThreads = executorProvider.useVirtual(config.getVirtualThreads());
+        SimulatorListener listener = config.isNioMode()
+                ? new NioTcpListener(config, layoutRegistry, logWriter, responseGenerator, delayScheduler,
+                        telegramEngine, payloadCompression, nioEventLoopGroup, virtualThreads)
+                : new TcpListener(config, layoutRegistry, logWriter, responseGenerator, delayScheduler,
+                        telegramEngine, payloadCompression, virtualThreads);
+        listener.setLogCallback(trafficStream::publish); // 실시간 트래픽 스트림
+        return listener;
+    }
+
     /**
      * 리스너 중지
      */
     public Map<String, Object> stopListener(Long configId) {
-        TcpListener listener = activeListeners.get(configId);
+        SimulatorListener listener = activeListeners.get(configId);
         if (listener == null) {
             throw new RuntimeException("실행 중인 리스너가 없습니다: " + configId);
         }
@@ -97,11 +139,6 @@ public class SimulatorService {
         listener.stop();
         activeListeners.remove(configId);
 
-        Thread thread = listenerThreads.remove(configId);
-        if (thread != null) {
-            thread.interrupt();
-        }
-
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("configId", configId);
         result.put("status", "STOPPED");
@@ -121,11 +158,15 @@ public class SimulatorService {
             status.put("name", config.getName());
             status.put("port", config.getPort());
             status.put("encoding", config.getEncoding());
+            status.put("framing", config.getFraming());
             status.put("lengthHeaderSize", config.getLengthHeaderSize());
             status.put("responseDelayMs", config.getResponseDelayMs());
+            status.put("ioMode", config.isNioMode() ? SimulatorConfig.IO_MODE_NIO : SimulatorConfig.IO_MODE_BLOCKING);
+            status.put("virtualThreads", executorProvider.useVirtual(config.getVirtualThreads()));
+            status.put("keepAlive", config.isKeepAlive());
             status.put("active", config.isActive());
 
-            TcpListener listener = activeListeners.get(config.getId());
+            SimulatorListener listener = activeListeners.get(config.getId());
             if (listener != null && listener.isRunning()) {
                 status.put("running", true);
                 status.putAll(listener.getStats());
@@ -141,6 +182,17 @@ public class SimulatorService {
         return statuses;
     }
 
+    /**
+     * 실행 중인 리스너의 전문코드별 통계
+     */
+    public List<Map<String, Object>> getTelegramStats(Long configId) {
+        SimulatorListener listener = activeListeners.get(configId);
+        if (listener == null || !listener.isRunning()) {
+            throw new RuntimeException("실행 중인 리스너가 없습니다: " + configId);
+        }
+        return listener.getTelegramStats();
+    }
+
     /**
      * 전체 리스너 중지
      */
@@ -149,8 +201,6 @@ public class SimulatorService {
             listener.stop();
         });
         activeListeners.clear();
-        listenerThreads.values().forEach(Thread::interrupt);
-        listenerThreads.clear();
         log.info("전체 리스너 중지 완료");
     }
 
@@ -179,12 +229,13 @@ public class SimulatorService {
     @Transactional
     public void deleteConfig(Long id) {
         // 실행 중이면 먼저 중지
-        TcpListener listener = activeListeners.get(id);
+        SimulatorListener listener = activeListeners.get(id);
         if (listener != null && listener.isRunning()) {
             listener.stop();
             activeListeners.remove(id);
         }
         configRepository.deleteById(id);
+        trafficStream.removeBuffer(id);
     }
 
     // ==================== 응답 규칙 CRUD ====================
@@ -199,22 +250,108 @@ public class SimulatorService {
 
     @Transactional
     public ResponseRule saveRule(ResponseRule rule) {
-        return ruleRepository.save(rule);
+        validateRule(rule);
+        Set<String> telegramIds = new HashSet<>();
+        if (rule.getId() != null) {
+            ruleRepository.findById(rule.getId()).ifPresent(old -> telegramIds.add(old.getTelegramId()));
+        }
+        ResponseRule saved = ruleRepository.save(rule);
+        telegramIds.add(saved.getTelegramId());
+        invalidateRulesAfterCommit(telegramIds);
+        return saved;
     }
 
     @Transactional
     public List<ResponseRule> saveRules(List<ResponseRule> rules) {
-        return ruleRepository.saveAll(rules);
+        Set<String> telegramIds = new HashSet<>();
+        for (ResponseRule rule : rules) {
+            validateRule(rule);
+            if (rule.getId() != null) {
+                ruleRepository.findById(rule.getId()).ifPresent(old -> telegramIds.add(old.getTelegramId()));
+            }
+        }
+        List<ResponseRule> saved = ruleRepository.saveAll(rules);
+        saved.forEach(rule -> telegramIds.add(rule.getTelegramId()));
+        invalidateRulesAfterCommit(telegramIds);
+        return saved;
+    }
+
+    /**
+     * 생성 규칙 형식 검증 (잘못된 규칙이 응답 시점에 빈 값으로 대체되지 않도록 저장 전에 거름)
+     */
+    private static void validateRule(ResponseRule rule) {
+        if (rule.getRuleType() == ResponseRule.RuleType.GENERATOR) {
+            FieldGenerators.parse(rule.getGenerator());
+        }
     }
 
     @Transactional
     public void deleteRule(Long ruleId) {
+        ruleRepository.findById(ruleId)
+                .ifPresent(rule -> invalidateRulesAfterCommit(Collections.singleton(rule.getTelegramId())));
         ruleRepository.deleteById(ruleId);
     }
 
     @Transactional
     public void deleteRulesByTelegramId(String telegramId) {
         ruleRepository.deleteByTelegramId(telegramId);
+        invalidateRulesAfterCommit(Collections.singleton(telegramId));
+    }
+
+    // ==================== 응답 지연 정책 CRUD ====================
+
+    public List<ResponseDelay> getDelays() {
+        return delayRepository.findAllByOrderByTelegramIdAsc();
+    }
+
+    public ResponseDelay getDelay(String telegramId) {
+        return delayRepository.findByTelegramId(telegramId)
+                .orElseThrow(() -> new RuntimeException("지연 정책이 없습니다: " + telegramId));
+    }
+
+    @Transactional
+    public ResponseDelay saveDelay(ResponseDelay delay) {
+        DelayDistribution.compile(delay); // 정의 검증 (오류면 저장하지 않음)
+
+        Set<String> telegramIds = new HashSet<>();
+        if (delay.getId() != null) {
+            delayRepository.findById(delay.getId()).ifPresent(old -> telegramIds.add(old.getTelegramId()));
+        }
+        ResponseDelay saved = delayRepository.save(delay);
+        telegramIds.add(saved.getTelegramId());
+        afterCommit(() -> telegramIds.forEach(delayScheduler::invalidate));
+        return saved;
+    }
+
+    @Transactional
+    public void deleteDelay(Long delayId) {
+        delayRepository.findById(delayId)
+                .ifPresent(delay -> afterCommit(() -> delayScheduler.invalidate(delay.getTelegramId())));
+        delayRepository.deleteById(delayId);
+    }
+
+    /**
+     * 커밋 이후 컴파일된 규칙 프로그램 무효화
+     * (커밋 전에 무효화하면 다른 스레드가 이전 규칙으로 다시 컴파일할 수 있음)
+     */
+    private void invalidateRulesAfterCommit(Set<String> telegramIds) {
+        afterCommit(() -> telegramIds.forEach(responseGenerator::invalidate));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     // ==================== 로그 조회 ====================
@@ -230,4 +367,11 @@ public class SimulatorService {
     public List<SimulatorLog> getLogsByTelegramId(String telegramId) {
         return logRepository.findByTelegramIdOrderByReceivedAtDesc(telegramId);
     }
+
+    /**
+     * 로그 저장기 상태 (버퍼 적재량, 저장/폐기 건수)
+     */
+    public Map<String, Object> getLogWriterStats() {
+        return logWriter.getStats();
+    }
 }
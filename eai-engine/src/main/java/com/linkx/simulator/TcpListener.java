@@ -1,75 +1,104 @@
 package com.linkx.simulator;
 
+import com.linkx.config.ExecutorProvider;
 import com.linkx.domain.SimulatorConfig;
-import com.linkx.domain.SimulatorLog;
-import com.linkx.domain.TelegramLayout;
-import com.linkx.repository.SimulatorLogRepository;
-import com.linkx.repository.TelegramLayoutRepository;
+import com.linkx.protocol.framing.FrameReader;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TelegramEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.nio.charset.Charset;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * TCP 리스너
+ * TCP 리스너 (블로킹 모드)
  *
  * 지정 포트에서 소켓을 열고 전문을 수신 대기
- * 수신 → 길이헤더 파싱 → 전문코드 추출 → 레이아웃 매칭 → 응답 생성 → 리턴
+ * 수신 → 프레임 조립 → 전문코드 추출 → 레이아웃 매칭 → 응답 생성 → 리턴
+ * 연결마다 수신 스레드 1개를 사용 (대량 동시 연결은 NioTcpListener)
+ * 응답 지연은 타이머 휠로 처리하므로 지연 중인 응답은 스레드를 점유하지 않음
+ * 연결 유지(keepAlive) 설정 시 한 연결에서 전문을 반복 처리
+ * 가상 스레드 모드면 연결당 가상 스레드 — 블로킹 읽기/응답 지연 중에도 플랫폼 스레드를 점유하지 않음
+ * 동시 처리 연결 수(maxInFlight)를 넘는 연결은 수락 대기열에서 기다리고, 대기열도 차면 과부하 차단(shedMode)
  */
-public class TcpListener implements Runnable {
+public class TcpListener implements SimulatorListener, Runnable {
 
     private static final Logger log = LoggerFactory.getLogger(TcpListener.class);
 
     private final SimulatorConfig config;
-    private final TelegramLayoutRepository layoutRepository;
-    private final SimulatorLogRepository logRepository;
-    private final ResponseGenerator responseGenerator;
+    private final TelegramProcessor processor;
 
     private ServerSocket serverSocket;
+    private Thread acceptThread;
     private final AtomicBoolean running = new AtomicBoolean(false);
-    private final ExecutorService clientPool = Executors.newCachedThreadPool();
+    private final boolean virtualThreads;
+    private final ExecutorService clientPool;
 
-    /** 실시간 로그 콜백 (SSE 등에서 활용) */
-    private volatile LogCallback logCallback;
+    /** 열린 연결 (중지 시 지연 응답 대기 중인 연결까지 닫기 위해 관리) */
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
 
-    // === 통계 ===
-    private long totalRequests = 0;
-    private long successCount = 0;
-    private long errorCount = 0;
+    /** 연결 수락 제어 (동시 처리 연결 수 + 수락 대기열) / 과부하 차단 */
+    private final AdmissionControl<Socket> admission;
+    private final LoadShedder shedder;
 
     public TcpListener(SimulatorConfig config,
-                       TelegramLayoutRepository layoutRepository,
-                       SimulatorLogRepository logRepository,
-                       ResponseGenerator responseGenerator) {
+                       LayoutRegistry layoutRegistry,
+                       SimulatorLogWriter logWriter,
+                       ResponseGenerator responseGenerator,
+                       ResponseDelayScheduler delayScheduler,
+                       TelegramEngine telegramEngine,
+                       PayloadCompression payloadCompression,
+                       boolean virtualThreads) {
         this.config = config;
-        this.layoutRepository = layoutRepository;
-        this.logRepository = logRepository;
-        this.responseGenerator = responseGenerator;
+        this.virtualThreads = virtualThreads;
+        this.clientPool = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(
+                        ExecutorProvider.threadFactory("sim-" + config.getPort() + "-", true))
+                : Executors.newCachedThreadPool();
+        this.processor = new TelegramProcessor(config, layoutRegistry, logWriter, responseGenerator,
+                delayScheduler, telegramEngine, payloadCompression);
+        this.admission = new AdmissionControl<>(config.getMaxInFlight(), config.getAcceptQueueSize());
+        this.shedder = new LoadShedder(config.getPort(), processor);
     }
 
     @Override
-    public void run() {
+    public void start() {
         try {
             serverSocket = new ServerSocket(config.getPort());
             serverSocket.setSoTimeout(1000); // accept 타임아웃 (shutdown 체크용)
-            running.set(true);
+        } catch (IOException e) {
+            throw new RuntimeException("포트 " + config.getPort() + " 바인딩 실패: " + e.getMessage());
+        }
+        running.set(true);
 
-            log.info("▶ TCP 리스너 시작 — 포트: {}, 이름: {}", config.getPort(), config.getName());
+        acceptThread = ExecutorProvider.startThread("tcp-listener-" + config.getPort(), virtualThreads, this);
+    }
 
+    @Override
+    public void run() {
+        log.info("▶ TCP 리스너 시작 — 포트: {}, 이름: {}", config.getPort(), config.getName());
+        try {
             while (running.get()) {
                 try {
                     Socket clientSocket = serverSocket.accept();
-                    clientPool.submit(() -> handleClient(clientSocket));
+                    switch (admission.admit(clientSocket)) {
+                        case ADMITTED -> serve(clientSocket);
+                        case QUEUED -> log.debug("동시 처리 연결 수 초과 — 수락 대기 (포트: {})", config.getPort());
+                        case REJECTED -> shedder.shed(clientSocket);
+                    }
                 } catch (SocketTimeoutException e) {
                     // accept 타임아웃 — running 상태 체크 후 계속
                 }
@@ -83,255 +112,384 @@ public class TcpListener implements Runnable {
         }
     }
 
+    private void serve(Socket clientSocket) {
+        try {
+            clientPool.execute(() -> handleClient(clientSocket));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(clientSocket); // 리스너 중지 중
+            released();
+        }
+    }
+
+    /**
+     * 처리 중인 연결 종료 — 수락 대기 중인 연결이 있으면 이어서 처리
+     */
+    private void released() {
+        Socket next;
+        while ((next = admission.release()) != null) {
+            if (running.get()) {
+                serve(next);
+                return;
+            }
+            closeQuietly(next);
+        }
+    }
+
     /**
      * 클라이언트 연결 처리
+     * - 기본: 전문 1건 처리 후 연결 종료
+     * - 연결 유지: 유휴 타임아웃/최대 전문 수까지 같은 연결에서 반복 처리
+     *   (파이프라이닝된 요청은 소켓 버퍼에 쌓여 있다가 순서대로 처리되어 응답 순서 보장)
+     * - 지연 응답은 타이머 휠에 예약하고 바로 다음 수신으로 넘어가므로 지연 중 스레드를 점유하지 않음
+     *   (연결은 마지막 응답 송신 후 닫힘)
      */
     private void handleClient(Socket clientSocket) {
-        long startTime = System.currentTimeMillis();
-        SimulatorLog simLog = new SimulatorLog();
-        simLog.setConfigId(config.getId());
-        simLog.setClientIp(clientSocket.getInetAddress().getHostAddress());
-        simLog.setClientPort(clientSocket.getPort());
-        simLog.setReceivedAt(LocalDateTime.now());
-
-        try (InputStream in = clientSocket.getInputStream();
-             OutputStream out = clientSocket.getOutputStream()) {
-
-            clientSocket.setSoTimeout(10000); // 읽기 타임아웃 10초
-
-            Charset charset = Charset.forName(config.getEncoding());
+        String clientIp = clientSocket.getInetAddress().getHostAddress();
+        int clientPort = clientSocket.getPort();
+        boolean keepAlive = processor.isKeepAlive();
+        Connection connection = null;
+        FrameReader reader = null;
 
-            // 1. 길이 헤더 읽기
-            int lengthHeaderSize = config.getLengthHeaderSize();
-            int bodyLength;
-
-            if (lengthHeaderSize > 0) {
-                byte[] lengthHeader = readExact(in, lengthHeaderSize);
-                String lengthStr = new String(lengthHeader, charset).trim();
-                bodyLength = Integer.parseInt(lengthStr);
+        try {
+            connection = new Connection(clientSocket);
+            reader = new FrameReader(clientSocket, processor.getFrameSpec());
 
-                if (config.isLengthIncludesHeader()) {
-                    bodyLength -= lengthHeaderSize;
+            int handled = 0;
+            do {
+                if (keepAlive && !awaitNext(clientSocket, reader)) {
+                    break; // 연결 종료 또는 유휴 타임아웃
                 }
+                if (!handleMessage(connection, reader, processor.begin(clientIp, clientPort))) {
+                    break;
+                }
+                handled++;
+            } while (keepAlive && !processor.isMessageLimitReached(handled));
+
+        } catch (Exception e) {
+            log.error("클라이언트 연결 에러: {}", e.getMessage());
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+            if (connection != null) {
+                connection.endOfInput();
             } else {
-                // 길이 헤더 없음 — 최대 버퍼로 읽기
-                bodyLength = 8192;
+                closeQuietly(clientSocket);
+                released();
             }
+        }
+    }
 
-            // 2. 전문 본문 읽기
-            byte[] bodyBytes = readExact(in, bodyLength);
-            String requestRaw = new String(bodyBytes, charset);
-            simLog.setRequestRaw(requestRaw);
-
-            log.debug("수신 전문 [{}bytes]: {}", bodyBytes.length, requestRaw);
+    /**
+     * 전문 1건 수신 → 응답 예약
+     *
+     * @return 응답을 예약했으면 true (연결 유지 가능), 오류/레이아웃 없음이면 false
+     */
+    private boolean handleMessage(Connection connection, FrameReader reader, TelegramProcessor.Exchange exchange) {
+        try {
+            connection.socket.setSoTimeout(TelegramProcessor.IO_TIMEOUT_MS); // 읽기 타임아웃 10초
 
-            // 3. 전문코드 추출
-            int idOffset = config.getTelegramIdOffset();
-            int idLength = config.getTelegramIdLength();
-            String telegramId = "";
+            // 1~2. 전문 1건 수신 (길이 헤더 / 고정 길이 / 구분자 / 유휴 간격)
+            byte[] body = reader.read();
+            if (body == null) {
+                throw new RuntimeException("스트림 종료 (수신 전문 없음)");
+            }
 
-            if (idOffset + idLength <= bodyBytes.length) {
-                byte[] idBytes = Arrays.copyOfRange(bodyBytes, idOffset, idOffset + idLength);
-                telegramId = new String(idBytes, charset).trim();
+            // 클라이언트 수신율 초과 → 과부하 차단 (BUSY면 순서대로 고정 응답, CLOSE면 연결 종료)
+            if (!processor.admit(exchange, body)) {
+                if (processor.isShedByClose()) {
+                    processor.complete(exchange);
+                    return false;
+                }
+                connection.dispatch(exchange);
+                return true;
             }
-            simLog.setTelegramId(telegramId);
 
-            log.info("◆ 수신 — 전문코드: [{}], 클라이언트: {}:{}", telegramId,
-                    clientSocket.getInetAddress().getHostAddress(), clientSocket.getPort());
+            // 3~4. 전문코드 추출 & 레이아웃 매칭
+            if (!processor.accept(exchange, body)) {
+                processor.complete(exchange);
+                return false;
+            }
 
-            // 4. 레이아웃 조회 & 파싱
-            List<TelegramLayout> layouts = layoutRepository.findByTelegramIdOrderByFieldSeqAsc(telegramId);
+            // 5~8. 응답 지연 → 응답 생성 + 전송 (지연이 있으면 타이머 휠 만료 시 워커에서)
+            connection.dispatch(exchange);
+            return true;
 
-            if (layouts.isEmpty()) {
-                simLog.setStatus("NO_LAYOUT");
-                simLog.setErrorMessage("전문코드 [" + telegramId + "] 레이아웃 없음");
-                log.warn("레이아웃 없음: {}", telegramId);
-                totalRequests++;
-                errorCount++;
-                return;
-            }
+        } catch (Exception e) {
+            processor.fail(exchange, e);
+            processor.complete(exchange);
+            return false;
+        }
+    }
 
-            // 수신 전문 파싱 (필드별 분해)
-            Map<String, String> requestFields = parseTelegram(bodyBytes, layouts, charset);
+    /**
+     * 연결 유지 모드에서 다음 전문의 첫 바이트 대기 (유휴 타임아웃 적용, 바이트는 소비하지 않음)
+     *
+     * @return 다음 전문이 도착했으면 true, 연결 종료/유휴 타임아웃이면 false
+     */
+    private boolean awaitNext(Socket clientSocket, FrameReader reader) throws IOException {
+        if (reader.await(processor.getIdleTimeoutMs())) {
+            return true;
+        }
+        log.debug("연결 종료 또는 유휴 타임아웃: {}:{}", clientSocket.getInetAddress().getHostAddress(),
+                clientSocket.getPort());
+        return false;
+    }
 
-            // 5. 응답 지연 시뮬레이션
-            if (config.getResponseDelayMs() > 0) {
-                Thread.sleep(config.getResponseDelayMs());
-            }
+    private void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (Exception ignored) {}
+    }
 
-            // 6. 응답 전문 생성
-            Map<String, String> responseFields = responseGenerator.generateResponseFields(telegramId, requestFields);
-
-            // 7. 응답 전문 빌드 (고정길이)
-            byte[] responseBody = buildTelegram(responseFields, layouts, charset);
-            String responseRaw = new String(responseBody, charset);
-            simLog.setResponseRaw(responseRaw);
-
-            // 8. 길이 헤더 + 응답 전송
-            if (lengthHeaderSize > 0) {
-                int respLength = config.isLengthIncludesHeader()
-                        ? responseBody.length + lengthHeaderSize
-                        : responseBody.length;
-                String lengthStr = String.format("%" + lengthHeaderSize + "d", respLength);
-                out.write(lengthStr.getBytes(charset));
+    /**
+     * 클라이언트 연결의 응답 송신 관리
+     *
+     * 응답은 수신 순서대로 대기열에 등록되고, 앞선 응답이 나가기 전에는 뒤 응답을 보내지 않음
+     * (지연 분포로 뒤 전문의 지연이 더 짧아도 파이프라이닝 응답 순서 보장)
+     * 송신은 응답이 준비된 스레드(수신 스레드 또는 타이머 만료 워커) 중 한 스레드만 잠금 밖에서 수행
+     * (송신 중에 준비된 응답은 송신 중인 스레드가 이어서 보내므로 느린 소켓이 잠금을 점유하지 않음)
+     */
+    private final class Connection {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Delivery> queue = new ArrayDeque<>();   // lock 보호
+        private final Semaphore window = new Semaphore(TelegramProcessor.MAX_PIPELINED);
+        private boolean inputDone;   // lock 보호
+        private boolean closed;      // lock 보호
+        private boolean writing;     // lock 보호 — 송신을 맡은 스레드가 있음
+
+        private final class Delivery {
+            final TelegramProcessor.Exchange exchange;
+            byte[] body;
+            Exception error;
+            boolean ready;
+
+            Delivery(TelegramProcessor.Exchange exchange) {
+                this.exchange = exchange;
             }
-            out.write(responseBody);
-            out.flush();
-
-            simLog.setStatus("SUCCESS");
-            totalRequests++;
-            successCount++;
+        }
 
-            log.info("◆ 응답 — 전문코드: [{}], 길이: {}bytes", telegramId, responseBody.length);
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+            connections.add(this);
+        }
 
-        } catch (Exception e) {
-            simLog.setStatus("ERROR");
-            simLog.setErrorMessage(e.getMessage());
-            totalRequests++;
-            errorCount++;
-            log.error("클라이언트 처리 에러: {}", e.getMessage());
-        } finally {
-            simLog.setProcessTimeMs(System.currentTimeMillis() - startTime);
+        private void disconnect() {
+            closeQuietly(socket);
+            if (connections.remove(this)) {
+                released();
+            }
+        }
 
-            // DB 로그 저장
+        /**
+         * 응답 등록 (수신 순서대로 호출) — 지연이 없으면 즉시, 있으면 타이머 휠 만료 시 생성/송신
+         */
+        void dispatch(TelegramProcessor.Exchange exchange) throws InterruptedException {
+            window.acquire(); // 응답 대기 전문이 많으면 수신 중단
+            Delivery delivery = new Delivery(exchange);
+            lock.lock();
             try {
-                logRepository.save(simLog);
-            } catch (Exception e) {
-                log.error("로그 저장 실패: {}", e.getMessage());
+                queue.add(delivery);
+            } finally {
+                lock.unlock();
             }
 
-            // 콜백 호출 (실시간 로그)
-            if (logCallback != null) {
-                logCallback.onLog(simLog);
+            long delay = processor.responseDelayMs(exchange);
+            if (delay > 0) {
+                processor.schedule(() -> fire(delivery), delay, clientPool,
+                        () -> ready(delivery, null, new RuntimeException("응답 지연 취소 (리스너 중지)")));
+            } else {
+                fire(delivery);
             }
+        }
 
+        /**
+         * 응답 생성 후 앞에서부터 준비된 응답 송신
+         */
+        private void fire(Delivery delivery) {
+            byte[] body = null;
+            Exception error = null;
             try {
-                clientSocket.close();
-            } catch (Exception ignored) {}
+                body = processor.respond(delivery.exchange);
+            } catch (Exception e) {
+                error = e;
+            }
+            ready(delivery, body, error);
         }
-    }
 
-    /**
-     * 전문 파싱 — 바이트 배열을 레이아웃 기준으로 필드별 분해
-     */
-    private Map<String, String> parseTelegram(byte[] data, List<TelegramLayout> layouts, Charset charset) {
-        Map<String, String> fields = new LinkedHashMap<>();
-        int offset = 0;
-
-        for (TelegramLayout layout : layouts) {
-            int fieldLen = layout.getFieldLength();
-            if (offset + fieldLen > data.length) break;
+        /**
+         * 응답 준비 완료 표시 후 앞에서부터 준비된 응답 송신
+         * - 지연 예약이 취소되면 error로 호출되어 뒤 응답이 막히지 않고 연결을 정리
+         * - 잠금 안에서는 준비된 응답을 꺼내기만 하고, 소켓 쓰기와 DB 로그 저장은 잠금 밖에서
+         */
+        private void ready(Delivery delivery, byte[] body, Exception error) {
+            List<Delivery> batch = new ArrayList<>();
+            boolean failed;
+            lock.lock();
+            try {
+                delivery.body = body;
+                delivery.error = error;
+                delivery.ready = true;
+                if (writing) {
+                    return; // 송신 중인 스레드가 이어서 보냄
+                }
+                writing = true;
+                pollReady(batch);
+                failed = closed;
+            } finally {
+                lock.unlock();
+            }
 
-            byte[] fieldBytes = Arrays.copyOfRange(data, offset, offset + fieldLen);
-            String value = new String(fieldBytes, charset);
+            boolean close;
+            while (true) {
+                for (Delivery d : batch) {
+                    failed = !send(d, failed);
+                }
+                for (Delivery d : batch) {
+                    processor.complete(d.exchange);
+                    window.release();
+                }
+                batch.clear();
 
-            // 타입에 따라 trim 처리
-            if ("N".equals(layout.getDataType())) {
-                value = value.trim(); // 숫자는 앞뒤 공백/0 제거
-            } else {
-                value = value.stripTrailing(); // 문자는 뒤쪽 공백만 제거
+                lock.lock();
+                try {
+                    closed |= failed;
+                    pollReady(batch);
+                    if (batch.isEmpty()) {
+                        writing = false;
+                        close = closeIfFinished();
+                        break;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (close) {
+                disconnect();
             }
-
-            fields.put(layout.getFieldName(), value);
-            offset += fieldLen;
         }
 
-        return fields;
-    }
-
-    /**
-     * 전문 빌드 — 필드값 맵을 고정길이 바이트 배열로 변환
-     */
-    private byte[] buildTelegram(Map<String, String> fields, List<TelegramLayout> layouts, Charset charset) {
-        // 전체 길이 계산
-        int totalLength = layouts.stream().mapToInt(TelegramLayout::getFieldLength).sum();
-        byte[] result = new byte[totalLength];
-
-        // 기본 패딩 (스페이스)
-        Arrays.fill(result, (byte) 0x20);
-
-        int offset = 0;
-        for (TelegramLayout layout : layouts) {
-            int fieldLen = layout.getFieldLength();
-            String value = fields.getOrDefault(layout.getFieldName(), "");
-
-            byte[] valueBytes = value.getBytes(charset);
-
-            if ("N".equals(layout.getDataType())) {
-                // 숫자: 우측 정렬, 좌측 0 패딩
-                byte[] padded = new byte[fieldLen];
-                Arrays.fill(padded, (byte) '0');
-                int copyStart = Math.max(0, fieldLen - valueBytes.length);
-                int copyLen = Math.min(valueBytes.length, fieldLen);
-                System.arraycopy(valueBytes, 0, padded, copyStart, copyLen);
-                System.arraycopy(padded, 0, result, offset, fieldLen);
-            } else {
-                // 문자: 좌측 정렬, 우측 스페이스 패딩
-                int copyLen = Math.min(valueBytes.length, fieldLen);
-                System.arraycopy(valueBytes, 0, result, offset, copyLen);
+        /**
+         * 대기열 앞에서부터 준비된 응답 꺼내기 (lock 안에서 호출)
+         */
+        private void pollReady(List<Delivery> batch) {
+            while (!queue.isEmpty() && queue.peek().ready) {
+                batch.add(queue.poll());
             }
-
-            offset += fieldLen;
         }
 
-        return result;
-    }
+        /**
+         * 응답 1건 송신 (송신 담당 스레드만 호출)
+         *
+         * @param failed 앞 응답에서 송신 실패/응답 생성 실패가 있었는지
+         * @return 이후 응답을 계속 보낼 수 있는지
+         */
+        private boolean send(Delivery delivery, boolean failed) {
+            if (delivery.error != null) {
+                processor.fail(delivery.exchange, delivery.error);
+                return false; // 응답을 만들 수 없으면 이후 응답도 보내지 않고 연결 종료
+            }
+            if (failed) {
+                processor.fail(delivery.exchange, new RuntimeException("응답 전 연결 종료"));
+                return false;
+            }
+            try {
+                socket.setSoTimeout(TelegramProcessor.IO_TIMEOUT_MS);
+                processor.getFrameSpec().writeTo(out, delivery.body); // 풀 버퍼에서 프레임 조립 후 1회 기록
+                out.flush();
+                processor.sent(delivery.exchange);
+                return true;
+            } catch (Exception e) {
+                processor.fail(delivery.exchange, e);
+                return false;
+            }
+        }
 
-    /**
-     * 지정 바이트 수만큼 정확하게 읽기
-     */
-    private byte[] readExact(InputStream in, int length) throws Exception {
-        byte[] buffer = new byte[length];
-        int totalRead = 0;
-        while (totalRead < length) {
-            int read = in.read(buffer, totalRead, length - totalRead);
-            if (read == -1) {
-                throw new RuntimeException("스트림 종료 (읽은 바이트: " + totalRead + "/" + length + ")");
+        /**
+         * 수신 종료 (EOF/유휴 타임아웃/최대 전문 수/오류) — 남은 응답을 모두 보낸 뒤 연결 닫기
+         */
+        void endOfInput() {
+            boolean close;
+            lock.lock();
+            try {
+                inputDone = true;
+                close = closeIfFinished();
+            } finally {
+                lock.unlock();
+            }
+            if (close) {
+                disconnect();
             }
-            totalRead += read;
         }
-        return buffer;
+
+        /**
+         * 닫을 시점인지 (lock 안에서 호출)
+         * - 송신 중이면 송신 담당 스레드가 끝날 때 다시 판단
+         * - 송신 오류: 즉시 (수신 스레드의 블로킹 읽기도 깨움)
+         * - 정상: 수신이 끝났고 대기 응답이 없을 때
+         */
+        private boolean closeIfFinished() {
+            return !writing && (closed || (inputDone && queue.isEmpty()));
+        }
     }
 
     // === 제어 메서드 ===
 
+    @Override
     public void stop() {
-        running.set(false);
+        if (!running.getAndSet(false) && clientPool.isShutdown()) {
+            return;
+        }
         try {
             if (serverSocket != null && !serverSocket.isClosed()) {
                 serverSocket.close();
             }
         } catch (Exception ignored) {}
+        if (acceptThread != null && acceptThread != Thread.currentThread()) {
+            acceptThread.interrupt();
+        }
         clientPool.shutdownNow();
+        shedder.shutdown();
+        admission.drain().forEach(this::closeQuietly);
+        connections.forEach(Connection::disconnect);
         log.info("■ TCP 리스너 중지 — 포트: {}", config.getPort());
     }
 
+    @Override
     public boolean isRunning() {
         return running.get();
     }
 
+    @Override
     public SimulatorConfig getConfig() {
         return config;
     }
 
+    @Override
     public void setLogCallback(LogCallback callback) {
-        this.logCallback = callback;
+        processor.setLogCallback(callback);
     }
 
+    @Override
+    public List<Map<String, Object>> getTelegramStats() {
+        return processor.getTelegramStats();
+    }
+
+    @Override
     public Map<String, Object> getStats() {
         Map<String, Object> stats = new LinkedHashMap<>();
         stats.put("port", config.getPort());
         stats.put("name", config.getName());
+        stats.put("ioMode", SimulatorConfig.IO_MODE_BLOCKING);
+        stats.put("virtualThreads", virtualThreads);
         stats.put("running", running.get());
-        stats.put("totalRequests", totalRequests);
-        stats.put("successCount", successCount);
-        stats.put("errorCount", errorCount);
+        stats.put("inFlight", admission.inFlight());
+        stats.put("acceptQueued", admission.queued());
+        processor.putStats(stats);
         return stats;
     }
-
-    // === 콜백 인터페이스 ===
-    @FunctionalInterface
-    public interface LogCallback {
-        void onLog(SimulatorLog log);
-    }
 }
@@ -0,0 +1,403 @@
+package com.linkx.simulator;
+
+import com.linkx.domain.SimulatorConfig;
+import com.linkx.domain.SimulatorLog;
+import com.linkx.domain.TelegramLayout;
+import com.linkx.protocol.framing.FrameSpec;
+import com.linkx.protocol.framing.LengthEncoding;
+import com.linkx.telegram.LayoutRegistry;
+import com.linkx.telegram.ParsedTelegram;
+import com.linkx.telegram.PayloadCompression;
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.TelegramEngine;
+import com.linkx.telegram.TextCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시뮬레이터 전문 처리기
+ *
+ * 리스너의 I/O 방식(블로킹/NIO)과 무관한 처리 단계를 담당
+ * 전문코드 추출 → 레이아웃 매칭 → 응답 생성 → 로그 저장 (프레임 경계는 리스너 설정의 FrameSpec)
+ *
+ * 리스너 1개당 1개 생성하며, 여러 스레드에서 동시에 호출됨
+ */
+final class TelegramProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(TelegramProcessor.class);
+
+    /** 읽기/쓰기 타임아웃 */
+    static final int IO_TIMEOUT_MS = 10000;
+
+    /** 연결당 응답 대기 중인 전문 최대 수 (초과 시 수신 중단) */
+    static final int MAX_PIPELINED = 64;
+
+    private final SimulatorConfig config;
+    private final LayoutRegistry layoutRegistry;
+    private final SimulatorLogWriter logWriter;
+    private final ResponseGenerator responseGenerator;
+    private final ResponseDelayScheduler delayScheduler;
+    private final TelegramEngine telegramEngine;
+    private final PayloadCompression payloadCompression;
+    private final Charset charset;
+
+    /** 수신/응답 프레임 규칙 */
+    private final FrameSpec frameSpec;
+
+    /** 실시간 로그 콜백 */
+    private volatile SimulatorListener.LogCallback logCallback;
+
+    /** 처리 통계 (건수, 단계별 지연, TPS) */
+    private final ListenerMetrics metrics = new ListenerMetrics();
+
+    /** 클라이언트별 수신율 제한 (null이면 무제한) */
+    private final ClientRateLimiter rateLimiter;
+
+    /** 과부하 차단 응답 본문/프레임 (null이면 차단 시 연결 종료) */
+    private final byte[] busyBody;
+    private final byte[] busyFrame;
+
+    private final LongAdder shedConnections = new LongAdder();
+    private final LongAdder shedMessages = new LongAdder();
+
+    /**
+     * 요청 1건의 처리 상태
+     */
+    static final class Exchange {
+        final long startTime = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
+        final SimulatorLog simLog = new SimulatorLog();
+        byte[] body;
+        byte[] response;
+        TelegramCodec codec;
+        ParsedTelegram request;
+
+        /** 과부하 차단 대상 (정상 응답 대신 busyResponse) */
+        boolean shed;
+
+        // 단계별 시각 (System.nanoTime, 0이면 미도달)
+        long receivedNanos;
+        long parseStartNanos;
+        long parsedNanos;
+        long buildStartNanos;
+        long matchedNanos;
+        long builtNanos;
+        long writtenNanos;
+
+        /**
+         * 전문 수신 완료 시점 기록 (NIO는 디코딩 완료 시, 블로킹은 해석 시작 시)
+         */
+        void received() {
+            if (receivedNanos == 0) {
+                receivedNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * 송신 완료 시점 기록 (NIO는 이벤트 루프에서 쓰기 완료 시)
+         */
+        void written() {
+            if (writtenNanos == 0) {
+                writtenNanos = System.nanoTime();
+            }
+        }
+
+        long[] phaseNanos() {
+            long[] phases = new long[ListenerMetrics.Phase.values().length];
+            phases[ListenerMetrics.Phase.READ.ordinal()] = elapsed(startNanos, receivedNanos);
+            phases[ListenerMetrics.Phase.PARSE.ordinal()] = elapsed(parseStartNanos, parsedNanos);
+            phases[ListenerMetrics.Phase.RULE.ordinal()] = elapsed(buildStartNanos, matchedNanos);
+            phases[ListenerMetrics.Phase.BUILD.ordinal()] = elapsed(matchedNanos, builtNanos);
+            phases[ListenerMetrics.Phase.WRITE.ordinal()] = elapsed(builtNanos, writtenNanos);
+            return phases;
+        }
+
+        private static long elapsed(long from, long to) {
+            return from != 0 && to != 0 ? to - from : -1;
+        }
+    }
+
+    TelegramProcessor(SimulatorConfig config,
+                      LayoutRegistry layoutRegistry,
+                      SimulatorLogWriter logWriter,
+                      ResponseGenerator responseGenerator,
+                      ResponseDelayScheduler delayScheduler,
+                      TelegramEngine telegramEngine,
+                      PayloadCompression payloadCompression) {
+        this.config = config;
+        this.layoutRegistry = layoutRegistry;
+        this.logWriter = logWriter;
+        this.responseGenerator = responseGenerator;
+        this.delayScheduler = delayScheduler;
+        this.telegramEngine = telegramEngine;
+        this.payloadCompression = payloadCompression;
+        this.charset = TextCodec.resolve(config.getEncoding());
+        this.frameSpec = frameSpec(config);
+        this.rateLimiter = config.getClientRatePerSec() > 0
+                ? new ClientRateLimiter(config.getClientRatePerSec(), config.getClientBurst())
+                : null;
+        this.busyBody = config.isShedBusy() ? TextCodec.encode(config.getBusyResponse(), charset) : null;
+        this.busyFrame = busyBody != null ? frameSpec.encode(busyBody) : null;
+    }
+
+    /**
+     * 리스너 설정 → 프레임 규칙
+     */
+    private FrameSpec frameSpec(SimulatorConfig config) {
+        return switch (config.getFraming()) {
+            case SimulatorConfig.FRAMING_LENGTH -> FrameSpec.length(config.getLengthHeaderSize(),
+                    LengthEncoding.of(config.getLengthEncoding()), config.isLengthIncludesHeader());
+            case SimulatorConfig.FRAMING_FIXED -> FrameSpec.fixed(config.getFixedLength());
+            case SimulatorConfig.FRAMING_LAYOUT -> {
+                layoutRegistry.loadLayoutLengths();
+                yield FrameSpec.layout(config.getTelegramIdOffset() + config.getTelegramIdLength(), this::layoutLength);
+            }
+            case SimulatorConfig.FRAMING_DELIMITER -> FrameSpec.delimiter(
+                    FrameSpec.parseDelimiter(config.getFrameDelimiter()));
+            case SimulatorConfig.FRAMING_IDLE -> FrameSpec.idle(config.getIdleGapMs());
+            default -> throw new RuntimeException("지원하지 않는 프레임 방식: " + config.getFraming());
+        };
+    }
+
+    /**
+     * LAYOUT 방식 프레임 길이 — 리스너 기동 시 적재한 전문 길이 맵에서 조회
+     * - NIO 이벤트 루프에서 호출되므로 DB를 조회하지 않음 (레이아웃 변경은 무효화 시 맵에 반영)
+     */
+    private int layoutLength(byte[] prefix) {
+        String telegramId = TextCodec.decode(prefix, config.getTelegramIdOffset(),
+                config.getTelegramIdLength(), charset).trim();
+        int length = layoutRegistry.getLayoutLength(telegramId);
+        if (length < 0) {
+            throw new RuntimeException("전문코드 [" + telegramId + "] 레이아웃 없음 — 전문 길이를 알 수 없음");
+        }
+        return length;
+    }
+
+    /**
+     * 요청 처리 시작 (연결 수락 또는 전문 수신 시작 시점)
+     */
+    Exchange begin(String clientIp, int clientPort) {
+        Exchange exchange = new Exchange();
+        SimulatorLog simLog = exchange.simLog;
+        simLog.setConfigId(config.getId());
+        simLog.setClientIp(clientIp);
+        simLog.setClientPort(clientPort);
+        simLog.setReceivedAt(LocalDateTime.now());
+        simLog.setEncoding(config.getEncoding());
+        return exchange;
+    }
+
+    /**
+     * 클라이언트별 수신율 확인 — 초과면 과부하 차단 대상으로 표시
+     *
+     * @return 정상 처리할 전문이면 true
+     */
+    boolean admit(Exchange exchange, byte[] bodyBytes) {
+        if (rateLimiter == null || rateLimiter.tryAcquire(exchange.simLog.getClientIp())) {
+            return true;
+        }
+        exchange.received();
+        exchange.body = bodyBytes;
+        exchange.shed = true;
+        exchange.simLog.setStatus("SHED");
+        exchange.simLog.setErrorMessage("클라이언트 수신율 초과 (" + config.getClientRatePerSec() + "/s)");
+        shedMessages.increment();
+        return false;
+    }
+
+    /**
+     * 차단된 전문에 응답 없이 연결을 끊어야 하는지 (CLOSE 방식)
+     */
+    boolean isShedByClose() {
+        return busyFrame == null;
+    }
+
+    byte[] busyFrame() {
+        return busyFrame;
+    }
+
+    /**
+     * 수락 제어에서 거절된 연결 1건
+     */
+    void shedConnection() {
+        shedConnections.increment();
+    }
+
+    /**
+     * 수신 전문 해석 (전문코드 추출 → 레이아웃 매칭 → 파싱 뷰)
+     *
+     * @return 응답할 전문이면 true, 레이아웃이 없으면 false (NO_LAYOUT 기록)
+     */
+    boolean accept(Exchange exchange, byte[] bodyBytes) {
+        exchange.received();
+        exchange.parseStartNanos = System.nanoTime();
+        exchange.body = bodyBytes;
+        SimulatorLog simLog = exchange.simLog;
+
+        if (log.isDebugEnabled()) {
+            log.debug("수신 전문 [{}bytes]: {}", bodyBytes.length, TextCodec.decode(bodyBytes, charset));
+        }
+
+        // 전문코드 추출
+        int idOffset = config.getTelegramIdOffset();
+        int idLength = config.getTelegramIdLength();
+        String telegramId = "";
+
+        if (idOffset + idLength <= bodyBytes.length) {
+            telegramId = TextCodec.decode(bodyBytes, idOffset, idLength, charset).trim();
+        }
+        simLog.setTelegramId(telegramId);
+
+        log.debug("◆ 수신 — 전문코드: [{}], 클라이언트: {}:{}", telegramId,
+                simLog.getClientIp(), simLog.getClientPort());
+
+        // 레이아웃 조회 & 파싱 (인메모리 레지스트리, 기존 리스너와 같이 비활성 필드 포함)
+        List<TelegramLayout> layouts = layoutRegistry.getSimulatorLayouts(telegramId);
+
+        if (layouts.isEmpty()) {
+            simLog.setStatus("NO_LAYOUT");
+            simLog.setErrorMessage("전문코드 [" + telegramId + "] 레이아웃 없음");
+            log.warn("레이아웃 없음: {}", telegramId);
+            metrics.error(null); // 레이아웃 없는 전문코드는 전문코드별 통계에 넣지 않음
+            return false;
+        }
+
+        // 수신 전문 파싱 (지연 디코딩 뷰 — 규칙이 참조하는 필드만 디코딩)
+        exchange.codec = telegramEngine.codec(layouts, config.getEncoding());
+        exchange.request = exchange.codec.view(bodyBytes);
+        exchange.parsedNanos = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * 응답 본문 생성 (길이 헤더/구분자는 리스너가 송신 버퍼에 조립 — getFrameSpec().writeTo / encodeTo)
+     */
+    byte[] respond(Exchange exchange) {
+        if (exchange.shed) {
+            exchange.response = busyBody;
+            return busyBody;
+        }
+        exchange.buildStartNanos = System.nanoTime();
+        try {
+            ResponseTemplate template = responseGenerator.responseTemplate(exchange.codec);
+            exchange.matchedNanos = System.nanoTime();
+            // 사전 조립 템플릿 복제 + 동적 필드 패치
+            exchange.response = template.render(exchange.request);
+            return exchange.response;
+        } finally {
+            exchange.builtNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 응답 전송 완료
+     */
+    void sent(Exchange exchange) {
+        exchange.written();
+        if (exchange.shed) {
+            return; // 차단 건수는 admit에서 집계
+        }
+        exchange.simLog.setStatus("SUCCESS");
+        metrics.success(exchange.simLog.getTelegramId(), exchange.writtenNanos - exchange.startNanos,
+                exchange.phaseNanos());
+
+        log.debug("◆ 응답 — 전문코드: [{}], 길이: {}bytes",
+                exchange.simLog.getTelegramId(), exchange.response.length);
+    }
+
+    /**
+     * 처리 실패
+     */
+    void fail(Exchange exchange, Exception e) {
+        exchange.simLog.setStatus("ERROR");
+        exchange.simLog.setErrorMessage(e.getMessage());
+        metrics.error(exchange.codec != null ? exchange.simLog.getTelegramId() : null);
+        log.error("클라이언트 처리 에러: {}", e.getMessage());
+    }
+
+    /**
+     * 처리 종료 — 원문 저장 + DB 로그 적재 + 콜백 (압축 비용이 있으므로 이벤트 루프에서 호출 금지)
+     */
+    void complete(Exchange exchange) {
+        SimulatorLog simLog = exchange.simLog;
+        simLog.setProcessTimeMs(System.currentTimeMillis() - exchange.startTime);
+        int rawBytes = (exchange.body != null ? exchange.body.length : 0)
+                + (exchange.response != null ? exchange.response.length : 0);
+        simLog.storeRaw(exchange.body, exchange.response, payloadCompression.shouldCompress(rawBytes));
+
+        // DB 로그 적재 (저장은 SimulatorLogWriter가 배치로 처리)
+        logWriter.enqueue(simLog);
+
+        // 콜백 호출 (실시간 로그)
+        SimulatorListener.LogCallback callback = logCallback;
+        if (callback != null) {
+            callback.onLog(simLog);
+        }
+    }
+
+    /**
+     * 응답 지연 (전문코드별 지연 정책 분포, 없으면 리스너 고정 지연)
+     */
+    long responseDelayMs(Exchange exchange) {
+        if (exchange.shed) {
+            return 0;
+        }
+        return delayScheduler.delayMs(exchange.simLog.getTelegramId(), config.getResponseDelayMs());
+    }
+
+    /**
+     * 지연 응답 예약 — 타이머 휠 만료 시 실행기에서 실행 (대기 중 스레드 점유 없음)
+     *
+     * @param onCancel 실행기 거부 / 스케줄러 종료로 작업을 실행하지 못할 때 호출
+     */
+    void schedule(Runnable task, long delayMs, Executor executor, Runnable onCancel) {
+        delayScheduler.schedule(task, delayMs, executor, onCancel);
+    }
+
+    FrameSpec getFrameSpec() {
+        return frameSpec;
+    }
+
+    /**
+     * 연결 유지 모드 여부 (입력 종료로만 전문 끝을 알 수 있으면 단건 처리)
+     */
+    boolean isKeepAlive() {
+        return config.isKeepAlive() && frameSpec.isSelfDelimiting();
+    }
+
+    int getIdleTimeoutMs() {
+        return config.getIdleTimeoutMs();
+    }
+
+    /**
+     * 연결당 최대 전문 수에 도달했는지 (0이면 무제한)
+     */
+    boolean isMessageLimitReached(int received) {
+        int max = config.getMaxMessagesPerConnection();
+        return max > 0 && received >= max;
+    }
+
+    void setLogCallback(SimulatorListener.LogCallback callback) {
+        this.logCallback = callback;
+    }
+
+    void putStats(Map<String, Object> stats) {
+        metrics.putStats(stats);
+        stats.put("shedConnections", shedConnections.sum());
+        stats.put("shedMessages", shedMessages.sum());
+    }
+
+    /**
+     * 전문코드별 통계
+     */
+    List<Map<String, Object>> getTelegramStats() {
+        return metrics.telegramStats();
+    }
+}
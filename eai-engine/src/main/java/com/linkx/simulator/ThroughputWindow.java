@@ -0,0 +1,53 @@
+package com.linkx.simulator;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 초 단위 슬롯 기반 처리량(TPS) 측정
+ *
+ * 최근 SLOTS초를 원형 슬롯에 기록하며, 슬롯마다 (초 번호, 건수)를 long 하나에 묶어 CAS로 갱신
+ * → 슬롯이 새 초로 넘어가는 순간에도 건수가 유실되거나 이전 초와 섞이지 않음
+ * TPS는 진행 중인 현재 초를 제외한 완료된 초들의 평균
+ */
+final class ThroughputWindow {
+
+    private static final int SLOTS = 64;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray slots = new AtomicLongArray(SLOTS);
+    private final long baseSecond = currentSecond() - 1;
+
+    void record() {
+        long second = currentSecond() - baseSecond;
+        int slot = (int) (second % SLOTS);
+        long tag = second << 32;
+        while (true) {
+            long current = slots.get(slot);
+            long next = (current & ~COUNT_MASK) == tag ? current + 1 : tag | 1;
+            if (slots.compareAndSet(slot, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 최근 seconds초(현재 초 제외) 평균 TPS
+     */
+    double tps(int seconds) {
+        int window = Math.max(1, Math.min(seconds, SLOTS - 1));
+        long now = currentSecond() - baseSecond;
+        long total = 0;
+        for (long second = now - window; second < now; second++) {
+            if (second <= 0) continue;
+            long value = slots.get((int) (second % SLOTS));
+            if (value >>> 32 == second) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return Math.round(total * 10.0 / window) / 10.0;
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,64 @@
+package com.linkx.telegram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검증 + 조립 결과
+ * - 조립된 전문과 필드별 검증 오류를 함께 반환
+ * - 오류가 있어도 전문은 조립됨 (길이 초과 필드는 잘라서 기록)
+ */
+public final class EncodeResult {
+
+    /** 검증 오류 유형 */
+    public enum ErrorType {
+        REQUIRED, NOT_NUMBER, TOO_LONG
+    }
+
+    /** 필드 검증 오류 */
+    public static final class FieldError {
+        private final String fieldName;
+        private final String fieldNameKr;
+        private final ErrorType type;
+        private final String message;
+
+        FieldError(String fieldName, String fieldNameKr, ErrorType type, String message) {
+            this.fieldName = fieldName;
+            this.fieldNameKr = fieldNameKr;
+            this.type = type;
+            this.message = message;
+        }
+
+        public String getFieldName() { return fieldName; }
+        public String getFieldNameKr() { return fieldNameKr; }
+        public ErrorType getType() { return type; }
+        public String getMessage() { return message; }
+    }
+
+    private final byte[] data;
+    private final List<FieldError> errors;
+
+    EncodeResult(byte[] data, List<FieldError> errors) {
+        this.data = data;
+        this.errors = errors != null ? errors : Collections.emptyList();
+    }
+
+    public byte[] getData() { return data; }
+    public List<FieldError> getErrors() { return errors; }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * 오류 메시지 목록 (기존 validate 응답 형식)
+     */
+    public List<String> getErrorMessages() {
+        List<String> messages = new ArrayList<>(errors.size());
+        for (FieldError error : errors) {
+            messages.add(error.getMessage());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,111 @@
+package com.linkx.telegram;
+
+import java.util.Arrays;
+
+/**
+ * 테이블 기반 Hex 인코더/디코더
+ * - String.format / 정규식 / substring 없이 문자 테이블 조회만으로 변환
+ */
+public final class HexCodec {
+
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** 문자 → 니블 값 (-1: hex 문자 아님, -2: 공백) */
+    private static final byte[] NIBBLES = new byte[128];
+
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (int i = 0; i < 10; i++) NIBBLES['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            NIBBLES['A' + i] = (byte) (10 + i);
+            NIBBLES['a' + i] = (byte) (10 + i);
+        }
+        for (char c : new char[] {' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+            NIBBLES[c] = -2;
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * Hex dump 생성 (16byte 단위 줄바꿈, 8byte 단위 구분)
+     * - 예: "30 31 32 33 34 35 36 37   38 39 ... \n..."
+     */
+    public static String toHexDump(byte[] data) {
+        return toHexDump(data, 0, data.length);
+    }
+
+    public static String toHexDump(byte[] data, int offset, int length) {
+        if (length == 0) return "";
+
+        // 바이트당 "XX " 3자 + 16byte 줄바꿈 1자 + 8byte 구분 2자, 마지막 공백 제외
+        int lines = (length - 1) / 16;
+        int halves = (length - 1) / 8 - lines;
+        char[] out = new char[length * 3 + lines + halves * 2 - 1];
+
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out[pos++] = ' ';
+                if (i % 16 == 0) {
+                    out[pos++] = '\n';
+                } else if (i % 8 == 0) {
+                    out[pos++] = ' ';
+                    out[pos++] = ' ';
+                }
+            }
+            int b = data[offset + i] & 0xFF;
+            out[pos++] = DIGITS[b >>> 4];
+            out[pos++] = DIGITS[b & 0x0F];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 연속 Hex 문자열 (구분자 없음)
+     */
+    public static String toHex(byte[] data) {
+        char[] out = new char[data.length * 2];
+        for (int i = 0, pos = 0; i < data.length; i++) {
+            int b = data[i] & 0xFF;
+            out[pos++] = DIGITS[b >>> 4];
+            out[pos++] = DIGITS[b & 0x0F];
+        }
+        return new String(out);
+    }
+
+    /**
+     * Hex 문자열 → byte[] (공백/줄바꿈 무시, 홀수 개의 마지막 니블은 버림)
+     */
+    public static byte[] fromHex(CharSequence hex) {
+        int len = hex.length();
+        int digits = 0;
+        for (int i = 0; i < len; i++) {
+            if (nibble(hex.charAt(i), i) >= 0) digits++;
+        }
+
+        byte[] bytes = new byte[digits / 2];
+        int high = -1;
+        int pos = 0;
+        for (int i = 0; i < len && pos < bytes.length; i++) {
+            int n = nibble(hex.charAt(i), i);
+            if (n < 0) continue;
+            if (high < 0) {
+                high = n;
+            } else {
+                bytes[pos++] = (byte) ((high << 4) | n);
+                high = -1;
+            }
+        }
+        return bytes;
+    }
+
+    private static int nibble(char c, int index) {
+        int n = c < 128 ? NIBBLES[c] : -1;
+        if (n == -1) {
+            throw new IllegalArgumentException("Hex 문자가 아닙니다: '" + c + "' (위치: " + index + ")");
+        }
+        return n;
+    }
+}
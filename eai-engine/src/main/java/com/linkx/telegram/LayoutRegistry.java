@@ -0,0 +1,259 @@
+package com.linkx.telegram;
+
+import com.linkx.domain.TelegramLayout;
+import com.linkx.repository.TelegramLayoutRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전문 레이아웃 레지스트리 (인메모리 캐시)
+ * - 전문코드별 활성 레이아웃(순번 정렬)의 불변 스냅샷을 보관
+ * - 시뮬레이터는 기존 리스너와 같이 비활성 필드까지 포함한 전체 레이아웃을 별도 스냅샷으로 조회
+ * - 조회는 락 없이 현재 스냅샷을 읽기만 하고, 적재/무효화는 새 스냅샷으로 교체 (copy-on-write)
+ * - 스냅샷과 무효화 버전을 한 객체로 묶어 교체하므로, 무효화 이전에 시작된 DB 조회 결과는 캐시에 넣지 않음
+ * - 레이아웃이 없는 전문코드는 개수 제한이 있는 별도 맵에만 기록 (스냅샷 복사 없음)
+ * - 전문 전체 길이 맵(전문코드 → 전체 필드 길이 합)은 LAYOUT 프레임 리스너 기동 시 적재하고 무효화 시 갱신
+ *   (이벤트 루프의 프레임 디코딩은 이 맵만 읽고 DB를 조회하지 않음)
+ * - 레이아웃 변경 시 LayoutController가 invalidate 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LayoutRegistry {
+
+    /** 레이아웃 없음으로 기억할 전문코드 최대 수 (초과분은 매번 DB 조회) */
+    private static final int MAX_MISSING = 1024;
+
+    private final TelegramLayoutRepository layoutRepository;
+    private final TelegramEngine telegramEngine;
+
+    /** (전문코드, 조회 범위) → 레이아웃 스냅샷 + 무효화 버전 */
+    private final AtomicReference<State> state = new AtomicReference<>(new State(Collections.emptyMap(), 0));
+
+    /** 레이아웃이 없는 (전문코드, 조회 범위) */
+    private final Map<Key, Boolean> missing = new ConcurrentHashMap<>();
+
+    /** 전문코드 → 전문 전체 길이 (비활성 필드 포함, loadLayoutLengths 전에는 null) */
+    private volatile Map<String, Integer> layoutLengths;
+
+    // === 통계 ===
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private record State(Map<Key, List<TelegramLayout>> layouts, long version) {
+    }
+
+    /** 캐시 키 — allFields면 비활성 필드 포함 */
+    private record Key(String telegramId, boolean allFields) {
+    }
+
+    /**
+     * 전문코드의 활성 레이아웃 조회 (순번 정렬, 읽기 전용)
+     */
+    public List<TelegramLayout> getLayouts(String telegramId) {
+        return lookup(new Key(telegramId, false));
+    }
+
+    /**
+     * 시뮬레이터 수신/응답용 레이아웃 조회 — 기존 리스너와 같이 비활성 필드 포함 (순번 정렬, 읽기 전용)
+     */
+    public List<TelegramLayout> getSimulatorLayouts(String telegramId) {
+        return lookup(new Key(telegramId, true));
+    }
+
+    /**
+     * 전문코드 캐시 무효화 (캐시에 없어도 버전을 올린 새 스냅샷을 게시)
+     */
+    public void invalidate(String telegramId) {
+        if (telegramId == null) return;
+        invalidations.increment();
+
+        Key active = new Key(telegramId, false);
+        Key all = new Key(telegramId, true);
+        State current;
+        Map<Key, List<TelegramLayout>> next;
+        do {
+            current = state.get();
+            next = current.layouts();
+            if (next.containsKey(active) || next.containsKey(all)) {
+                next = new HashMap<>(next);
+                next.remove(active);
+                next.remove(all);
+                next = Collections.unmodifiableMap(next);
+            }
+        } while (!state.compareAndSet(current, new State(next, current.version() + 1)));
+        missing.remove(active);
+        missing.remove(all);
+        if (layoutLengths != null) {
+            refreshLayoutLength(telegramId);
+        }
+
+        telegramEngine.evictCodec(telegramId);
+        log.debug("레이아웃 캐시 무효화: {}", telegramId);
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        invalidations.increment();
+        State previous;
+        do {
+            previous = state.get();
+        } while (!state.compareAndSet(previous, new State(Collections.emptyMap(), previous.version() + 1)));
+        missing.clear();
+        if (layoutLengths != null) {
+            reloadLayoutLengths();
+        }
+        previous.layouts().keySet().stream().map(Key::telegramId).distinct().forEach(telegramEngine::evictCodec);
+        log.info("레이아웃 캐시 전체 무효화 ({}건)", previous.layouts().size());
+    }
+
+    /**
+     * 전문 전체 길이 맵 적재 (LAYOUT 프레임 리스너 기동 시 — 이후 무효화마다 갱신)
+     */
+    public void loadLayoutLengths() {
+        if (layoutLengths == null) {
+            reloadLayoutLengths();
+        }
+    }
+
+    /**
+     * 적재된 맵에서 전문 전체 길이 조회 (DB 조회 없음 — 이벤트 루프에서 호출 가능)
+     *
+     * @return 레이아웃이 없거나 맵을 적재하지 않았으면 -1
+     */
+    public int getLayoutLength(String telegramId) {
+        Map<String, Integer> lengths = layoutLengths;
+        Integer length = lengths != null ? lengths.get(telegramId) : null;
+        return length != null ? length : -1;
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        State current = state.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cachedTelegrams", current.layouts().keySet().stream().map(Key::telegramId).distinct().count());
+        stats.put("missingTelegrams", missing.size());
+        stats.put("version", current.version());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    // ── Private Methods ──
+
+    private List<TelegramLayout> lookup(Key key) {
+        State current = state.get();
+        List<TelegramLayout> cached = current.layouts().get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        if (missing.containsKey(key)) {
+            hits.increment();
+            return List.of();
+        }
+
+        misses.increment();
+        List<TelegramLayout> loaded = snapshot(key.allFields()
+                ? layoutRepository.findByTelegramIdOrderByFieldSeqAsc(key.telegramId())
+                : layoutRepository.findByTelegramIdAndActiveTrueOrderByFieldSeq(key.telegramId()));
+        if (loaded.isEmpty()) {
+            rememberMissing(key, current.version());
+        } else {
+            install(key, loaded, current.version());
+        }
+        return loaded;
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었던 경우에만 새 스냅샷으로 교체
+     * - 무효화는 항상 버전을 올린 새 스냅샷을 게시하므로 CAS가 실패하면 버전을 다시 확인
+     */
+    private void install(Key key, List<TelegramLayout> layouts, long loadVersion) {
+        State current;
+        Map<Key, List<TelegramLayout>> next;
+        do {
+            current = state.get();
+            if (current.version() != loadVersion) return;
+            next = new HashMap<>(current.layouts());
+            next.put(key, layouts);
+        } while (!state.compareAndSet(current, new State(Collections.unmodifiableMap(next), loadVersion)));
+    }
+
+    private synchronized void reloadLayoutLengths() {
+        Map<String, Integer> lengths = new HashMap<>();
+        for (Object[] row : layoutRepository.sumFieldLengthByTelegram()) {
+            if (row[1] != null) {
+                lengths.put((String) row[0], ((Number) row[1]).intValue());
+            }
+        }
+        layoutLengths = Map.copyOf(lengths);
+        log.info("전문 길이 맵 적재 ({}건)", lengths.size());
+    }
+
+    private synchronized void refreshLayoutLength(String telegramId) {
+        int length = 0;
+        for (TelegramLayout layout : layoutRepository.findByTelegramIdOrderByFieldSeqAsc(telegramId)) {
+            length += layout.getFieldLength() != null ? layout.getFieldLength() : 0;
+        }
+        Map<String, Integer> lengths = new HashMap<>(layoutLengths);
+        if (length > 0) {
+            lengths.put(telegramId, length);
+        } else {
+            lengths.remove(telegramId);
+        }
+        layoutLengths = Map.copyOf(lengths);
+    }
+
+    /**
+     * 레이아웃 없음 기록 (기록 후 무효화가 끼어들었으면 되돌림)
+     */
+    private void rememberMissing(Key key, long loadVersion) {
+        if (missing.size() >= MAX_MISSING) return;
+        missing.put(key, Boolean.TRUE);
+        if (state.get().version() != loadVersion) {
+            missing.remove(key);
+        }
+    }
+
+    /**
+     * 엔티티를 복제한 불변 리스트 (영속성 컨텍스트/호출자 변경과 분리)
+     */
+    private static List<TelegramLayout> snapshot(List<TelegramLayout> layouts) {
+        List<TelegramLayout> copies = new ArrayList<>(layouts.size());
+        for (TelegramLayout layout : layouts) {
+            copies.add(TelegramLayout.builder()
+                    .id(layout.getId())
+                    .telegramId(layout.getTelegramId())
+                    .telegramName(layout.getTelegramName())
+                    .fieldSeq(layout.getFieldSeq())
+                    .fieldName(layout.getFieldName())
+                    .fieldNameKr(layout.getFieldNameKr())
+                    .fieldLength(layout.getFieldLength())
+                    .dataType(layout.getDataType())
+                    .align(layout.getAlign())
+                    .padChar(layout.getPadChar())
+                    .defaultValue(layout.getDefaultValue())
+                    .required(layout.getRequired())
+                    .description(layout.getDescription())
+                    .section(layout.getSection())
+                    .active(layout.getActive())
+                    .build());
+        }
+        return List.copyOf(copies);
+    }
+}
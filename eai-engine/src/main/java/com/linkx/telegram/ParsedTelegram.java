@@ -0,0 +1,169 @@
+package com.linkx.telegram;
+
+import com.linkx.telegram.TelegramCodec.Field;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 파싱된 전문 뷰 (Flyweight)
+ * - 원본 byte[] 위에 컴파일된 코덱을 겹쳐 보는 읽기 전용 뷰
+ * - 필드값은 이름/인덱스로 접근하는 시점에만 디코딩 (한 번 디코딩한 값은 재사용)
+ * - REST 응답용 Map 형태는 toMap()으로 필요할 때만 생성
+ *
+ * 요청 단위로 생성해 사용하며 스레드 안전하지 않음
+ */
+public final class ParsedTelegram {
+
+    private final TelegramCodec codec;
+    private final byte[] data;
+    private final int base;
+    private final int length;
+
+    /** 파싱 가능한 필드 수 (전문 길이가 부족하면 레이아웃 필드 수보다 작음) */
+    private final int parsedFieldCount;
+
+    /** 디코딩된 필드값 캐시 (첫 접근 시 할당) */
+    private String[] values;
+
+    ParsedTelegram(TelegramCodec codec, byte[] data, int base, int length) {
+        this.codec = codec;
+        this.data = data;
+        this.base = base;
+        this.length = length;
+        this.parsedFieldCount = codec.parsedFieldCount(length);
+    }
+
+    /**
+     * ByteBuffer의 position ~ limit 구간에 대한 뷰 생성
+     * - 힙 버퍼는 복사 없이 backing array를 그대로 사용
+     */
+    static ParsedTelegram of(TelegramCodec codec, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new ParsedTelegram(codec, buffer.array(),
+                    buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return new ParsedTelegram(codec, copy, 0, copy.length);
+    }
+
+    // ── 필드 접근 ──
+
+    public int indexOf(String fieldName) {
+        return codec.indexOf(fieldName);
+    }
+
+    /**
+     * 필드가 수신 전문 범위 안에 존재하는지 여부
+     */
+    public boolean isPresent(int index) {
+        return index >= 0 && index < parsedFieldCount;
+    }
+
+    /**
+     * trim 처리된 필드값 (필드가 없거나 전문 길이가 부족하면 빈 문자열)
+     */
+    public String getValue(int index) {
+        if (!isPresent(index)) return "";
+        if (values == null) {
+            values = new String[parsedFieldCount];
+        }
+        String value = values[index];
+        if (value == null) {
+            value = TelegramCodec.trim(getRawValue(index), codec.getField(index));
+            values[index] = value;
+        }
+        return value;
+    }
+
+    public String getValue(String fieldName) {
+        return getValue(indexOf(fieldName));
+    }
+
+    /**
+     * trim 전 원문 필드값
+     */
+    public String getRawValue(int index) {
+        if (!isPresent(index)) return "";
+        Field field = codec.getField(index);
+        return TextCodec.decode(data, base + field.offset, field.length, codec.getCharset());
+    }
+
+    public String getRawValue(String fieldName) {
+        return getRawValue(indexOf(fieldName));
+    }
+
+    /**
+     * 필드 원본 바이트를 대상 버퍼로 복사 (디코딩 없이 에코할 때 사용)
+     *
+     * @return 복사한 바이트 수 (필드가 없으면 0)
+     */
+    public int copyField(int index, byte[] dst, int dstOffset) {
+        if (!isPresent(index)) return 0;
+        Field field = codec.getField(index);
+        System.arraycopy(data, base + field.offset, dst, dstOffset, field.length);
+        return field.length;
+    }
+
+    // ── 전문 정보 ──
+
+    public TelegramCodec getCodec() { return codec; }
+    public int getParsedFieldCount() { return parsedFieldCount; }
+    public int getLength() { return length; }
+
+    /**
+     * 파싱된 구간의 전체 길이
+     */
+    public int getParsedLength() {
+        if (parsedFieldCount == 0) return 0;
+        Field last = codec.getField(parsedFieldCount - 1);
+        return last.offset + last.length;
+    }
+
+    // ── Map 변환 (REST 응답용) ──
+
+    /**
+     * 필드명 → trim 처리된 값
+     */
+    public Map<String, String> toValueMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < parsedFieldCount; i++) {
+            map.put(codec.getField(i).name, getValue(i));
+        }
+        return map;
+    }
+
+    /**
+     * 필드별 상세 정보를 포함한 파싱 결과 (기존 TelegramEngine.parse 응답 형식)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<Map<String, Object>> fields = new ArrayList<>(parsedFieldCount);
+
+        for (int i = 0; i < parsedFieldCount; i++) {
+            Field field = codec.getField(i);
+            String rawValue = getRawValue(i);
+
+            Map<String, Object> fieldInfo = new LinkedHashMap<>();
+            fieldInfo.put("fieldName", field.name);
+            fieldInfo.put("fieldNameKr", field.nameKr);
+            fieldInfo.put("rawValue", rawValue);
+            fieldInfo.put("value", values != null && values[i] != null
+                    ? values[i] : TelegramCodec.trim(rawValue, field));
+            fieldInfo.put("offset", field.offset);
+            fieldInfo.put("length", field.length);
+            fieldInfo.put("dataType", field.dataType);
+            fieldInfo.put("section", field.section);
+
+            fields.add(fieldInfo);
+        }
+
+        result.put("fields", fields);
+        result.put("totalParsedLength", getParsedLength());
+        result.put("rawDataLength", length);
+        result.put("charset", codec.getCharset().name());
+
+        return result;
+    }
+}
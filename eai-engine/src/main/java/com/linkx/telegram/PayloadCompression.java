@@ -0,0 +1,76 @@
+package com.linkx.telegram;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 원문 페이로드 압축 (Deflate)
+ * - 이력/로그에 원문 바이트를 저장할 때 압축 여부 결정 및 압축/해제
+ * - linkx.payload.compress=true 이고 원문 크기가 compress-min-bytes 이상일 때만 압축
+ */
+@Component
+public class PayloadCompression {
+
+    @Value("${linkx.payload.compress:false}")
+    private boolean enabled;
+
+    @Value("${linkx.payload.compress-min-bytes:1024}")
+    private int minBytes;
+
+    /**
+     * 저장 시 압축할지 여부 (요청 + 응답 원문 합계 기준)
+     */
+    public boolean shouldCompress(int totalBytes) {
+        return enabled && totalBytes >= minBytes;
+    }
+
+    /**
+     * 압축
+     */
+    public static byte[] compress(byte[] data) {
+        if (data == null) return null;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축 해제
+     */
+    public static byte[] decompress(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] chunk = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상되었습니다: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
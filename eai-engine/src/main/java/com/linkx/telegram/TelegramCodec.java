@@ -0,0 +1,430 @@
+package com.linkx.telegram;
+
+import com.linkx.domain.TelegramLayout;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * 컴파일된 전문 코덱
+ * - 레이아웃 목록을 한 번 해석해 필드별 오프셋/패딩/정렬/타입을 미리 계산한 불변 실행계획
+ * - 조립/파싱 시 하나의 버퍼에 직접 쓰고 읽음 (필드별 임시 배열 없음)
+ * - TelegramEngine이 전문코드 + 문자셋 단위로 캐시하여 재사용
+ */
+@Slf4j
+public final class TelegramCodec {
+
+    /** 필드 데이터 타입 */
+    public enum FieldType {
+        STRING, NUMBER, DATE, FILLER;
+
+        static FieldType of(String dataType) {
+            if (dataType == null) return STRING;
+            switch (dataType) {
+                case "NUMBER":
+                case "N": return NUMBER;
+                case "DATE": return DATE;
+                case "FILLER": return FILLER;
+                default: return STRING;
+            }
+        }
+    }
+
+    /** 컴파일된 필드 정의 */
+    public static final class Field {
+        final int index;
+        final String name;
+        final String nameKr;
+        final String dataType;
+        final String section;
+        final FieldType type;
+        final int offset;
+        final int length;
+        final byte padByte;
+        final boolean rightAlign;
+        final boolean trimLeading;
+        final boolean required;
+        final String defaultValue;
+        private final String align;
+        private final String padChar;
+
+        private Field(int index, int offset, TelegramLayout layout) {
+            this.index = index;
+            this.name = layout.getFieldName();
+            this.nameKr = layout.getFieldNameKr();
+            this.dataType = layout.getDataType();
+            this.section = layout.getSection();
+            this.type = FieldType.of(layout.getDataType());
+            this.offset = offset;
+            this.length = layout.getFieldLength();
+            this.padByte = padByte(layout);
+            this.rightAlign = rightAlign(layout);
+            this.trimLeading = rightAlign || type == FieldType.NUMBER;
+            this.required = Boolean.TRUE.equals(layout.getRequired());
+            this.defaultValue = layout.getDefaultValue();
+            this.align = layout.getAlign();
+            this.padChar = layout.getPadChar();
+        }
+
+        /**
+         * ALIGN 값을 그대로 따름 — 시뮬레이터 단축 코드 "N"만 ALIGN 미지정 시 우측정렬
+         */
+        private static boolean rightAlign(TelegramLayout layout) {
+            String align = layout.getAlign();
+            if (align == null || align.isBlank()) {
+                return "N".equals(layout.getDataType());
+            }
+            return "RIGHT".equals(align);
+        }
+
+        /**
+         * PAD_CHAR 값을 그대로 따름 — 미지정 시 공백, 시뮬레이터 단축 코드 "N"만 '0'
+         */
+        private static byte padByte(TelegramLayout layout) {
+            String padChar = layout.getPadChar();
+            if (padChar == null || padChar.isEmpty()) {
+                return "N".equals(layout.getDataType()) ? (byte) '0' : (byte) ' ';
+            }
+            return (byte) padChar.charAt(0);
+        }
+
+        private boolean matches(TelegramLayout layout) {
+            return Objects.equals(name, layout.getFieldName())
+                    && Objects.equals(nameKr, layout.getFieldNameKr())
+                    && Objects.equals(length, layout.getFieldLength())
+                    && Objects.equals(dataType, layout.getDataType())
+                    && Objects.equals(align, layout.getAlign())
+                    && Objects.equals(padChar, layout.getPadChar())
+                    && Objects.equals(defaultValue, layout.getDefaultValue())
+                    && required == Boolean.TRUE.equals(layout.getRequired())
+                    && Objects.equals(section, layout.getSection());
+        }
+
+        public int getIndex() { return index; }
+        public String getName() { return name; }
+        public String getNameKr() { return nameKr; }
+        public FieldType getType() { return type; }
+        public int getOffset() { return offset; }
+        public int getLength() { return length; }
+        public byte getPadByte() { return padByte; }
+        public boolean isRightAlign() { return rightAlign; }
+
+        /**
+         * 같은 값이 같은 바이트로 기록되는 필드인지 (길이/타입/정렬/패딩 동일)
+         * - 동일하면 필드 간 값 복사를 디코딩 없이 바이트 복사로 대체 가능
+         */
+        public boolean hasSameFormat(Field other) {
+            return length == other.length
+                    && type == other.type
+                    && rightAlign == other.rightAlign
+                    && padByte == other.padByte;
+        }
+    }
+
+    private final String telegramId;
+    private final Charset charset;
+    private final Field[] fields;
+    private final Map<String, Integer> indexByName;
+    private final int totalLength;
+
+    /** 컴파일 원본 레이아웃 (LayoutRegistry 스냅샷이면 참조 비교만으로 캐시 유효성 확인) */
+    private final List<TelegramLayout> source;
+
+    private TelegramCodec(String telegramId, Charset charset, Field[] fields, int totalLength,
+                          List<TelegramLayout> source) {
+        this.telegramId = telegramId;
+        this.source = source;
+        this.charset = charset;
+        this.fields = fields;
+        this.totalLength = totalLength;
+        this.indexByName = new HashMap<>(fields.length * 2);
+        for (Field field : fields) {
+            indexByName.putIfAbsent(field.name, field.index);
+        }
+    }
+
+    /**
+     * 레이아웃 목록을 코덱으로 컴파일
+     */
+    public static TelegramCodec compile(List<TelegramLayout> layouts, Charset charset) {
+        Field[] fields = new Field[layouts.size()];
+        int offset = 0;
+        for (int i = 0; i < fields.length; i++) {
+            TelegramLayout layout = layouts.get(i);
+            fields[i] = new Field(i, offset, layout);
+            offset += layout.getFieldLength();
+        }
+        String telegramId = layouts.isEmpty() ? null : layouts.get(0).getTelegramId();
+        return new TelegramCodec(telegramId, charset, fields, offset, layouts);
+    }
+
+    // ── 조립 ──
+
+    /**
+     * 전문 조립 (Map → Fixed-length byte[])
+     */
+    public byte[] build(Map<String, String> fieldValues) {
+        byte[] result = new byte[totalLength];
+        encodeInto(fieldValues, result, 0);
+        return result;
+    }
+
+    /**
+     * 지정 버퍼의 offset 위치부터 전문을 조립
+     */
+    public void encodeInto(Map<String, String> fieldValues, byte[] dst, int dstOffset) {
+        for (Field field : fields) {
+            String value = fieldValues.getOrDefault(field.name, "");
+
+            // 기본값 적용
+            if (value.isEmpty() && field.defaultValue != null) {
+                value = field.defaultValue;
+            }
+
+            writeField(field, value, dst, dstOffset + field.offset);
+        }
+    }
+
+    /**
+     * 검증 + 조립 (단일 패스)
+     * - 각 필드값을 대상 문자셋으로 한 번만 인코딩하고
+     * - 인코딩된 바이트로 필수값/숫자 형식/바이트 길이를 검사한 뒤 그대로 버퍼에 기록
+     */
+    public EncodeResult encode(Map<String, String> fieldValues) {
+        byte[] result = new byte[totalLength];
+        List<EncodeResult.FieldError> errors = null;
+
+        for (Field field : fields) {
+            String value = fieldValues.getOrDefault(field.name, "");
+            int pos = field.offset;
+
+            if (value.isEmpty()) {
+                // 필수값 체크
+                if (field.required && field.defaultValue == null) {
+                    errors = addError(errors, field, EncodeResult.ErrorType.REQUIRED,
+                            String.format("[%s] %s 필드는 필수입니다.", field.name, field.nameKr));
+                }
+                writeField(field, field.defaultValue, result, pos);
+                continue;
+            }
+
+            // 필드 위치에 바로 인코딩 (문자 경계에서 잘림)
+            int encoded = TextCodec.encode(value, charset, result, pos, field.length);
+            int written = TextCodec.written(encoded);
+
+            // 숫자 타입 체크
+            if (field.type == FieldType.NUMBER && !(TextCodec.isTruncated(encoded)
+                    ? isNumeric(TextCodec.encode(value, charset), 0, -1)
+                    : isNumeric(result, pos, written))) {
+                errors = addError(errors, field, EncodeResult.ErrorType.NOT_NUMBER,
+                        String.format("[%s] %s 필드는 숫자만 입력 가능합니다.", field.name, field.nameKr));
+            }
+
+            // 길이 초과 체크
+            if (TextCodec.isTruncated(encoded)) {
+                errors = addError(errors, field, EncodeResult.ErrorType.TOO_LONG,
+                        String.format("[%s] %s 필드 길이 초과 (%d > %d bytes)",
+                                field.name, field.nameKr, TextCodec.encodedLength(value, charset), field.length));
+            }
+
+            align(field, written, result, pos);
+        }
+
+        return new EncodeResult(result, errors);
+    }
+
+    private static List<EncodeResult.FieldError> addError(List<EncodeResult.FieldError> errors, Field field,
+                                                          EncodeResult.ErrorType type, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>();
+        }
+        errors.add(new EncodeResult.FieldError(field.name, field.nameKr, type, message));
+        return errors;
+    }
+
+    /**
+     * 숫자 형식 검사 (^-?\d*\.?\d+$ 와 동일, 인코딩된 바이트 기준)
+     */
+    static boolean isNumeric(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int len = length < 0 ? bytes.length : offset + length;
+        if (i < len && bytes[i] == '-') i++;
+
+        int intStart = i;
+        while (i < len && isDigit(bytes[i])) i++;
+        if (i == len) {
+            return i > intStart;
+        }
+
+        if (bytes[i] != '.') return false;
+        i++;
+        int fracStart = i;
+        while (i < len && isDigit(bytes[i])) i++;
+        return i == len && i > fracStart;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * 응답 전문 조립
+     * - fieldValues에 있는 필드는 값을 인코딩하고
+     * - 없는 필드는 같은 레이아웃의 요청 전문 바이트를 디코딩 없이 그대로 복사 (에코)
+     */
+    public byte[] build(Map<String, String> fieldValues, ParsedTelegram echoSource) {
+        byte[] result = new byte[totalLength];
+        boolean sameLayout = echoSource != null && echoSource.getCodec() == this;
+
+        for (Field field : fields) {
+            String value = fieldValues.get(field.name);
+            if (value == null && sameLayout && echoSource.copyField(field.index, result, field.offset) > 0) {
+                continue;
+            }
+            if (value == null) {
+                value = echoSource != null ? echoSource.getValue(field.name) : "";
+            }
+            if (value.isEmpty() && field.defaultValue != null) {
+                value = field.defaultValue;
+            }
+            writeField(field, value, result, field.offset);
+        }
+        return result;
+    }
+
+    /**
+     * 필드 하나를 dst의 필드 위치에 인코딩 (빈 값이면 기본값 적용)
+     * - dst는 전문 전체 길이 버퍼 (응답 템플릿 패치용)
+     */
+    public void encodeField(int index, String value, byte[] dst) {
+        Field field = fields[index];
+        if ((value == null || value.isEmpty()) && field.defaultValue != null) {
+            value = field.defaultValue;
+        }
+        writeField(field, value, dst, field.offset);
+    }
+
+    private void writeField(Field field, String value, byte[] dst, int pos) {
+        int end = pos + field.length;
+
+        if (value == null || value.isEmpty()) {
+            // 숫자 타입은 0 패딩
+            Arrays.fill(dst, pos, end, field.type == FieldType.NUMBER ? (byte) '0' : field.padByte);
+            return;
+        }
+
+        int written = TextCodec.written(TextCodec.encode(value, charset, dst, pos, field.length));
+        align(field, written, dst, pos);
+    }
+
+    /**
+     * 필드 앞쪽에 인코딩된 written 바이트를 정렬하고 나머지를 패딩
+     */
+    private void align(Field field, int written, byte[] dst, int pos) {
+        int end = pos + field.length;
+
+        if (field.rightAlign) {
+            // 우측정렬 (숫자)
+            System.arraycopy(dst, pos, dst, end - written, written);
+            Arrays.fill(dst, pos, end - written, field.padByte);
+        } else {
+            // 좌측정렬 (문자)
+            Arrays.fill(dst, pos + written, end, field.padByte);
+        }
+    }
+
+    // ── 파싱 ──
+
+    /**
+     * 전문 파싱 (byte[] → Map)
+     */
+    public Map<String, Object> parse(byte[] rawData) {
+        return view(rawData).toMap();
+    }
+
+    /**
+     * 원본 바이트 위에 지연 디코딩 뷰 생성 (복사 없음)
+     */
+    public ParsedTelegram view(byte[] rawData) {
+        return view(rawData, 0, rawData.length);
+    }
+
+    public ParsedTelegram view(byte[] rawData, int offset, int length) {
+        return new ParsedTelegram(this, rawData, offset, length);
+    }
+
+    public ParsedTelegram view(ByteBuffer buffer) {
+        return ParsedTelegram.of(this, buffer);
+    }
+
+    /**
+     * 주어진 전문 길이 안에 온전히 들어가는 필드 수
+     */
+    int parsedFieldCount(int rawLength) {
+        int count = 0;
+        while (count < fields.length && fields[count].offset + fields[count].length <= rawLength) {
+            count++;
+        }
+        if (count < fields.length) {
+            log.warn("전문 길이 부족: offset={}, fieldLength={}, rawLength={}",
+                    fields[count].offset, fields[count].length, rawLength);
+        }
+        return count;
+    }
+
+    /**
+     * 숫자: 왼쪽 0/공백 제거, 문자: 오른쪽 공백 제거
+     */
+    static String trim(String rawValue, Field field) {
+        int len = rawValue.length();
+        if (field.trimLeading) {
+            int start = 0;
+            while (start < len) {
+                char c = rawValue.charAt(start);
+                if (c != '0' && c != ' ') break;
+                start++;
+            }
+            return rawValue.substring(start);
+        }
+        int end = len;
+        while (end > 0 && isWhitespace(rawValue.charAt(end - 1))) {
+            end--;
+        }
+        return rawValue.substring(0, end);
+    }
+
+    /** 정규식 \s 와 동일한 공백 문자 집합 */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // ── 조회 ──
+
+    public String getTelegramId() { return telegramId; }
+    public Charset getCharset() { return charset; }
+    public int getTotalLength() { return totalLength; }
+    public int getFieldCount() { return fields.length; }
+    public Field getField(int index) { return fields[index]; }
+
+    /**
+     * 필드명으로 인덱스 조회 (없으면 -1)
+     */
+    public int indexOf(String fieldName) {
+        Integer index = indexByName.get(fieldName);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 캐시된 코덱이 현재 레이아웃과 동일한 정의로 컴파일되었는지 확인
+     */
+    boolean matches(List<TelegramLayout> layouts, Charset charset) {
+        if (source == layouts && this.charset.equals(charset)) return true;
+        if (!this.charset.equals(charset) || layouts.size() != fields.length) return false;
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].matches(layouts.get(i))) return false;
+        }
+        return true;
+    }
+}
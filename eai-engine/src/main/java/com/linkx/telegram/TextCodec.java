@@ -0,0 +1,266 @@
+package com.linkx.telegram;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문자셋 인코딩/디코딩 유틸
+ * - 문자셋별 공유 풀에서 CharsetEncoder/Decoder와 CharBuffer를 빌려 재사용 (호출마다 코더 상태를 새로 만들지 않음)
+ *   스레드와 무관한 풀이라 작업마다 새 스레드를 쓰는 가상 스레드에서도 재사용됨
+ * - ASCII 전용 값(숫자/코드 필드)은 코더를 거치지 않는 fast path로 처리
+ * - 필드 길이로 자를 때 멀티바이트 문자(EUC-KR 2byte, UTF-8 3byte)를 중간에서 자르지 않음
+ */
+@Slf4j
+public final class TextCodec {
+
+    public static final Charset DEFAULT_CHARSET = Charset.forName("EUC-KR");
+
+    /** 문자셋 이름 → Charset 캐시 */
+    private static final Map<String, Charset> CHARSETS = new ConcurrentHashMap<>();
+
+    /** 문자셋별 ASCII 호환 여부 (ASCII 문자를 같은 값의 1byte로 인코딩하는지) */
+    private static final Map<Charset, Boolean> ASCII_COMPATIBLE = new ConcurrentHashMap<>();
+
+    /** 문자셋별 유휴 코더 풀 (반납 시 가득 차 있으면 버림) */
+    private static final Map<Charset, BlockingQueue<Coders>> CODERS = new ConcurrentHashMap<>();
+
+    private static final int MAX_IDLE_CODERS = 64;
+
+    private static final int INITIAL_CHAR_BUFFER = 256;
+
+    private TextCodec() {
+    }
+
+    private static final class Coders {
+        final CharsetEncoder encoder;
+        final CharsetDecoder decoder;
+        CharBuffer chars = CharBuffer.allocate(INITIAL_CHAR_BUFFER);
+        ByteBuffer scratch = ByteBuffer.allocate(INITIAL_CHAR_BUFFER);
+
+        final Charset charset;
+
+        Coders(Charset charset) {
+            this.charset = charset;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+
+    private static Coders borrow(Charset charset) {
+        Coders coders = pool(charset).poll();
+        return coders != null ? coders : new Coders(charset);
+    }
+
+    private static void release(Coders coders) {
+        pool(coders.charset).offer(coders);
+    }
+
+    private static BlockingQueue<Coders> pool(Charset charset) {
+        return CODERS.computeIfAbsent(charset, cs -> new ArrayBlockingQueue<>(MAX_IDLE_CODERS));
+    }
+
+    // ── 문자셋 ──
+
+    /**
+     * 문자셋 이름 해석 (미지원/빈 값이면 EUC-KR)
+     */
+    public static Charset resolve(String charsetName) {
+        if (charsetName == null || charsetName.isEmpty()) {
+            return DEFAULT_CHARSET;
+        }
+        Charset cached = CHARSETS.get(charsetName);
+        if (cached != null) {
+            return cached;
+        }
+        Charset charset;
+        try {
+            charset = Charset.forName(charsetName);
+        } catch (Exception e) {
+            log.warn("Unsupported charset: {}, falling back to EUC-KR", charsetName);
+            charset = DEFAULT_CHARSET;
+        }
+        CHARSETS.put(charsetName, charset);
+        return charset;
+    }
+
+    public static boolean isAsciiCompatible(Charset charset) {
+        return ASCII_COMPATIBLE.computeIfAbsent(charset, cs -> {
+            if (!cs.canEncode()) return false;
+            byte[] ascii = new byte[128];
+            char[] chars = new char[128];
+            for (int i = 0; i < 128; i++) {
+                ascii[i] = (byte) i;
+                chars[i] = (char) i;
+            }
+            return Arrays.equals(ascii, new String(chars).getBytes(cs));
+        });
+    }
+
+    // ── 인코딩 ──
+
+    /**
+     * 값을 dst[offset, offset + maxLength) 범위에 인코딩
+     * - 범위를 넘는 문자는 통째로 제외 (멀티바이트 문자를 중간에서 자르지 않음)
+     *
+     * @return 기록한 바이트 수, 값이 잘렸으면 ~기록한 바이트 수 (음수)
+     */
+    public static int encode(CharSequence value, Charset charset, byte[] dst, int offset, int maxLength) {
+        int length = value.length();
+
+        if (isAsciiCompatible(charset) && isAscii(value)) {
+            int count = Math.min(length, maxLength);
+            for (int i = 0; i < count; i++) {
+                dst[offset + i] = (byte) value.charAt(i);
+            }
+            return count == length ? count : ~count;
+        }
+
+        Coders coders = borrow(charset);
+        try {
+            CharsetEncoder encoder = coders.encoder.reset();
+            ByteBuffer out = ByteBuffer.wrap(dst, offset, maxLength);
+            CoderResult result = encoder.encode(CharBuffer.wrap(value), out, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(out);
+            }
+            int written = out.position() - offset;
+            return result.isOverflow() ? ~written : written;
+        } finally {
+            release(coders);
+        }
+    }
+
+    /**
+     * 인코딩 결과에서 잘림 여부
+     */
+    public static boolean isTruncated(int encodeResult) {
+        return encodeResult < 0;
+    }
+
+    /**
+     * 인코딩 결과에서 기록한 바이트 수
+     */
+    public static int written(int encodeResult) {
+        return encodeResult < 0 ? ~encodeResult : encodeResult;
+    }
+
+    /**
+     * 값 전체를 인코딩했을 때의 바이트 수 (버퍼를 할당하지 않음)
+     */
+    public static int encodedLength(CharSequence value, Charset charset) {
+        if (isAsciiCompatible(charset) && isAscii(value)) {
+            return value.length();
+        }
+
+        Coders coders = borrow(charset);
+        try {
+            CharsetEncoder encoder = coders.encoder.reset();
+            CharBuffer in = CharBuffer.wrap(value);
+            ByteBuffer scratch = coders.scratch;
+            int total = 0;
+            CoderResult result;
+            do {
+                scratch.clear();
+                result = encoder.encode(in, scratch, true);
+                total += scratch.position();
+            } while (result.isOverflow());
+            do {
+                scratch.clear();
+                result = encoder.flush(scratch);
+                total += scratch.position();
+            } while (result.isOverflow());
+            return total;
+        } finally {
+            release(coders);
+        }
+    }
+
+    /**
+     * 값 전체 인코딩
+     */
+    public static byte[] encode(String value, Charset charset) {
+        if (isAsciiCompatible(charset) && isAscii(value)) {
+            byte[] bytes = new byte[value.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) value.charAt(i);
+            }
+            return bytes;
+        }
+        return value.getBytes(charset);
+    }
+
+    // ── 디코딩 ──
+
+    public static String decode(byte[] src, Charset charset) {
+        return decode(src, 0, src.length, charset);
+    }
+
+    /**
+     * src[offset, offset + length) 범위 디코딩
+     */
+    public static String decode(byte[] src, int offset, int length, Charset charset) {
+        if (isAsciiCompatible(charset) && isAscii(src, offset, length)) {
+            // ASCII 범위는 Latin-1 디코딩과 동일 (JDK 내부 복사만 수행)
+            return new String(src, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return decodeSlow(charset, ByteBuffer.wrap(src, offset, length));
+    }
+
+    public static String decode(ByteBuffer src, Charset charset) {
+        if (src.hasArray()) {
+            return decode(src.array(), src.arrayOffset() + src.position(), src.remaining(), charset);
+        }
+        return decodeSlow(charset, src.duplicate());
+    }
+
+    private static String decodeSlow(Charset charset, ByteBuffer in) {
+        Coders coders = borrow(charset);
+        try {
+            CharsetDecoder decoder = coders.decoder.reset();
+            int required = (int) Math.ceil(in.remaining() * (double) decoder.maxCharsPerByte());
+            if (coders.chars.capacity() < required) {
+                coders.chars = CharBuffer.allocate(required);
+            }
+            CharBuffer out = coders.chars;
+            out.clear();
+            decoder.decode(in, out, true);
+            decoder.flush(out);
+            return new String(out.array(), 0, out.position());
+        } finally {
+            release(coders);
+        }
+    }
+
+    // ── ASCII 판별 ──
+
+    /**
+     * 모든 문자가 ASCII인지 (문자별 분기 없이 OR 누적 후 한 번만 비교)
+     */
+    static boolean isAscii(CharSequence value) {
+        int acc = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            acc |= value.charAt(i);
+        }
+        return acc < 0x80;
+    }
+
+    static boolean isAscii(byte[] src, int offset, int length) {
+        int acc = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            acc |= src[i];
+        }
+        return acc >= 0;
+    }
+}
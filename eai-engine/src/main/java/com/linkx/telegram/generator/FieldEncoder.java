@@ -0,0 +1,17 @@
+package com.linkx.telegram.generator;
+
+/**
+ * 전문 버퍼의 필드 위치에 값을 직접 기록하는 생성기 (FieldGenerator를 코덱 필드에 바인딩한 결과)
+ *
+ * 문자열을 만들지 않고 미리 인코딩한 바이트 복사 또는 ASCII 숫자 직접 기록으로 채우며,
+ * 결과 바이트는 같은 값을 TelegramCodec.encodeField로 기록한 것과 동일
+ */
+@FunctionalInterface
+public interface FieldEncoder {
+
+    /**
+     * @param seq 송신 순번
+     * @param dst 전문 전체 길이 버퍼
+     */
+    void write(long seq, byte[] dst);
+}
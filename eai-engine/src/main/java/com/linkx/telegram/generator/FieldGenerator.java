@@ -0,0 +1,27 @@
+package com.linkx.telegram.generator;
+
+import com.linkx.telegram.TelegramCodec;
+
+/**
+ * 필드값 생성기 (부하/시나리오/단건 송신/시뮬레이터 응답 규칙 공용)
+ *
+ * 여러 송신 스레드에서 동시에 호출되므로 상태가 있으면 스레드 안전해야 함
+ */
+@FunctionalInterface
+public interface FieldGenerator {
+
+    /**
+     * @param seq 실행 내 송신 순번 (0부터, 실행 전체에서 유일)
+     */
+    String next(long seq);
+
+    /**
+     * 코덱 필드에 바인딩 — 길이/정렬/문자셋이 정해지므로 값 풀을 미리 인코딩하거나 바이트로 직접 기록
+     * (기본 구현은 next 결과를 encodeField로 인코딩)
+     *
+     * @throws RuntimeException 필드 길이/문자셋으로 값을 만들 수 없는 경우
+     */
+    default FieldEncoder bind(TelegramCodec codec, int index) {
+        return (seq, dst) -> codec.encodeField(index, next(seq), dst);
+    }
+}
@@ -0,0 +1,467 @@
+package com.linkx.telegram.generator;
+
+import com.linkx.telegram.TelegramCodec;
+
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 생성 규칙 문자열 → FieldGenerator
+ *
+ * - SEQ[:시작값]                  : 송신 순번 + 시작값 (기본 1)
+ * - RANDOM:최소-최대              : 범위 내 정수 난수
+ * - AMOUNT:최소-최대[:단위]       : 단위(기본 1) 배수 금액 난수
+ * - ACCOUNT[:접두사[:자릿수]]     : 접두사 + 순번 + Luhn 검증번호 (자릿수 기본: 필드 길이)
+ * - NAME                          : 한글 성명 (성 1자 + 이름 2자, 필드 바이트에 맞지 않으면 이름 1자)
+ * - DATE[:시작일-종료일[:패턴]]   : 기간 내 날짜 난수 (yyyyMMdd, 기본 최근 1년)
+ * - LIST:값1,값2,...              : 목록 순환
+ * - NOW[:패턴]                    : 현재 시각 (기본 yyyyMMddHHmmss, 같은 초에는 포맷 결과 재사용, 시간대 필드 불가)
+ * - UUID                          : 하이픈 없는 32자리 UUID
+ *
+ * 코덱 필드에 바인딩(bind)하면 숫자는 바이트로 직접 기록하고 성명/날짜/목록은 필드 길이로
+ * 미리 인코딩한 풀에서 복사하므로, 송신마다 문자열 생성/문자셋 인코딩이 없음
+ */
+public final class FieldGenerators {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** 날짜 풀 상한 (약 100년) */
+    private static final int MAX_DATE_POOL = 36_600;
+
+    private static final int DEFAULT_ACCOUNT_DIGITS = 12;
+
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍전고문양손배백허남심노하곽성차주우구민유나진지엄채원천방공현함변염여추도소석선설마길연위표명기반왕금옥육인맹제모탁국어은편용예경봉사부가복태목형피두감음빈동온호범좌팽승간상갈서";
+
+    private static final String GIVEN_SYLLABLES = "민서지현수영준우진하윤도성재은주정연유희경태동혁호승원상아예소다가나혜미선인채종규석훈철기환용광일";
+
+    private FieldGenerators() {
+    }
+
+    public static FieldGenerator parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            throw new RuntimeException("생성 규칙이 비어 있습니다");
+        }
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        String type = (colon < 0 ? trimmed : trimmed.substring(0, colon)).toUpperCase();
+        String arg = colon < 0 ? null : trimmed.substring(colon + 1);
+
+        return switch (type) {
+            case "SEQ" -> sequence(arg == null || arg.isBlank() ? 1 : parseLong(arg, spec));
+            case "RANDOM" -> random(arg, spec);
+            case "AMOUNT" -> amount(arg, spec);
+            case "ACCOUNT" -> account(arg, spec);
+            case "NAME" -> new NameGenerator();
+            case "DATE" -> date(arg, spec);
+            case "LIST" -> list(arg, spec);
+            case "NOW" -> now(arg == null || arg.isBlank() ? "yyyyMMddHHmmss" : arg);
+            case "UUID" -> seq -> UUID.randomUUID().toString().replace("-", "");
+            default -> throw new RuntimeException("알 수 없는 생성 규칙: " + spec);
+        };
+    }
+
+    // ── 숫자 ──
+
+    /**
+     * 정수 값 생성기 — 바인딩 시 ASCII 숫자를 필드에 직접 기록
+     * - 필드 자릿수를 넘는 값은 10^자릿수로 순환 (SEQ가 4자리 필드에서 9999 다음 0000)
+     */
+    private abstract static class NumberGenerator implements FieldGenerator {
+
+        abstract long value(long seq);
+
+        @Override
+        public String next(long seq) {
+            return Long.toString(value(seq));
+        }
+
+        @Override
+        public FieldEncoder bind(TelegramCodec codec, int index) {
+            FieldSlot slot = FieldSlot.of(codec, index);
+            if (!slot.asciiCompatible) {
+                return (seq, dst) -> codec.encodeField(index, Long.toString(slot.wrap(value(seq))), dst);
+            }
+            return (seq, dst) -> slot.digits(slot.wrap(value(seq)), dst);
+        }
+    }
+
+    private static FieldGenerator sequence(long start) {
+        return new NumberGenerator() {
+            @Override
+            long value(long seq) {
+                return start + seq;
+            }
+        };
+    }
+
+    private static FieldGenerator random(String arg, String spec) {
+        long[] range = range(arg, spec, "RANDOM", "RANDOM:1000-50000");
+        return randomRange(range[0], range[1], 1);
+    }
+
+    private static FieldGenerator amount(String arg, String spec) {
+        String rangeArg = arg;
+        long unit = 1;
+        int colon = arg == null ? -1 : arg.indexOf(':');
+        if (colon >= 0) {
+            rangeArg = arg.substring(0, colon);
+            unit = parseLong(arg.substring(colon + 1), spec);
+            if (unit <= 0) {
+                throw new RuntimeException("AMOUNT 단위는 1 이상이어야 합니다: " + spec);
+            }
+        }
+        long[] range = range(rangeArg, spec, "AMOUNT", "AMOUNT:1000-5000000:1000");
+        long min = Math.floorDiv(range[0] + unit - 1, unit);
+        long max = Math.floorDiv(range[1], unit);
+        if (min > max) {
+            throw new RuntimeException("AMOUNT 범위 안에 단위 배수가 없습니다: " + spec);
+        }
+        return randomRange(min, max, unit);
+    }
+
+    private static FieldGenerator randomRange(long min, long max, long unit) {
+        return new NumberGenerator() {
+            @Override
+            long value(long seq) {
+                return ThreadLocalRandom.current().nextLong(min, max + 1) * unit;
+            }
+        };
+    }
+
+    private static long[] range(String arg, String spec, String type, String example) {
+        int dash = arg == null ? -1 : arg.indexOf('-', 1);
+        if (dash < 0) {
+            throw new RuntimeException(type + " 범위 형식 오류 (예: " + example + "): " + spec);
+        }
+        long min = parseLong(arg.substring(0, dash), spec);
+        long max = parseLong(arg.substring(dash + 1), spec);
+        if (min > max) {
+            throw new RuntimeException(type + " 범위 오류 (최소 > 최대): " + spec);
+        }
+        return new long[]{min, max};
+    }
+
+    // ── 계좌번호 ──
+
+    private static FieldGenerator account(String arg, String spec) {
+        String prefix = "";
+        int digits = 0;
+        if (arg != null && !arg.isBlank()) {
+            String[] parts = arg.split(":", 2);
+            prefix = parts[0].trim();
+            if (parts.length > 1) {
+                digits = (int) parseLong(parts[1], spec);
+            }
+        }
+        if (!prefix.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            throw new RuntimeException("ACCOUNT 접두사는 숫자만 가능합니다: " + spec);
+        }
+        return new AccountGenerator(prefix, digits, spec);
+    }
+
+    /**
+     * 접두사 + 0패딩 순번 + Luhn 검증번호
+     * - 본문 자리수 안에서 순번이 순환하므로 10^본문자리수 건까지 서로 다른 번호
+     */
+    private static final class AccountGenerator implements FieldGenerator {
+
+        private final byte[] prefix;
+        private final int digits;
+        private final String spec;
+
+        AccountGenerator(String prefix, int digits, String spec) {
+            this.prefix = prefix.getBytes(StandardCharsets.US_ASCII);
+            this.digits = digits;
+            this.spec = spec;
+        }
+
+        private int bodyDigits(int total) {
+            int body = total - prefix.length - 1;
+            if (body < 1) {
+                throw new RuntimeException("ACCOUNT 자릿수가 접두사보다 길어야 합니다: " + spec);
+            }
+            return body;
+        }
+
+        @Override
+        public String next(long seq) {
+            int total = digits > 0 ? digits : DEFAULT_ACCOUNT_DIGITS;
+            byte[] out = new byte[total];
+            fill(seq, out, 0, total, bodyDigits(total));
+            return new String(out, StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public FieldEncoder bind(TelegramCodec codec, int index) {
+            FieldSlot slot = FieldSlot.of(codec, index);
+            int total = digits > 0 ? digits : slot.length;
+            if (total > slot.length) {
+                throw new RuntimeException("ACCOUNT 자릿수(" + total + ")가 필드 길이(" + slot.length + ")보다 깁니다: " + spec);
+            }
+            int body = bodyDigits(total);
+            if (!slot.asciiCompatible) {
+                return FieldGenerator.super.bind(codec, index);
+            }
+            int start = slot.rightAlign ? slot.offset + slot.length - total : slot.offset;
+            int padFrom = slot.rightAlign ? slot.offset : slot.offset + total;
+            int padTo = slot.rightAlign ? start : slot.offset + slot.length;
+            return (seq, dst) -> {
+                fill(seq, dst, start, total, body);
+                Arrays.fill(dst, padFrom, padTo, slot.padByte);
+            };
+        }
+
+        private void fill(long seq, byte[] dst, int start, int total, int body) {
+            System.arraycopy(prefix, 0, dst, start, prefix.length);
+            long v = seq;
+            for (int i = start + prefix.length + body - 1; i >= start + prefix.length; i--) {
+                dst[i] = (byte) ('0' + (int) Math.floorMod(v, 10L));
+                v = Math.floorDiv(v, 10L);
+            }
+            dst[start + total - 1] = (byte) ('0' + luhnCheckDigit(dst, start, total - 1));
+        }
+    }
+
+    /**
+     * Luhn 검증번호 (검증번호 바로 왼쪽 자리부터 한 자리 건너 2배)
+     */
+    static int luhnCheckDigit(byte[] digits, int offset, int length) {
+        int sum = 0;
+        boolean dbl = true;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            int d = digits[i] - '0';
+            if (dbl) {
+                d *= 2;
+                if (d > 9) d -= 9;
+            }
+            sum += d;
+            dbl = !dbl;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    // ── 성명 ──
+
+    /**
+     * 한글 성명 — 성/이름 음절을 문자셋별로 한 번 인코딩해 두고 바이트 조각을 이어 붙임
+     * - 필드 바이트 예산(EUC-KR 2byte, UTF-8 3byte/자)에 성 + 이름 2자가 맞지 않으면 이름 1자
+     */
+    private static final class NameGenerator implements FieldGenerator {
+
+        @Override
+        public String next(long seq) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return new String(new char[]{
+                    SURNAMES.charAt(random.nextInt(SURNAMES.length())),
+                    GIVEN_SYLLABLES.charAt(random.nextInt(GIVEN_SYLLABLES.length())),
+                    GIVEN_SYLLABLES.charAt(random.nextInt(GIVEN_SYLLABLES.length()))});
+        }
+
+        @Override
+        public FieldEncoder bind(TelegramCodec codec, int index) {
+            FieldSlot slot = FieldSlot.of(codec, index);
+            CharsetEncoder encoder = codec.getCharset().newEncoder();
+            byte[][] surnames = encodeSyllables(SURNAMES, encoder);
+            byte[][] given = encodeSyllables(GIVEN_SYLLABLES, encoder);
+            if (surnames.length == 0 || given.length == 0) {
+                throw new RuntimeException("NAME: 문자셋 " + codec.getCharset() + "에서 한글을 인코딩할 수 없습니다");
+            }
+            int width = surnames[0].length;
+            int givenCount = slot.length >= width * 3 ? 2 : slot.length >= width * 2 ? 1 : 0;
+            if (givenCount == 0) {
+                throw new RuntimeException("NAME: 필드 길이(" + slot.length + "byte)가 성명 최소 길이보다 짧습니다");
+            }
+            int total = width * (1 + givenCount);
+            int start = slot.rightAlign ? slot.offset + slot.length - total : slot.offset;
+            int padFrom = slot.rightAlign ? slot.offset : slot.offset + total;
+            int padTo = slot.rightAlign ? start : slot.offset + slot.length;
+
+            return (seq, dst) -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                System.arraycopy(surnames[random.nextInt(surnames.length)], 0, dst, start, width);
+                for (int i = 1; i <= givenCount; i++) {
+                    System.arraycopy(given[random.nextInt(given.length)], 0, dst, start + width * i, width);
+                }
+                Arrays.fill(dst, padFrom, padTo, slot.padByte);
+            };
+        }
+
+        /**
+         * 인코딩 가능한 음절만, 가장 많은 음절이 속한 바이트 길이로 통일 (길이가 다른 음절은 제외)
+         */
+        private static byte[][] encodeSyllables(String syllables, CharsetEncoder encoder) {
+            return syllables.chars()
+                    .distinct()
+                    .filter(c -> encoder.canEncode((char) c))
+                    .mapToObj(c -> String.valueOf((char) c).getBytes(encoder.charset()))
+                    .collect(Collectors.groupingBy(bytes -> bytes.length))
+                    .values().stream()
+                    .max(Comparator.comparingInt(List::size))
+                    .map(group -> group.toArray(new byte[0][]))
+                    .orElse(new byte[0][]);
+        }
+    }
+
+    // ── 날짜 ──
+
+    private static FieldGenerator date(String arg, String spec) {
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(364);
+        String pattern = "yyyyMMdd";
+        if (arg != null && !arg.isBlank()) {
+            String[] parts = arg.split(":", 2);
+            String[] dates = parts[0].split("-");
+            if (dates.length != 2) {
+                throw new RuntimeException("DATE 기간 형식 오류 (예: DATE:20240101-20241231): " + spec);
+            }
+            try {
+                from = LocalDate.parse(dates[0].trim(), DAY);
+                to = LocalDate.parse(dates[1].trim(), DAY);
+            } catch (DateTimeParseException e) {
+                throw new RuntimeException("DATE 날짜 형식 오류 (yyyyMMdd): " + spec);
+            }
+            if (parts.length > 1 && !parts[1].isBlank()) {
+                pattern = parts[1];
+            }
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1) {
+            throw new RuntimeException("DATE 기간 오류 (시작일 > 종료일): " + spec);
+        }
+        if (days > MAX_DATE_POOL) {
+            throw new RuntimeException("DATE 기간이 너무 깁니다 (최대 " + MAX_DATE_POOL + "일): " + spec);
+        }
+        DateTimeFormatter formatter = formatter("DATE", pattern);
+        String[] values = new String[(int) days];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from.plusDays(i).format(formatter);
+        }
+        return new PoolGenerator(values, true);
+    }
+
+    // ── 목록 ──
+
+    private static FieldGenerator list(String arg, String spec) {
+        if (arg == null || arg.isEmpty()) {
+            throw new RuntimeException("LIST 값이 없습니다: " + spec);
+        }
+        String[] values = Arrays.stream(arg.split(",")).map(String::trim).toArray(String[]::new);
+        return new PoolGenerator(values, false);
+    }
+
+    /**
+     * 값 풀 — 바인딩 시 필드 길이로 미리 인코딩해 두고 복사
+     */
+    private static final class PoolGenerator implements FieldGenerator {
+
+        private final String[] values;
+        private final boolean random;
+
+        PoolGenerator(String[] values, boolean random) {
+            this.values = values;
+            this.random = random;
+        }
+
+        private int pick(long seq) {
+            return random
+                    ? ThreadLocalRandom.current().nextInt(values.length)
+                    : (int) Math.floorMod(seq, (long) values.length);
+        }
+
+        @Override
+        public String next(long seq) {
+            return values[pick(seq)];
+        }
+
+        @Override
+        public FieldEncoder bind(TelegramCodec codec, int index) {
+            FieldSlot slot = FieldSlot.of(codec, index);
+            byte[][] encoded = new byte[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                encoded[i] = slot.encode(values[i]);
+            }
+            return (seq, dst) -> slot.copy(encoded[pick(seq)], dst);
+        }
+    }
+
+    // ── 현재 시각 ──
+
+    private static FieldGenerator now(String pattern) {
+        DateTimeFormatter formatter = formatter("NOW", pattern);
+        try {
+            LocalDateTime.now().format(formatter); // 시간대(z/Z/X/O/V) 등 LocalDateTime에 없는 필드는 파싱 시 거부
+        } catch (DateTimeException e) {
+            throw new RuntimeException("NOW 날짜 패턴에 사용할 수 없는 필드: " + pattern);
+        }
+        if (pattern.contains("S")) {
+            return seq -> LocalDateTime.now().format(formatter);
+        }
+        return new FieldGenerator() {
+            private volatile Cached cached = new Cached(-1, null);
+
+            @Override
+            public String next(long seq) {
+                long second = System.currentTimeMillis() / 1000;
+                Cached current = cached;
+                if (current.second != second) {
+                    current = new Cached(second, LocalDateTime.now().format(formatter));
+                    cached = current;
+                }
+                return current.value;
+            }
+
+            @Override
+            public FieldEncoder bind(TelegramCodec codec, int index) {
+                FieldSlot slot = FieldSlot.of(codec, index);
+                return new FieldEncoder() {
+                    private volatile CachedBytes cachedBytes = new CachedBytes(-1, null);
+
+                    @Override
+                    public void write(long seq, byte[] dst) {
+                        long second = System.currentTimeMillis() / 1000;
+                        CachedBytes current = cachedBytes;
+                        if (current.second != second) {
+                            current = new CachedBytes(second, slot.encode(LocalDateTime.now().format(formatter)));
+                            cachedBytes = current;
+                        }
+                        slot.copy(current.value, dst);
+                    }
+                };
+            }
+        };
+    }
+
+    private record Cached(long second, String value) {
+    }
+
+    private record CachedBytes(long second, byte[] value) {
+    }
+
+    private static DateTimeFormatter formatter(String type, String pattern) {
+        try {
+            return DateTimeFormatter.ofPattern(pattern);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(type + " 날짜 패턴 오류: " + pattern);
+        }
+    }
+
+    private static long parseLong(String text, String spec) {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("생성 규칙 숫자 오류: " + spec);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.linkx.telegram.generator;
+
+import com.linkx.telegram.TelegramCodec;
+import com.linkx.telegram.TextCodec;
+
+import java.util.Arrays;
+
+/**
+ * 생성기가 값을 기록할 필드 위치 (오프셋/길이/정렬/패딩)
+ *
+ * - wrap    : 필드 자릿수를 넘는 정수를 자릿수 안으로 순환 (앞자리만 남아 값이 반복되지 않도록)
+ * - digits  : ASCII 숫자를 문자열 없이 직접 기록 (ASCII 호환 문자셋에서만)
+ * - encode  : 값을 필드 길이로 정렬·패딩까지 끝낸 바이트로 미리 인코딩 (풀 생성용)
+ */
+final class FieldSlot {
+
+    final TelegramCodec codec;
+    final int index;
+    final int offset;
+    final int length;
+    final byte padByte;
+    final boolean rightAlign;
+    final boolean asciiCompatible;
+
+    /** 0 이상 / 음수 값의 순환 단위 (10^자릿수, 음수는 부호 1자리 제외 — 0이면 long 전체가 들어감) */
+    private final long positiveModulus;
+    private final long negativeModulus;
+
+    private FieldSlot(TelegramCodec codec, int index) {
+        TelegramCodec.Field field = codec.getField(index);
+        this.codec = codec;
+        this.index = index;
+        this.offset = field.getOffset();
+        this.length = field.getLength();
+        this.padByte = field.getPadByte();
+        this.rightAlign = field.isRightAlign();
+        this.asciiCompatible = TextCodec.isAsciiCompatible(codec.getCharset());
+        this.positiveModulus = modulus(length);
+        this.negativeModulus = modulus(length - 1);
+    }
+
+    static FieldSlot of(TelegramCodec codec, int index) {
+        return new FieldSlot(codec, index);
+    }
+
+    /**
+     * 필드에 다 들어가지 않는 정수는 10^자릿수로 나눈 나머지 (부호 유지)
+     * - 순번이 필드 자릿수를 넘어도 앞자리만 잘려 같은 값이 반복되지 않고 0부터 다시 순환
+     */
+    long wrap(long value) {
+        long modulus = value < 0 ? negativeModulus : positiveModulus;
+        return modulus > 0 ? value % modulus : value;
+    }
+
+    /**
+     * Long.toString(value)를 encodeField로 기록한 것과 같은 바이트 (길이 초과 시 앞쪽만 — 호출 전 wrap)
+     */
+    void digits(long value, byte[] dst) {
+        boolean negative = value < 0;
+        int count = negative ? 1 : 0;
+        for (long v = value; ; v /= 10) {
+            count++;
+            if (v / 10 == 0) break;
+        }
+        int written = Math.min(count, length);
+        int start = rightAlign ? offset + length - written : offset;
+
+        // 뒤에서부터 채우되 필드 밖(잘린 뒤쪽 자리)은 건너뜀
+        long v = value;
+        for (int i = count - 1; i >= (negative ? 1 : 0); i--) {
+            if (i < written) {
+                dst[start + i] = (byte) ('0' + Math.abs(v % 10));
+            }
+            v /= 10;
+        }
+        if (negative) {
+            dst[start] = '-';
+        }
+        if (rightAlign) {
+            Arrays.fill(dst, offset, start, padByte);
+        } else {
+            Arrays.fill(dst, offset + written, offset + length, padByte);
+        }
+    }
+
+    /**
+     * 값을 필드 하나 길이의 바이트로 미리 인코딩 (정렬/패딩/잘림 포함)
+     */
+    byte[] encode(String value) {
+        byte[] scratch = new byte[offset + length];
+        codec.encodeField(index, value, scratch);
+        return Arrays.copyOfRange(scratch, offset, offset + length);
+    }
+
+    void copy(byte[] encoded, byte[] dst) {
+        System.arraycopy(encoded, 0, dst, offset, length);
+    }
+
+    private static long modulus(int digits) {
+        if (digits >= 19) {
+            return 0;
+        }
+        long modulus = 1;
+        for (int i = 0; i < digits; i++) {
+            modulus *= 10;
+        }
+        return modulus;
+    }
+}
@@ -0,0 +1,103 @@
+package com.linkx.protocol.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferPoolTest {
+
+    @Test
+    void requestsRoundUpToSizeClass() {
+        BufferPool pool = new BufferPool(64 * 1024, 8, false);
+        assertEquals(256, pool.acquire(1).capacity());
+        assertEquals(256, pool.acquire(256).capacity());
+        assertEquals(512, pool.acquire(257).capacity());
+        assertEquals(4096, pool.acquire(4000).capacity());
+        assertEquals(64 * 1024, pool.acquire(64 * 1024).capacity());
+    }
+
+    @Test
+    void maxClassSizeRoundsUpToPowerOfTwo() {
+        assertEquals(8192, new BufferPool(5000, 8, false).getMaxClassSize());
+        assertEquals(BufferPool.MIN_CLASS_SIZE, new BufferPool(1, 8, false).getMaxClassSize());
+    }
+
+    @Test
+    void releasedBufferIsReusedAndReset() {
+        BufferPool pool = new BufferPool(4096, 8, false);
+        PooledBuffer first = pool.acquire(300);
+        first.buffer().put(new byte[100]).limit(200);
+        first.release();
+
+        PooledBuffer second = pool.acquire(400);
+        assertSame(first, second);
+        assertEquals(0, second.buffer().position());
+        assertEquals(second.capacity(), second.buffer().limit());
+
+        Map<String, Object> stats = pool.getStats();
+        assertEquals(2L, stats.get("acquired"));
+        assertEquals(1L, stats.get("reused"));
+        assertEquals(1L, stats.get("outstanding"));
+    }
+
+    @Test
+    void heapAndDirectClassesAreSeparate() {
+        BufferPool pool = new BufferPool(4096, 8, false);
+        PooledBuffer heap = pool.acquire(256);
+        heap.release();
+        PooledBuffer direct = pool.acquireDirect(256);
+        assertTrue(direct.isDirect());
+        assertNotSame(heap, direct);
+        direct.release();
+        assertSame(direct, pool.acquireDirect(100));
+    }
+
+    @Test
+    void oversizeBypassesPool() {
+        BufferPool pool = new BufferPool(1024, 8, false);
+        PooledBuffer big = pool.acquire(5000);
+        assertEquals(5000, big.capacity());
+        big.release();
+        assertNotSame(big, pool.acquire(5000));
+
+        Map<String, Object> stats = pool.getStats();
+        assertEquals(2L, stats.get("oversize"));
+        assertEquals(1L, stats.get("discarded"));
+    }
+
+    @Test
+    void returnsBeyondPerClassLimitAreDiscarded() {
+        BufferPool pool = new BufferPool(1024, 2, false);
+        List<PooledBuffer> buffers = List.of(pool.acquire(256), pool.acquire(256), pool.acquire(256));
+        buffers.forEach(PooledBuffer::release);
+        assertEquals(1L, pool.getStats().get("discarded"));
+        assertEquals(0L, pool.getStats().get("outstanding"));
+    }
+
+    @Test
+    void doubleReleaseFails() {
+        BufferPool pool = new BufferPool(1024, 2, false);
+        PooledBuffer buffer = pool.acquire(10);
+        buffer.release();
+        assertThrows(IllegalStateException.class, buffer::release);
+    }
+
+    @Test
+    void closeReleasesOnce() {
+        BufferPool pool = new BufferPool(1024, 2, false);
+        PooledBuffer buffer = pool.acquire(10);
+        try (buffer) {
+            buffer.release();
+        }
+        assertEquals(1L, pool.getStats().get("released"));
+        assertFalse(pool.isLeakDetection());
+    }
+}
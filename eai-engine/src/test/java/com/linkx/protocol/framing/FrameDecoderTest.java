@@ -0,0 +1,196 @@
+package com.linkx.protocol.framing;
+
+import com.linkx.protocol.buffer.BufferPool;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameDecoderTest {
+
+    /** 읽기 1회 크기 — 1byte씩, 헤더/구분자에 걸치는 크기, 여러 프레임을 한 번에 */
+    private static final int[] CHUNKS = {1, 3, 7, 1024};
+
+    @Test
+    void lengthFieldRoundTripForEveryEncoding() {
+        for (LengthEncoding encoding : LengthEncoding.values()) {
+            for (boolean includesHeader : new boolean[]{false, true}) {
+                FrameSpec spec = FrameSpec.length(4, encoding, includesHeader);
+                byte[] stream = concat(spec.encode(ascii("HELLO")), spec.encode(new byte[0]), spec.encode(ascii("WORLD!!")));
+                for (int chunk : CHUNKS) {
+                    assertEquals(List.of("HELLO", "", "WORLD!!"), feed(spec.newDecoder(), stream, chunk),
+                            spec + " chunk=" + chunk);
+                }
+            }
+        }
+    }
+
+    @Test
+    void lengthFieldHeaderIncludesItself() {
+        FrameSpec spec = FrameSpec.length(4, LengthEncoding.ASCII, true);
+        assertEquals("0009abcde", text(spec.encode(ascii("abcde"))));
+        assertEquals(spec.frameLength(5), spec.encode(ascii("abcde")).length);
+    }
+
+    @Test
+    void lengthFieldPartialProgress() {
+        FrameDecoder decoder = FrameSpec.length(4, LengthEncoding.ASCII, false).newDecoder();
+        assertFalse(decoder.hasPartial());
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("00"))));
+        assertTrue(decoder.hasPartial());
+        assertEquals("헤더 2/4", decoder.progress());
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("05ab"))));
+        assertEquals("본문 2/5", decoder.progress());
+        assertEquals("abcde", text(decoder.decode(ByteBuffer.wrap(ascii("cde")))));
+        assertFalse(decoder.hasPartial());
+    }
+
+    @Test
+    void lengthFieldRejectsOversizeAndNegativeBody() {
+        FrameSpec spec = FrameSpec.length(4, LengthEncoding.ASCII, false).withMaxFrameLength(10);
+        assertThrows(RuntimeException.class, () -> spec.newDecoder().decode(ByteBuffer.wrap(ascii("0011"))));
+        FrameSpec including = FrameSpec.length(4, LengthEncoding.ASCII, true);
+        assertThrows(RuntimeException.class, () -> including.newDecoder().decode(ByteBuffer.wrap(ascii("0003"))));
+    }
+
+    @Test
+    void fixedLengthLeavesRemainderForNextFrame() {
+        FrameDecoder decoder = FrameSpec.fixed(3).newDecoder();
+        ByteBuffer in = ByteBuffer.wrap(ascii("abcdefg"));
+        assertEquals("abc", text(decoder.decode(in)));
+        assertEquals("def", text(decoder.decode(in)));
+        assertNull(decoder.decode(in));
+        assertEquals("본문 1/3", decoder.progress());
+    }
+
+    @Test
+    void layoutResolvesLengthFromPrefix() {
+        FrameSpec spec = FrameSpec.layout(2, prefix -> prefix[0] == 'A' ? 4 : 6);
+        for (int chunk : CHUNKS) {
+            assertEquals(List.of("A123", "B12345", "A999"), feed(spec.newDecoder(), ascii("A123B12345A999"), chunk));
+        }
+        FrameSpec tooShort = FrameSpec.layout(2, prefix -> 1);
+        assertThrows(RuntimeException.class, () -> tooShort.newDecoder().decode(ByteBuffer.wrap(ascii("AB"))));
+    }
+
+    @Test
+    void delimiterAcrossChunkBoundaries() {
+        FrameSpec spec = FrameSpec.delimiter(FrameSpec.parseDelimiter("\\r\\n"));
+        for (int chunk : CHUNKS) {
+            FrameDecoder decoder = spec.newDecoder();
+            assertEquals(List.of("one", "", "three"), feed(decoder, ascii("one\r\n\r\nthree\r\nfo"), chunk));
+            assertEquals("fo", text(decoder.finish()));
+        }
+        assertArrayEquals(ascii("abc\r\n"), spec.encode(ascii("abc")));
+    }
+
+    @Test
+    void delimiterMaxLengthAndBufferRelease() {
+        BufferPool pool = new BufferPool(BufferPool.MIN_CLASS_SIZE, 4, false);
+        DelimiterFrameDecoder decoder = new DelimiterFrameDecoder(new byte[]{0x03}, 8, pool);
+        assertEquals("12345", text(decoder.decode(ByteBuffer.wrap(new byte[]{'1', '2', '3', '4', '5', 0x03}))));
+        assertEquals(0L, pool.getStats().get("outstanding"));
+
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("partial"))));
+        assertEquals(1L, pool.getStats().get("outstanding"));
+        decoder.release();
+        assertEquals(0L, pool.getStats().get("outstanding"));
+
+        DelimiterFrameDecoder overflow = new DelimiterFrameDecoder(new byte[]{0x03}, 4, pool);
+        assertThrows(RuntimeException.class, () -> overflow.decode(ByteBuffer.wrap(ascii("123456"))));
+    }
+
+    @Test
+    void parseDelimiterEscapes() {
+        assertArrayEquals(new byte[]{'\r', '\n'}, FrameSpec.parseDelimiter("\\r\\n"));
+        assertArrayEquals(new byte[]{0x03}, FrameSpec.parseDelimiter("\\x03"));
+        assertArrayEquals(new byte[]{0, '\t', '\\'}, FrameSpec.parseDelimiter("\\0\\t\\\\"));
+        assertThrows(RuntimeException.class, () -> FrameSpec.parseDelimiter("\\q"));
+        assertThrows(RuntimeException.class, () -> FrameSpec.parseDelimiter("\\x3"));
+    }
+
+    @Test
+    void idleGapCompletesOnIdleFinishOrMaxLength() {
+        BufferPool pool = new BufferPool(BufferPool.MIN_CLASS_SIZE, 4, false);
+        IdleGapFrameDecoder decoder = new IdleGapFrameDecoder(8, false, pool);
+        assertNull(decoder.idle());
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("abc"))));
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("de"))));
+        assertEquals("abcde", text(decoder.idle()));
+        assertFalse(decoder.hasPartial());
+
+        assertNull(decoder.decode(ByteBuffer.wrap(ascii("xyz"))));
+        assertEquals("xyz", text(decoder.finish()));
+        assertNull(decoder.finish());
+
+        ByteBuffer in = ByteBuffer.wrap(ascii("0123456789"));
+        assertEquals("01234567", text(decoder.decode(in)));
+        assertEquals(2, in.remaining());
+        assertEquals(0L, pool.getStats().get("outstanding"));
+    }
+
+    @Test
+    void untilEofRejectsInputBeyondMaxLength() {
+        BufferPool pool = new BufferPool(BufferPool.MIN_CLASS_SIZE, 4, false);
+        IdleGapFrameDecoder exact = new IdleGapFrameDecoder(8, true, pool);
+        assertNull(exact.decode(ByteBuffer.wrap(ascii("01234567"))));
+        assertEquals("01234567", text(exact.finish()));
+
+        IdleGapFrameDecoder overflow = new IdleGapFrameDecoder(8, true, pool);
+        assertNull(overflow.decode(ByteBuffer.wrap(ascii("0123"))));
+        assertThrows(RuntimeException.class, () -> overflow.decode(ByteBuffer.wrap(ascii("45678"))));
+        overflow.release();
+        assertEquals(0L, pool.getStats().get("outstanding"));
+
+        FrameSpec spec = FrameSpec.idle(0).withMaxFrameLength(4);
+        assertThrows(RuntimeException.class, () -> spec.newDecoder().decode(ByteBuffer.wrap(ascii("12345"))));
+    }
+
+    @Test
+    void selfDelimiting() {
+        assertTrue(FrameSpec.length(4, LengthEncoding.ASCII, false).isSelfDelimiting());
+        assertTrue(FrameSpec.idle(50).isSelfDelimiting());
+        assertFalse(FrameSpec.idle(0).isSelfDelimiting());
+    }
+
+    private static List<String> feed(FrameDecoder decoder, byte[] stream, int chunk) {
+        List<String> frames = new ArrayList<>();
+        for (int i = 0; i < stream.length; i += chunk) {
+            ByteBuffer in = ByteBuffer.wrap(stream, i, Math.min(chunk, stream.length - i));
+            while (in.hasRemaining()) {
+                byte[] frame = decoder.decode(in);
+                if (frame == null) {
+                    break;
+                }
+                frames.add(text(frame));
+            }
+        }
+        return frames;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,88 @@
+package com.linkx.protocol.framing;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LengthEncodingTest {
+
+    @Test
+    void asciiWritesZeroPaddedDigits() {
+        byte[] header = new byte[4];
+        LengthEncoding.ASCII.write(123, header, 0, 4);
+        assertEquals("0123", new String(header, StandardCharsets.US_ASCII));
+        assertEquals(123, LengthEncoding.ASCII.read(header, 0, 4));
+    }
+
+    @Test
+    void asciiReadAllowsSurroundingSpaces() {
+        byte[] header = " 42 ".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(42, LengthEncoding.ASCII.read(header, 0, 4));
+    }
+
+    @Test
+    void asciiRejectsNonDigitsAndBlank() {
+        assertThrows(RuntimeException.class,
+                () -> LengthEncoding.ASCII.read("00x1".getBytes(StandardCharsets.US_ASCII), 0, 4));
+        assertThrows(RuntimeException.class,
+                () -> LengthEncoding.ASCII.read("    ".getBytes(StandardCharsets.US_ASCII), 0, 4));
+    }
+
+    @Test
+    void asciiRejectsValueWiderThanHeader() {
+        assertThrows(RuntimeException.class, () -> LengthEncoding.ASCII.write(100, new byte[2], 0, 2));
+    }
+
+    @Test
+    void binaryByteOrder() {
+        byte[] be = new byte[4];
+        byte[] le = new byte[4];
+        LengthEncoding.BINARY_BE.write(0x010203, be, 0, 4);
+        LengthEncoding.BINARY_LE.write(0x010203, le, 0, 4);
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, be);
+        assertArrayEquals(new byte[]{3, 2, 1, 0}, le);
+        assertEquals(0x010203, LengthEncoding.BINARY_BE.read(be, 0, 4));
+        assertEquals(0x010203, LengthEncoding.BINARY_LE.read(le, 0, 4));
+    }
+
+    @Test
+    void binaryEightByteHeaderPadsHighBytes() {
+        byte[] be = new byte[8];
+        byte[] le = new byte[8];
+        LengthEncoding.BINARY_BE.write(300, be, 0, 8);
+        LengthEncoding.BINARY_LE.write(300, le, 0, 8);
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 0, 0, 1, 44}, be);
+        assertArrayEquals(new byte[]{44, 1, 0, 0, 0, 0, 0, 0}, le);
+        assertEquals(300, LengthEncoding.BINARY_BE.read(be, 0, 8));
+        assertEquals(300, LengthEncoding.BINARY_LE.read(le, 0, 8));
+    }
+
+    @Test
+    void binaryRangeChecks() {
+        assertThrows(RuntimeException.class, () -> LengthEncoding.BINARY_BE.write(256, new byte[1], 0, 1));
+        assertThrows(RuntimeException.class, () -> LengthEncoding.BINARY_LE.write(65536, new byte[2], 0, 2));
+        byte[] overflow = {(byte) 0x80, 0, 0, 0, 0, 0, 0, 0};
+        assertThrows(RuntimeException.class, () -> LengthEncoding.BINARY_BE.read(overflow, 0, 8));
+    }
+
+    @Test
+    void headerSizeLimits() {
+        LengthEncoding.ASCII.checkSize(10);
+        LengthEncoding.BINARY_BE.checkSize(8);
+        assertThrows(RuntimeException.class, () -> LengthEncoding.ASCII.checkSize(11));
+        assertThrows(RuntimeException.class, () -> LengthEncoding.BINARY_LE.checkSize(9));
+        assertThrows(RuntimeException.class, () -> LengthEncoding.BINARY_BE.checkSize(0));
+    }
+
+    @Test
+    void ofParsesNameAndDefaultsToAscii() {
+        assertEquals(LengthEncoding.ASCII, LengthEncoding.of(null));
+        assertEquals(LengthEncoding.ASCII, LengthEncoding.of(" "));
+        assertEquals(LengthEncoding.BINARY_LE, LengthEncoding.of(" binary_le "));
+        assertThrows(RuntimeException.class, () -> LengthEncoding.of("EBCDIC"));
+    }
+}
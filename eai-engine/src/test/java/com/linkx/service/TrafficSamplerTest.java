@@ -0,0 +1,47 @@
+package com.linkx.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrafficSamplerTest {
+
+    @Test
+    void firstSecondPassesUpToMaxRate() {
+        TrafficSampler sampler = new TrafficSampler(10);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), accepted(sampler, 100, 100));
+        assertEquals(1, sampler.stride());
+    }
+
+    @Test
+    void burstIsSampledEveryNthEvent() {
+        TrafficSampler sampler = new TrafficSampler(10);
+        accepted(sampler, 100, 100);
+        // 직전 초 100건 → 10건마다 1건
+        assertEquals(List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100), accepted(sampler, 101, 100));
+        assertEquals(10, sampler.stride());
+        // 발생량이 늘어도 maxRate를 넘지 않음
+        assertEquals(10, accepted(sampler, 102, 1000).size());
+    }
+
+    @Test
+    void idleGapResetsStride() {
+        TrafficSampler sampler = new TrafficSampler(10);
+        accepted(sampler, 100, 100);
+        assertEquals(5, accepted(sampler, 105, 5).size());
+        assertEquals(1, sampler.stride());
+    }
+
+    private static List<Integer> accepted(TrafficSampler sampler, long second, int events) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 1; i <= events; i++) {
+            if (sampler.accept(second)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+}
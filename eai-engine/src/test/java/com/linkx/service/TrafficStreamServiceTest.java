@@ -0,0 +1,43 @@
+package com.linkx.service;
+
+import com.linkx.domain.SimulatorLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrafficStreamServiceTest {
+
+    private static final TrafficStreamService.Filter ALL = new TrafficStreamService.Filter(null, null, null, null);
+
+    private final TrafficStreamService service = new TrafficStreamService(20, 100, 1000, 100, 10, 15000, 5000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void recentLimitIsClampedToBufferSize() {
+        for (int i = 0; i < 30; i++) {
+            service.publish(log("IF001"));
+        }
+        assertEquals(20, service.recent(ALL, 1000).size());
+        assertEquals(1, service.recent(ALL, 0).size());
+        assertEquals(1, service.recent(ALL, -5).size());
+
+        List<TrafficEvent> latest = service.recent(ALL, 5);
+        assertEquals(30, latest.get(0).getSeq());
+        assertEquals(26, latest.get(4).getSeq());
+    }
+
+    private static SimulatorLog log(String telegramId) {
+        SimulatorLog simLog = new SimulatorLog();
+        simLog.setConfigId(1L);
+        simLog.setTelegramId(telegramId);
+        simLog.setStatus("SUCCESS");
+        return simLog;
+    }
+}
@@ -0,0 +1,122 @@
+package com.linkx.simulator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimerWheelTest {
+
+    private static final Executor DIRECT = Runnable::run;
+    private static final Runnable NONE = () -> {
+    };
+
+    private HashedTimerWheel wheel;
+
+    @AfterEach
+    void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void wheelSizeRoundsUpToPowerOfTwo() {
+        wheel = new HashedTimerWheel("wheel-test", 1, 100);
+        assertEquals(128, wheel.wheelSize());
+        wheel.stop();
+        wheel = new HashedTimerWheel("wheel-test", 0, 3);
+        assertEquals(16, wheel.wheelSize());
+        assertEquals(1, wheel.tickMs());
+    }
+
+    @Test
+    void firesNoEarlierThanDelayAcrossRounds() throws InterruptedException {
+        // 5ms × 16 버킷 = 1바퀴 80ms — 같은 버킷에 떨어지는 다른 바퀴의 작업 포함
+        wheel = new HashedTimerWheel("wheel-test", 5, 16);
+        long[] delays = {0, 3, 30, 80, 85, 170, 250};
+        ConcurrentHashMap<Long, Long> elapsed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(delays.length);
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            wheel.schedule(() -> {
+                elapsed.put(delay, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                done.countDown();
+            }, delay, DIRECT, NONE);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (long delay : delays) {
+            long actual = elapsed.get(delay);
+            assertTrue(actual >= delay, "delay " + delay + " fired at " + actual);
+            assertTrue(actual < delay + 1000, "delay " + delay + " fired at " + actual);
+        }
+        awaitNoPending();
+    }
+
+    @Test
+    void expiresInDeadlineOrder() throws InterruptedException {
+        wheel = new HashedTimerWheel("wheel-test", 2, 16);
+        List<Long> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        for (long delay : new long[]{150, 50, 100}) {
+            wheel.schedule(() -> {
+                order.add(delay);
+                done.countDown();
+            }, delay, DIRECT, NONE);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(50L, 100L, 150L), order);
+    }
+
+    @Test
+    void stopCancelsPendingAndLaterSchedules() throws InterruptedException {
+        wheel = new HashedTimerWheel("wheel-test", 5, 16);
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch cancelled = new CountDownLatch(2);
+        wheel.schedule(ran::incrementAndGet, 10_000, DIRECT, cancelled::countDown);
+        wheel.schedule(ran::incrementAndGet, 60_000, DIRECT, cancelled::countDown);
+        assertEquals(2, wheel.pending());
+
+        wheel.stop();
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch late = new CountDownLatch(1);
+        wheel.schedule(ran::incrementAndGet, 0, DIRECT, late::countDown);
+        assertTrue(late.await(5, TimeUnit.SECONDS));
+        assertEquals(0, ran.get());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void rejectedExecutionRunsCancelCallback() throws InterruptedException {
+        wheel = new HashedTimerWheel("wheel-test", 1, 16);
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("closed");
+        };
+        CountDownLatch cancelled = new CountDownLatch(1);
+        wheel.schedule(NONE, 5, rejecting, cancelled::countDown);
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        assertEquals(0, wheel.pending());
+    }
+
+    /**
+     * 작업 실행 후 pending 감소는 실행기 호출이 끝난 뒤이므로 잠시 대기
+     */
+    private void awaitNoPending() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (wheel.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, wheel.pending());
+    }
+}
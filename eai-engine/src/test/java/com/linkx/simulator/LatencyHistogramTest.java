@@ -0,0 +1,85 @@
+package com.linkx.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    /** 2^37-1µs — 이보다 큰 값은 잘라서 기록 */
+    private static final long MAX_VALUE = (1L << 37) - 1;
+
+    @Test
+    void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+        Map<String, Object> summary = histogram.summary();
+        assertEquals(0L, summary.get("count"));
+        assertEquals(0.0, summary.get("meanMs"));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        // 128µs 미만은 1µs 단위 버킷
+        for (long value = 0; value < 128; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            assertEquals(value, histogram.percentile(50));
+        }
+    }
+
+    @Test
+    void relativeErrorWithinSubBucketResolution() {
+        for (long value = 128; value < MAX_VALUE; value = value * 3 / 2 + 7) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            histogram.record(MAX_VALUE); // 최대값으로 잘리지 않도록 큰 값 하나 추가
+            long reported = histogram.percentile(50);
+            double error = Math.abs(reported - value) / (double) value;
+            assertTrue(error <= 1.0 / 64, "value " + value + " reported " + reported);
+        }
+    }
+
+    @Test
+    void percentileNeverExceedsMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        assertEquals(1000, histogram.percentile(100));
+    }
+
+    @Test
+    void percentilesFollowRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1, histogram.percentile(0));
+        assertEquals(50, histogram.percentile(50));
+        assertEquals(99, histogram.percentile(99));
+        assertEquals(100, histogram.percentile(100));
+        assertEquals(100, histogram.count());
+    }
+
+    @Test
+    void valuesAreClampedToRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.percentile(50));
+        assertTrue(histogram.percentile(100) >= MAX_VALUE - MAX_VALUE / 128);
+        assertEquals(MAX_VALUE / 1000.0, histogram.summary().get("maxMs"));
+    }
+
+    @Test
+    void recordNanosConvertsToMicros() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(2_500_000);
+        Map<String, Object> summary = histogram.summary();
+        assertEquals(2.5, summary.get("meanMs"));
+        assertEquals(2.5, summary.get("maxMs"));
+    }
+}
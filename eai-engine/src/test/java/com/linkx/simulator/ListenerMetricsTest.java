@@ -0,0 +1,28 @@
+package com.linkx.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ListenerMetricsTest {
+
+    @Test
+    void rulePhaseIsReportedSeparatelyFromBuild() {
+        ListenerMetrics metrics = new ListenerMetrics();
+        // 128µs 미만은 정확히 기록
+        long[] phaseNanos = {10_000, 20_000, 30_000, 40_000, -1};
+        metrics.success("IF001", 100_000, phaseNanos);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        metrics.putStats(stats);
+        Map<?, ?> phases = (Map<?, ?>) stats.get("phases");
+        assertEquals(List.of("read", "parse", "rule", "build", "write"), List.copyOf(phases.keySet()));
+        assertEquals(0.03, ((Map<?, ?>) phases.get("rule")).get("p99Ms"));
+        assertEquals(0.04, ((Map<?, ?>) phases.get("build")).get("p999Ms"));
+        assertEquals(0L, ((Map<?, ?>) phases.get("write")).get("count"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.linkx.simulator;
+
+import com.linkx.domain.ResponseDelay;
+import com.linkx.repository.ResponseDelayRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResponseDelaySchedulerTest {
+
+    private ResponseDelayRepository repository;
+    private ResponseDelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResponseDelayRepository.class);
+        scheduler = new ResponseDelayScheduler(repository, 10, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void unknownTelegramsNeverQueryPerMessage() {
+        when(repository.findByActiveTrue()).thenReturn(List.of(fixed("IF001", 30)));
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(7, scheduler.delayMs("UNKNOWN" + i, 7));
+        }
+        assertEquals(30, scheduler.delayMs("IF001", 7));
+        verify(repository, times(1)).findByActiveTrue();
+        verify(repository, never()).findByTelegramIdAndActiveTrue(anyString());
+    }
+
+    @Test
+    void invalidateReloadsPolicies() {
+        when(repository.findByActiveTrue())
+                .thenReturn(List.of(fixed("IF001", 30)))
+                .thenReturn(List.of(fixed("IF001", 50), fixed("IF002", 5)));
+        assertEquals(30, scheduler.delayMs("IF001", 0));
+        assertEquals(0, scheduler.delayMs("IF002", 0));
+
+        scheduler.invalidate("IF002");
+        assertEquals(50, scheduler.delayMs("IF001", 0));
+        assertEquals(5, scheduler.delayMs("IF002", 0));
+        assertEquals(2, scheduler.getStats().get("cachedPolicies"));
+        verify(repository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void invalidPolicyFallsBackToDefault() {
+        ResponseDelay broken = fixed("IF001", 0);
+        broken.setDelayType(ResponseDelay.DelayType.PERCENTILE);
+        broken.setPercentiles("abc");
+        when(repository.findByActiveTrue()).thenReturn(List.of(broken, fixed("IF002", 20)));
+        assertEquals(15, scheduler.delayMs("IF001", 15));
+        assertEquals(20, scheduler.delayMs("IF002", 15));
+    }
+
+    private static ResponseDelay fixed(String telegramId, int delayMs) {
+        ResponseDelay delay = new ResponseDelay();
+        delay.setTelegramId(telegramId);
+        delay.setDelayType(ResponseDelay.DelayType.FIXED);
+        delay.setFixedMs(delayMs);
+        return delay;
+    }
+}
@@ -0,0 +1,253 @@
+package com.linkx.telegram;
+
+import com.linkx.domain.TelegramLayout;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelegramCodecTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private static final List<TelegramLayout> LAYOUTS = List.of(
+            field("TX_CODE", 6, "STRING", "LEFT", " ", "HEADER"),
+            field("AMOUNT", 10, "NUMBER", "RIGHT", "0", "BODY"),
+            field("NAME", 10, "STRING", "LEFT", " ", "BODY"),
+            field("TX_DATE", 8, "DATE", "LEFT", " ", "BODY"),
+            field("FILLER", 4, "FILLER", "LEFT", " ", "BODY"));
+
+    @Test
+    void buildThenParseRoundTrip() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        assertEquals(38, codec.getTotalLength());
+
+        byte[] data = codec.build(Map.of("TX_CODE", "IF001", "AMOUNT", "12345", "NAME", "홍길동", "TX_DATE", "20240101"));
+        assertEquals("IF001 0000012345홍길동    20240101    ", new String(data, EUC_KR));
+
+        Map<String, Object> parsed = codec.parse(data);
+        assertEquals(38, parsed.get("totalParsedLength"));
+        assertEquals(38, parsed.get("rawDataLength"));
+        assertEquals("EUC-KR", parsed.get("charset"));
+        List<?> fields = (List<?>) parsed.get("fields");
+        assertEquals(5, fields.size());
+        Map<?, ?> amount = (Map<?, ?>) fields.get(1);
+        assertEquals("AMOUNT", amount.get("fieldName"));
+        assertEquals("0000012345", amount.get("rawValue"));
+        assertEquals("12345", amount.get("value"));
+        assertEquals(6, amount.get("offset"));
+        assertEquals(10, amount.get("length"));
+
+        assertEquals(Map.of("TX_CODE", "IF001", "AMOUNT", "12345", "NAME", "홍길동",
+                "TX_DATE", "20240101", "FILLER", ""), codec.view(data).toValueMap());
+    }
+
+    @Test
+    void emptyValuesUseDefaultOrPadding() {
+        List<TelegramLayout> layouts = List.of(
+                field("TX_CODE", 6, "STRING", "LEFT", " ", "HEADER"),
+                field("AMOUNT", 5, "NUMBER", "LEFT", " ", "BODY"),
+                field("STATUS", 2, "STRING", "LEFT", " ", "BODY"));
+        layouts.get(2).setDefaultValue("00");
+        TelegramCodec codec = TelegramCodec.compile(layouts, EUC_KR);
+
+        // 빈 숫자 필드는 0으로 채움
+        assertEquals("IF001 0000000", new String(codec.build(Map.of("TX_CODE", "IF001")), EUC_KR));
+    }
+
+    @Test
+    void overlongValueIsCutAtFieldLength() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        byte[] data = codec.build(Map.of("TX_CODE", "ABCDEFGHIJ"));
+        assertEquals("ABCDEF", new String(data, 0, 6, EUC_KR));
+        assertEquals(38, data.length);
+    }
+
+    @Test
+    void shortDataParsesWholeFieldsOnly() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        byte[] data = codec.build(Map.of("TX_CODE", "IF001", "AMOUNT", "7"));
+        byte[] cut = Arrays.copyOf(data, 20);
+
+        Map<String, Object> parsed = codec.parse(cut);
+        assertEquals(16, parsed.get("totalParsedLength"));
+        assertEquals(20, parsed.get("rawDataLength"));
+        assertEquals(2, ((List<?>) parsed.get("fields")).size());
+        assertEquals("", codec.view(cut).getValue("NAME"));
+    }
+
+    @Test
+    void engineMatchesCompiledCodec() {
+        TelegramEngine engine = new TelegramEngine();
+        Map<String, String> values = Map.of("TX_CODE", "IF002", "AMOUNT", "-10", "NAME", "김");
+        byte[] built = engine.build(LAYOUTS, values, "EUC-KR");
+        assertEquals(new String(TelegramCodec.compile(LAYOUTS, EUC_KR).build(values), EUC_KR),
+                new String(built, EUC_KR));
+        assertEquals(engine.calculateTotalLength(LAYOUTS), built.length);
+    }
+
+    @Test
+    void engineCachesCodecUntilLayoutChanges() {
+        TelegramEngine engine = new TelegramEngine();
+        TelegramCodec first = engine.codec(LAYOUTS, "EUC-KR");
+        assertSame(first, engine.codec(List.copyOf(LAYOUTS), "EUC-KR"));
+        assertNotSame(first, engine.codec(LAYOUTS, "UTF-8"));
+
+        List<TelegramLayout> changed = List.of(
+                field("TX_CODE", 8, "STRING", "LEFT", " ", "HEADER"));
+        TelegramCodec recompiled = engine.codec(changed, "EUC-KR");
+        assertNotSame(first, recompiled);
+        assertEquals(8, recompiled.getTotalLength());
+
+        engine.evictCodec("IF001");
+        assertNotSame(recompiled, engine.codec(changed, "EUC-KR"));
+    }
+
+    @Test
+    void indexOfUnknownField() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        assertEquals(2, codec.indexOf("NAME"));
+        assertEquals(-1, codec.indexOf("MISSING"));
+        assertTrue(codec.getField(1).isRightAlign());
+    }
+
+    @Test
+    void explicitAlignAndPadAreHonoured() {
+        List<TelegramLayout> layouts = List.of(
+                field("LEFT_NUM", 5, "NUMBER", "LEFT", " ", "BODY"),
+                field("RIGHT_STR", 5, "STRING", "RIGHT", "*", "BODY"),
+                field("SHORT_N", 5, "N", "LEFT", " ", "BODY"),
+                field("SPACE_N", 5, "N", "RIGHT", " ", "BODY"));
+        TelegramCodec codec = TelegramCodec.compile(layouts, EUC_KR);
+        byte[] data = codec.build(Map.of("LEFT_NUM", "12", "RIGHT_STR", "ab", "SHORT_N", "7", "SPACE_N", "8"));
+        assertEquals("12   ***ab7        8", new String(data, EUC_KR));
+    }
+
+    @Test
+    void unsetAlignAndPadDefaultPerType() {
+        List<TelegramLayout> layouts = List.of(
+                field("NUM", 5, "NUMBER", null, null, "BODY"),
+                field("STR", 5, "STRING", null, null, "BODY"),
+                field("SIM_N", 5, "N", null, null, "BODY"),
+                field("SIM_N_PAD", 5, "N", null, "#", "BODY"));
+        TelegramCodec codec = TelegramCodec.compile(layouts, EUC_KR);
+        byte[] data = codec.build(Map.of("NUM", "12", "STR", "ab", "SIM_N", "34", "SIM_N_PAD", "5"));
+        // 기존 엔진과 같이 NUMBER는 좌측정렬/공백, 시뮬레이터 단축 코드 "N"만 우측정렬/'0'
+        assertEquals("12   ab   00034####5", new String(data, EUC_KR));
+
+        ParsedTelegram view = codec.view(data);
+        assertEquals("34", view.getValue("SIM_N"));
+        assertEquals("####5", view.getRawValue("SIM_N_PAD"));
+    }
+
+    @Test
+    void viewReadsSliceWithoutCopy() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        byte[] telegram = codec.build(Map.of("TX_CODE", "IF001", "AMOUNT", "99", "NAME", "이순신"));
+        byte[] framed = new byte[telegram.length + 8];
+        System.arraycopy(telegram, 0, framed, 4, telegram.length);
+
+        ParsedTelegram view = codec.view(ByteBuffer.wrap(framed, 4, telegram.length));
+        assertEquals(5, view.getParsedFieldCount());
+        assertEquals("이순신", view.getValue(2));
+        assertEquals("이순신    ", view.getRawValue("NAME"));
+        assertEquals("0000000099", view.getRawValue(1));
+        assertTrue(view.isPresent(4));
+        assertFalse(view.isPresent(5));
+        assertEquals("", view.getValue("MISSING"));
+
+        byte[] copy = new byte[10];
+        assertEquals(10, view.copyField(1, copy, 0));
+        assertEquals("0000000099", new String(copy, EUC_KR));
+        assertEquals(0, view.copyField(9, copy, 0));
+    }
+
+    @Test
+    void echoBuildCopiesMissingFields() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        ParsedTelegram request = codec.view(codec.build(Map.of("TX_CODE", "IF001", "AMOUNT", "5", "NAME", "김")));
+        byte[] response = codec.build(Map.of("TX_CODE", "IF901"), request);
+        ParsedTelegram parsed = codec.view(response);
+        assertEquals("IF901", parsed.getValue("TX_CODE"));
+        assertEquals("5", parsed.getValue("AMOUNT"));
+        assertEquals("김", parsed.getValue("NAME"));
+    }
+
+    @Test
+    void encodeValidatesAndBuildsInOnePass() {
+        TelegramCodec codec = TelegramCodec.compile(LAYOUTS, EUC_KR);
+        Map<String, String> values = Map.of("TX_CODE", "IF001", "AMOUNT", "-12.50", "NAME", "홍길동");
+        EncodeResult result = codec.encode(values);
+        assertTrue(result.isValid());
+        assertArrayEquals(codec.build(values), result.getData());
+    }
+
+    @Test
+    void encodeReportsEveryFieldError() {
+        List<TelegramLayout> layouts = List.of(
+                field("TX_CODE", 6, "STRING", "LEFT", " ", "HEADER"),
+                field("AMOUNT", 5, "NUMBER", "RIGHT", "0", "BODY"),
+                field("NAME", 4, "STRING", "LEFT", " ", "BODY"));
+        layouts.get(0).setRequired(true);
+        TelegramCodec codec = TelegramCodec.compile(layouts, EUC_KR);
+
+        EncodeResult result = codec.encode(Map.of("AMOUNT", "12a", "NAME", "홍길동"));
+        assertEquals(List.of(EncodeResult.ErrorType.REQUIRED, EncodeResult.ErrorType.NOT_NUMBER,
+                EncodeResult.ErrorType.TOO_LONG), result.getErrors().stream().map(EncodeResult.FieldError::getType).toList());
+        assertEquals("[NAME] NAME 필드 길이 초과 (6 > 4 bytes)", result.getErrorMessages().get(2));
+        // 오류가 있어도 전문은 조립 (길이 초과는 문자 경계에서 잘림)
+        assertEquals("      0012a홍길", new String(result.getData(), EUC_KR));
+    }
+
+    @Test
+    void lengthCheckUsesTargetCharset() {
+        List<TelegramLayout> layouts = List.of(field("NAME", 6, "STRING", "LEFT", " ", "BODY"));
+        Map<String, String> values = Map.of("NAME", "홍길동");
+        // EUC-KR 6byte, UTF-8 9byte
+        assertTrue(TelegramCodec.compile(layouts, EUC_KR).encode(values).isValid());
+        EncodeResult utf8 = TelegramCodec.compile(layouts, StandardCharsets.UTF_8).encode(values);
+        assertEquals(EncodeResult.ErrorType.TOO_LONG, utf8.getErrors().get(0).getType());
+        assertEquals("홍길", new String(utf8.getData(), StandardCharsets.UTF_8));
+
+        TelegramEngine engine = new TelegramEngine();
+        assertTrue(engine.validate(layouts, values, "EUC-KR").isEmpty());
+        assertEquals(List.of("[NAME] NAME 필드 길이 초과 (9 > 6 bytes)"), engine.validate(layouts, values, "UTF-8"));
+    }
+
+    @Test
+    void numericFormat() {
+        for (String valid : List.of("0", "-1", "12.5", ".5", "-.5")) {
+            byte[] bytes = valid.getBytes(StandardCharsets.US_ASCII);
+            assertTrue(TelegramCodec.isNumeric(bytes, 0, bytes.length), valid);
+        }
+        for (String invalid : List.of("", "-", "1.", "1.2.3", "+1", "1e3", " 1")) {
+            byte[] bytes = invalid.getBytes(StandardCharsets.US_ASCII);
+            assertFalse(TelegramCodec.isNumeric(bytes, 0, bytes.length), invalid);
+        }
+    }
+
+    static TelegramLayout field(String name, int length, String dataType, String align, String padChar,
+                                String section) {
+        return TelegramLayout.builder()
+                .telegramId("IF001")
+                .fieldName(name)
+                .fieldNameKr(name)
+                .fieldLength(length)
+                .dataType(dataType)
+                .align(align)
+                .padChar(padChar)
+                .section(section)
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.linkx.telegram.generator;
+
+import com.linkx.domain.TelegramLayout;
+import com.linkx.telegram.TelegramCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldGeneratorsTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private static final TelegramCodec CODEC = TelegramCodec.compile(List.of(
+            field("TEXT", 6, "STRING", "LEFT", null),
+            field("AMOUNT", 8, "NUMBER", "RIGHT", "0"),
+            field("ACCOUNT", 16, "STRING", "LEFT", null),
+            field("ACCOUNT_R", 12, "NUMBER", "RIGHT", "0"),
+            field("NAME", 10, "STRING", "LEFT", null)), EUC_KR);
+
+    @Test
+    void luhnCheckDigit() {
+        assertEquals(3, FieldGenerators.luhnCheckDigit(ascii("7992739871"), 0, 10));
+        assertEquals(0, FieldGenerators.luhnCheckDigit(ascii("0"), 0, 1));
+        assertTrue(luhnValid("79927398713"));
+    }
+
+    @Test
+    void accountNumbersAreUniqueAndLuhnValid() {
+        FieldEncoder encoder = FieldGenerators.parse("ACCOUNT:3333").bind(CODEC, 2);
+        int offset = CODEC.getField(2).getOffset();
+        Set<String> seen = new HashSet<>();
+        for (long seq = 0; seq < 5000; seq++) {
+            byte[] data = new byte[CODEC.getTotalLength()];
+            encoder.write(seq, data);
+            String account = new String(data, offset, 16, StandardCharsets.US_ASCII);
+            assertTrue(account.matches("3333\\d{12}"), account);
+            assertTrue(luhnValid(account), account);
+            seen.add(account);
+        }
+        assertEquals(5000, seen.size());
+    }
+
+    @Test
+    void accountShorterThanRightAlignedFieldIsPadded() {
+        FieldEncoder encoder = FieldGenerators.parse("ACCOUNT:110:10").bind(CODEC, 3);
+        byte[] data = new byte[CODEC.getTotalLength()];
+        encoder.write(5, data);
+        String value = new String(data, CODEC.getField(3).getOffset(), 12, StandardCharsets.US_ASCII);
+        assertTrue(value.startsWith("00110"), value);
+        assertTrue(luhnValid(value.substring(2)), value);
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("ACCOUNT:1234:30").bind(CODEC, 2));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("ACCOUNT:12a"));
+    }
+
+    @Test
+    void boundNumbersMatchEncodeField() {
+        for (String spec : List.of("SEQ", "SEQ:-5", "SEQ:999980")) {
+            FieldGenerator generator = FieldGenerators.parse(spec);
+            for (int index : new int[]{0, 1}) {
+                FieldEncoder encoder = generator.bind(CODEC, index);
+                for (long seq = 0; seq < 20; seq++) {
+                    byte[] direct = new byte[CODEC.getTotalLength()];
+                    byte[] encoded = new byte[CODEC.getTotalLength()];
+                    encoder.write(seq, direct);
+                    CODEC.encodeField(index, generator.next(seq), encoded);
+                    assertArrayEquals(encoded, direct, spec + " field=" + index + " seq=" + seq);
+                }
+            }
+        }
+    }
+
+    @Test
+    void numbersWrapToFieldWidth() {
+        List<TelegramLayout> layouts = List.of(
+                field("SEQ4", 4, "NUMBER", "RIGHT", "0"),
+                field("NEG4", 4, "NUMBER", "RIGHT", "0"));
+        TelegramCodec codec = TelegramCodec.compile(layouts, EUC_KR);
+        FieldEncoder seq = FieldGenerators.parse("SEQ:0").bind(codec, 0);
+        FieldEncoder negative = FieldGenerators.parse("SEQ:-12345").bind(codec, 1);
+        Set<String> seen = new HashSet<>();
+        byte[] data = new byte[codec.getTotalLength()];
+        for (long i = 0; i < 10_000; i++) {
+            seq.write(i + 5000, data);
+            seen.add(new String(data, 0, 4, StandardCharsets.US_ASCII));
+        }
+        assertEquals(10_000, seen.size());
+        seq.write(10_000, data);
+        negative.write(0, data);
+        assertEquals("0000-345", new String(data, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void amountIsUnitMultipleWithinRange() {
+        FieldGenerator generator = FieldGenerators.parse("AMOUNT:1500-10000:1000");
+        for (long seq = 0; seq < 1000; seq++) {
+            long amount = Long.parseLong(generator.next(seq));
+            assertTrue(amount >= 2000 && amount <= 10000 && amount % 1000 == 0, String.valueOf(amount));
+        }
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("AMOUNT:1-999:1000"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("AMOUNT:100-1000:0"));
+    }
+
+    @Test
+    void randomStaysInRange() {
+        FieldGenerator generator = FieldGenerators.parse("RANDOM:-3-3");
+        for (long seq = 0; seq < 1000; seq++) {
+            long value = Long.parseLong(generator.next(seq));
+            assertTrue(value >= -3 && value <= 3, String.valueOf(value));
+        }
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("RANDOM:10-1"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("RANDOM:5"));
+    }
+
+    @Test
+    void listCyclesInOrder() {
+        FieldGenerator generator = FieldGenerators.parse("LIST:A, B ,가나");
+        assertEquals(List.of("A", "B", "가나", "A"),
+                List.of(generator.next(0), generator.next(1), generator.next(2), generator.next(3)));
+        FieldEncoder encoder = generator.bind(CODEC, 0);
+        byte[] data = new byte[CODEC.getTotalLength()];
+        encoder.write(2, data);
+        assertEquals("가나  ", new String(data, 0, 6, EUC_KR));
+    }
+
+    @Test
+    void dateWithinPeriod() {
+        FieldGenerator generator = FieldGenerators.parse("DATE:20240101-20240131");
+        for (long seq = 0; seq < 200; seq++) {
+            String date = generator.next(seq);
+            assertTrue(date.compareTo("20240101") >= 0 && date.compareTo("20240131") <= 0, date);
+        }
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("DATE:20240131-20240101"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("DATE:2024-01-01"));
+    }
+
+    @Test
+    void nowRejectsZoneFieldsAtParse() {
+        assertEquals(14, FieldGenerators.parse("NOW").next(0).length());
+        assertEquals(8, FieldGenerators.parse("NOW:yyyyMMdd").next(0).length());
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("NOW:yyyyMMddHHmmssZ"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("NOW:HHmm z"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("NOW:{{"));
+    }
+
+    @Test
+    void nameFitsFieldBytes() {
+        FieldEncoder encoder = FieldGenerators.parse("NAME").bind(CODEC, 4);
+        byte[] data = new byte[CODEC.getTotalLength()];
+        encoder.write(0, data);
+        String name = new String(data, CODEC.getField(4).getOffset(), 10, EUC_KR);
+        assertTrue(name.matches("[가-힣]{3} {4}"), name);
+    }
+
+    @Test
+    void uuidAndUnknownSpecs() {
+        assertTrue(FieldGenerators.parse("uuid").next(0).matches("[0-9a-f]{32}"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("SERIAL"));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse(" "));
+        assertThrows(RuntimeException.class, () -> FieldGenerators.parse("SEQ:abc"));
+    }
+
+    private static TelegramLayout field(String name, int length, String dataType, String align, String padChar) {
+        return TelegramLayout.builder()
+                .telegramId("GEN001")
+                .fieldName(name)
+                .fieldLength(length)
+                .dataType(dataType)
+                .align(align)
+                .padChar(padChar)
+                .build();
+    }
+
+    private static boolean luhnValid(String digits) {
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int d = digits.charAt(i) - '0';
+            if (doubled) {
+                d *= 2;
+                if (d > 9) d -= 9;
+            }
+            sum += d;
+            doubled = !doubled;
+        }
+        return sum % 10 == 0;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}